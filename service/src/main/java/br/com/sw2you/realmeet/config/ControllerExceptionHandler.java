@@ -2,8 +2,14 @@ package br.com.sw2you.realmeet.config;
 
 import br.com.sw2you.realmeet.api.model.ResponseError;
 import br.com.sw2you.realmeet.exception.AllocationNotFoundException;
+import br.com.sw2you.realmeet.exception.IdempotencyKeyReusedException;
 import br.com.sw2you.realmeet.exception.InvalidRequestException;
+import br.com.sw2you.realmeet.exception.ReportJobLimitExceededException;
+import br.com.sw2you.realmeet.exception.ReportJobNotFoundException;
+import br.com.sw2you.realmeet.exception.ReportJobNotReadyException;
+import br.com.sw2you.realmeet.exception.ReportSubscriptionNotFoundException;
 import br.com.sw2you.realmeet.exception.RoomNotFoundException;
+import br.com.sw2you.realmeet.exception.StoredReportNotFoundException;
 import br.com.sw2you.realmeet.util.ResponseEntityUtils;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -17,11 +23,29 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 @RestControllerAdvice
 public class ControllerExceptionHandler {
 
-    @ExceptionHandler({ RoomNotFoundException.class, AllocationNotFoundException.class })
+    @ExceptionHandler(
+        {
+            RoomNotFoundException.class,
+            AllocationNotFoundException.class,
+            ReportJobNotFoundException.class,
+            ReportSubscriptionNotFoundException.class,
+            StoredReportNotFoundException.class
+        }
+    )
     public ResponseEntity<Object> handleNotFoundException(Exception exception) {
         return ResponseEntityUtils.notFound();
     }
 
+    @ExceptionHandler({ ReportJobNotReadyException.class, IdempotencyKeyReusedException.class })
+    public ResponseEntity<Object> handleConflictException(Exception exception) {
+        return ResponseEntityUtils.conflict();
+    }
+
+    @ExceptionHandler(ReportJobLimitExceededException.class)
+    public ResponseEntity<Object> handleTooManyRequestsException(Exception exception) {
+        return ResponseEntityUtils.tooManyRequests();
+    }
+
     @ExceptionHandler(InvalidRequestException.class)
     @ResponseBody
     @ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
@@ -1,7 +1,9 @@
 package br.com.sw2you.realmeet.config;
 
+import br.com.sw2you.realmeet.util.Constants;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import org.springframework.beans.factory.annotation.Value;
@@ -26,4 +28,19 @@ public class ExecutorsConfiguration {
             new ArrayBlockingQueue<>(queueCapacity, true)
         );
     }
+
+    @Bean
+    public ThreadPoolExecutor reportJobsExecutor(@Value(Constants.REPORT_JOBS_POOL_SIZE) int poolSize) {
+        return new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+    }
+
+    @Bean
+    public ThreadPoolExecutor reportPartitionsExecutor(@Value(Constants.REPORT_PARTITIONS_POOL_SIZE) int poolSize) {
+        return new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+    }
+
+    @Bean
+    public ThreadPoolExecutor allocationEventsExecutor(@Value(Constants.ALLOCATION_EVENTS_POOL_SIZE) int poolSize) {
+        return new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+    }
 }
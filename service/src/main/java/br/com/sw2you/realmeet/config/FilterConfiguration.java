@@ -19,7 +19,15 @@ public class FilterConfiguration {
     public FilterRegistrationBean<VerifyApiKeyFilter> verifyApiKeyFilter() {
         var filterFilterRegistrationBean = new FilterRegistrationBean<VerifyApiKeyFilter>();
         filterFilterRegistrationBean.setFilter(new VerifyApiKeyFilter(clientRepository));
-        filterFilterRegistrationBean.addUrlPatterns("/rooms/*", "/allocations/*");
+        filterFilterRegistrationBean.addUrlPatterns(
+            "/rooms/*",
+            "/allocations/*",
+            "/reports/allocation",
+            "/reports/room-usage",
+            "/reports/jobs/*",
+            "/reports/subscriptions",
+            "/reports/subscriptions/*"
+        );
 
         return filterFilterRegistrationBean;
     }
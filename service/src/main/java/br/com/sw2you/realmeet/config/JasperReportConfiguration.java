@@ -1,26 +1,57 @@
 package br.com.sw2you.realmeet.config;
 
+import br.com.sw2you.realmeet.report.enumeration.ReportHandlerType;
+import br.com.sw2you.realmeet.util.Constants;
 import java.io.IOException;
 import net.sf.jasperreports.engine.JRException;
 import net.sf.jasperreports.engine.JasperCompileManager;
 import net.sf.jasperreports.engine.JasperReport;
+import net.sf.jasperreports.engine.util.JRLoader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.ClassPathResource;
 
 @Configuration
 public class JasperReportConfiguration {
+    private static final Logger LOGGER = LoggerFactory.getLogger(JasperReportConfiguration.class);
     private static final String JASPER_FOLDER = "/jasper";
+    private static final String SOURCE_EXTENSION = ".jrxml";
+    private static final String COMPILED_EXTENSION = ".jasper";
+
+    private final boolean compileTemplates;
+
+    public JasperReportConfiguration(@Value(Constants.REPORT_COMPILE_TEMPLATES) boolean compileTemplates) {
+        this.compileTemplates = compileTemplates;
+    }
 
     @Bean
     public JasperReport allocationReport() {
-        return getReport("/allocation-report.jrxml");
+        return getReport(ReportHandlerType.ALLOCATION);
     }
 
-    private JasperReport getReport(String reportName) {
+    @Bean
+    public JasperReport roomUsageReport() {
+        return getReport(ReportHandlerType.ROOM_USAGE);
+    }
+
+    private JasperReport getReport(ReportHandlerType reportHandlerType) {
+        var reportName = "/" + reportHandlerType.getTemplateName();
+        var compiledReport = new ClassPathResource(JASPER_FOLDER + reportName + COMPILED_EXTENSION);
+
         try {
+            if (!compileTemplates && compiledReport.exists()) {
+                return (JasperReport) JRLoader.loadObject(compiledReport.getInputStream());
+            }
+            if (!compileTemplates) {
+                LOGGER.warn("Precompiled report {} not found, compiling it from source", compiledReport.getPath());
+            }
             return (
-                JasperCompileManager.compileReport(new ClassPathResource(JASPER_FOLDER + reportName).getInputStream())
+                JasperCompileManager.compileReport(
+                    new ClassPathResource(JASPER_FOLDER + reportName + SOURCE_EXTENSION).getInputStream()
+                )
             );
         } catch (JRException | IOException e) {
             throw new RuntimeException(e);
@@ -0,0 +1,10 @@
+package br.com.sw2you.realmeet.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(value = "realmeet.scheduling.enabled", matchIfMissing = true)
+public class SchedulingConfiguration {}
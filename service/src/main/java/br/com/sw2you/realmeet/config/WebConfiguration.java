@@ -0,0 +1,29 @@
+package br.com.sw2you.realmeet.config;
+
+import br.com.sw2you.realmeet.converter.FileChannelResourceHttpMessageConverter;
+import br.com.sw2you.realmeet.converter.FileChannelResourceRegionHttpMessageConverter;
+import java.util.List;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.ResourceHttpMessageConverter;
+import org.springframework.http.converter.ResourceRegionHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfiguration implements WebMvcConfigurer {
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.replaceAll(WebConfiguration::toFileChannelConverter);
+    }
+
+    private static HttpMessageConverter<?> toFileChannelConverter(HttpMessageConverter<?> converter) {
+        if (converter.getClass() == ResourceHttpMessageConverter.class) {
+            return new FileChannelResourceHttpMessageConverter();
+        }
+        if (converter.getClass() == ResourceRegionHttpMessageConverter.class) {
+            return new FileChannelResourceRegionHttpMessageConverter();
+        }
+        return converter;
+    }
+}
@@ -0,0 +1,36 @@
+package br.com.sw2you.realmeet.config.properties;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "realmeet.allocations.events")
+@ConstructorBinding
+public class AllocationEventsConfigProperties {
+    private final int bufferCapacity;
+    private final int replayCapacity;
+    private final Duration timeout;
+
+    public AllocationEventsConfigProperties(
+        @DefaultValue("256") int bufferCapacity,
+        @DefaultValue("1024") int replayCapacity,
+        @DefaultValue("30m") Duration timeout
+    ) {
+        this.bufferCapacity = bufferCapacity;
+        this.replayCapacity = replayCapacity;
+        this.timeout = timeout;
+    }
+
+    public int getBufferCapacity() {
+        return bufferCapacity;
+    }
+
+    public int getReplayCapacity() {
+        return replayCapacity;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+}
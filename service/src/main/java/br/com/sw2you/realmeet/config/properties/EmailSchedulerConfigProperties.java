@@ -0,0 +1,66 @@
+package br.com.sw2you.realmeet.config.properties;
+
+import br.com.sw2you.realmeet.config.properties.model.EmailRateLimit;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "realmeet.email.scheduler")
+@ConstructorBinding
+public class EmailSchedulerConfigProperties {
+    private static final String DEFAULT_SPOOL_DIRECTORY = "realmeet-email-spool";
+
+    private final int queueCapacity;
+    private final String spoolDirectory;
+    private final Map<String, EmailRateLimit> rateLimits;
+    private final int maxSendAttempts;
+    private final Duration retryDelay;
+    private final Duration maxRetryDelay;
+
+    public EmailSchedulerConfigProperties(
+        @DefaultValue("1000") int queueCapacity,
+        String spoolDirectory,
+        Map<String, EmailRateLimit> rateLimits,
+        @DefaultValue("8") int maxSendAttempts,
+        @DefaultValue("30s") Duration retryDelay,
+        @DefaultValue("1h") Duration maxRetryDelay
+    ) {
+        this.queueCapacity = queueCapacity;
+        this.spoolDirectory = spoolDirectory;
+        this.rateLimits = rateLimits;
+        this.maxSendAttempts = maxSendAttempts;
+        this.retryDelay = retryDelay;
+        this.maxRetryDelay = maxRetryDelay;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public Path getSpoolDirectory() {
+        return Objects.isNull(spoolDirectory)
+            ? Paths.get(System.getProperty("java.io.tmpdir"), DEFAULT_SPOOL_DIRECTORY)
+            : Paths.get(spoolDirectory);
+    }
+
+    public EmailRateLimit getRateLimit(String host) {
+        return Objects.isNull(rateLimits) ? null : rateLimits.get(host);
+    }
+
+    public int getMaxSendAttempts() {
+        return maxSendAttempts;
+    }
+
+    public Duration getRetryDelay() {
+        return retryDelay;
+    }
+
+    public Duration getMaxRetryDelay() {
+        return maxRetryDelay;
+    }
+}
@@ -0,0 +1,26 @@
+package br.com.sw2you.realmeet.config.properties;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "realmeet.idempotency")
+@ConstructorBinding
+public class IdempotencyConfigProperties {
+    private final Duration ttl;
+    private final int maxEntries;
+
+    public IdempotencyConfigProperties(@DefaultValue("24h") Duration ttl, @DefaultValue("10000") int maxEntries) {
+        this.ttl = ttl;
+        this.maxEntries = maxEntries;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+}
@@ -0,0 +1,58 @@
+package br.com.sw2you.realmeet.config.properties;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Objects;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+@ConfigurationProperties(prefix = "realmeet.reports.cache")
+@ConstructorBinding
+public class ReportCacheConfigProperties {
+    private static final String DEFAULT_DIRECTORY = "realmeet-report-cache";
+
+    private final boolean enabled;
+    private final String directory;
+    private final int maxEntries;
+    private final DataSize maxSize;
+    private final Duration maxAge;
+
+    public ReportCacheConfigProperties(
+        @DefaultValue("true") boolean enabled,
+        String directory,
+        @DefaultValue("100") int maxEntries,
+        @DefaultValue("512MB") DataSize maxSize,
+        @DefaultValue("10m") Duration maxAge
+    ) {
+        this.enabled = enabled;
+        this.directory = directory;
+        this.maxEntries = maxEntries;
+        this.maxSize = maxSize;
+        this.maxAge = maxAge;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Path getDirectory() {
+        return Objects.isNull(directory)
+            ? Paths.get(System.getProperty("java.io.tmpdir"), DEFAULT_DIRECTORY)
+            : Paths.get(directory);
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public DataSize getMaxSize() {
+        return maxSize;
+    }
+
+    public Duration getMaxAge() {
+        return maxAge;
+    }
+}
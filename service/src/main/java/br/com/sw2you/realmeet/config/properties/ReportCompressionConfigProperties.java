@@ -0,0 +1,22 @@
+package br.com.sw2you.realmeet.config.properties;
+
+import br.com.sw2you.realmeet.report.enumeration.ReportCompression;
+import br.com.sw2you.realmeet.report.enumeration.ReportFormat;
+import java.util.Map;
+import java.util.Objects;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+
+@ConfigurationProperties(prefix = "realmeet.reports.compression")
+@ConstructorBinding
+public class ReportCompressionConfigProperties {
+    private final Map<ReportFormat, ReportCompression> formats;
+
+    public ReportCompressionConfigProperties(Map<ReportFormat, ReportCompression> formats) {
+        this.formats = Objects.isNull(formats) ? Map.of() : Map.copyOf(formats);
+    }
+
+    public ReportCompression getCompression(ReportFormat reportFormat) {
+        return formats.getOrDefault(reportFormat, ReportCompression.NONE);
+    }
+}
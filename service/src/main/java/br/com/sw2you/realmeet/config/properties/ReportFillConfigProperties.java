@@ -0,0 +1,37 @@
+package br.com.sw2you.realmeet.config.properties;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+@ConfigurationProperties(prefix = "realmeet.reports.fills")
+@ConstructorBinding
+public class ReportFillConfigProperties {
+    private final int maxConcurrent;
+    private final DataSize memoryPerFill;
+    private final Duration queueTimeout;
+
+    public ReportFillConfigProperties(
+        @DefaultValue("0") int maxConcurrent,
+        @DefaultValue("256MB") DataSize memoryPerFill,
+        @DefaultValue("10m") Duration queueTimeout
+    ) {
+        this.maxConcurrent = maxConcurrent;
+        this.memoryPerFill = memoryPerFill;
+        this.queueTimeout = queueTimeout;
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public DataSize getMemoryPerFill() {
+        return memoryPerFill;
+    }
+
+    public Duration getQueueTimeout() {
+        return queueTimeout;
+    }
+}
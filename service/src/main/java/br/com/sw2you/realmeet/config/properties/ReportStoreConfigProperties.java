@@ -0,0 +1,43 @@
+package br.com.sw2you.realmeet.config.properties;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Objects;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "realmeet.reports.store")
+@ConstructorBinding
+public class ReportStoreConfigProperties {
+    private static final String DEFAULT_DIRECTORY = "realmeet-report-store";
+
+    private final String directory;
+    private final Duration retention;
+    private final String downloadBaseUrl;
+
+    public ReportStoreConfigProperties(
+        String directory,
+        @DefaultValue("7d") Duration retention,
+        @DefaultValue("http://localhost:8080/v1") String downloadBaseUrl
+    ) {
+        this.directory = directory;
+        this.retention = retention;
+        this.downloadBaseUrl = downloadBaseUrl;
+    }
+
+    public Path getDirectory() {
+        return Objects.isNull(directory)
+            ? Paths.get(System.getProperty("java.io.tmpdir"), DEFAULT_DIRECTORY)
+            : Paths.get(directory);
+    }
+
+    public Duration getRetention() {
+        return retention;
+    }
+
+    public String getDownloadBaseUrl() {
+        return downloadBaseUrl;
+    }
+}
@@ -0,0 +1,29 @@
+package br.com.sw2you.realmeet.config.properties;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Objects;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "realmeet.reports.templates")
+@ConstructorBinding
+public class ReportTemplateConfigProperties {
+    private final String directory;
+    private final Duration settleDelay;
+
+    public ReportTemplateConfigProperties(String directory, @DefaultValue("500ms") Duration settleDelay) {
+        this.directory = directory;
+        this.settleDelay = settleDelay;
+    }
+
+    public Path getDirectory() {
+        return Objects.isNull(directory) ? null : Paths.get(directory);
+    }
+
+    public Duration getSettleDelay() {
+        return settleDelay;
+    }
+}
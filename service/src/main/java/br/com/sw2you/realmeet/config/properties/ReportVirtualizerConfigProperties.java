@@ -0,0 +1,34 @@
+package br.com.sw2you.realmeet.config.properties;
+
+import br.com.sw2you.realmeet.config.properties.model.ReportVirtualizer;
+import br.com.sw2you.realmeet.report.enumeration.ReportHandlerType;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Objects;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+
+@ConfigurationProperties(prefix = "realmeet.reports.virtualizer")
+@ConstructorBinding
+public class ReportVirtualizerConfigProperties {
+    private static final String DEFAULT_DIRECTORY = "realmeet-report-swap";
+
+    private final String directory;
+    private final Map<ReportHandlerType, ReportVirtualizer> handlers;
+
+    public ReportVirtualizerConfigProperties(String directory, Map<ReportHandlerType, ReportVirtualizer> handlers) {
+        this.directory = directory;
+        this.handlers = handlers;
+    }
+
+    public Path getDirectory() {
+        return Objects.isNull(directory)
+            ? Paths.get(System.getProperty("java.io.tmpdir"), DEFAULT_DIRECTORY)
+            : Paths.get(directory);
+    }
+
+    public ReportVirtualizer getVirtualizer(ReportHandlerType reportHandlerType) {
+        return Objects.isNull(handlers) ? null : handlers.get(reportHandlerType);
+    }
+}
@@ -0,0 +1,39 @@
+package br.com.sw2you.realmeet.config.properties.model;
+
+import java.util.Objects;
+
+public class EmailRateLimit {
+    private final Integer perMinute;
+    private final Integer perDay;
+
+    public EmailRateLimit(Integer perMinute, Integer perDay) {
+        this.perMinute = perMinute;
+        this.perDay = perDay;
+    }
+
+    public Integer getPerMinute() {
+        return perMinute;
+    }
+
+    public Integer getPerDay() {
+        return perDay;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        EmailRateLimit that = (EmailRateLimit) o;
+        return Objects.equals(perMinute, that.perMinute) && Objects.equals(perDay, that.perDay);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(perMinute, perDay);
+    }
+
+    @Override
+    public String toString() {
+        return "EmailRateLimit{" + "perMinute=" + perMinute + ", perDay=" + perDay + '}';
+    }
+}
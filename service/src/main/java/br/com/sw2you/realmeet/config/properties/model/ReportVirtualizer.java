@@ -0,0 +1,54 @@
+package br.com.sw2you.realmeet.config.properties.model;
+
+import java.util.Objects;
+
+public class ReportVirtualizer {
+    private final int maxPages;
+    private final int blockSize;
+    private final int minGrowCount;
+
+    public ReportVirtualizer(int maxPages, int blockSize, int minGrowCount) {
+        this.maxPages = maxPages;
+        this.blockSize = blockSize;
+        this.minGrowCount = minGrowCount;
+    }
+
+    public int getMaxPages() {
+        return maxPages;
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    public int getMinGrowCount() {
+        return minGrowCount;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ReportVirtualizer that = (ReportVirtualizer) o;
+        return maxPages == that.maxPages && blockSize == that.blockSize && minGrowCount == that.minGrowCount;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxPages, blockSize, minGrowCount);
+    }
+
+    @Override
+    public String toString() {
+        return (
+            "ReportVirtualizer{" +
+            "maxPages=" +
+            maxPages +
+            ", blockSize=" +
+            blockSize +
+            ", minGrowCount=" +
+            minGrowCount +
+            '}'
+        );
+    }
+}
@@ -4,35 +4,63 @@ import static java.util.concurrent.CompletableFuture.runAsync;
 import static java.util.concurrent.CompletableFuture.supplyAsync;
 
 import br.com.sw2you.realmeet.api.facade.AllocationsApi;
+import br.com.sw2you.realmeet.api.model.AllocationChangesDTO;
 import br.com.sw2you.realmeet.api.model.AllocationDTO;
 import br.com.sw2you.realmeet.api.model.CreateAllocationDTO;
 import br.com.sw2you.realmeet.api.model.UpdateAllocationDTO;
+import br.com.sw2you.realmeet.event.AllocationEventBroadcaster;
 import br.com.sw2you.realmeet.service.AllocationService;
+import br.com.sw2you.realmeet.service.IdempotencyService;
 import br.com.sw2you.realmeet.util.ResponseEntityUtils;
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 public class AllocationController implements AllocationsApi {
+    private static final String CREATE_ALLOCATION = "createAllocation";
+
     private final Executor controllersExecutor;
     private final AllocationService allocationService;
+    private final IdempotencyService idempotencyService;
+    private final AllocationEventBroadcaster allocationEventBroadcaster;
 
-    public AllocationController(Executor controllersExecutor, AllocationService allocationService) {
+    public AllocationController(
+        Executor controllersExecutor,
+        AllocationService allocationService,
+        IdempotencyService idempotencyService,
+        AllocationEventBroadcaster allocationEventBroadcaster
+    ) {
         this.controllersExecutor = controllersExecutor;
         this.allocationService = allocationService;
+        this.idempotencyService = idempotencyService;
+        this.allocationEventBroadcaster = allocationEventBroadcaster;
     }
 
     @Override
     public CompletableFuture<ResponseEntity<AllocationDTO>> createAllocation(
         String apiKei,
-        CreateAllocationDTO createAllocationDTO
+        CreateAllocationDTO createAllocationDTO,
+        String idempotencyKey
     ) {
-        return supplyAsync(() -> allocationService.createAllocation(createAllocationDTO), controllersExecutor)
-            .thenApply(ResponseEntityUtils::created);
+        return idempotencyService.execute(
+            apiKei,
+            idempotencyKey,
+            Arrays.asList(CREATE_ALLOCATION, createAllocationDTO),
+            () ->
+                supplyAsync(() -> allocationService.createAllocation(createAllocationDTO), controllersExecutor)
+                    .thenApply(ResponseEntityUtils::created)
+        );
     }
 
     @Override
@@ -68,4 +96,23 @@ public class AllocationController implements AllocationsApi {
             )
             .thenApply(ResponseEntityUtils::ok);
     }
+
+    @Override
+    public CompletableFuture<ResponseEntity<AllocationChangesDTO>> listAllocationChanges(
+        String apiKei,
+        OffsetDateTime since,
+        Long sinceId,
+        Integer limit
+    ) {
+        return supplyAsync(() -> allocationService.listAllocationChanges(since, sinceId, limit), controllersExecutor)
+            .thenApply(ResponseEntityUtils::ok);
+    }
+
+    @GetMapping(value = "/allocations/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAllocationEvents(
+        @RequestParam(value = "roomId", required = false) Long roomId,
+        @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId
+    ) {
+        return allocationEventBroadcaster.subscribe(roomId, lastEventId);
+    }
 }
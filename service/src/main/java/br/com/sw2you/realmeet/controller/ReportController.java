@@ -1,38 +1,141 @@
 package br.com.sw2you.realmeet.controller;
 
 import static java.util.concurrent.CompletableFuture.runAsync;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
 
 import br.com.sw2you.realmeet.api.facade.ReportsApi;
-import br.com.sw2you.realmeet.service.ReportCreationService;
+import br.com.sw2you.realmeet.api.model.CreateReportSubscriptionDTO;
+import br.com.sw2you.realmeet.api.model.ReportJobDTO;
+import br.com.sw2you.realmeet.api.model.ReportSubscriptionDTO;
+import br.com.sw2you.realmeet.api.model.RoomUsageDTO;
+import br.com.sw2you.realmeet.service.IdempotencyService;
+import br.com.sw2you.realmeet.service.ReportJobService;
+import br.com.sw2you.realmeet.service.ReportStoreService;
+import br.com.sw2you.realmeet.service.ReportSubscriptionService;
+import br.com.sw2you.realmeet.service.RoomUsageService;
 import br.com.sw2you.realmeet.util.ResponseEntityUtils;
 import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import org.springframework.core.io.Resource;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 public class ReportController implements ReportsApi {
+    private static final String CREATE_ALLOCATION_REPORT = "createAllocationReport";
+
     private final Executor controllersExecutor;
-    private final ReportCreationService reportCreationService;
+    private final ReportJobService reportJobService;
+    private final ReportSubscriptionService reportSubscriptionService;
+    private final RoomUsageService roomUsageService;
+    private final ReportStoreService reportStoreService;
+    private final IdempotencyService idempotencyService;
 
-    public ReportController(Executor controllersExecutor, ReportCreationService reportCreationService) {
+    public ReportController(
+        Executor controllersExecutor,
+        ReportJobService reportJobService,
+        ReportSubscriptionService reportSubscriptionService,
+        RoomUsageService roomUsageService,
+        ReportStoreService reportStoreService,
+        IdempotencyService idempotencyService
+    ) {
         this.controllersExecutor = controllersExecutor;
-        this.reportCreationService = reportCreationService;
+        this.reportJobService = reportJobService;
+        this.reportSubscriptionService = reportSubscriptionService;
+        this.roomUsageService = roomUsageService;
+        this.reportStoreService = reportStoreService;
+        this.idempotencyService = idempotencyService;
+    }
+
+    @Override
+    public CompletableFuture<ResponseEntity<ReportJobDTO>> createAllocationReport(
+        String apiKey,
+        String email,
+        LocalDate dateFrom,
+        LocalDate dateTo,
+        String idempotencyKey,
+        String reportFormat
+    ) {
+        return idempotencyService.execute(
+            apiKey,
+            idempotencyKey,
+            Arrays.asList(CREATE_ALLOCATION_REPORT, email, dateFrom, dateTo, reportFormat),
+            () ->
+                supplyAsync(
+                        () -> reportJobService.createAllocationReportJob(apiKey, dateFrom, dateTo, email, reportFormat),
+                        controllersExecutor
+                    )
+                    .thenApply(ResponseEntityUtils::accepted)
+        );
     }
 
     @Override
-    public CompletableFuture<ResponseEntity<Void>> createAllocationReport(
+    public CompletableFuture<ResponseEntity<ReportJobDTO>> createRoomUsageReport(
         String apiKey,
         String email,
         LocalDate dateFrom,
         LocalDate dateTo,
         String reportFormat
     ) {
-        return runAsync(
-                () -> reportCreationService.createAllocationReport(dateFrom, dateTo, email, reportFormat),
+        return supplyAsync(
+                () -> reportJobService.createRoomUsageReportJob(apiKey, dateFrom, dateTo, email, reportFormat),
+                controllersExecutor
+            )
+            .thenApply(ResponseEntityUtils::accepted);
+    }
+
+    @Override
+    public CompletableFuture<ResponseEntity<List<RoomUsageDTO>>> getRoomUsage(
+        String apiKey,
+        LocalDate dateFrom,
+        LocalDate dateTo
+    ) {
+        return supplyAsync(() -> roomUsageService.getRoomUsage(dateFrom, dateTo), controllersExecutor)
+            .thenApply(ResponseEntityUtils::ok);
+    }
+
+    @Override
+    public CompletableFuture<ResponseEntity<ReportJobDTO>> getReportJob(String apiKey, Long id) {
+        return supplyAsync(() -> reportJobService.getReportJob(id), controllersExecutor)
+            .thenApply(ResponseEntityUtils::ok);
+    }
+
+    @Override
+    public CompletableFuture<ResponseEntity<Resource>> downloadReportJob(String apiKey, Long id) {
+        return supplyAsync(() -> reportJobService.getGeneratedReport(id), controllersExecutor)
+            .thenApply(ResponseEntityUtils::download);
+    }
+
+    @Override
+    public CompletableFuture<ResponseEntity<Resource>> downloadStoredReport(String token) {
+        return supplyAsync(() -> reportStoreService.getStoredReport(token), controllersExecutor)
+            .thenApply(ResponseEntityUtils::download);
+    }
+
+    @Override
+    public CompletableFuture<ResponseEntity<ReportSubscriptionDTO>> createReportSubscription(
+        String apiKey,
+        CreateReportSubscriptionDTO createReportSubscriptionDTO
+    ) {
+        return supplyAsync(
+                () -> reportSubscriptionService.createReportSubscription(createReportSubscriptionDTO),
                 controllersExecutor
             )
             .thenApply(ResponseEntityUtils::created);
     }
+
+    @Override
+    public CompletableFuture<ResponseEntity<ReportSubscriptionDTO>> getReportSubscription(String apiKey, Long id) {
+        return supplyAsync(() -> reportSubscriptionService.getReportSubscription(id), controllersExecutor)
+            .thenApply(ResponseEntityUtils::ok);
+    }
+
+    @Override
+    public CompletableFuture<ResponseEntity<Void>> deleteReportSubscription(String apiKey, Long id) {
+        return runAsync(() -> reportSubscriptionService.deleteReportSubscription(id), controllersExecutor)
+            .thenApply(ResponseEntityUtils::noContent);
+    }
 }
@@ -0,0 +1,19 @@
+package br.com.sw2you.realmeet.converter;
+
+import java.io.IOException;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.ResourceHttpMessageConverter;
+
+public class FileChannelResourceHttpMessageConverter extends ResourceHttpMessageConverter {
+
+    @Override
+    protected void writeContent(Resource resource, HttpOutputMessage outputMessage) throws IOException {
+        if (!resource.isFile()) {
+            super.writeContent(resource, outputMessage);
+            return;
+        }
+
+        FileChannelTransfer.transfer(resource.getFile(), 0, resource.contentLength(), outputMessage);
+    }
+}
@@ -0,0 +1,29 @@
+package br.com.sw2you.realmeet.converter;
+
+import java.io.IOException;
+import org.springframework.core.io.support.ResourceRegion;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.ResourceRegionHttpMessageConverter;
+
+public class FileChannelResourceRegionHttpMessageConverter extends ResourceRegionHttpMessageConverter {
+
+    @Override
+    protected void writeResourceRegion(ResourceRegion region, HttpOutputMessage outputMessage) throws IOException {
+        var resource = region.getResource();
+
+        if (!resource.isFile()) {
+            super.writeResourceRegion(region, outputMessage);
+            return;
+        }
+
+        var resourceLength = resource.contentLength();
+        var start = region.getPosition();
+        var end = Math.min(start + region.getCount() - 1, resourceLength - 1);
+        var rangeLength = end - start + 1;
+
+        outputMessage.getHeaders().add(HttpHeaders.CONTENT_RANGE, "bytes " + start + '-' + end + '/' + resourceLength);
+        outputMessage.getHeaders().setContentLength(rangeLength);
+        FileChannelTransfer.transfer(resource.getFile(), start, rangeLength, outputMessage);
+    }
+}
@@ -0,0 +1,65 @@
+package br.com.sw2you.realmeet.converter;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+final class FileChannelTransfer {
+    static final String SENDFILE_SUPPORT_ATTRIBUTE = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME_ATTRIBUTE = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START_ATTRIBUTE = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END_ATTRIBUTE = "org.apache.tomcat.sendfile.end";
+
+    private FileChannelTransfer() {}
+
+    static void transfer(File file, long position, long count, HttpOutputMessage outputMessage) throws IOException {
+        if (count <= 0) {
+            return;
+        }
+
+        // Tomcat streams the file with sendfile once the response completes, so the body is left untouched
+        if (registerSendfile(file, position, count)) {
+            return;
+        }
+
+        try (var channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            var target = Channels.newChannel(outputMessage.getBody());
+            var end = position + count;
+
+            while (position < end) {
+                var transferred = channel.transferTo(position, end - position, target);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+            }
+        }
+    }
+
+    private static boolean registerSendfile(File file, long position, long count) {
+        var requestAttributes = RequestContextHolder.getRequestAttributes();
+
+        if (!(requestAttributes instanceof ServletRequestAttributes)) {
+            return false;
+        }
+
+        var request = ((ServletRequestAttributes) requestAttributes).getRequest();
+        if (
+            !Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTRIBUTE)) ||
+            Objects.nonNull(request.getAttribute(SENDFILE_FILENAME_ATTRIBUTE))
+        ) {
+            return false;
+        }
+
+        request.setAttribute(SENDFILE_FILENAME_ATTRIBUTE, file.getAbsolutePath());
+        request.setAttribute(SENDFILE_START_ATTRIBUTE, position);
+        request.setAttribute(SENDFILE_END_ATTRIBUTE, position + count);
+        return true;
+    }
+}
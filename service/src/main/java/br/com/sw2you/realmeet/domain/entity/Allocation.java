@@ -6,9 +6,12 @@ import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Objects;
 import javax.persistence.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Where;
 
 @Entity
 @Table(name = "allocation")
+@Where(clause = "deleted_at IS NULL")
 public class Allocation {
     public static final List<String> SORTABLE_FIELDS = List.of("startAt", "endAt");
 
@@ -23,6 +26,12 @@ public class Allocation {
     @Embedded
     private Employee employee;
 
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "allocation_attendee", joinColumns = @JoinColumn(name = "allocation_id"))
+    @Column(name = "email")
+    @BatchSize(size = 50)
+    private List<String> attendees;
+
     @Column(name = "subject")
     private String subject;
 
@@ -38,17 +47,22 @@ public class Allocation {
     @Column(name = "updated_at")
     private OffsetDateTime updatedAt;
 
+    @Column(name = "deleted_at")
+    private OffsetDateTime deletedAt;
+
     public Allocation() {}
 
     private Allocation(AllocationBuilder builder) {
         id = builder.id;
         room = builder.room;
         employee = builder.employee;
+        attendees = builder.attendees;
         subject = builder.subject;
         startAt = builder.startAt;
         endAt = builder.endAt;
         createdAt = builder.createdAt;
         updatedAt = builder.updatedAt;
+        deletedAt = builder.deletedAt;
     }
 
     @PrePersist
@@ -76,6 +90,10 @@ public class Allocation {
         return employee;
     }
 
+    public List<String> getAttendees() {
+        return attendees;
+    }
+
     public String getSubject() {
         return subject;
     }
@@ -96,6 +114,10 @@ public class Allocation {
         return updatedAt;
     }
 
+    public OffsetDateTime getDeletedAt() {
+        return deletedAt;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -109,13 +131,14 @@ public class Allocation {
             Objects.equals(startAt, that.startAt) &&
             Objects.equals(endAt, that.endAt) &&
             Objects.equals(createdAt, that.createdAt) &&
-            Objects.equals(updatedAt, that.updatedAt)
+            Objects.equals(updatedAt, that.updatedAt) &&
+            Objects.equals(deletedAt, that.deletedAt)
         );
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, room, employee, subject, startAt, endAt, createdAt, updatedAt);
+        return Objects.hash(id, room, employee, subject, startAt, endAt, createdAt, updatedAt, deletedAt);
     }
 
     @Override
@@ -128,6 +151,8 @@ public class Allocation {
             room +
             ", employee=" +
             employee +
+            ", attendees=" +
+            attendees +
             ", subject='" +
             subject +
             '\'' +
@@ -139,6 +164,8 @@ public class Allocation {
             createdAt +
             ", updatedAt=" +
             updatedAt +
+            ", deletedAt=" +
+            deletedAt +
             '}'
         );
     }
@@ -151,11 +178,13 @@ public class Allocation {
         private Long id;
         private Room room;
         private Employee employee;
+        private List<String> attendees;
         private String subject;
         private OffsetDateTime startAt;
         private OffsetDateTime endAt;
         private OffsetDateTime createdAt;
         private OffsetDateTime updatedAt;
+        private OffsetDateTime deletedAt;
 
         private AllocationBuilder() {}
 
@@ -174,6 +203,11 @@ public class Allocation {
             return this;
         }
 
+        public AllocationBuilder attendees(List<String> attendees) {
+            this.attendees = attendees;
+            return this;
+        }
+
         public AllocationBuilder subject(String subject) {
             this.subject = subject;
             return this;
@@ -199,6 +233,11 @@ public class Allocation {
             return this;
         }
 
+        public AllocationBuilder deletedAt(OffsetDateTime deletedAt) {
+            this.deletedAt = deletedAt;
+            return this;
+        }
+
         public Allocation build() {
             return new Allocation(this);
         }
@@ -0,0 +1,372 @@
+package br.com.sw2you.realmeet.domain.entity;
+
+import br.com.sw2you.realmeet.report.enumeration.ReportCompression;
+import br.com.sw2you.realmeet.report.enumeration.ReportFormat;
+import br.com.sw2you.realmeet.report.enumeration.ReportHandlerType;
+import br.com.sw2you.realmeet.report.enumeration.ReportJobStatus;
+import br.com.sw2you.realmeet.report.model.ReportMetrics;
+import br.com.sw2you.realmeet.util.DateUtils;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import javax.persistence.*;
+
+@Entity
+@Table(name = "report_job")
+public class ReportJob {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "report_type")
+    private ReportHandlerType reportType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "report_format")
+    private ReportFormat reportFormat;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "report_compression")
+    private ReportCompression reportCompression;
+
+    @Column(name = "email")
+    private String email;
+
+    @Column(name = "requester")
+    private String requester;
+
+    // Set while the job is in flight; the unique index makes concurrent duplicate requests collide
+    @Column(name = "request_key")
+    private String requestKey;
+
+    @Column(name = "date_from")
+    private LocalDate dateFrom;
+
+    @Column(name = "date_to")
+    private LocalDate dateTo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status")
+    private ReportJobStatus status;
+
+    @Column(name = "file_path")
+    private String filePath;
+
+    @Column(name = "row_count")
+    private Long rowCount;
+
+    @Column(name = "fill_millis")
+    private Long fillMillis;
+
+    @Column(name = "export_millis")
+    private Long exportMillis;
+
+    @Column(name = "size_bytes")
+    private Long sizeBytes;
+
+    @Column(name = "output_bytes")
+    private Long outputBytes;
+
+    @Column(name = "error_message")
+    private String errorMessage;
+
+    @Column(name = "created_at")
+    private OffsetDateTime createdAt;
+
+    @Column(name = "started_at")
+    private OffsetDateTime startedAt;
+
+    // Renewed by the node running the job; an expired lease means that node is gone
+    @Column(name = "lease_until")
+    private OffsetDateTime leaseUntil;
+
+    @Column(name = "finished_at")
+    private OffsetDateTime finishedAt;
+
+    public ReportJob() {}
+
+    private ReportJob(ReportJobBuilder builder) {
+        id = builder.id;
+        reportType = builder.reportType;
+        reportFormat = builder.reportFormat;
+        email = builder.email;
+        requester = builder.requester;
+        requestKey = builder.requestKey;
+        dateFrom = builder.dateFrom;
+        dateTo = builder.dateTo;
+        status = builder.status;
+        createdAt = builder.createdAt;
+    }
+
+    @PrePersist
+    public void prePersist() {
+        if (Objects.isNull(createdAt)) {
+            createdAt = DateUtils.now();
+        }
+        if (Objects.isNull(status)) {
+            status = ReportJobStatus.PENDING;
+        }
+        if (Objects.isNull(reportCompression)) {
+            reportCompression = ReportCompression.NONE;
+        }
+    }
+
+    public void complete(String filePath, ReportMetrics reportMetrics) {
+        this.status = ReportJobStatus.COMPLETED;
+        this.filePath = filePath;
+        this.reportCompression = reportMetrics.getReportCompression();
+        this.rowCount = reportMetrics.getRowCount();
+        this.fillMillis = reportMetrics.getFillMillis();
+        this.exportMillis = reportMetrics.getExportMillis();
+        this.sizeBytes = reportMetrics.getSizeBytes();
+        this.outputBytes = reportMetrics.getOutputBytes();
+        this.requestKey = null;
+        this.leaseUntil = null;
+        this.finishedAt = DateUtils.now();
+    }
+
+    public void fail(String errorMessage) {
+        this.status = ReportJobStatus.FAILED;
+        this.errorMessage = errorMessage;
+        this.requestKey = null;
+        this.leaseUntil = null;
+        this.finishedAt = DateUtils.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public ReportHandlerType getReportType() {
+        return reportType;
+    }
+
+    public ReportFormat getReportFormat() {
+        return reportFormat;
+    }
+
+    public ReportCompression getReportCompression() {
+        return reportCompression;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getRequester() {
+        return requester;
+    }
+
+    public String getRequestKey() {
+        return requestKey;
+    }
+
+    public LocalDate getDateFrom() {
+        return dateFrom;
+    }
+
+    public LocalDate getDateTo() {
+        return dateTo;
+    }
+
+    public ReportJobStatus getStatus() {
+        return status;
+    }
+
+    public String getFilePath() {
+        return filePath;
+    }
+
+    public Long getRowCount() {
+        return rowCount;
+    }
+
+    public Long getFillMillis() {
+        return fillMillis;
+    }
+
+    public Long getExportMillis() {
+        return exportMillis;
+    }
+
+    public Long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public Long getOutputBytes() {
+        return outputBytes;
+    }
+
+    public Double getCompressionRatio() {
+        return Objects.isNull(outputBytes) || Objects.isNull(sizeBytes) || sizeBytes == 0
+            ? null
+            : (double) outputBytes / sizeBytes;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public OffsetDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public OffsetDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public OffsetDateTime getLeaseUntil() {
+        return leaseUntil;
+    }
+
+    public OffsetDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ReportJob reportJob = (ReportJob) o;
+        return (
+            Objects.equals(id, reportJob.id) &&
+            reportType == reportJob.reportType &&
+            reportFormat == reportJob.reportFormat &&
+            Objects.equals(email, reportJob.email) &&
+            Objects.equals(dateFrom, reportJob.dateFrom) &&
+            Objects.equals(dateTo, reportJob.dateTo) &&
+            status == reportJob.status &&
+            Objects.equals(filePath, reportJob.filePath) &&
+            Objects.equals(createdAt, reportJob.createdAt)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, reportType, reportFormat, email, dateFrom, dateTo, status, filePath, createdAt);
+    }
+
+    @Override
+    public String toString() {
+        return (
+            "ReportJob{" +
+            "id=" +
+            id +
+            ", reportType=" +
+            reportType +
+            ", reportFormat=" +
+            reportFormat +
+            ", reportCompression=" +
+            reportCompression +
+            ", email='" +
+            email +
+            '\'' +
+            ", requester='" +
+            requester +
+            '\'' +
+            ", dateFrom=" +
+            dateFrom +
+            ", dateTo=" +
+            dateTo +
+            ", status=" +
+            status +
+            ", filePath='" +
+            filePath +
+            '\'' +
+            ", rowCount=" +
+            rowCount +
+            ", fillMillis=" +
+            fillMillis +
+            ", exportMillis=" +
+            exportMillis +
+            ", sizeBytes=" +
+            sizeBytes +
+            ", outputBytes=" +
+            outputBytes +
+            ", errorMessage='" +
+            errorMessage +
+            '\'' +
+            ", createdAt=" +
+            createdAt +
+            ", startedAt=" +
+            startedAt +
+            ", finishedAt=" +
+            finishedAt +
+            '}'
+        );
+    }
+
+    public static ReportJobBuilder newReportJobBuilder() {
+        return new ReportJobBuilder();
+    }
+
+    public static final class ReportJobBuilder {
+        private Long id;
+        private ReportHandlerType reportType;
+        private ReportFormat reportFormat;
+        private String email;
+        private String requester;
+        private String requestKey;
+        private LocalDate dateFrom;
+        private LocalDate dateTo;
+        private ReportJobStatus status;
+        private OffsetDateTime createdAt;
+
+        private ReportJobBuilder() {}
+
+        public ReportJobBuilder id(Long id) {
+            this.id = id;
+            return this;
+        }
+
+        public ReportJobBuilder reportType(ReportHandlerType reportType) {
+            this.reportType = reportType;
+            return this;
+        }
+
+        public ReportJobBuilder reportFormat(ReportFormat reportFormat) {
+            this.reportFormat = reportFormat;
+            return this;
+        }
+
+        public ReportJobBuilder email(String email) {
+            this.email = email;
+            return this;
+        }
+
+        public ReportJobBuilder requester(String requester) {
+            this.requester = requester;
+            return this;
+        }
+
+        public ReportJobBuilder requestKey(String requestKey) {
+            this.requestKey = requestKey;
+            return this;
+        }
+
+        public ReportJobBuilder dateFrom(LocalDate dateFrom) {
+            this.dateFrom = dateFrom;
+            return this;
+        }
+
+        public ReportJobBuilder dateTo(LocalDate dateTo) {
+            this.dateTo = dateTo;
+            return this;
+        }
+
+        public ReportJobBuilder status(ReportJobStatus status) {
+            this.status = status;
+            return this;
+        }
+
+        public ReportJobBuilder createdAt(OffsetDateTime createdAt) {
+            this.createdAt = createdAt;
+            return this;
+        }
+
+        public ReportJob build() {
+            return new ReportJob(this);
+        }
+    }
+}
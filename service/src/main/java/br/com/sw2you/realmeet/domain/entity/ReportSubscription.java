@@ -0,0 +1,242 @@
+package br.com.sw2you.realmeet.domain.entity;
+
+import br.com.sw2you.realmeet.report.enumeration.ReportFormat;
+import br.com.sw2you.realmeet.report.enumeration.ReportHandlerType;
+import br.com.sw2you.realmeet.report.enumeration.ReportPeriod;
+import br.com.sw2you.realmeet.util.DateUtils;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Objects;
+import javax.persistence.*;
+import org.hibernate.annotations.BatchSize;
+
+@Entity
+@Table(name = "report_subscription")
+public class ReportSubscription {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "report_type")
+    private ReportHandlerType reportType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "report_format")
+    private ReportFormat reportFormat;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "report_period")
+    private ReportPeriod reportPeriod;
+
+    @Column(name = "cron")
+    private String cron;
+
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "report_subscription_recipient", joinColumns = @JoinColumn(name = "report_subscription_id"))
+    @Column(name = "email")
+    @BatchSize(size = 50)
+    private List<String> recipients;
+
+    @Column(name = "next_run_at")
+    private OffsetDateTime nextRunAt;
+
+    @Column(name = "last_run_at")
+    private OffsetDateTime lastRunAt;
+
+    // Consecutive runs started since the last successful delivery
+    @Column(name = "attempts")
+    private Integer attempts;
+
+    @Column(name = "created_at")
+    private OffsetDateTime createdAt;
+
+    public ReportSubscription() {}
+
+    private ReportSubscription(ReportSubscriptionBuilder builder) {
+        id = builder.id;
+        reportType = builder.reportType;
+        reportFormat = builder.reportFormat;
+        reportPeriod = builder.reportPeriod;
+        cron = builder.cron;
+        recipients = builder.recipients;
+        nextRunAt = builder.nextRunAt;
+        lastRunAt = builder.lastRunAt;
+        attempts = builder.attempts;
+        createdAt = builder.createdAt;
+    }
+
+    @PrePersist
+    public void prePersist() {
+        if (Objects.isNull(createdAt)) {
+            createdAt = DateUtils.now();
+        }
+        if (Objects.isNull(attempts)) {
+            attempts = 0;
+        }
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public ReportHandlerType getReportType() {
+        return reportType;
+    }
+
+    public ReportFormat getReportFormat() {
+        return reportFormat;
+    }
+
+    public ReportPeriod getReportPeriod() {
+        return reportPeriod;
+    }
+
+    public String getCron() {
+        return cron;
+    }
+
+    public List<String> getRecipients() {
+        return recipients;
+    }
+
+    public OffsetDateTime getNextRunAt() {
+        return nextRunAt;
+    }
+
+    public OffsetDateTime getLastRunAt() {
+        return lastRunAt;
+    }
+
+    public Integer getAttempts() {
+        return attempts;
+    }
+
+    public OffsetDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ReportSubscription that = (ReportSubscription) o;
+        return (
+            Objects.equals(id, that.id) &&
+            reportType == that.reportType &&
+            reportFormat == that.reportFormat &&
+            reportPeriod == that.reportPeriod &&
+            Objects.equals(cron, that.cron) &&
+            Objects.equals(recipients, that.recipients) &&
+            Objects.equals(nextRunAt, that.nextRunAt) &&
+            Objects.equals(createdAt, that.createdAt)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, reportType, reportFormat, reportPeriod, cron, recipients, nextRunAt, createdAt);
+    }
+
+    @Override
+    public String toString() {
+        return (
+            "ReportSubscription{" +
+            "id=" +
+            id +
+            ", reportType=" +
+            reportType +
+            ", reportFormat=" +
+            reportFormat +
+            ", reportPeriod=" +
+            reportPeriod +
+            ", cron='" +
+            cron +
+            '\'' +
+            ", recipients=" +
+            recipients +
+            ", nextRunAt=" +
+            nextRunAt +
+            ", lastRunAt=" +
+            lastRunAt +
+            ", attempts=" +
+            attempts +
+            ", createdAt=" +
+            createdAt +
+            '}'
+        );
+    }
+
+    public static ReportSubscriptionBuilder newReportSubscriptionBuilder() {
+        return new ReportSubscriptionBuilder();
+    }
+
+    public static final class ReportSubscriptionBuilder {
+        private Long id;
+        private ReportHandlerType reportType;
+        private ReportFormat reportFormat;
+        private ReportPeriod reportPeriod;
+        private String cron;
+        private List<String> recipients;
+        private OffsetDateTime nextRunAt;
+        private OffsetDateTime lastRunAt;
+        private Integer attempts;
+        private OffsetDateTime createdAt;
+
+        private ReportSubscriptionBuilder() {}
+
+        public ReportSubscriptionBuilder id(Long id) {
+            this.id = id;
+            return this;
+        }
+
+        public ReportSubscriptionBuilder reportType(ReportHandlerType reportType) {
+            this.reportType = reportType;
+            return this;
+        }
+
+        public ReportSubscriptionBuilder reportFormat(ReportFormat reportFormat) {
+            this.reportFormat = reportFormat;
+            return this;
+        }
+
+        public ReportSubscriptionBuilder reportPeriod(ReportPeriod reportPeriod) {
+            this.reportPeriod = reportPeriod;
+            return this;
+        }
+
+        public ReportSubscriptionBuilder cron(String cron) {
+            this.cron = cron;
+            return this;
+        }
+
+        public ReportSubscriptionBuilder recipients(List<String> recipients) {
+            this.recipients = recipients;
+            return this;
+        }
+
+        public ReportSubscriptionBuilder nextRunAt(OffsetDateTime nextRunAt) {
+            this.nextRunAt = nextRunAt;
+            return this;
+        }
+
+        public ReportSubscriptionBuilder lastRunAt(OffsetDateTime lastRunAt) {
+            this.lastRunAt = lastRunAt;
+            return this;
+        }
+
+        public ReportSubscriptionBuilder attempts(Integer attempts) {
+            this.attempts = attempts;
+            return this;
+        }
+
+        public ReportSubscriptionBuilder createdAt(OffsetDateTime createdAt) {
+            this.createdAt = createdAt;
+            return this;
+        }
+
+        public ReportSubscription build() {
+            return new ReportSubscription(this);
+        }
+    }
+}
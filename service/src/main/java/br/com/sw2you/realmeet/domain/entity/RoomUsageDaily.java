@@ -0,0 +1,121 @@
+package br.com.sw2you.realmeet.domain.entity;
+
+import br.com.sw2you.realmeet.domain.model.RoomUsageDailyId;
+import java.util.Objects;
+import javax.persistence.*;
+
+@Entity
+@Table(name = "room_usage_daily")
+public class RoomUsageDaily {
+    @EmbeddedId
+    private RoomUsageDailyId id;
+
+    @MapsId("roomId")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "room_id")
+    private Room room;
+
+    @Column(name = "allocation_count")
+    private Long allocationCount;
+
+    @Column(name = "booked_minutes")
+    private Long bookedMinutes;
+
+    public RoomUsageDaily() {}
+
+    private RoomUsageDaily(RoomUsageDailyBuilder builder) {
+        id = builder.id;
+        room = builder.room;
+        allocationCount = builder.allocationCount;
+        bookedMinutes = builder.bookedMinutes;
+    }
+
+    public RoomUsageDailyId getId() {
+        return id;
+    }
+
+    public Room getRoom() {
+        return room;
+    }
+
+    public Long getAllocationCount() {
+        return allocationCount;
+    }
+
+    public Long getBookedMinutes() {
+        return bookedMinutes;
+    }
+
+    public void addUsage(long allocationCount, long bookedMinutes) {
+        this.allocationCount += allocationCount;
+        this.bookedMinutes += bookedMinutes;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RoomUsageDaily that = (RoomUsageDaily) o;
+        return (
+            Objects.equals(id, that.id) &&
+            Objects.equals(allocationCount, that.allocationCount) &&
+            Objects.equals(bookedMinutes, that.bookedMinutes)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, allocationCount, bookedMinutes);
+    }
+
+    @Override
+    public String toString() {
+        return (
+            "RoomUsageDaily{" +
+            "id=" +
+            id +
+            ", allocationCount=" +
+            allocationCount +
+            ", bookedMinutes=" +
+            bookedMinutes +
+            '}'
+        );
+    }
+
+    public static RoomUsageDailyBuilder newRoomUsageDailyBuilder() {
+        return new RoomUsageDailyBuilder();
+    }
+
+    public static final class RoomUsageDailyBuilder {
+        private RoomUsageDailyId id;
+        private Room room;
+        private Long allocationCount = 0L;
+        private Long bookedMinutes = 0L;
+
+        private RoomUsageDailyBuilder() {}
+
+        public RoomUsageDailyBuilder id(RoomUsageDailyId id) {
+            this.id = id;
+            return this;
+        }
+
+        public RoomUsageDailyBuilder room(Room room) {
+            this.room = room;
+            return this;
+        }
+
+        public RoomUsageDailyBuilder allocationCount(Long allocationCount) {
+            this.allocationCount = allocationCount;
+            return this;
+        }
+
+        public RoomUsageDailyBuilder bookedMinutes(Long bookedMinutes) {
+            this.bookedMinutes = bookedMinutes;
+            return this;
+        }
+
+        public RoomUsageDaily build() {
+            return new RoomUsageDaily(this);
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package br.com.sw2you.realmeet.domain.entity;
+
+import br.com.sw2you.realmeet.report.enumeration.ReportCompression;
+import br.com.sw2you.realmeet.report.enumeration.ReportFormat;
+import br.com.sw2you.realmeet.report.enumeration.ReportHandlerType;
+import br.com.sw2you.realmeet.util.DateUtils;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import javax.persistence.*;
+
+@Entity
+@Table(name = "stored_report")
+public class StoredReport {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "token")
+    private String token;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "report_type")
+    private ReportHandlerType reportType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "report_format")
+    private ReportFormat reportFormat;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "report_compression")
+    private ReportCompression reportCompression;
+
+    @Column(name = "file_name")
+    private String fileName;
+
+    @Column(name = "path")
+    private String path;
+
+    @Column(name = "size_bytes")
+    private Long sizeBytes;
+
+    @Column(name = "created_at")
+    private OffsetDateTime createdAt;
+
+    @Column(name = "expires_at")
+    private OffsetDateTime expiresAt;
+
+    public StoredReport() {}
+
+    private StoredReport(StoredReportBuilder builder) {
+        id = builder.id;
+        token = builder.token;
+        reportType = builder.reportType;
+        reportFormat = builder.reportFormat;
+        reportCompression = builder.reportCompression;
+        fileName = builder.fileName;
+        path = builder.path;
+        sizeBytes = builder.sizeBytes;
+        createdAt = builder.createdAt;
+        expiresAt = builder.expiresAt;
+    }
+
+    @PrePersist
+    public void prePersist() {
+        if (Objects.isNull(createdAt)) {
+            createdAt = DateUtils.now();
+        }
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public ReportHandlerType getReportType() {
+        return reportType;
+    }
+
+    public ReportFormat getReportFormat() {
+        return reportFormat;
+    }
+
+    public ReportCompression getReportCompression() {
+        return reportCompression;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public Long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public OffsetDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public OffsetDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        StoredReport that = (StoredReport) o;
+        return (
+            Objects.equals(id, that.id) &&
+            Objects.equals(token, that.token) &&
+            reportType == that.reportType &&
+            reportFormat == that.reportFormat &&
+            reportCompression == that.reportCompression &&
+            Objects.equals(fileName, that.fileName) &&
+            Objects.equals(path, that.path) &&
+            Objects.equals(sizeBytes, that.sizeBytes) &&
+            Objects.equals(expiresAt, that.expiresAt)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+            id,
+            token,
+            reportType,
+            reportFormat,
+            reportCompression,
+            fileName,
+            path,
+            sizeBytes,
+            expiresAt
+        );
+    }
+
+    @Override
+    public String toString() {
+        return (
+            "StoredReport{" +
+            "id=" +
+            id +
+            ", reportType=" +
+            reportType +
+            ", reportFormat=" +
+            reportFormat +
+            ", reportCompression=" +
+            reportCompression +
+            ", fileName='" +
+            fileName +
+            '\'' +
+            ", path='" +
+            path +
+            '\'' +
+            ", sizeBytes=" +
+            sizeBytes +
+            ", expiresAt=" +
+            expiresAt +
+            '}'
+        );
+    }
+
+    public static StoredReportBuilder newStoredReportBuilder() {
+        return new StoredReportBuilder();
+    }
+
+    public static final class StoredReportBuilder {
+        private Long id;
+        private String token;
+        private ReportHandlerType reportType;
+        private ReportFormat reportFormat;
+        private ReportCompression reportCompression = ReportCompression.NONE;
+        private String fileName;
+        private String path;
+        private Long sizeBytes;
+        private OffsetDateTime createdAt;
+        private OffsetDateTime expiresAt;
+
+        private StoredReportBuilder() {}
+
+        public StoredReportBuilder id(Long id) {
+            this.id = id;
+            return this;
+        }
+
+        public StoredReportBuilder token(String token) {
+            this.token = token;
+            return this;
+        }
+
+        public StoredReportBuilder reportType(ReportHandlerType reportType) {
+            this.reportType = reportType;
+            return this;
+        }
+
+        public StoredReportBuilder reportFormat(ReportFormat reportFormat) {
+            this.reportFormat = reportFormat;
+            return this;
+        }
+
+        public StoredReportBuilder reportCompression(ReportCompression reportCompression) {
+            this.reportCompression = reportCompression;
+            return this;
+        }
+
+        public StoredReportBuilder fileName(String fileName) {
+            this.fileName = fileName;
+            return this;
+        }
+
+        public StoredReportBuilder path(String path) {
+            this.path = path;
+            return this;
+        }
+
+        public StoredReportBuilder sizeBytes(Long sizeBytes) {
+            this.sizeBytes = sizeBytes;
+            return this;
+        }
+
+        public StoredReportBuilder createdAt(OffsetDateTime createdAt) {
+            this.createdAt = createdAt;
+            return this;
+        }
+
+        public StoredReportBuilder expiresAt(OffsetDateTime expiresAt) {
+            this.expiresAt = expiresAt;
+            return this;
+        }
+
+        public StoredReport build() {
+            return new StoredReport(this);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package br.com.sw2you.realmeet.domain.model;
+
+import java.time.OffsetDateTime;
+import java.util.Objects;
+
+public class AllocationReportRow {
+    private final OffsetDateTime startAt;
+    private final OffsetDateTime endAt;
+    private final String roomName;
+    private final String employeeName;
+
+    public AllocationReportRow(OffsetDateTime startAt, OffsetDateTime endAt, String roomName, String employeeName) {
+        this.startAt = startAt;
+        this.endAt = endAt;
+        this.roomName = roomName;
+        this.employeeName = employeeName;
+    }
+
+    public OffsetDateTime getStartAt() {
+        return startAt;
+    }
+
+    public OffsetDateTime getEndAt() {
+        return endAt;
+    }
+
+    public String getRoomName() {
+        return roomName;
+    }
+
+    public String getEmployeeName() {
+        return employeeName;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AllocationReportRow that = (AllocationReportRow) o;
+        return (
+            Objects.equals(startAt, that.startAt) &&
+            Objects.equals(endAt, that.endAt) &&
+            Objects.equals(roomName, that.roomName) &&
+            Objects.equals(employeeName, that.employeeName)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(startAt, endAt, roomName, employeeName);
+    }
+
+    @Override
+    public String toString() {
+        return (
+            "AllocationReportRow{" +
+            "startAt=" +
+            startAt +
+            ", endAt=" +
+            endAt +
+            ", roomName='" +
+            roomName +
+            '\'' +
+            ", employeeName='" +
+            employeeName +
+            '\'' +
+            '}'
+        );
+    }
+}
@@ -0,0 +1,51 @@
+package br.com.sw2you.realmeet.domain.model;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+
+@Embeddable
+public class RoomUsageDailyId implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    @Column(name = "room_id")
+    private Long roomId;
+
+    @Column(name = "usage_date")
+    private LocalDate usageDate;
+
+    public RoomUsageDailyId() {}
+
+    public RoomUsageDailyId(Long roomId, LocalDate usageDate) {
+        this.roomId = roomId;
+        this.usageDate = usageDate;
+    }
+
+    public Long getRoomId() {
+        return roomId;
+    }
+
+    public LocalDate getUsageDate() {
+        return usageDate;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RoomUsageDailyId that = (RoomUsageDailyId) o;
+        return Objects.equals(roomId, that.roomId) && Objects.equals(usageDate, that.usageDate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(roomId, usageDate);
+    }
+
+    @Override
+    public String toString() {
+        return "RoomUsageDailyId{" + "roomId=" + roomId + ", usageDate=" + usageDate + '}';
+    }
+}
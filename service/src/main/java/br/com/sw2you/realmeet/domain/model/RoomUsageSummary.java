@@ -0,0 +1,68 @@
+package br.com.sw2you.realmeet.domain.model;
+
+import java.util.Objects;
+
+public class RoomUsageSummary {
+    private final Long roomId;
+    private final String roomName;
+    private final Long allocationCount;
+    private final Long bookedMinutes;
+
+    public RoomUsageSummary(Long roomId, String roomName, Long allocationCount, Long bookedMinutes) {
+        this.roomId = roomId;
+        this.roomName = roomName;
+        this.allocationCount = allocationCount;
+        this.bookedMinutes = bookedMinutes;
+    }
+
+    public Long getRoomId() {
+        return roomId;
+    }
+
+    public String getRoomName() {
+        return roomName;
+    }
+
+    public Long getAllocationCount() {
+        return allocationCount;
+    }
+
+    public Long getBookedMinutes() {
+        return bookedMinutes;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RoomUsageSummary that = (RoomUsageSummary) o;
+        return (
+            Objects.equals(roomId, that.roomId) &&
+            Objects.equals(roomName, that.roomName) &&
+            Objects.equals(allocationCount, that.allocationCount) &&
+            Objects.equals(bookedMinutes, that.bookedMinutes)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(roomId, roomName, allocationCount, bookedMinutes);
+    }
+
+    @Override
+    public String toString() {
+        return (
+            "RoomUsageSummary{" +
+            "roomId=" +
+            roomId +
+            ", roomName='" +
+            roomName +
+            '\'' +
+            ", allocationCount=" +
+            allocationCount +
+            ", bookedMinutes=" +
+            bookedMinutes +
+            '}'
+        );
+    }
+}
@@ -1,13 +1,22 @@
 package br.com.sw2you.realmeet.domain.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
 import br.com.sw2you.realmeet.domain.entity.Allocation;
+import br.com.sw2you.realmeet.domain.model.AllocationReportRow;
+import br.com.sw2you.realmeet.util.Constants;
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -15,13 +24,32 @@ import org.springframework.stereotype.Repository;
 public interface AllocationRepository extends JpaRepository<Allocation, Long> {
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query(
-        "UPDATE Allocation a SET a.subject= :subject, a.startAt= :startAt, a.endAt= :endAt WHERE a.id= :allocationId"
+        "UPDATE Allocation a SET a.subject= :subject, a.startAt= :startAt, a.endAt= :endAt, a.updatedAt= :updatedAt " +
+        "WHERE a.id= :allocationId"
     )
     void updateAllocation(
         @Param("allocationId") Long allocationId,
         @Param("subject") String subject,
         @Param("startAt") OffsetDateTime startAt,
-        @Param("endAt") OffsetDateTime endAt
+        @Param("endAt") OffsetDateTime endAt,
+        @Param("updatedAt") OffsetDateTime updatedAt
+    );
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Allocation a SET a.deletedAt= :deletedAt, a.updatedAt= :deletedAt WHERE a.id= :allocationId")
+    void softDeleteAllocation(@Param("allocationId") Long allocationId, @Param("deletedAt") OffsetDateTime deletedAt);
+
+    // Native so deleted allocations, hidden from entity queries, come back as tombstones
+    @Query(
+        value = "SELECT * FROM allocation a WHERE a.updated_at >= :since AND a.updated_at < :until AND " +
+        "(a.updated_at > :since OR a.id > :sinceId) ORDER BY a.updated_at, a.id LIMIT :limit",
+        nativeQuery = true
+    )
+    List<Allocation> findChangedSince(
+        @Param("since") OffsetDateTime since,
+        @Param("sinceId") long sinceId,
+        @Param("until") OffsetDateTime until,
+        @Param("limit") int limit
     );
 
     @Query(
@@ -52,4 +80,33 @@ public interface AllocationRepository extends JpaRepository<Allocation, Long> {
         @Param("startAt") OffsetDateTime startAt,
         @Param("endAt") OffsetDateTime endAt
     );
+
+    @Query("SELECT COUNT(a) FROM Allocation a WHERE a.startAt >= :startAt AND a.endAt <= :endAt")
+    long countForReport(@Param("startAt") OffsetDateTime startAt, @Param("endAt") OffsetDateTime endAt);
+
+    @QueryHints(
+        {
+            @QueryHint(name = HINT_FETCH_SIZE, value = Constants.REPORT_FETCH_SIZE),
+            @QueryHint(name = HINT_READONLY, value = "true"),
+            @QueryHint(name = HINT_CACHEABLE, value = "false")
+        }
+    )
+    @Query(
+        "SELECT new br.com.sw2you.realmeet.domain.model.AllocationReportRow(a.startAt, a.endAt, r.name, a.employee.name) " +
+        "FROM Allocation a JOIN a.room r WHERE a.startAt >= :startAt AND a.endAt <= :endAt"
+    )
+    Stream<AllocationReportRow> streamRowsForReport(
+        @Param("startAt") OffsetDateTime startAt,
+        @Param("endAt") OffsetDateTime endAt
+    );
+
+    @QueryHints(
+        {
+            @QueryHint(name = HINT_FETCH_SIZE, value = Constants.REPORT_FETCH_SIZE),
+            @QueryHint(name = HINT_READONLY, value = "true"),
+            @QueryHint(name = HINT_CACHEABLE, value = "false")
+        }
+    )
+    @Query("SELECT a FROM Allocation a JOIN FETCH a.room")
+    Stream<Allocation> streamAllForRollup();
 }
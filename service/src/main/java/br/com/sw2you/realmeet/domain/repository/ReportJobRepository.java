@@ -0,0 +1,62 @@
+package br.com.sw2you.realmeet.domain.repository;
+
+import br.com.sw2you.realmeet.domain.entity.ReportJob;
+import br.com.sw2you.realmeet.report.enumeration.ReportJobStatus;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface ReportJobRepository extends JpaRepository<ReportJob, Long> {
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(
+        "UPDATE ReportJob j SET j.status = br.com.sw2you.realmeet.report.enumeration.ReportJobStatus.RUNNING, " +
+        "j.startedAt = :startedAt, j.leaseUntil = :leaseUntil " +
+        "WHERE j.id = :id AND j.status = br.com.sw2you.realmeet.report.enumeration.ReportJobStatus.PENDING"
+    )
+    int claim(
+        @Param("id") Long id,
+        @Param("startedAt") OffsetDateTime startedAt,
+        @Param("leaseUntil") OffsetDateTime leaseUntil
+    );
+
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(
+        "UPDATE ReportJob j SET j.leaseUntil = :leaseUntil " +
+        "WHERE j.id IN :ids AND j.status = br.com.sw2you.realmeet.report.enumeration.ReportJobStatus.RUNNING"
+    )
+    int renewLeases(@Param("ids") Collection<Long> ids, @Param("leaseUntil") OffsetDateTime leaseUntil);
+
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(
+        "UPDATE ReportJob j SET j.status = br.com.sw2you.realmeet.report.enumeration.ReportJobStatus.PENDING, " +
+        "j.leaseUntil = NULL " +
+        "WHERE j.status = br.com.sw2you.realmeet.report.enumeration.ReportJobStatus.RUNNING AND j.leaseUntil < :now"
+    )
+    int requeueExpired(@Param("now") OffsetDateTime now);
+
+    @Query(
+        "SELECT j.id FROM ReportJob j " +
+        "WHERE j.status = br.com.sw2you.realmeet.report.enumeration.ReportJobStatus.PENDING AND " +
+        "j.createdAt < :createdBefore ORDER BY j.id"
+    )
+    List<Long> findStalePendingIds(@Param("createdBefore") OffsetDateTime createdBefore);
+
+    Optional<ReportJob> findByRequestKey(String requestKey);
+
+    @Query("SELECT COUNT(j) FROM ReportJob j WHERE j.requester = :requester AND j.status IN :statuses")
+    long countByRequester(
+        @Param("requester") String requester,
+        @Param("statuses") Collection<ReportJobStatus> statuses
+    );
+}
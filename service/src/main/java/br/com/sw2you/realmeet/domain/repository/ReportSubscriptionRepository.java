@@ -0,0 +1,54 @@
+package br.com.sw2you.realmeet.domain.repository;
+
+import br.com.sw2you.realmeet.domain.entity.ReportSubscription;
+import java.time.OffsetDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface ReportSubscriptionRepository extends JpaRepository<ReportSubscription, Long> {
+    @Query("SELECT s FROM ReportSubscription s WHERE s.nextRunAt <= :now ORDER BY s.id")
+    List<ReportSubscription> findDue(@Param("now") OffsetDateTime now);
+
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(
+        "UPDATE ReportSubscription s SET s.nextRunAt = :leaseUntil, s.attempts = s.attempts + 1 " +
+        "WHERE s.id = :id AND s.nextRunAt = :currentNextRunAt"
+    )
+    int claim(
+        @Param("id") Long id,
+        @Param("currentNextRunAt") OffsetDateTime currentNextRunAt,
+        @Param("leaseUntil") OffsetDateTime leaseUntil
+    );
+
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(
+        "UPDATE ReportSubscription s SET s.nextRunAt = :nextRunAt, s.lastRunAt = :lastRunAt, s.attempts = 0 " +
+        "WHERE s.id = :id AND s.nextRunAt = :leaseUntil"
+    )
+    int complete(
+        @Param("id") Long id,
+        @Param("leaseUntil") OffsetDateTime leaseUntil,
+        @Param("nextRunAt") OffsetDateTime nextRunAt,
+        @Param("lastRunAt") OffsetDateTime lastRunAt
+    );
+
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(
+        "UPDATE ReportSubscription s SET s.nextRunAt = :nextRunAt, s.attempts = 0 " +
+        "WHERE s.id = :id AND s.nextRunAt = :leaseUntil"
+    )
+    int abandon(
+        @Param("id") Long id,
+        @Param("leaseUntil") OffsetDateTime leaseUntil,
+        @Param("nextRunAt") OffsetDateTime nextRunAt
+    );
+}
@@ -0,0 +1,62 @@
+package br.com.sw2you.realmeet.domain.repository;
+
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+import br.com.sw2you.realmeet.domain.entity.RoomUsageDaily;
+import br.com.sw2you.realmeet.domain.model.RoomUsageDailyId;
+import br.com.sw2you.realmeet.domain.model.RoomUsageSummary;
+import br.com.sw2you.realmeet.util.Constants;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RoomUsageDailyRepository extends JpaRepository<RoomUsageDaily, RoomUsageDailyId> {
+    @Modifying
+    @Query(
+        value = "INSERT INTO room_usage_daily (room_id, usage_date, allocation_count, booked_minutes) " +
+        "VALUES (:roomId, :usageDate, :allocationCount, :bookedMinutes) " +
+        "ON DUPLICATE KEY UPDATE allocation_count = allocation_count + VALUES(allocation_count), " +
+        "booked_minutes = booked_minutes + VALUES(booked_minutes)",
+        nativeQuery = true
+    )
+    int addUsage(
+        @Param("roomId") Long roomId,
+        @Param("usageDate") LocalDate usageDate,
+        @Param("allocationCount") long allocationCount,
+        @Param("bookedMinutes") long bookedMinutes
+    );
+
+    @Query(
+        "SELECT new br.com.sw2you.realmeet.domain.model.RoomUsageSummary(" +
+        "r.id, r.name, SUM(u.allocationCount), SUM(u.bookedMinutes)) " +
+        "FROM RoomUsageDaily u JOIN u.room r WHERE " +
+        "u.id.usageDate >= :dateFrom AND u.id.usageDate <= :dateTo " +
+        "GROUP BY r.id, r.name ORDER BY r.name"
+    )
+    List<RoomUsageSummary> findSummaries(@Param("dateFrom") LocalDate dateFrom, @Param("dateTo") LocalDate dateTo);
+
+    @QueryHints(
+        {
+            @QueryHint(name = HINT_FETCH_SIZE, value = Constants.REPORT_FETCH_SIZE),
+            @QueryHint(name = HINT_READONLY, value = "true"),
+            @QueryHint(name = HINT_CACHEABLE, value = "false")
+        }
+    )
+    @Query(
+        "SELECT u FROM RoomUsageDaily u JOIN FETCH u.room r WHERE " +
+        "u.id.usageDate >= :dateFrom AND u.id.usageDate <= :dateTo AND " +
+        "(u.allocationCount > 0 OR u.bookedMinutes > 0) " +
+        "ORDER BY r.name, u.id.usageDate"
+    )
+    Stream<RoomUsageDaily> streamAllForReport(@Param("dateFrom") LocalDate dateFrom, @Param("dateTo") LocalDate dateTo);
+}
@@ -0,0 +1,19 @@
+package br.com.sw2you.realmeet.domain.repository;
+
+import br.com.sw2you.realmeet.domain.entity.StoredReport;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface StoredReportRepository extends JpaRepository<StoredReport, Long> {
+    @Query("SELECT r FROM StoredReport r WHERE r.token = :token AND r.expiresAt > :now")
+    Optional<StoredReport> findAvailable(@Param("token") String token, @Param("now") OffsetDateTime now);
+
+    @Query("SELECT r FROM StoredReport r WHERE r.expiresAt <= :now ORDER BY r.expiresAt")
+    List<StoredReport> findExpired(@Param("now") OffsetDateTime now);
+}
@@ -30,11 +30,30 @@ public class EmailInfoGenerator {
     }
 
     public EmailInfo createEmailInfo(String email, TemplateType templateType, Map<String, Object> templateParams) {
-        return createEmailInfo(email, templateType, templateParams, null);
+        return createEmailInfo(email, null, templateType, templateParams, null);
     }
 
     public EmailInfo createEmailInfo(
         String email,
+        List<String> bcc,
+        TemplateType templateType,
+        Map<String, Object> templateParams
+    ) {
+        return createEmailInfo(email, bcc, templateType, templateParams, null);
+    }
+
+    public EmailInfo createEmailInfo(
+        String email,
+        TemplateType templateType,
+        Map<String, Object> templateParams,
+        List<Attachment> attachmentList
+    ) {
+        return createEmailInfo(email, null, templateType, templateParams, attachmentList);
+    }
+
+    private EmailInfo createEmailInfo(
+        String email,
+        List<String> bcc,
         TemplateType templateType,
         Map<String, Object> templateParams,
         List<Attachment> attachmentList
@@ -45,10 +64,12 @@ public class EmailInfoGenerator {
                 .newEmailInfoBuilder()
                 .from(emailConfigProperties.getFrom())
                 .to(List.of(email))
+                .bcc(bcc)
                 .subject(emailTemplate.getSubject())
                 .template(emailTemplate.getTemplateName())
                 .templateData(templateParams)
                 .attachments(attachmentList)
+                .priority(templateType.getPriority())
                 .build()
         );
     }
@@ -0,0 +1,6 @@
+package br.com.sw2you.realmeet.email;
+
+public enum EmailPriority {
+    TRANSACTIONAL,
+    BULK
+}
@@ -0,0 +1,69 @@
+package br.com.sw2you.realmeet.email;
+
+import br.com.sw2you.realmeet.config.properties.model.EmailRateLimit;
+import br.com.sw2you.realmeet.util.DateUtils;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+public class EmailRateLimiter {
+    private final long intervalNanos;
+    private final Integer perDay;
+    private final int maxPermitsPerSend;
+
+    private long nextFreeAt;
+    private LocalDate currentDay;
+    private int sentToday;
+
+    public EmailRateLimiter(EmailRateLimit rateLimit) {
+        var perMinute = Objects.isNull(rateLimit) ? null : rateLimit.getPerMinute();
+        intervalNanos = Objects.isNull(perMinute) ? 0 : TimeUnit.MINUTES.toNanos(1) / perMinute;
+        perDay = Objects.isNull(rateLimit) ? null : rateLimit.getPerDay();
+        maxPermitsPerSend = Objects.isNull(perMinute) ? Integer.MAX_VALUE : perMinute;
+        nextFreeAt = System.nanoTime();
+        currentDay = DateUtils.now().toLocalDate();
+    }
+
+    public synchronized boolean tryAcquire(int permits) {
+        if (isDailyQuotaExhausted(permits)) {
+            return false;
+        }
+
+        var now = System.nanoTime();
+        if (now - nextFreeAt < 0) {
+            return false;
+        }
+        nextFreeAt = now + permits * intervalNanos;
+        sentToday += permits;
+        return true;
+    }
+
+    public synchronized boolean isDailyQuotaExhausted(int permits) {
+        var today = DateUtils.now().toLocalDate();
+        if (!today.equals(currentDay)) {
+            currentDay = today;
+            sentToday = 0;
+        }
+        return Objects.nonNull(perDay) && sentToday + permits > perDay;
+    }
+
+    public boolean exceedsDailyQuota(int permits) {
+        return Objects.nonNull(perDay) && permits > perDay;
+    }
+
+    public int getMaxPermitsPerSend() {
+        // Permits are charged after the send, so a larger batch would burst past the per minute limit
+        return maxPermitsPerSend;
+    }
+
+    public synchronized long getNanosUntilAvailable() {
+        return Math.max(nextFreeAt - System.nanoTime(), 0);
+    }
+
+    public long getNanosUntilNextDay() {
+        var now = DateUtils.now();
+        var nextDay = now.toLocalDate().plusDays(1).atStartOfDay().atOffset(now.getOffset());
+        return Duration.between(now, nextDay).toNanos();
+    }
+}
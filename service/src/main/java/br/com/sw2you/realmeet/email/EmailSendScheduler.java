@@ -0,0 +1,437 @@
+package br.com.sw2you.realmeet.email;
+
+import br.com.sw2you.realmeet.config.properties.EmailConfigProperties;
+import br.com.sw2you.realmeet.config.properties.EmailSchedulerConfigProperties;
+import br.com.sw2you.realmeet.exception.EmailSendingException;
+import com.sun.mail.smtp.SMTPAddressFailedException;
+import com.sun.mail.smtp.SMTPSendFailedException;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.mail.MessagingException;
+import javax.mail.SendFailedException;
+import javax.mail.internet.AddressException;
+import javax.mail.internet.MimeMessage;
+import javax.mail.util.SharedFileInputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailParseException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Component;
+
+@Component
+public class EmailSendScheduler {
+    private static final Logger LOGGER = LoggerFactory.getLogger(EmailSendScheduler.class);
+    private static final String SPOOL_FILE_EXTENSION = ".eml";
+    private static final String FAILED_FILE_EXTENSION = ".failed";
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
+    private static final long POLL_INTERVAL_MILLIS = 500;
+    private static final int PERMANENT_FAILURE_CODE = 500;
+
+    private final JavaMailSender javaMailSender;
+    private final EmailRateLimiter rateLimiter;
+    private final BlockingQueue<Path> queue;
+    private final Path spoolDirectory;
+    private final NavigableSet<Path> spooledFiles = new ConcurrentSkipListSet<>();
+    private final Map<Path, SpoolRetry> spoolRetries = new ConcurrentHashMap<>();
+    private final AtomicLong spoolSequence = new AtomicLong();
+    private final int maxSendAttempts;
+    private final long retryDelayNanos;
+    private final long maxRetryDelayNanos;
+
+    private volatile boolean running;
+    private Thread dispatcher;
+
+    public EmailSendScheduler(
+        JavaMailSender javaMailSender,
+        EmailConfigProperties emailConfigProperties,
+        EmailSchedulerConfigProperties emailSchedulerConfigProperties
+    ) {
+        this.javaMailSender = javaMailSender;
+        this.rateLimiter =
+            new EmailRateLimiter(emailSchedulerConfigProperties.getRateLimit(emailConfigProperties.getHost()));
+        this.queue = new LinkedBlockingQueue<>(emailSchedulerConfigProperties.getQueueCapacity());
+        this.spoolDirectory = emailSchedulerConfigProperties.getSpoolDirectory();
+        this.maxSendAttempts = emailSchedulerConfigProperties.getMaxSendAttempts();
+        this.retryDelayNanos = emailSchedulerConfigProperties.getRetryDelay().toNanos();
+        this.maxRetryDelayNanos = emailSchedulerConfigProperties.getMaxRetryDelay().toNanos();
+    }
+
+    @PostConstruct
+    public void start() {
+        loadSpooledFiles();
+        running = true;
+        dispatcher = new Thread(this::dispatch, "email-send-scheduler");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        dispatcher.interrupt();
+        try {
+            dispatcher.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // Queued messages are already spooled, so they are picked up from disk on the next start
+        queue.clear();
+    }
+
+    public void submit(EmailPriority priority, MimeMessage[] mimeMessages) {
+        var recipients = countRecipients(mimeMessages);
+
+        if (priority == EmailPriority.BULK || rateLimiter.isDailyQuotaExhausted(recipients)) {
+            spool(priority, mimeMessages);
+        } else if (queue.isEmpty() && rateLimiter.tryAcquire(recipients)) {
+            sendOrSpool(priority, mimeMessages);
+        } else {
+            enqueue(priority, mimeMessages);
+        }
+    }
+
+    public int getMaxRecipientsPerMessage() {
+        return rateLimiter.getMaxPermitsPerSend();
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    public int getSpoolSize() {
+        return spooledFiles.size();
+    }
+
+    private void dispatch() {
+        while (running) {
+            try {
+                dispatchNext();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                LOGGER.error("Unexpected error in email send scheduler", e);
+            }
+        }
+    }
+
+    private void enqueue(EmailPriority priority, MimeMessage[] mimeMessages) {
+        // Messages are written to the spool before submit returns, the queue only lets them skip the spool scan
+        var overflow = 0;
+        for (MimeMessage mimeMessage : mimeMessages) {
+            var path = writeSpoolFile(priority, mimeMessage, SPOOL_FILE_EXTENSION);
+            if (!queue.offer(path)) {
+                spooledFiles.add(path);
+                overflow++;
+            }
+        }
+
+        if (overflow > 0) {
+            LOGGER.warn("Email send queue is full, left {} message(s) in the spool", overflow);
+        }
+    }
+
+    private void dispatchNext() throws InterruptedException {
+        if (rateLimiter.isDailyQuotaExhausted(1)) {
+            // Nothing can be sent until the quota resets, stop is still able to interrupt the sleep
+            LOGGER.info("Daily email quota exhausted, pausing dispatch until tomorrow");
+            TimeUnit.NANOSECONDS.sleep(rateLimiter.getNanosUntilNextDay());
+            return;
+        }
+
+        var queuedFile = queue.poll();
+        Path spooledFile;
+
+        if (Objects.nonNull(queuedFile)) {
+            dispatchQueued(queuedFile);
+        } else if (Objects.nonNull(spooledFile = nextDueSpooledFile())) {
+            dispatchSpooled(spooledFile);
+        } else if (Objects.nonNull(queuedFile = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS))) {
+            dispatchQueued(queuedFile);
+        }
+    }
+
+    private void dispatchQueued(Path path) throws InterruptedException {
+        // From here on the file is tracked like any other spooled file, so failures are retried from the spool
+        spooledFiles.add(path);
+        dispatchSpooled(path);
+    }
+
+    private Path nextDueSpooledFile() {
+        // Files backing off after a failure are skipped so they never hold back the rest of the spool
+        var now = System.nanoTime();
+        for (Path path : spooledFiles) {
+            var spoolRetry = spoolRetries.get(path);
+            if (Objects.isNull(spoolRetry) || now - spoolRetry.retryAt >= 0) {
+                return path;
+            }
+        }
+        return null;
+    }
+
+    private void dispatchSpooled(Path path) throws InterruptedException {
+        try (var inputStream = new SharedFileInputStream(path.toFile())) {
+            var mimeMessage = javaMailSender.createMimeMessage(inputStream);
+            var recipients = countRecipients(mimeMessage);
+
+            if (rateLimiter.exceedsDailyQuota(recipients)) {
+                LOGGER.error("Spooled email {} has {} recipients, more than the daily quota", path, recipients);
+                deadLetter(path);
+                return;
+            }
+            if (!awaitPermits(recipients)) {
+                deferUntilNextDay(path, recipients);
+                return;
+            }
+            javaMailSender.send(mimeMessage);
+        } catch (MailParseException e) {
+            LOGGER.error("Discarding unreadable spooled email {}", path, e);
+            deadLetter(path);
+            return;
+        } catch (MailException e) {
+            if (isPermanentFailure(e)) {
+                LOGGER.error("Spooled email {} was rejected permanently: {}", path, e.getMessage());
+                deadLetter(path);
+            } else {
+                scheduleRetry(path, e);
+            }
+            return;
+        } catch (IOException e) {
+            scheduleRetry(path, e);
+            return;
+        }
+
+        deleteQuietly(path);
+        spooledFiles.remove(path);
+        spoolRetries.remove(path);
+    }
+
+    private void deferUntilNextDay(Path path, int recipients) {
+        // The rest of today's quota is left to smaller messages instead of re-reading this file until midnight
+        var spoolRetry = spoolRetries.computeIfAbsent(path, p -> new SpoolRetry());
+        spoolRetry.retryAt = System.nanoTime() + rateLimiter.getNanosUntilNextDay();
+        LOGGER.info("Spooled email {} has {} recipients, more than is left of today's quota", path, recipients);
+    }
+
+    private void scheduleRetry(Path path, Exception e) {
+        var spoolRetry = spoolRetries.computeIfAbsent(path, p -> new SpoolRetry());
+        spoolRetry.attempts++;
+
+        if (spoolRetry.attempts >= maxSendAttempts) {
+            LOGGER.error(
+                "Giving up on spooled email {} after {} attempts: {}",
+                path,
+                spoolRetry.attempts,
+                e.getMessage()
+            );
+            deadLetter(path);
+            return;
+        }
+
+        var delayNanos = Math.min(retryDelayNanos << Math.min(spoolRetry.attempts - 1, 20), maxRetryDelayNanos);
+        spoolRetry.retryAt = System.nanoTime() + delayNanos;
+        LOGGER.warn(
+            "Error sending spooled email {} (attempt {} of {}), retrying in {}s: {}",
+            path,
+            spoolRetry.attempts,
+            maxSendAttempts,
+            TimeUnit.NANOSECONDS.toSeconds(delayNanos),
+            e.getMessage()
+        );
+    }
+
+    private void deadLetter(Path path) {
+        moveQuietly(path, path.resolveSibling(path.getFileName() + FAILED_FILE_EXTENSION));
+        spooledFiles.remove(path);
+        spoolRetries.remove(path);
+    }
+
+    private boolean awaitPermits(int permits) throws InterruptedException {
+        while (!rateLimiter.tryAcquire(permits)) {
+            if (rateLimiter.isDailyQuotaExhausted(permits)) {
+                return false;
+            }
+            TimeUnit.NANOSECONDS.sleep(
+                Math.min(rateLimiter.getNanosUntilAvailable(), TimeUnit.MILLISECONDS.toNanos(POLL_INTERVAL_MILLIS))
+            );
+        }
+        return true;
+    }
+
+    private void sendOrSpool(EmailPriority priority, MimeMessage[] mimeMessages) {
+        try {
+            if (mimeMessages.length == 1) {
+                javaMailSender.send(mimeMessages[0]);
+            } else {
+                javaMailSender.send(mimeMessages);
+            }
+        } catch (MailSendException e) {
+            if (e.getFailedMessages().isEmpty()) {
+                spoolFailed(priority, mimeMessages, e);
+            } else {
+                e.getFailedMessages().forEach((m, failure) -> spoolFailed(priority, (MimeMessage) m, failure));
+            }
+        } catch (MailException e) {
+            spoolFailed(priority, mimeMessages, e);
+        }
+    }
+
+    private void spoolFailed(EmailPriority priority, MimeMessage[] mimeMessages, Exception failure) {
+        Arrays.stream(mimeMessages).forEach(m -> spoolFailed(priority, m, failure));
+    }
+
+    private void spoolFailed(EmailPriority priority, MimeMessage mimeMessage, Exception failure) {
+        if (isPermanentFailure(failure)) {
+            var path = writeSpoolFile(priority, mimeMessage, SPOOL_FILE_EXTENSION + FAILED_FILE_EXTENSION);
+            LOGGER.error("Email was rejected permanently, kept as {}: {}", path, failure.getMessage());
+        } else {
+            LOGGER.warn("Error sending email, spooling it for retry: {}", failure.getMessage());
+            spool(priority, mimeMessage);
+        }
+    }
+
+    private void spool(EmailPriority priority, MimeMessage[] mimeMessages) {
+        Arrays.stream(mimeMessages).forEach(m -> spool(priority, m));
+    }
+
+    private void spool(EmailPriority priority, MimeMessage mimeMessage) {
+        spooledFiles.add(writeSpoolFile(priority, mimeMessage, SPOOL_FILE_EXTENSION));
+    }
+
+    private Path writeSpoolFile(EmailPriority priority, MimeMessage mimeMessage, String extension) {
+        var path = spoolDirectory.resolve(
+            String.format(
+                "%d-%013d-%09d%s",
+                priority.ordinal(),
+                System.currentTimeMillis(),
+                spoolSequence.incrementAndGet(),
+                extension
+            )
+        );
+        var tempPath = path.resolveSibling(path.getFileName() + TEMP_FILE_EXTENSION);
+
+        try {
+            try (var outputStream = new BufferedOutputStream(Files.newOutputStream(tempPath))) {
+                mimeMessage.writeTo(outputStream);
+            }
+            Files.move(tempPath, path, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | MessagingException e) {
+            deleteQuietly(tempPath);
+            throw new EmailSendingException("Error spooling email to " + path, e);
+        }
+        return path;
+    }
+
+    private void loadSpooledFiles() {
+        try {
+            Files.createDirectories(spoolDirectory);
+            try (var files = Files.list(spoolDirectory)) {
+                spooledFiles.addAll(
+                    files
+                        .filter(p -> p.getFileName().toString().endsWith(SPOOL_FILE_EXTENSION))
+                        .collect(Collectors.toList())
+                );
+            }
+        } catch (IOException e) {
+            throw new EmailSendingException("Error reading email spool directory " + spoolDirectory, e);
+        }
+
+        if (!spooledFiles.isEmpty()) {
+            LOGGER.info("Found {} spooled email(s) in {}", spooledFiles.size(), spoolDirectory);
+        }
+    }
+
+    private static int countRecipients(MimeMessage... mimeMessages) {
+        // Providers meter quotas per recipient, so a BCC batch costs one permit per address
+        int recipients = 0;
+        for (MimeMessage mimeMessage : mimeMessages) {
+            try {
+                var addresses = mimeMessage.getAllRecipients();
+                recipients += Objects.isNull(addresses) ? 0 : addresses.length;
+            } catch (MessagingException e) {
+                recipients++;
+            }
+        }
+        return Math.max(recipients, 1);
+    }
+
+    private static boolean isPermanentFailure(Throwable failure) {
+        // 5xx replies and locally rejected addresses will fail the same way on every retry
+        var pending = new ArrayDeque<Throwable>();
+        Set<Throwable> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        var rejected = false;
+        var transientReply = false;
+        pending.add(failure);
+
+        while (!pending.isEmpty()) {
+            var throwable = pending.poll();
+            if (!seen.add(throwable)) {
+                continue;
+            }
+
+            if (throwable instanceof SMTPAddressFailedException || throwable instanceof SMTPSendFailedException) {
+                var returnCode = throwable instanceof SMTPAddressFailedException
+                    ? ((SMTPAddressFailedException) throwable).getReturnCode()
+                    : ((SMTPSendFailedException) throwable).getReturnCode();
+                if (returnCode >= PERMANENT_FAILURE_CODE) {
+                    return true;
+                }
+                transientReply = true;
+            } else if (throwable instanceof SendFailedException || throwable instanceof AddressException) {
+                rejected = true;
+            }
+
+            if (throwable instanceof MailSendException) {
+                pending.addAll(Arrays.asList(((MailSendException) throwable).getMessageExceptions()));
+            }
+            if (Objects.nonNull(throwable.getCause())) {
+                pending.add(throwable.getCause());
+            }
+        }
+        return rejected && !transientReply;
+    }
+
+    private void moveQuietly(Path source, Path target) {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            LOGGER.warn("Could not move {} to {}", source, target, e);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            LOGGER.warn("Could not delete {}", path, e);
+        }
+    }
+
+    private static final class SpoolRetry {
+        private int attempts;
+        private long retryAt;
+    }
+}
@@ -3,19 +3,24 @@ package br.com.sw2you.realmeet.email;
 import br.com.sw2you.realmeet.email.model.Attachment;
 import br.com.sw2you.realmeet.email.model.EmailInfo;
 import br.com.sw2you.realmeet.exception.EmailSendingException;
+import br.com.sw2you.realmeet.util.Constants;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import javax.activation.DataHandler;
+import javax.activation.DataSource;
 import javax.mail.Message;
 import javax.mail.MessagingException;
 import javax.mail.internet.MimeBodyPart;
 import javax.mail.internet.MimeMessage;
 import javax.mail.internet.MimeMultipart;
-import javax.mail.util.ByteArrayDataSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
@@ -30,54 +35,107 @@ public class EmailSender {
 
     private final JavaMailSender javaMailSender;
     private final ITemplateEngine templateEngine;
-
-    public EmailSender(JavaMailSender javaMailSender, ITemplateEngine templateEngine) {
+    private final EmailSendScheduler emailSendScheduler;
+    private final int maxRecipientsPerMessage;
+
+    public EmailSender(
+        JavaMailSender javaMailSender,
+        ITemplateEngine templateEngine,
+        EmailSendScheduler emailSendScheduler,
+        @Value(Constants.EMAIL_MAX_RECIPIENTS_PER_MESSAGE) int maxRecipientsPerMessage
+    ) {
         this.javaMailSender = javaMailSender;
         this.templateEngine = templateEngine;
+        this.emailSendScheduler = emailSendScheduler;
+        this.maxRecipientsPerMessage = maxRecipientsPerMessage;
     }
 
     @Async
     public void send(EmailInfo emailInfo) {
-        LOGGER.info("Sending email with subject '{}' to '{}'", emailInfo.getSubject(), emailInfo.getTo());
+        var html = renderHtml(emailInfo.getTemplate(), emailInfo.getTemplateData());
+        var mimeMessages = createMimeMessages(emailInfo, html);
+
+        LOGGER.info(
+            "Sending {} email with subject '{}' to '{}' in {} message(s)",
+            emailInfo.getPriority(),
+            emailInfo.getSubject(),
+            emailInfo.getTo(),
+            mimeMessages.length
+        );
+        emailSendScheduler.submit(emailInfo.getPriority(), mimeMessages);
+    }
+
+    private MimeMessage[] createMimeMessages(EmailInfo emailInfo, String html) {
+        var bccBatches = partitionBcc(emailInfo.getBcc());
+        var mimeMessages = new MimeMessage[Math.max(bccBatches.size(), 1)];
+
+        for (int i = 0; i < mimeMessages.length; i++) {
+            var bcc = bccBatches.isEmpty() ? List.<String>of() : bccBatches.get(i);
+            mimeMessages[i] = createMimeMessage(emailInfo, i == 0, bcc, html);
+        }
+        return mimeMessages;
+    }
+
+    private List<List<String>> partitionBcc(List<String> bcc) {
+        if (Objects.isNull(bcc) || bcc.isEmpty()) {
+            return List.of();
+        }
+
+        var batchSize = Math.min(maxRecipientsPerMessage, emailSendScheduler.getMaxRecipientsPerMessage());
+        var batches = new ArrayList<List<String>>();
+        for (int i = 0; i < bcc.size(); i += batchSize) {
+            batches.add(bcc.subList(i, Math.min(i + batchSize, bcc.size())));
+        }
+        return batches;
+    }
 
+    private MimeMessage createMimeMessage(EmailInfo emailInfo, boolean primary, List<String> bcc, String html) {
         var mimeMessage = javaMailSender.createMimeMessage();
         var multipart = new MimeMultipart();
 
-        addBasicDetails(emailInfo, mimeMessage);
-        addHtmlBody(emailInfo.getTemplate(), emailInfo.getTemplateData(), multipart);
+        addBasicDetails(emailInfo, primary, bcc, mimeMessage);
+        addHtmlBody(html, multipart);
         addAttachments(emailInfo.getAttachments(), multipart);
         setContent(mimeMessage, multipart);
 
-        javaMailSender.send(mimeMessage);
+        return mimeMessage;
     }
 
-    private void addBasicDetails(EmailInfo emailInfo, MimeMessage mimeMessage) {
+    private void addBasicDetails(EmailInfo emailInfo, boolean primary, List<String> bcc, MimeMessage mimeMessage) {
         try {
             mimeMessage.setFrom(emailInfo.getFrom());
             mimeMessage.setSubject(emailInfo.getSubject());
-            mimeMessage.addRecipients(Message.RecipientType.TO, String.join(",", emailInfo.getTo()));
 
-            if (Objects.nonNull(emailInfo.getCc())) {
-                mimeMessage.addRecipients(Message.RecipientType.CC, String.join(",", emailInfo.getCc()));
+            if (primary) {
+                mimeMessage.addRecipients(Message.RecipientType.TO, String.join(",", emailInfo.getTo()));
+
+                if (Objects.nonNull(emailInfo.getCc())) {
+                    mimeMessage.addRecipients(Message.RecipientType.CC, String.join(",", emailInfo.getCc()));
+                }
             }
 
-            if (Objects.nonNull(emailInfo.getBcc())) {
-                mimeMessage.addRecipients(Message.RecipientType.BCC, String.join(",", emailInfo.getBcc()));
+            if (!bcc.isEmpty()) {
+                mimeMessage.addRecipients(Message.RecipientType.BCC, String.join(",", bcc));
             }
         } catch (MessagingException e) {
             throwEmailSendingException(e, "Error adding data to MIME Message");
         }
     }
 
-    private void addHtmlBody(String template, Map<String, Object> templateData, MimeMultipart multipart) {
-        var messageHtmlPart = new MimeBodyPart();
+    private String renderHtml(String template, Map<String, Object> templateData) {
         var context = new Context();
 
         if (Objects.nonNull(templateData)) {
             context.setVariables(templateData);
         }
+        return templateEngine.process(template, context);
+    }
+
+    private void addHtmlBody(String html, MimeMultipart multipart) {
+        var messageHtmlPart = new MimeBodyPart();
+
         try {
-            messageHtmlPart.setContent(templateEngine.process(template, context), TEXT_HTML_CHARSET_UTF_8);
+            messageHtmlPart.setContent(html, TEXT_HTML_CHARSET_UTF_8);
             multipart.addBodyPart(messageHtmlPart);
         } catch (Exception e) {
             throwEmailSendingException(e, "Error adding html to MIME Message");
@@ -90,12 +148,10 @@ public class EmailSender {
                 a -> {
                     try {
                         var messageAttachmentPart = new MimeBodyPart();
-                        messageAttachmentPart.setDataHandler(
-                            new DataHandler(new ByteArrayDataSource(a.getInputStream(), a.getContentType()))
-                        );
+                        messageAttachmentPart.setDataHandler(new DataHandler(createDataSource(a)));
                         messageAttachmentPart.setFileName(a.getFileName());
                         multipart.addBodyPart(messageAttachmentPart);
-                    } catch (MessagingException | IOException e) {
+                    } catch (MessagingException e) {
                         throwEmailSendingException(e, "Error adding attachment to MIME Message");
                     }
                 }
@@ -103,6 +159,31 @@ public class EmailSender {
         }
     }
 
+    private DataSource createDataSource(Attachment attachment) {
+        return new DataSource() {
+
+            @Override
+            public InputStream getInputStream() throws IOException {
+                return attachment.getInputStreamSource().getInputStream();
+            }
+
+            @Override
+            public OutputStream getOutputStream() {
+                throw new UnsupportedOperationException("Read-only attachment: " + attachment.getFileName());
+            }
+
+            @Override
+            public String getContentType() {
+                return attachment.getContentType();
+            }
+
+            @Override
+            public String getName() {
+                return attachment.getFileName();
+            }
+        };
+    }
+
     private void setContent(MimeMessage mimeMessage, MimeMultipart multipart) {
         try {
             mimeMessage.setContent(multipart);
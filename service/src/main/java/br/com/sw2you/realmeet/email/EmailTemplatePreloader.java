@@ -0,0 +1,90 @@
+package br.com.sw2you.realmeet.email;
+
+import br.com.sw2you.realmeet.config.properties.TemplateConfigProperties;
+import br.com.sw2you.realmeet.domain.entity.Allocation;
+import br.com.sw2you.realmeet.domain.entity.Room;
+import br.com.sw2you.realmeet.domain.model.Employee;
+import br.com.sw2you.realmeet.util.Constants;
+import br.com.sw2you.realmeet.util.DateUtils;
+import java.util.Map;
+import java.util.Objects;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thymeleaf.ThymeleafProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+
+@Component
+public class EmailTemplatePreloader {
+    private static final Logger LOGGER = LoggerFactory.getLogger(EmailTemplatePreloader.class);
+
+    private final ITemplateEngine templateEngine;
+    private final TemplateConfigProperties templateConfigProperties;
+    private final ThymeleafProperties thymeleafProperties;
+    private final boolean templateCacheRequired;
+
+    public EmailTemplatePreloader(
+        ITemplateEngine templateEngine,
+        TemplateConfigProperties templateConfigProperties,
+        ThymeleafProperties thymeleafProperties,
+        @Value(Constants.EMAIL_TEMPLATE_CACHE_REQUIRED) boolean templateCacheRequired
+    ) {
+        this.templateEngine = templateEngine;
+        this.templateConfigProperties = templateConfigProperties;
+        this.thymeleafProperties = thymeleafProperties;
+        this.templateCacheRequired = templateCacheRequired;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preloadTemplates() {
+        verifyTemplateCache();
+
+        if (!thymeleafProperties.isCache()) {
+            LOGGER.warn("Thymeleaf template cache is disabled, email templates will be parsed on every message");
+            return;
+        }
+
+        var context = new Context();
+        context.setVariables(warmUpVariables());
+
+        for (TemplateType templateType : TemplateType.values()) {
+            var emailTemplate = templateConfigProperties.getEmailTemplate(templateType);
+
+            if (Objects.nonNull(emailTemplate)) {
+                var start = System.nanoTime();
+                templateEngine.process(emailTemplate.getTemplateName(), context);
+                LOGGER.info(
+                    "Preloaded email template '{}' in {} ms",
+                    emailTemplate.getTemplateName(),
+                    (System.nanoTime() - start) / 1_000_000
+                );
+            }
+        }
+    }
+
+    private void verifyTemplateCache() {
+        if (templateCacheRequired && !thymeleafProperties.isCache()) {
+            throw new IllegalStateException(
+                "Thymeleaf template cache must be enabled (spring.thymeleaf.cache=true) for this environment"
+            );
+        }
+    }
+
+    private static Map<String, Object> warmUpVariables() {
+        return Map.of(
+            Constants.ALLOCATION,
+            Allocation
+                .newAllocationBuilder()
+                .room(Room.newRoomBuilder().name(Constants.EMPTY).seats(0).build())
+                .employee(Employee.newEmployeeBuilder().name(Constants.EMPTY).email(Constants.EMPTY).build())
+                .subject(Constants.EMPTY)
+                .startAt(DateUtils.now())
+                .endAt(DateUtils.now())
+                .build()
+        );
+    }
+}
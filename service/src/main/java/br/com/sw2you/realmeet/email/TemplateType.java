@@ -1,18 +1,25 @@
 package br.com.sw2you.realmeet.email;
 
 public enum TemplateType {
-    ALLOCATION_CREATED("allocationCreated"),
-    ALLOCATION_UPDATED("allocationUpdated"),
-    ALLOCATION_DELETED("allocationDeleted"),
-    ALLOCATION_REPORT("allocationReport");
+    ALLOCATION_CREATED("allocationCreated", EmailPriority.TRANSACTIONAL),
+    ALLOCATION_UPDATED("allocationUpdated", EmailPriority.TRANSACTIONAL),
+    ALLOCATION_DELETED("allocationDeleted", EmailPriority.TRANSACTIONAL),
+    ALLOCATION_REPORT("allocationReport", EmailPriority.BULK),
+    ROOM_USAGE_REPORT("roomUsageReport", EmailPriority.BULK);
 
     private final String templateName;
+    private final EmailPriority priority;
 
-    TemplateType(String templateName) {
+    TemplateType(String templateName, EmailPriority priority) {
         this.templateName = templateName;
+        this.priority = priority;
     }
 
     public String getTemplateName() {
         return templateName;
     }
+
+    public EmailPriority getPriority() {
+        return priority;
+    }
 }
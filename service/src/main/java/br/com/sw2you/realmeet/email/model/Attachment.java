@@ -1,21 +1,21 @@
 package br.com.sw2you.realmeet.email.model;
 
-import java.io.InputStream;
 import java.util.Objects;
+import org.springframework.core.io.InputStreamSource;
 
 public class Attachment {
-    private final InputStream inputStream;
+    private final InputStreamSource inputStreamSource;
     private final String contentType;
     private final String fileName;
 
     private Attachment(AttachmentBuilder attachmentBuilder) {
-        inputStream = attachmentBuilder.inputStream;
+        inputStreamSource = attachmentBuilder.inputStreamSource;
         contentType = attachmentBuilder.contentType;
         fileName = attachmentBuilder.fileName;
     }
 
-    public InputStream getInputStream() {
-        return inputStream;
+    public InputStreamSource getInputStreamSource() {
+        return inputStreamSource;
     }
 
     public String getContentType() {
@@ -32,7 +32,7 @@ public class Attachment {
         if (o == null || getClass() != o.getClass()) return false;
         Attachment that = (Attachment) o;
         return (
-            Objects.equals(inputStream, that.inputStream) &&
+            Objects.equals(inputStreamSource, that.inputStreamSource) &&
             Objects.equals(contentType, that.contentType) &&
             Objects.equals(fileName, that.fileName)
         );
@@ -40,15 +40,15 @@ public class Attachment {
 
     @Override
     public int hashCode() {
-        return Objects.hash(inputStream, contentType, fileName);
+        return Objects.hash(inputStreamSource, contentType, fileName);
     }
 
     @Override
     public String toString() {
         return (
             "Attachment{" +
-            "inputStream=" +
-            inputStream +
+            "inputStreamSource=" +
+            inputStreamSource +
             ", contentType='" +
             contentType +
             '\'' +
@@ -64,14 +64,14 @@ public class Attachment {
     }
 
     public static final class AttachmentBuilder {
-        private InputStream inputStream;
+        private InputStreamSource inputStreamSource;
         private String contentType;
         private String fileName;
 
         private AttachmentBuilder() {}
 
-        public AttachmentBuilder inputStream(InputStream inputStream) {
-            this.inputStream = inputStream;
+        public AttachmentBuilder inputStreamSource(InputStreamSource inputStreamSource) {
+            this.inputStreamSource = inputStreamSource;
             return this;
         }
 
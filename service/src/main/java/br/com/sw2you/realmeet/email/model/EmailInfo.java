@@ -1,5 +1,6 @@
 package br.com.sw2you.realmeet.email.model;
 
+import br.com.sw2you.realmeet.email.EmailPriority;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -13,6 +14,7 @@ public class EmailInfo {
     private final List<Attachment> attachments;
     private final String template;
     private final Map<String, Object> templateData;
+    private final EmailPriority priority;
 
     private EmailInfo(EmailInfoBuilder emailInfoBuilder) {
         from = emailInfoBuilder.from;
@@ -23,6 +25,7 @@ public class EmailInfo {
         attachments = emailInfoBuilder.attachments;
         template = emailInfoBuilder.template;
         templateData = emailInfoBuilder.templateData;
+        priority = Objects.requireNonNullElse(emailInfoBuilder.priority, EmailPriority.TRANSACTIONAL);
     }
 
     public String getFrom() {
@@ -57,6 +60,10 @@ public class EmailInfo {
         return templateData;
     }
 
+    public EmailPriority getPriority() {
+        return priority;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -70,13 +77,14 @@ public class EmailInfo {
             Objects.equals(subject, emailInfo.subject) &&
             Objects.equals(attachments, emailInfo.attachments) &&
             Objects.equals(template, emailInfo.template) &&
-            Objects.equals(templateData, emailInfo.templateData)
+            Objects.equals(templateData, emailInfo.templateData) &&
+            priority == emailInfo.priority
         );
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(from, to, cc, bcc, subject, attachments, template, templateData);
+        return Objects.hash(from, to, cc, bcc, subject, attachments, template, templateData, priority);
     }
 
     @Override
@@ -102,6 +110,8 @@ public class EmailInfo {
             '\'' +
             ", templateData=" +
             templateData +
+            ", priority=" +
+            priority +
             '}'
         );
     }
@@ -119,6 +129,7 @@ public class EmailInfo {
         private List<Attachment> attachments;
         private String template;
         private Map<String, Object> templateData;
+        private EmailPriority priority;
 
         private EmailInfoBuilder() {}
 
@@ -162,6 +173,11 @@ public class EmailInfo {
             return this;
         }
 
+        public EmailInfoBuilder priority(EmailPriority priority) {
+            this.priority = priority;
+            return this;
+        }
+
         public EmailInfo build() {
             return new EmailInfo(this);
         }
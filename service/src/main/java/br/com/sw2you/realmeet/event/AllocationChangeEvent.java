@@ -0,0 +1,105 @@
+package br.com.sw2you.realmeet.event;
+
+import br.com.sw2you.realmeet.api.model.AllocationDTO;
+import java.util.Objects;
+
+public class AllocationChangeEvent {
+    private final AllocationChangeType type;
+    private final Long allocationId;
+    private final Long roomId;
+    private final AllocationDTO allocation;
+
+    private AllocationChangeEvent(AllocationChangeEventBuilder builder) {
+        type = builder.type;
+        allocationId = builder.allocationId;
+        roomId = builder.roomId;
+        allocation = builder.allocation;
+    }
+
+    public AllocationChangeType getType() {
+        return type;
+    }
+
+    public Long getAllocationId() {
+        return allocationId;
+    }
+
+    public Long getRoomId() {
+        return roomId;
+    }
+
+    public AllocationDTO getAllocation() {
+        return allocation;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AllocationChangeEvent that = (AllocationChangeEvent) o;
+        return (
+            type == that.type &&
+            Objects.equals(allocationId, that.allocationId) &&
+            Objects.equals(roomId, that.roomId) &&
+            Objects.equals(allocation, that.allocation)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, allocationId, roomId, allocation);
+    }
+
+    @Override
+    public String toString() {
+        return (
+            "AllocationChangeEvent{" +
+            "type=" +
+            type +
+            ", allocationId=" +
+            allocationId +
+            ", roomId=" +
+            roomId +
+            ", allocation=" +
+            allocation +
+            '}'
+        );
+    }
+
+    public static AllocationChangeEventBuilder newAllocationChangeEventBuilder() {
+        return new AllocationChangeEventBuilder();
+    }
+
+    public static final class AllocationChangeEventBuilder {
+        private AllocationChangeType type;
+        private Long allocationId;
+        private Long roomId;
+        private AllocationDTO allocation;
+
+        private AllocationChangeEventBuilder() {}
+
+        public AllocationChangeEventBuilder type(AllocationChangeType type) {
+            this.type = type;
+            return this;
+        }
+
+        public AllocationChangeEventBuilder allocationId(Long allocationId) {
+            this.allocationId = allocationId;
+            return this;
+        }
+
+        public AllocationChangeEventBuilder roomId(Long roomId) {
+            this.roomId = roomId;
+            return this;
+        }
+
+        public AllocationChangeEventBuilder allocation(AllocationDTO allocation) {
+            this.allocation = allocation;
+            return this;
+        }
+
+        public AllocationChangeEvent build() {
+            return new AllocationChangeEvent(this);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package br.com.sw2you.realmeet.event;
+
+public enum AllocationChangeType {
+    CREATED("allocation-created"),
+    UPDATED("allocation-updated"),
+    DELETED("allocation-deleted");
+
+    private final String eventName;
+
+    AllocationChangeType(String eventName) {
+        this.eventName = eventName;
+    }
+
+    public String getEventName() {
+        return eventName;
+    }
+}
@@ -0,0 +1,238 @@
+package br.com.sw2you.realmeet.event;
+
+import br.com.sw2you.realmeet.config.properties.AllocationEventsConfigProperties;
+import br.com.sw2you.realmeet.util.Constants;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Component
+public class AllocationEventBroadcaster {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AllocationEventBroadcaster.class);
+    private static final String RESET_EVENT = "reset";
+    private static final String HEARTBEAT_COMMENT = "heartbeat";
+
+    private final Executor allocationEventsExecutor;
+    private final ObjectMapper objectMapper;
+    private final int bufferCapacity;
+    private final int replayCapacity;
+    private final long timeoutMillis;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Deque<HistoryEntry> history = new ArrayDeque<>();
+
+    // Seeded from the clock so ids issued after a restart are newer than any a client may resume from
+    private long sequence = System.currentTimeMillis();
+
+    public AllocationEventBroadcaster(
+        @Qualifier("allocationEventsExecutor") Executor allocationEventsExecutor,
+        ObjectMapper objectMapper,
+        AllocationEventsConfigProperties allocationEventsConfigProperties
+    ) {
+        this.allocationEventsExecutor = allocationEventsExecutor;
+        this.objectMapper = objectMapper;
+        this.bufferCapacity = allocationEventsConfigProperties.getBufferCapacity();
+        this.replayCapacity = allocationEventsConfigProperties.getReplayCapacity();
+        this.timeoutMillis = allocationEventsConfigProperties.getTimeout().toMillis();
+    }
+
+    public SseEmitter subscribe(Long roomId, Long lastEventId) {
+        var subscriber = new Subscriber(new SseEmitter(timeoutMillis), roomId);
+
+        synchronized (history) {
+            if (Objects.nonNull(lastEventId)) {
+                replay(subscriber, lastEventId);
+            }
+            subscribers.add(subscriber);
+        }
+        subscriber.schedule();
+        return subscriber.emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void publish(AllocationChangeEvent allocationChangeEvent) {
+        var entry = new HistoryEntry(
+            allocationChangeEvent.getType(),
+            allocationChangeEvent.getRoomId(),
+            toJson(allocationChangeEvent)
+        );
+        var notified = new ArrayList<Subscriber>();
+        var dropped = new ArrayList<Subscriber>();
+
+        synchronized (history) {
+            entry.id = ++sequence;
+            if (history.size() == replayCapacity) {
+                history.removeFirst();
+            }
+            history.addLast(entry);
+
+            for (Subscriber subscriber : subscribers) {
+                if (!subscriber.accepts(entry)) {
+                    continue;
+                }
+                if (subscriber.offer(entry.toSseEvent())) {
+                    notified.add(subscriber);
+                } else {
+                    dropped.add(subscriber);
+                }
+            }
+        }
+        notified.forEach(Subscriber::schedule);
+        dropped.forEach(this::drop);
+    }
+
+    @Scheduled(
+        initialDelayString = Constants.ALLOCATION_EVENTS_HEARTBEAT_INTERVAL,
+        fixedDelayString = Constants.ALLOCATION_EVENTS_HEARTBEAT_INTERVAL
+    )
+    public void sendHeartbeats() {
+        // Idle connections only notice a vanished client when something is written to them
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.offer(SseEmitter.event().comment(HEARTBEAT_COMMENT))) {
+                subscriber.schedule();
+            } else {
+                drop(subscriber);
+            }
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    private void replay(Subscriber subscriber, long lastEventId) {
+        var oldestId = history.isEmpty() ? sequence + 1 : history.getFirst().id;
+        List<HistoryEntry> missed = new ArrayList<>();
+
+        if (lastEventId >= oldestId - 1 && lastEventId <= sequence) {
+            history.stream().filter(entry -> entry.id > lastEventId && subscriber.accepts(entry)).forEach(missed::add);
+        }
+
+        if (lastEventId < oldestId - 1 || lastEventId > sequence || missed.size() > bufferCapacity) {
+            // The gap is no longer in the replay buffer, so the client has to reload the full list
+            subscriber.offer(SseEmitter.event().id(String.valueOf(sequence)).name(RESET_EVENT).data(RESET_EVENT));
+            return;
+        }
+        missed.forEach(entry -> subscriber.offer(entry.toSseEvent()));
+    }
+
+    private void drop(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            LOGGER.warn("Dropping slow allocation event subscriber (roomId={})", subscriber.roomId);
+            subscriber.close();
+        }
+    }
+
+    private String toJson(AllocationChangeEvent allocationChangeEvent) {
+        try {
+            return objectMapper.writeValueAsString(allocationChangeEvent);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static final class HistoryEntry {
+        private final AllocationChangeType type;
+        private final Long roomId;
+        private final String data;
+        private long id;
+
+        private HistoryEntry(AllocationChangeType type, Long roomId, String data) {
+            this.type = type;
+            this.roomId = roomId;
+            this.data = data;
+        }
+
+        private SseEmitter.SseEventBuilder toSseEvent() {
+            return SseEmitter
+                .event()
+                .id(String.valueOf(id))
+                .name(type.getEventName())
+                .data(data, MediaType.APPLICATION_JSON);
+        }
+    }
+
+    private final class Subscriber implements Runnable {
+        private final SseEmitter emitter;
+        private final Long roomId;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter, Long roomId) {
+            this.emitter = emitter;
+            this.roomId = roomId;
+            this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+            emitter.onCompletion(this::release);
+            emitter.onTimeout(this::release);
+            emitter.onError(e -> release());
+        }
+
+        private boolean accepts(HistoryEntry entry) {
+            return Objects.isNull(roomId) || roomId.equals(entry.roomId);
+        }
+
+        private boolean offer(SseEmitter.SseEventBuilder event) {
+            return !closed && buffer.offer(event);
+        }
+
+        private void schedule() {
+            if (draining.compareAndSet(false, true)) {
+                allocationEventsExecutor.execute(this);
+            }
+        }
+
+        private void close() {
+            closed = true;
+            buffer.clear();
+            schedule();
+        }
+
+        private void release() {
+            closed = true;
+            subscribers.remove(this);
+        }
+
+        @Override
+        public void run() {
+            // Subscribers hold no thread while idle; a pool thread only drains buffers that have events
+            try {
+                SseEmitter.SseEventBuilder event;
+                while (!closed && Objects.nonNull(event = buffer.poll())) {
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                LOGGER.debug("Allocation event subscriber disconnected: {}", e.getMessage());
+                release();
+            } finally {
+                draining.set(false);
+            }
+
+            if (closed) {
+                emitter.complete();
+            } else if (!buffer.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+}
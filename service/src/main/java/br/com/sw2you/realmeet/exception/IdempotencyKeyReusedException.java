@@ -0,0 +1,8 @@
+package br.com.sw2you.realmeet.exception;
+
+public class IdempotencyKeyReusedException extends RuntimeException {
+
+    public IdempotencyKeyReusedException(String msg) {
+        super(msg);
+    }
+}
@@ -0,0 +1,8 @@
+package br.com.sw2you.realmeet.exception;
+
+public class ReportCapacityExceededException extends RuntimeException {
+
+    public ReportCapacityExceededException(String msg) {
+        super(msg);
+    }
+}
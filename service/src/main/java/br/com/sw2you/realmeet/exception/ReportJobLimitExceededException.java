@@ -0,0 +1,8 @@
+package br.com.sw2you.realmeet.exception;
+
+public class ReportJobLimitExceededException extends RuntimeException {
+
+    public ReportJobLimitExceededException(String msg) {
+        super(msg);
+    }
+}
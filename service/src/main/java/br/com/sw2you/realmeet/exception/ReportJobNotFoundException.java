@@ -0,0 +1,8 @@
+package br.com.sw2you.realmeet.exception;
+
+public class ReportJobNotFoundException extends RuntimeException {
+
+    public ReportJobNotFoundException(String msg) {
+        super(msg);
+    }
+}
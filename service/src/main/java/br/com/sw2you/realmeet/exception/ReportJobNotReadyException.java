@@ -0,0 +1,8 @@
+package br.com.sw2you.realmeet.exception;
+
+public class ReportJobNotReadyException extends RuntimeException {
+
+    public ReportJobNotReadyException(String msg) {
+        super(msg);
+    }
+}
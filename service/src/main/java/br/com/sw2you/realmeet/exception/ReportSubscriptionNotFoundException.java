@@ -0,0 +1,8 @@
+package br.com.sw2you.realmeet.exception;
+
+public class ReportSubscriptionNotFoundException extends RuntimeException {
+
+    public ReportSubscriptionNotFoundException(String msg) {
+        super(msg);
+    }
+}
@@ -0,0 +1,8 @@
+package br.com.sw2you.realmeet.exception;
+
+public class StoredReportNotFoundException extends RuntimeException {
+
+    public StoredReportNotFoundException(String msg) {
+        super(msg);
+    }
+}
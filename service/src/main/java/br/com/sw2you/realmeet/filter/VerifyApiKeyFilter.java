@@ -4,20 +4,26 @@ import br.com.sw2you.realmeet.domain.entity.Client;
 import br.com.sw2you.realmeet.domain.repository.ClientRepository;
 import java.io.IOException;
 import java.io.Writer;
+import java.util.Objects;
+import java.util.Optional;
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
 import javax.servlet.ServletRequest;
 import javax.servlet.ServletResponse;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.filter.GenericFilterBean;
 
 public class VerifyApiKeyFilter extends GenericFilterBean {
     private static final Logger LOGGER = LoggerFactory.getLogger(VerifyApiKeyFilter.class);
     private static final String HEADER_API_KEY = "api-key";
+    private static final String PARAMETER_API_KEY = "api-key";
 
     private final ClientRepository clientRepository;
 
@@ -31,14 +37,24 @@ public class VerifyApiKeyFilter extends GenericFilterBean {
         var httpRequest = (HttpServletRequest) servletRequest;
         var httpResponse = (HttpServletResponse) servletResponse;
 
-        var apiKey = httpRequest.getHeader(HEADER_API_KEY);
-        if (!apiKey.isBlank() && isValidApiKey(apiKey)) {
+        var apiKey = Optional
+            .ofNullable(httpRequest.getHeader(HEADER_API_KEY))
+            .orElseGet(() -> getEventStreamApiKey(httpRequest));
+        if (StringUtils.isNotBlank(apiKey) && isValidApiKey(apiKey)) {
             filterChain.doFilter(httpRequest, httpResponse);
         } else {
             sendUnauthorizedError(httpResponse, apiKey);
         }
     }
 
+    // Browsers' EventSource cannot send custom headers, so event streams may pass the key as a query parameter
+    private String getEventStreamApiKey(HttpServletRequest httpRequest) {
+        var accept = httpRequest.getHeader(HttpHeaders.ACCEPT);
+        return Objects.nonNull(accept) && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE)
+            ? httpRequest.getParameter(PARAMETER_API_KEY)
+            : null;
+    }
+
     private boolean isValidApiKey(String apiKey) {
         return clientRepository
             .findById(apiKey)
@@ -50,7 +66,7 @@ public class VerifyApiKeyFilter extends GenericFilterBean {
     }
 
     private void sendUnauthorizedError(HttpServletResponse response, String apiKey) throws IOException {
-        var errorMessage = apiKey.isBlank() ? "API key is missing" : "API key is invalid";
+        var errorMessage = StringUtils.isBlank(apiKey) ? "API key is missing" : "API key is invalid";
         LOGGER.error(errorMessage);
 
         response.setStatus(HttpStatus.UNAUTHORIZED.value());
@@ -1,6 +1,7 @@
 package br.com.sw2you.realmeet.mapper;
 
 import br.com.sw2you.realmeet.api.model.AllocationDTO;
+import br.com.sw2you.realmeet.api.model.AllocationTombstoneDTO;
 import br.com.sw2you.realmeet.api.model.CreateAllocationDTO;
 import br.com.sw2you.realmeet.domain.entity.Allocation;
 import br.com.sw2you.realmeet.domain.entity.Room;
@@ -15,6 +16,9 @@ public abstract class AllocationMapper {
     @Mapping(source = "allocation.employee.email", target = "employeeEmail")
     public abstract AllocationDTO allocationToAllocationDto(Allocation allocation);
 
+    @Mapping(source = "allocation.room.id", target = "roomId")
+    public abstract AllocationTombstoneDTO allocationToAllocationTombstoneDto(Allocation allocation);
+
     @Mapping(source = "room", target = "room")
     @Mapping(target = "id", ignore = true)
     @Mapping(source = "createAllocationDTO.employeeName", target = "employee.name")
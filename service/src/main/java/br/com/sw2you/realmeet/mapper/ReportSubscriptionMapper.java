@@ -0,0 +1,13 @@
+package br.com.sw2you.realmeet.mapper;
+
+import br.com.sw2you.realmeet.api.model.ReportSubscriptionDTO;
+import br.com.sw2you.realmeet.domain.entity.ReportSubscription;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public abstract class ReportSubscriptionMapper {
+
+    public abstract ReportSubscriptionDTO reportSubscriptionToReportSubscriptionDto(
+        ReportSubscription reportSubscription
+    );
+}
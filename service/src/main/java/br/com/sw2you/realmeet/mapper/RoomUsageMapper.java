@@ -0,0 +1,11 @@
+package br.com.sw2you.realmeet.mapper;
+
+import br.com.sw2you.realmeet.api.model.RoomUsageDTO;
+import br.com.sw2you.realmeet.domain.model.RoomUsageSummary;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public abstract class RoomUsageMapper {
+
+    public abstract RoomUsageDTO roomUsageSummaryToRoomUsageDto(RoomUsageSummary roomUsageSummary);
+}
@@ -0,0 +1,282 @@
+package br.com.sw2you.realmeet.report.cache;
+
+import br.com.sw2you.realmeet.config.properties.ReportCacheConfigProperties;
+import br.com.sw2you.realmeet.report.enumeration.ReportHandlerType;
+import br.com.sw2you.realmeet.report.model.ReportMetrics;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import javax.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class ReportCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReportCache.class);
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final boolean enabled;
+    private final Path directory;
+    private final int maxEntries;
+    private final long maxSizeBytes;
+    private final long maxAgeNanos;
+    private final Map<ReportCacheKey, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final ConcurrentMap<ReportCacheKey, CompletableFuture<CacheEntry>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong fileSequence = new AtomicLong();
+
+    private long sizeBytes;
+    private long invalidationCount;
+
+    public ReportCache(ReportCacheConfigProperties reportCacheConfigProperties) {
+        this.enabled = reportCacheConfigProperties.isEnabled();
+        this.directory = reportCacheConfigProperties.getDirectory();
+        this.maxEntries = reportCacheConfigProperties.getMaxEntries();
+        this.maxSizeBytes = reportCacheConfigProperties.getMaxSize().toBytes();
+        this.maxAgeNanos = reportCacheConfigProperties.getMaxAge().toNanos();
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            Files.createDirectories(directory);
+            try (var files = Files.list(directory)) {
+                files.forEach(this::deleteQuietly);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error preparing report cache directory " + directory, e);
+        }
+    }
+
+    public ReportMetrics get(ReportCacheKey key, Function<Path, ReportMetrics> reportGenerator, Path reportFile) {
+        if (!enabled) {
+            return reportGenerator.apply(reportFile);
+        }
+
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            var entry = acquire(key);
+
+            if (Objects.isNull(entry)) {
+                entry = generate(key, reportGenerator);
+            }
+            if (Objects.nonNull(entry)) {
+                try {
+                    Files.copy(entry.path, reportFile, StandardCopyOption.REPLACE_EXISTING);
+                    return entry.reportMetrics;
+                } catch (NoSuchFileException e) {
+                    LOGGER.debug("Cached report {} was removed while being read", entry.path);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } finally {
+                    release(entry);
+                }
+            }
+        }
+
+        LOGGER.warn("Report {} kept being invalidated, generating it without the cache", key);
+        return reportGenerator.apply(reportFile);
+    }
+
+    public void invalidate(ReportHandlerType reportHandlerType, LocalDate dateFrom, LocalDate dateTo) {
+        if (!enabled) {
+            return;
+        }
+
+        removeOverlapping(reportHandlerType, dateFrom, dateTo);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+
+                    @Override
+                    public void afterCommit() {
+                        removeOverlapping(reportHandlerType, dateFrom, dateTo);
+                    }
+                }
+            );
+        }
+    }
+
+    public void invalidate(ReportHandlerType reportHandlerType) {
+        if (enabled) {
+            removeOverlapping(reportHandlerType, LocalDate.MIN, LocalDate.MAX);
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long sizeBytes() {
+        return sizeBytes;
+    }
+
+    private CacheEntry generate(ReportCacheKey key, Function<Path, ReportMetrics> reportGenerator) {
+        var future = new CompletableFuture<CacheEntry>();
+        var existing = inFlight.putIfAbsent(key, future);
+
+        if (Objects.nonNull(existing)) {
+            return acquire(join(existing));
+        }
+
+        var invalidations = getInvalidationCount();
+        var path = directory.resolve(buildFileName(key));
+        try {
+            var reportMetrics = reportGenerator.apply(path);
+            var entry = store(key, new CacheEntry(path, reportMetrics, Files.size(path)), invalidations);
+            future.complete(entry);
+            return entry;
+        } catch (IOException e) {
+            deleteQuietly(path);
+            future.completeExceptionally(e);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            deleteQuietly(path);
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private synchronized CacheEntry store(ReportCacheKey key, CacheEntry entry, long invalidations) {
+        entry.readers = 1;
+
+        if (invalidations != invalidationCount || entry.sizeBytes > maxSizeBytes) {
+            entry.removed = true;
+            return entry;
+        }
+
+        entries.put(key, entry);
+        sizeBytes += entry.sizeBytes;
+
+        var iterator = entries.values().iterator();
+        while ((entries.size() > maxEntries || sizeBytes > maxSizeBytes) && iterator.hasNext()) {
+            var eldest = iterator.next();
+            iterator.remove();
+            remove(eldest);
+        }
+        return entry;
+    }
+
+    private synchronized CacheEntry acquire(ReportCacheKey key) {
+        var entry = entries.get(key);
+
+        // Changes made through other nodes don't invalidate this cache, so entries can't be trusted forever
+        if (Objects.nonNull(entry) && System.nanoTime() - entry.createdAtNanos > maxAgeNanos) {
+            entries.remove(key);
+            remove(entry);
+            return null;
+        }
+        return acquire(entry);
+    }
+
+    private synchronized CacheEntry acquire(CacheEntry entry) {
+        if (Objects.isNull(entry) || entry.removed) {
+            return null;
+        }
+        entry.readers++;
+        return entry;
+    }
+
+    private synchronized void release(CacheEntry entry) {
+        entry.readers--;
+        if (entry.removed && entry.readers == 0) {
+            deleteQuietly(entry.path);
+        }
+    }
+
+    private synchronized void removeOverlapping(
+        ReportHandlerType reportHandlerType,
+        LocalDate dateFrom,
+        LocalDate dateTo
+    ) {
+        invalidationCount++;
+
+        var iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            var entry = iterator.next();
+            if (entry.getKey().overlaps(reportHandlerType, dateFrom, dateTo)) {
+                iterator.remove();
+                remove(entry.getValue());
+            }
+        }
+    }
+
+    private synchronized long getInvalidationCount() {
+        return invalidationCount;
+    }
+
+    private void remove(CacheEntry entry) {
+        sizeBytes -= entry.sizeBytes;
+        entry.removed = true;
+        if (entry.readers == 0) {
+            deleteQuietly(entry.path);
+        }
+    }
+
+    private CacheEntry join(CompletableFuture<CacheEntry> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private String buildFileName(ReportCacheKey key) {
+        return String.format(
+            "%s_%s_%s_%d%s",
+            key.getReportHandlerType().name().toLowerCase(Locale.ROOT),
+            key.getDateFrom(),
+            key.getDateTo(),
+            fileSequence.incrementAndGet(),
+            key.getReportFormat().getExtension()
+        );
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            LOGGER.warn("Could not delete cached report {}", path, e);
+        }
+    }
+
+    private static class CacheEntry {
+        private final Path path;
+        private final ReportMetrics reportMetrics;
+        private final long sizeBytes;
+        private final long createdAtNanos = System.nanoTime();
+        private int readers;
+        private boolean removed;
+
+        CacheEntry(Path path, ReportMetrics reportMetrics, long sizeBytes) {
+            this.path = path;
+            this.reportMetrics = reportMetrics;
+            this.sizeBytes = sizeBytes;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package br.com.sw2you.realmeet.report.cache;
+
+import br.com.sw2you.realmeet.report.enumeration.ReportFormat;
+import br.com.sw2you.realmeet.report.enumeration.ReportHandlerType;
+import java.time.LocalDate;
+import java.util.Objects;
+
+public class ReportCacheKey {
+    private final ReportHandlerType reportHandlerType;
+    private final LocalDate dateFrom;
+    private final LocalDate dateTo;
+    private final ReportFormat reportFormat;
+
+    public ReportCacheKey(
+        ReportHandlerType reportHandlerType,
+        LocalDate dateFrom,
+        LocalDate dateTo,
+        ReportFormat reportFormat
+    ) {
+        this.reportHandlerType = reportHandlerType;
+        this.dateFrom = dateFrom;
+        this.dateTo = dateTo;
+        this.reportFormat = reportFormat;
+    }
+
+    public ReportHandlerType getReportHandlerType() {
+        return reportHandlerType;
+    }
+
+    public LocalDate getDateFrom() {
+        return dateFrom;
+    }
+
+    public LocalDate getDateTo() {
+        return dateTo;
+    }
+
+    public ReportFormat getReportFormat() {
+        return reportFormat;
+    }
+
+    public boolean overlaps(ReportHandlerType reportHandlerType, LocalDate dateFrom, LocalDate dateTo) {
+        return (
+            this.reportHandlerType == reportHandlerType &&
+            !this.dateFrom.isAfter(dateTo) &&
+            !this.dateTo.isBefore(dateFrom)
+        );
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ReportCacheKey that = (ReportCacheKey) o;
+        return (
+            reportHandlerType == that.reportHandlerType &&
+            Objects.equals(dateFrom, that.dateFrom) &&
+            Objects.equals(dateTo, that.dateTo) &&
+            reportFormat == that.reportFormat
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(reportHandlerType, dateFrom, dateTo, reportFormat);
+    }
+
+    @Override
+    public String toString() {
+        return (
+            "ReportCacheKey{" +
+            "reportHandlerType=" +
+            reportHandlerType +
+            ", dateFrom=" +
+            dateFrom +
+            ", dateTo=" +
+            dateTo +
+            ", reportFormat=" +
+            reportFormat +
+            '}'
+        );
+    }
+}
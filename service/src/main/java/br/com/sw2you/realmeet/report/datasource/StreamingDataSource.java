@@ -0,0 +1,75 @@
+package br.com.sw2you.realmeet.report.datasource;
+
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import net.sf.jasperreports.engine.JRDataSource;
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JRField;
+
+public class StreamingDataSource<T> implements JRDataSource, AutoCloseable {
+    private final Supplier<Stream<T>> streamSupplier;
+    private final Function<JRField, Function<T, Object>> fieldAccessorResolver;
+    private final Consumer<T> evictFunction;
+    private final Map<JRField, Function<T, Object>> fieldAccessors = new IdentityHashMap<>();
+
+    private Stream<T> stream;
+    private Iterator<T> iterator;
+    private T current;
+    private long fetchNanos;
+
+    public StreamingDataSource(
+        Supplier<Stream<T>> streamSupplier,
+        Function<JRField, Function<T, Object>> fieldAccessorResolver,
+        Consumer<T> evictFunction
+    ) {
+        this.streamSupplier = streamSupplier;
+        this.fieldAccessorResolver = fieldAccessorResolver;
+        this.evictFunction = evictFunction;
+    }
+
+    @Override
+    public boolean next() throws JRException {
+        if (Objects.nonNull(current)) {
+            evictFunction.accept(current);
+            current = null;
+        }
+
+        var fetchStart = System.nanoTime();
+        try {
+            if (Objects.isNull(iterator)) {
+                stream = streamSupplier.get();
+                iterator = stream.iterator();
+            }
+            if (!iterator.hasNext()) {
+                return false;
+            }
+            current = iterator.next();
+            return true;
+        } finally {
+            fetchNanos += System.nanoTime() - fetchStart;
+        }
+    }
+
+    @Override
+    public Object getFieldValue(JRField jrField) throws JRException {
+        // The filler passes the same JRField instances on every row, so each one is resolved once per fill
+        return fieldAccessors.computeIfAbsent(jrField, fieldAccessorResolver).apply(current);
+    }
+
+    public long getFetchNanos() {
+        return fetchNanos;
+    }
+
+    @Override
+    public void close() {
+        if (Objects.nonNull(stream)) {
+            stream.close();
+        }
+    }
+}
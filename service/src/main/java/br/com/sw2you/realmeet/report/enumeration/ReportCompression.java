@@ -0,0 +1,45 @@
+package br.com.sw2you.realmeet.report.enumeration;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Objects;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+public enum ReportCompression {
+    NONE("", null),
+    GZIP(".gz", "application/gzip"),
+    ZIP(".zip", "application/zip");
+
+    private static final int BUFFER_SIZE = 8192;
+
+    String extension;
+    String contentType;
+
+    ReportCompression(String extension, String contentType) {
+        this.extension = extension;
+        this.contentType = contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public String getContentType(ReportFormat reportFormat) {
+        return Objects.isNull(contentType) ? reportFormat.getContentType() : contentType;
+    }
+
+    public OutputStream compress(OutputStream out, String entryName) throws IOException {
+        switch (this) {
+            case GZIP:
+                return new GZIPOutputStream(out, BUFFER_SIZE);
+            case ZIP:
+                var zipOut = new ZipOutputStream(out);
+                zipOut.putNextEntry(new ZipEntry(entryName));
+                return zipOut;
+            default:
+                return out;
+        }
+    }
+}
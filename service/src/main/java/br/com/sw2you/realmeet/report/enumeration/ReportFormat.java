@@ -3,19 +3,27 @@ package br.com.sw2you.realmeet.report.enumeration;
 import java.util.Optional;
 
 public enum ReportFormat {
-    PDF("application/pdf"),
-    XML("application/xml");
+    PDF("application/pdf", false),
+    XML("application/xml", false),
+    CSV("text/csv", true),
+    XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", true);
 
     String contentType;
+    boolean tabular;
 
-    ReportFormat(String contentType) {
+    ReportFormat(String contentType, boolean tabular) {
         this.contentType = contentType;
+        this.tabular = tabular;
     }
 
     public String getContentType() {
         return contentType;
     }
 
+    public boolean isTabular() {
+        return tabular;
+    }
+
     public String getExtension() {
         return "." + name().toLowerCase();
     }
@@ -1,5 +1,23 @@
 package br.com.sw2you.realmeet.report.enumeration;
 
+import java.util.Arrays;
+import java.util.Optional;
+
 public enum ReportHandlerType {
-    ALLOCATION
+    ALLOCATION("allocation-report"),
+    ROOM_USAGE("room-usage-report");
+
+    String templateName;
+
+    ReportHandlerType(String templateName) {
+        this.templateName = templateName;
+    }
+
+    public String getTemplateName() {
+        return templateName;
+    }
+
+    public static Optional<ReportHandlerType> fromTemplateName(String templateName) {
+        return Arrays.stream(values()).filter(type -> type.templateName.equals(templateName)).findFirst();
+    }
 }
@@ -0,0 +1,8 @@
+package br.com.sw2you.realmeet.report.enumeration;
+
+public enum ReportJobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
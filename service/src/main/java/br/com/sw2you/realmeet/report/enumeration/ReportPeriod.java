@@ -0,0 +1,49 @@
+package br.com.sw2you.realmeet.report.enumeration;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.IsoFields;
+import java.time.temporal.TemporalAdjusters;
+
+public enum ReportPeriod {
+    PREVIOUS_WEEK {
+
+        @Override
+        public LocalDate getDateFrom(LocalDate referenceDate) {
+            return referenceDate.minusWeeks(1).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        }
+
+        @Override
+        public LocalDate getDateTo(LocalDate referenceDate) {
+            return getDateFrom(referenceDate).plusDays(6);
+        }
+    },
+    PREVIOUS_MONTH {
+
+        @Override
+        public LocalDate getDateFrom(LocalDate referenceDate) {
+            return referenceDate.minusMonths(1).withDayOfMonth(1);
+        }
+
+        @Override
+        public LocalDate getDateTo(LocalDate referenceDate) {
+            return getDateFrom(referenceDate).with(TemporalAdjusters.lastDayOfMonth());
+        }
+    },
+    PREVIOUS_QUARTER {
+
+        @Override
+        public LocalDate getDateFrom(LocalDate referenceDate) {
+            return referenceDate.minusMonths(3).with(IsoFields.DAY_OF_QUARTER, 1);
+        }
+
+        @Override
+        public LocalDate getDateTo(LocalDate referenceDate) {
+            return getDateFrom(referenceDate).plusMonths(3).minusDays(1);
+        }
+    };
+
+    public abstract LocalDate getDateFrom(LocalDate referenceDate);
+
+    public abstract LocalDate getDateTo(LocalDate referenceDate);
+}
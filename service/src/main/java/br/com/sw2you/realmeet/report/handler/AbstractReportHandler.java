@@ -1,78 +1,235 @@
 package br.com.sw2you.realmeet.report.handler;
 
 import br.com.sw2you.realmeet.email.TemplateType;
+import br.com.sw2you.realmeet.report.cache.ReportCacheKey;
+import br.com.sw2you.realmeet.report.datasource.StreamingDataSource;
 import br.com.sw2you.realmeet.report.enumeration.ReportFormat;
 import br.com.sw2you.realmeet.report.enumeration.ReportHandlerType;
 import br.com.sw2you.realmeet.report.model.AbstractReportData;
+import br.com.sw2you.realmeet.report.model.ReportMetrics;
+import br.com.sw2you.realmeet.report.partition.ReportPartitionExecutor;
 import br.com.sw2you.realmeet.report.validator.AbstractReportValidator;
-import java.io.ByteArrayOutputStream;
+import br.com.sw2you.realmeet.report.virtualizer.ReportVirtualizerFactory;
+import br.com.sw2you.realmeet.report.writer.CsvReportWriter;
+import br.com.sw2you.realmeet.report.writer.TabularReportWriter;
+import br.com.sw2you.realmeet.report.writer.XlsxReportWriter;
+import java.io.IOException;
 import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
-import java.util.function.BiFunction;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import net.sf.jasperreports.engine.*;
+import net.sf.jasperreports.engine.export.JRPdfExporter;
+import net.sf.jasperreports.engine.fill.JRAbstractLRUVirtualizer;
+import net.sf.jasperreports.export.SimpleExporterInput;
+import net.sf.jasperreports.export.SimpleOutputStreamExporterOutput;
+import org.apache.commons.lang3.StringUtils;
 
 public abstract class AbstractReportHandler<T, D extends AbstractReportData> {
-    private final JasperReport jasperReport;
+    private final ReportVirtualizerFactory reportVirtualizerFactory;
+    private final ReportPartitionExecutor reportPartitionExecutor;
 
-    public AbstractReportHandler(JasperReport jasperReport) {
+    private volatile JasperReport jasperReport;
+
+    public AbstractReportHandler(
+        JasperReport jasperReport,
+        ReportVirtualizerFactory reportVirtualizerFactory,
+        ReportPartitionExecutor reportPartitionExecutor
+    ) {
         this.jasperReport = jasperReport;
+        this.reportVirtualizerFactory = reportVirtualizerFactory;
+        this.reportPartitionExecutor = reportPartitionExecutor;
     }
 
-    public byte[] createReportBytes(D reportData, ReportFormat reportFormat) {
+    public ReportMetrics createReport(D reportData, ReportFormat reportFormat, OutputStream out) {
+        // Read once, so a template swapped during the fill does not mix layouts within one report
+        var jasperReport = this.jasperReport;
+
+        if (reportFormat.isTabular()) {
+            return createTabularReport(jasperReport, reportData, reportFormat, out);
+        }
+
         var reportParams = new HashMap<String, Object>();
-        var out = new ByteArrayOutputStream();
 
         fillReportParams(reportParams, reportData);
 
+        var partitions = partition(reportData);
+        var virtualizers = new ArrayList<JRAbstractLRUVirtualizer>();
+
         try {
-            var jasperPrint = JasperFillManager.fillReport(jasperReport, reportParams, getDataSource(reportData));
-            exportReportToStream(jasperPrint, out, reportFormat);
-            return out.toByteArray();
+            var fillStart = System.nanoTime();
+            var filledPartitions = new ArrayList<CompletableFuture<FilledPartition>>();
+            for (D partitionData : partitions) {
+                var virtualizer = reportVirtualizerFactory.createVirtualizer(getReportHandlerType());
+                virtualizer.ifPresent(virtualizers::add);
+                Supplier<FilledPartition> fillTask = () ->
+                    fillPartition(jasperReport, partitionData, reportParams, virtualizer);
+                filledPartitions.add(
+                    partitions.size() == 1
+                        ? CompletableFuture.completedFuture(fillTask.get())
+                        : reportPartitionExecutor.submit(fillTask)
+                );
+            }
+            CompletableFuture.allOf(filledPartitions.toArray(CompletableFuture[]::new)).join();
+
+            var filled = filledPartitions.stream().map(CompletableFuture::join).collect(Collectors.toList());
+            var jasperPrints = filled.stream().map(FilledPartition::getJasperPrint).collect(Collectors.toList());
+            var rowCount = filled.stream().mapToLong(FilledPartition::getRowCount).sum();
+            var fetchNanos = filled.stream().mapToLong(FilledPartition::getFetchNanos).sum();
+            var pageCount = jasperPrints.stream().mapToLong(jasperPrint -> jasperPrint.getPages().size()).sum();
+            var exportStart = System.nanoTime();
+            exportReportToStream(jasperPrints, out, reportFormat);
+
+            // Rows are streamed while filling, so the fill time includes the fetch time of every partition
+            return ReportMetrics
+                .newReportMetricsBuilder()
+                .rowCount(rowCount)
+                .pageCount(pageCount)
+                .fetchMillis(TimeUnit.NANOSECONDS.toMillis(fetchNanos))
+                .fillMillis(TimeUnit.NANOSECONDS.toMillis(exportStart - fillStart))
+                .exportMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - exportStart))
+                .build();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        } finally {
+            virtualizers.forEach(JRAbstractLRUVirtualizer::cleanup);
+        }
+    }
+
+    private FilledPartition fillPartition(
+        JasperReport jasperReport,
+        D partitionData,
+        Map<String, Object> reportParams,
+        Optional<JRAbstractLRUVirtualizer> virtualizer
+    ) {
+        var partitionParams = new HashMap<>(reportParams);
+        virtualizer.ifPresent(v -> partitionParams.put(JRParameter.REPORT_VIRTUALIZER, v));
+
+        try (var streamingDataSource = getDataSource(partitionData)) {
+            var dataSource = new CountingDataSource(streamingDataSource);
+            var jasperPrint = JasperFillManager.fillReport(jasperReport, partitionParams, dataSource);
+            virtualizer.ifPresent(v -> v.setReadOnly(true));
+            return new FilledPartition(jasperPrint, dataSource.getRowCount(), streamingDataSource.getFetchNanos());
         } catch (JRException e) {
             throw new RuntimeException(e);
         }
     }
 
+    public JasperReport getJasperReport() {
+        return jasperReport;
+    }
+
+    public void setJasperReport(JasperReport jasperReport) {
+        this.jasperReport = jasperReport;
+    }
+
     public abstract TemplateType getTemplateType();
 
     public abstract AbstractReportValidator getReportValidator();
 
     public abstract ReportHandlerType getReportHandlerType();
 
+    public Optional<ReportCacheKey> getCacheKey(D reportData, ReportFormat reportFormat) {
+        return Optional.empty();
+    }
+
+    public boolean isPartitioned(D reportData, ReportFormat reportFormat) {
+        return !reportFormat.isTabular() && partition(reportData).size() > 1;
+    }
+
+    protected List<D> partition(D reportData) {
+        return List.of(reportData);
+    }
+
     protected void fillReportParams(HashMap<String, Object> reportParams, D reportData) {}
 
-    public JRDataSource getDataSource(D reportData) {
-        return new JRDataSource() {
-            List<T> list;
-            int currentIndex = -1;
+    public StreamingDataSource<T> getDataSource(D reportData) {
+        return new StreamingDataSource<>(() -> fetchReportData(reportData), this::fieldAccessor, this::evict);
+    }
+
+    protected abstract Stream<T> fetchReportData(D reportData);
+
+    protected void evict(T row) {}
+
+    protected abstract Function<T, Object> fieldAccessor(JRField jrField);
+
+    private ReportMetrics createTabularReport(
+        JasperReport jasperReport,
+        D reportData,
+        ReportFormat reportFormat,
+        OutputStream out
+    ) {
+        var fields = jasperReport.getFields();
+        var header = Arrays.stream(fields).map(JRField::getName).toArray();
+        var values = new Object[fields.length];
+        var rowCount = 0L;
+        var fetchNanos = 0L;
+        var exportStart = System.nanoTime();
 
-            @Override
-            public boolean next() throws JRException {
-                if (currentIndex < 0) {
-                    list = fetchReportData(reportData);
+        try (
+            var dataSource = getDataSource(reportData);
+            var writer = newTabularReportWriter(reportFormat, out, header)
+        ) {
+            while (dataSource.next()) {
+                for (int i = 0; i < fields.length; i++) {
+                    values[i] = dataSource.getFieldValue(fields[i]);
                 }
-                return ++currentIndex < list.size();
+                writer.writeRow(values);
+                rowCount++;
             }
+            fetchNanos = dataSource.getFetchNanos();
+        } catch (JRException | IOException e) {
+            throw new RuntimeException(e);
+        }
 
-            @Override
-            public Object getFieldValue(JRField jrField) throws JRException {
-                return fieldMapperFunction().apply(jrField, list.get(currentIndex));
-            }
-        };
+        return ReportMetrics
+            .newReportMetricsBuilder()
+            .rowCount(rowCount)
+            .fetchMillis(TimeUnit.NANOSECONDS.toMillis(fetchNanos))
+            .fillMillis(0)
+            .exportMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - exportStart))
+            .build();
     }
 
-    protected abstract List<T> fetchReportData(D reportData);
-
-    protected abstract BiFunction<JRField, T, Object> fieldMapperFunction();
+    private TabularReportWriter newTabularReportWriter(ReportFormat reportFormat, OutputStream out, Object[] header)
+        throws IOException {
+        switch (reportFormat) {
+            case CSV:
+                return new CsvReportWriter(out, header);
+            case XLSX:
+                return new XlsxReportWriter(
+                    out,
+                    StringUtils.capitalize(getReportHandlerType().name().toLowerCase()),
+                    header
+                );
+            default:
+                throw new IllegalArgumentException("Report type not suported: " + reportFormat.name());
+        }
+    }
 
-    private void exportReportToStream(JasperPrint jasperPrint, OutputStream out, ReportFormat reportFormat) {
+    private void exportReportToStream(List<JasperPrint> jasperPrints, OutputStream out, ReportFormat reportFormat) {
         try {
             switch (reportFormat) {
                 case PDF:
-                    JasperExportManager.exportReportToPdfStream(jasperPrint, out);
+                    var pdfExporter = new JRPdfExporter();
+                    pdfExporter.setExporterInput(SimpleExporterInput.getInstance(jasperPrints));
+                    pdfExporter.setExporterOutput(new SimpleOutputStreamExporterOutput(out));
+                    pdfExporter.exportReport();
                     break;
                 case XML:
+                    // The XML exporter only writes the first print of a batch, so the partitions are merged into it
+                    var jasperPrint = jasperPrints.get(0);
+                    jasperPrints.stream().skip(1).flatMap(p -> p.getPages().stream()).forEach(jasperPrint::addPage);
                     JasperExportManager.exportReportToXmlStream(jasperPrint, out);
                     break;
                 default:
@@ -82,4 +239,55 @@ public abstract class AbstractReportHandler<T, D extends AbstractReportData> {
             throw new RuntimeException(e);
         }
     }
+
+    private static class FilledPartition {
+        private final JasperPrint jasperPrint;
+        private final long rowCount;
+        private final long fetchNanos;
+
+        FilledPartition(JasperPrint jasperPrint, long rowCount, long fetchNanos) {
+            this.jasperPrint = jasperPrint;
+            this.rowCount = rowCount;
+            this.fetchNanos = fetchNanos;
+        }
+
+        JasperPrint getJasperPrint() {
+            return jasperPrint;
+        }
+
+        long getRowCount() {
+            return rowCount;
+        }
+
+        long getFetchNanos() {
+            return fetchNanos;
+        }
+    }
+
+    private static class CountingDataSource implements JRDataSource {
+        private final JRDataSource dataSource;
+        private long rowCount;
+
+        CountingDataSource(JRDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        @Override
+        public boolean next() throws JRException {
+            var hasNext = dataSource.next();
+            if (hasNext) {
+                rowCount++;
+            }
+            return hasNext;
+        }
+
+        @Override
+        public Object getFieldValue(JRField jrField) throws JRException {
+            return dataSource.getFieldValue(jrField);
+        }
+
+        long getRowCount() {
+            return rowCount;
+        }
+    }
 }
@@ -1,25 +1,33 @@
 package br.com.sw2you.realmeet.report.handler;
 
-import br.com.sw2you.realmeet.domain.entity.Allocation;
+import br.com.sw2you.realmeet.domain.model.AllocationReportRow;
 import br.com.sw2you.realmeet.domain.repository.AllocationRepository;
 import br.com.sw2you.realmeet.email.TemplateType;
+import br.com.sw2you.realmeet.report.cache.ReportCacheKey;
+import br.com.sw2you.realmeet.report.enumeration.ReportFormat;
 import br.com.sw2you.realmeet.report.enumeration.ReportHandlerType;
 import br.com.sw2you.realmeet.report.model.AllocationReportData;
+import br.com.sw2you.realmeet.report.partition.ReportPartitionExecutor;
 import br.com.sw2you.realmeet.report.validator.AbstractReportValidator;
 import br.com.sw2you.realmeet.report.validator.AllocationReportValidator;
+import br.com.sw2you.realmeet.report.virtualizer.ReportVirtualizerFactory;
 import br.com.sw2you.realmeet.util.Constants;
 import br.com.sw2you.realmeet.util.DateUtils;
 import java.time.OffsetTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
-import java.util.function.BiFunction;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
 import net.sf.jasperreports.engine.JRField;
 import net.sf.jasperreports.engine.JasperReport;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
 @Component
-public class AllocationReportHandler extends AbstractReportHandler<Allocation, AllocationReportData> {
+public class AllocationReportHandler extends AbstractReportHandler<AllocationReportRow, AllocationReportData> {
     private final String PARAM_DATE_FROM = "DateFromFilter";
     private final String PARAM_DATE_TO = "DateToFilter";
     private final String FIELD_DATE_FROM = "DateFrom";
@@ -34,19 +42,48 @@ public class AllocationReportHandler extends AbstractReportHandler<Allocation, A
     public AllocationReportHandler(
         @Qualifier("allocationReport") JasperReport jasperReport,
         AllocationRepository allocationRepository,
-        AllocationReportValidator allocationReportValidator
+        AllocationReportValidator allocationReportValidator,
+        ReportVirtualizerFactory reportVirtualizerFactory,
+        ReportPartitionExecutor reportPartitionExecutor
     ) {
-        super(jasperReport);
+        super(jasperReport, reportVirtualizerFactory, reportPartitionExecutor);
         this.allocationRepository = allocationRepository;
         this.allocationReportValidator = allocationReportValidator;
     }
 
+    @Override
+    protected List<AllocationReportData> partition(AllocationReportData reportData) {
+        var partitions = new ArrayList<AllocationReportData>();
+        var partitionFrom = reportData.getDateFrom();
+        while (!partitionFrom.isAfter(reportData.getDateTo())) {
+            var monthEnd = partitionFrom.with(TemporalAdjusters.lastDayOfMonth());
+            var partitionTo = monthEnd.isBefore(reportData.getDateTo()) ? monthEnd : reportData.getDateTo();
+            partitions.add(
+                AllocationReportData
+                    .newAllocationDataReportBuilder()
+                    .email(reportData.getEmail())
+                    .dateFrom(partitionFrom)
+                    .dateTo(partitionTo)
+                    .build()
+            );
+            partitionFrom = partitionTo.plusDays(1);
+        }
+        return partitions.isEmpty() ? List.of(reportData) : partitions;
+    }
+
     @Override
     protected void fillReportParams(HashMap<String, Object> reportParams, AllocationReportData reportData) {
         reportParams.put(PARAM_DATE_FROM, DateUtils.formatUsingPattern(reportData.getDateFrom()));
         reportParams.put(PARAM_DATE_TO, DateUtils.formatUsingPattern(reportData.getDateTo()));
     }
 
+    @Override
+    public Optional<ReportCacheKey> getCacheKey(AllocationReportData reportData, ReportFormat reportFormat) {
+        return Optional.of(
+            new ReportCacheKey(getReportHandlerType(), reportData.getDateFrom(), reportData.getDateTo(), reportFormat)
+        );
+    }
+
     @Override
     public TemplateType getTemplateType() {
         return TemplateType.ALLOCATION_REPORT;
@@ -63,32 +100,26 @@ public class AllocationReportHandler extends AbstractReportHandler<Allocation, A
     }
 
     @Override
-    protected List<Allocation> fetchReportData(AllocationReportData reportData) {
-        return allocationRepository.findAllWithFilters(
-            null,
-            null,
+    protected Stream<AllocationReportRow> fetchReportData(AllocationReportData reportData) {
+        return allocationRepository.streamRowsForReport(
             reportData.getDateFrom().atTime(OffsetTime.MIN),
             reportData.getDateTo().atTime(OffsetTime.MAX)
         );
     }
 
     @Override
-    protected BiFunction<JRField, Allocation, Object> fieldMapperFunction() {
-        return (
-            (JRField jrField, Allocation allocation) -> {
-                switch (jrField.getName()) {
-                    case FIELD_DATE_FROM:
-                        return DateUtils.formatUsingPattern(allocation.getStartAt());
-                    case FIELD_DATE_TO:
-                        return DateUtils.formatUsingPattern(allocation.getEndAt());
-                    case FIELD_ROOM_NAME:
-                        return allocation.getRoom().getName();
-                    case FIELD_EMPLOYEE_NAME:
-                        return allocation.getEmployee().getName();
-                    default:
-                        return Constants.EMPTY;
-                }
-            }
-        );
+    protected Function<AllocationReportRow, Object> fieldAccessor(JRField jrField) {
+        switch (jrField.getName()) {
+            case FIELD_DATE_FROM:
+                return row -> DateUtils.formatUsingPattern(row.getStartAt());
+            case FIELD_DATE_TO:
+                return row -> DateUtils.formatUsingPattern(row.getEndAt());
+            case FIELD_ROOM_NAME:
+                return AllocationReportRow::getRoomName;
+            case FIELD_EMPLOYEE_NAME:
+                return AllocationReportRow::getEmployeeName;
+            default:
+                return row -> Constants.EMPTY;
+        }
     }
 }
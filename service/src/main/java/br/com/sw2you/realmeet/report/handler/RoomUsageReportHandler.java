@@ -0,0 +1,108 @@
+package br.com.sw2you.realmeet.report.handler;
+
+import br.com.sw2you.realmeet.domain.entity.RoomUsageDaily;
+import br.com.sw2you.realmeet.domain.repository.RoomUsageDailyRepository;
+import br.com.sw2you.realmeet.email.TemplateType;
+import br.com.sw2you.realmeet.report.cache.ReportCacheKey;
+import br.com.sw2you.realmeet.report.enumeration.ReportFormat;
+import br.com.sw2you.realmeet.report.enumeration.ReportHandlerType;
+import br.com.sw2you.realmeet.report.model.RoomUsageReportData;
+import br.com.sw2you.realmeet.report.partition.ReportPartitionExecutor;
+import br.com.sw2you.realmeet.report.validator.AbstractReportValidator;
+import br.com.sw2you.realmeet.report.validator.RoomUsageReportValidator;
+import br.com.sw2you.realmeet.report.virtualizer.ReportVirtualizerFactory;
+import br.com.sw2you.realmeet.util.Constants;
+import br.com.sw2you.realmeet.util.DateUtils;
+import java.util.HashMap;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import javax.persistence.EntityManager;
+import net.sf.jasperreports.engine.JRField;
+import net.sf.jasperreports.engine.JasperReport;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RoomUsageReportHandler extends AbstractReportHandler<RoomUsageDaily, RoomUsageReportData> {
+    private final String PARAM_DATE_FROM = "DateFromFilter";
+    private final String PARAM_DATE_TO = "DateToFilter";
+    private final String FIELD_ROOM_NAME = "RoomName";
+    private final String FIELD_USAGE_DATE = "UsageDate";
+    private final String FIELD_ALLOCATION_COUNT = "AllocationCount";
+    private final String FIELD_BOOKED_MINUTES = "BookedMinutes";
+
+    private final RoomUsageDailyRepository roomUsageDailyRepository;
+
+    private final RoomUsageReportValidator roomUsageReportValidator;
+
+    private final EntityManager entityManager;
+
+    public RoomUsageReportHandler(
+        @Qualifier("roomUsageReport") JasperReport jasperReport,
+        RoomUsageDailyRepository roomUsageDailyRepository,
+        RoomUsageReportValidator roomUsageReportValidator,
+        EntityManager entityManager,
+        ReportVirtualizerFactory reportVirtualizerFactory,
+        ReportPartitionExecutor reportPartitionExecutor
+    ) {
+        super(jasperReport, reportVirtualizerFactory, reportPartitionExecutor);
+        this.roomUsageDailyRepository = roomUsageDailyRepository;
+        this.roomUsageReportValidator = roomUsageReportValidator;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    protected void fillReportParams(HashMap<String, Object> reportParams, RoomUsageReportData reportData) {
+        reportParams.put(PARAM_DATE_FROM, DateUtils.formatUsingPattern(reportData.getDateFrom()));
+        reportParams.put(PARAM_DATE_TO, DateUtils.formatUsingPattern(reportData.getDateTo()));
+    }
+
+    @Override
+    public Optional<ReportCacheKey> getCacheKey(RoomUsageReportData reportData, ReportFormat reportFormat) {
+        return Optional.of(
+            new ReportCacheKey(getReportHandlerType(), reportData.getDateFrom(), reportData.getDateTo(), reportFormat)
+        );
+    }
+
+    @Override
+    public TemplateType getTemplateType() {
+        return TemplateType.ROOM_USAGE_REPORT;
+    }
+
+    @Override
+    public AbstractReportValidator getReportValidator() {
+        return roomUsageReportValidator;
+    }
+
+    @Override
+    public ReportHandlerType getReportHandlerType() {
+        return ReportHandlerType.ROOM_USAGE;
+    }
+
+    @Override
+    protected Stream<RoomUsageDaily> fetchReportData(RoomUsageReportData reportData) {
+        return roomUsageDailyRepository.streamAllForReport(reportData.getDateFrom(), reportData.getDateTo());
+    }
+
+    @Override
+    protected void evict(RoomUsageDaily roomUsageDaily) {
+        entityManager.detach(roomUsageDaily);
+    }
+
+    @Override
+    protected Function<RoomUsageDaily, Object> fieldAccessor(JRField jrField) {
+        switch (jrField.getName()) {
+            case FIELD_ROOM_NAME:
+                return roomUsageDaily -> roomUsageDaily.getRoom().getName();
+            case FIELD_USAGE_DATE:
+                return roomUsageDaily -> DateUtils.formatUsingPattern(roomUsageDaily.getId().getUsageDate());
+            case FIELD_ALLOCATION_COUNT:
+                return RoomUsageDaily::getAllocationCount;
+            case FIELD_BOOKED_MINUTES:
+                return RoomUsageDaily::getBookedMinutes;
+            default:
+                return roomUsageDaily -> Constants.EMPTY;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package br.com.sw2you.realmeet.report.instrumentation;
+
+import br.com.sw2you.realmeet.report.enumeration.ReportFormat;
+import br.com.sw2you.realmeet.report.enumeration.ReportHandlerType;
+import br.com.sw2you.realmeet.report.model.ReportMetrics;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ReportInstrumentation {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReportInstrumentation.class);
+
+    public static final String VALIDATION = "realmeet.report.validation";
+    public static final String FETCH = "realmeet.report.fetch";
+    public static final String FILL = "realmeet.report.fill";
+    public static final String EXPORT = "realmeet.report.export";
+    public static final String DISPATCH = "realmeet.report.dispatch";
+    public static final String ROWS = "realmeet.report.rows";
+    public static final String PAGES = "realmeet.report.pages";
+    public static final String OUTPUT_BYTES = "realmeet.report.output";
+    public static final String FILE_BYTES = "realmeet.report.file";
+
+    private static final String TAG_TYPE = "type";
+    private static final String TAG_FORMAT = "format";
+    private static final String BYTES = "bytes";
+
+    private final MeterRegistry meterRegistry;
+
+    public ReportInstrumentation(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void recordValidation(ReportHandlerType reportHandlerType, long nanos) {
+        timer(VALIDATION, Tags.of(TAG_TYPE, reportHandlerType.name())).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordGeneration(
+        ReportHandlerType reportHandlerType,
+        ReportFormat reportFormat,
+        ReportMetrics reportMetrics
+    ) {
+        var tags = tags(reportHandlerType, reportFormat);
+        timer(FETCH, tags).record(reportMetrics.getFetchMillis(), TimeUnit.MILLISECONDS);
+        timer(FILL, tags).record(reportMetrics.getFillMillis(), TimeUnit.MILLISECONDS);
+        timer(EXPORT, tags).record(reportMetrics.getExportMillis(), TimeUnit.MILLISECONDS);
+        summary(ROWS, null, tags).record(reportMetrics.getRowCount());
+        summary(PAGES, null, tags).record(reportMetrics.getPageCount());
+        summary(OUTPUT_BYTES, BYTES, tags).record(reportMetrics.getOutputBytes());
+        summary(FILE_BYTES, BYTES, tags).record(reportMetrics.getSizeBytes());
+    }
+
+    public void recordDispatch(
+        ReportHandlerType reportHandlerType,
+        ReportFormat reportFormat,
+        ReportMetrics reportMetrics,
+        int recipients,
+        int failedRecipients,
+        long nanos
+    ) {
+        timer(DISPATCH, tags(reportHandlerType, reportFormat)).record(nanos, TimeUnit.NANOSECONDS);
+
+        // One key=value line per delivered report, so the stages of a slow report can be read side by side
+        LOGGER.info(
+            "report type={} format={} compression={} rows={} pages={} outputBytes={} sizeBytes={} fetchMs={} " +
+            "fillMs={} exportMs={} dispatchMs={} recipients={} failedRecipients={}",
+            reportHandlerType,
+            reportFormat,
+            reportMetrics.getReportCompression(),
+            reportMetrics.getRowCount(),
+            reportMetrics.getPageCount(),
+            reportMetrics.getOutputBytes(),
+            reportMetrics.getSizeBytes(),
+            reportMetrics.getFetchMillis(),
+            reportMetrics.getFillMillis(),
+            reportMetrics.getExportMillis(),
+            TimeUnit.NANOSECONDS.toMillis(nanos),
+            recipients,
+            failedRecipients
+        );
+    }
+
+    private Tags tags(ReportHandlerType reportHandlerType, ReportFormat reportFormat) {
+        return Tags.of(TAG_TYPE, reportHandlerType.name(), TAG_FORMAT, reportFormat.name());
+    }
+
+    private Timer timer(String name, Tags tags) {
+        return Timer.builder(name).tags(tags).register(meterRegistry);
+    }
+
+    private DistributionSummary summary(String name, String baseUnit, Tags tags) {
+        return DistributionSummary.builder(name).baseUnit(baseUnit).tags(tags).register(meterRegistry);
+    }
+}
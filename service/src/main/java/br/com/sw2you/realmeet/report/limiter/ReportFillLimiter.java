@@ -0,0 +1,61 @@
+package br.com.sw2you.realmeet.report.limiter;
+
+import br.com.sw2you.realmeet.config.properties.ReportFillConfigProperties;
+import br.com.sw2you.realmeet.exception.ReportCapacityExceededException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ReportFillLimiter {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReportFillLimiter.class);
+
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final Duration queueTimeout;
+
+    public ReportFillLimiter(ReportFillConfigProperties reportFillConfigProperties) {
+        // Without an explicit cap, allow as many fills as fit in the heap at the configured memory per fill.
+        maxConcurrent =
+            reportFillConfigProperties.getMaxConcurrent() > 0
+                ? reportFillConfigProperties.getMaxConcurrent()
+                : (int) Math.max(
+                    1,
+                    Runtime.getRuntime().maxMemory() / reportFillConfigProperties.getMemoryPerFill().toBytes()
+                );
+        queueTimeout = reportFillConfigProperties.getQueueTimeout();
+        permits = new Semaphore(maxConcurrent, true);
+        LOGGER.info("Report fills limited to {} concurrent fill(s)", maxConcurrent);
+    }
+
+    public <T> T execute(Supplier<T> fill) {
+        try {
+            if (!permits.tryAcquire(queueTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new ReportCapacityExceededException(
+                    "No report fill slot became available within " + queueTimeout.toSeconds() + "s"
+                );
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ReportCapacityExceededException("Interrupted while waiting for a report fill slot");
+        }
+
+        try {
+            return fill.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+}
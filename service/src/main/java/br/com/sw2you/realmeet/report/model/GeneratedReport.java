@@ -1,33 +1,49 @@
 package br.com.sw2you.realmeet.report.model;
 
 import br.com.sw2you.realmeet.email.TemplateType;
+import br.com.sw2you.realmeet.report.enumeration.ReportCompression;
 import br.com.sw2you.realmeet.report.enumeration.ReportFormat;
-import java.util.Arrays;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
 import java.util.Objects;
 
 public class GeneratedReport {
-    private final byte[] bytes;
+    private final Path path;
     private final ReportFormat reportFormat;
+    private final ReportCompression reportCompression;
     private final String fileName;
     private final String emailTo;
     private final TemplateType templateType;
+    private final String downloadUrl;
+    private final OffsetDateTime expiresAt;
 
     private GeneratedReport(GeneratedReportBuilder builder) {
-        bytes = builder.bytes;
+        path = builder.path;
         reportFormat = builder.reportFormat;
+        reportCompression = builder.reportCompression;
         fileName = builder.fileName;
         emailTo = builder.emailTo;
         templateType = builder.templateType;
+        downloadUrl = builder.downloadUrl;
+        expiresAt = builder.expiresAt;
     }
 
-    public byte[] getBytes() {
-        return bytes;
+    public Path getPath() {
+        return path;
     }
 
     public ReportFormat getReportFormat() {
         return reportFormat;
     }
 
+    public ReportCompression getReportCompression() {
+        return reportCompression;
+    }
+
+    public String getContentType() {
+        return reportCompression.getContentType(reportFormat);
+    }
+
     public String getFileName() {
         return fileName;
     }
@@ -40,35 +56,55 @@ public class GeneratedReport {
         return templateType;
     }
 
+    public String getDownloadUrl() {
+        return downloadUrl;
+    }
+
+    public OffsetDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         GeneratedReport that = (GeneratedReport) o;
         return (
-            Arrays.equals(bytes, that.bytes) &&
+            Objects.equals(path, that.path) &&
             reportFormat == that.reportFormat &&
+            reportCompression == that.reportCompression &&
             Objects.equals(fileName, that.fileName) &&
             Objects.equals(emailTo, that.emailTo) &&
-            templateType == that.templateType
+            templateType == that.templateType &&
+            Objects.equals(downloadUrl, that.downloadUrl) &&
+            Objects.equals(expiresAt, that.expiresAt)
         );
     }
 
     @Override
     public int hashCode() {
-        int result = Objects.hash(reportFormat, fileName, emailTo, templateType);
-        result = 31 * result + Arrays.hashCode(bytes);
-        return result;
+        return Objects.hash(
+            path,
+            reportFormat,
+            reportCompression,
+            fileName,
+            emailTo,
+            templateType,
+            downloadUrl,
+            expiresAt
+        );
     }
 
     @Override
     public String toString() {
         return (
             "GeneratedReport{" +
-            "bytes=" +
-            Arrays.toString(bytes) +
+            "path=" +
+            path +
             ", reportFormat=" +
             reportFormat +
+            ", reportCompression=" +
+            reportCompression +
             ", fileName='" +
             fileName +
             '\'' +
@@ -77,6 +113,11 @@ public class GeneratedReport {
             '\'' +
             ", templateType=" +
             templateType +
+            ", downloadUrl='" +
+            downloadUrl +
+            '\'' +
+            ", expiresAt=" +
+            expiresAt +
             '}'
         );
     }
@@ -86,16 +127,19 @@ public class GeneratedReport {
     }
 
     public static final class GeneratedReportBuilder {
-        private byte[] bytes;
+        private Path path;
         private ReportFormat reportFormat;
+        private ReportCompression reportCompression = ReportCompression.NONE;
         private String fileName;
         private String emailTo;
         private TemplateType templateType;
+        private String downloadUrl;
+        private OffsetDateTime expiresAt;
 
         private GeneratedReportBuilder() {}
 
-        public GeneratedReportBuilder bytes(byte[] bytes) {
-            this.bytes = bytes;
+        public GeneratedReportBuilder path(Path path) {
+            this.path = path;
             return this;
         }
 
@@ -104,6 +148,11 @@ public class GeneratedReport {
             return this;
         }
 
+        public GeneratedReportBuilder reportCompression(ReportCompression reportCompression) {
+            this.reportCompression = reportCompression;
+            return this;
+        }
+
         public GeneratedReportBuilder fileName(String fileName) {
             this.fileName = fileName;
             return this;
@@ -119,6 +168,16 @@ public class GeneratedReport {
             return this;
         }
 
+        public GeneratedReportBuilder downloadUrl(String downloadUrl) {
+            this.downloadUrl = downloadUrl;
+            return this;
+        }
+
+        public GeneratedReportBuilder expiresAt(OffsetDateTime expiresAt) {
+            this.expiresAt = expiresAt;
+            return this;
+        }
+
         public GeneratedReport build() {
             return new GeneratedReport(this);
         }
@@ -0,0 +1,35 @@
+package br.com.sw2you.realmeet.report.model;
+
+import br.com.sw2you.realmeet.report.enumeration.ReportHandlerType;
+import java.time.LocalDate;
+
+public final class ReportDataFactory {
+
+    private ReportDataFactory() {}
+
+    public static AbstractReportData newReportData(
+        ReportHandlerType reportType,
+        LocalDate dateFrom,
+        LocalDate dateTo,
+        String email
+    ) {
+        switch (reportType) {
+            case ALLOCATION:
+                return AllocationReportData
+                    .newAllocationDataReportBuilder()
+                    .dateFrom(dateFrom)
+                    .dateTo(dateTo)
+                    .email(email)
+                    .build();
+            case ROOM_USAGE:
+                return RoomUsageReportData
+                    .newRoomUsageReportDataBuilder()
+                    .dateFrom(dateFrom)
+                    .dateTo(dateTo)
+                    .email(email)
+                    .build();
+            default:
+                throw new IllegalArgumentException("Report type not suported: " + reportType.name());
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package br.com.sw2you.realmeet.report.model;
+
+import br.com.sw2you.realmeet.report.enumeration.ReportCompression;
+import java.util.Objects;
+
+public class ReportMetrics {
+    private final long rowCount;
+    private final long pageCount;
+    private final long fetchMillis;
+    private final long fillMillis;
+    private final long exportMillis;
+    private final ReportCompression reportCompression;
+    private final long outputBytes;
+    private final long sizeBytes;
+
+    private ReportMetrics(ReportMetricsBuilder builder) {
+        rowCount = builder.rowCount;
+        pageCount = builder.pageCount;
+        fetchMillis = builder.fetchMillis;
+        fillMillis = builder.fillMillis;
+        exportMillis = builder.exportMillis;
+        reportCompression = builder.reportCompression;
+        outputBytes = builder.outputBytes;
+        sizeBytes = builder.sizeBytes;
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    public long getPageCount() {
+        return pageCount;
+    }
+
+    public long getFetchMillis() {
+        return fetchMillis;
+    }
+
+    public long getFillMillis() {
+        return fillMillis;
+    }
+
+    public long getExportMillis() {
+        return exportMillis;
+    }
+
+    public ReportCompression getReportCompression() {
+        return reportCompression;
+    }
+
+    public long getOutputBytes() {
+        return outputBytes;
+    }
+
+    public long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public double getCompressionRatio() {
+        return sizeBytes == 0 ? 1.0 : (double) outputBytes / sizeBytes;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ReportMetrics that = (ReportMetrics) o;
+        return (
+            rowCount == that.rowCount &&
+            pageCount == that.pageCount &&
+            fetchMillis == that.fetchMillis &&
+            fillMillis == that.fillMillis &&
+            exportMillis == that.exportMillis &&
+            reportCompression == that.reportCompression &&
+            outputBytes == that.outputBytes &&
+            sizeBytes == that.sizeBytes
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+            rowCount,
+            pageCount,
+            fetchMillis,
+            fillMillis,
+            exportMillis,
+            reportCompression,
+            outputBytes,
+            sizeBytes
+        );
+    }
+
+    @Override
+    public String toString() {
+        return (
+            "ReportMetrics{" +
+            "rowCount=" +
+            rowCount +
+            ", pageCount=" +
+            pageCount +
+            ", fetchMillis=" +
+            fetchMillis +
+            ", fillMillis=" +
+            fillMillis +
+            ", exportMillis=" +
+            exportMillis +
+            ", reportCompression=" +
+            reportCompression +
+            ", outputBytes=" +
+            outputBytes +
+            ", sizeBytes=" +
+            sizeBytes +
+            '}'
+        );
+    }
+
+    public static ReportMetricsBuilder newReportMetricsBuilder() {
+        return new ReportMetricsBuilder();
+    }
+
+    public static final class ReportMetricsBuilder {
+        private long rowCount;
+        private long pageCount;
+        private long fetchMillis;
+        private long fillMillis;
+        private long exportMillis;
+        private ReportCompression reportCompression = ReportCompression.NONE;
+        private long outputBytes;
+        private long sizeBytes;
+
+        private ReportMetricsBuilder() {}
+
+        public ReportMetricsBuilder rowCount(long rowCount) {
+            this.rowCount = rowCount;
+            return this;
+        }
+
+        public ReportMetricsBuilder pageCount(long pageCount) {
+            this.pageCount = pageCount;
+            return this;
+        }
+
+        public ReportMetricsBuilder fetchMillis(long fetchMillis) {
+            this.fetchMillis = fetchMillis;
+            return this;
+        }
+
+        public ReportMetricsBuilder fillMillis(long fillMillis) {
+            this.fillMillis = fillMillis;
+            return this;
+        }
+
+        public ReportMetricsBuilder exportMillis(long exportMillis) {
+            this.exportMillis = exportMillis;
+            return this;
+        }
+
+        public ReportMetricsBuilder reportCompression(ReportCompression reportCompression) {
+            this.reportCompression = reportCompression;
+            return this;
+        }
+
+        public ReportMetricsBuilder outputBytes(long outputBytes) {
+            this.outputBytes = outputBytes;
+            return this;
+        }
+
+        public ReportMetricsBuilder sizeBytes(long sizeBytes) {
+            this.sizeBytes = sizeBytes;
+            return this;
+        }
+
+        public ReportMetrics build() {
+            return new ReportMetrics(this);
+        }
+    }
+}
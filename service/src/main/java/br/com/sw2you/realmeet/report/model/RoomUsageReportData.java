@@ -0,0 +1,73 @@
+package br.com.sw2you.realmeet.report.model;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+public class RoomUsageReportData extends AbstractReportData {
+    private final LocalDate dateFrom;
+    private final LocalDate dateTo;
+
+    private RoomUsageReportData(RoomUsageReportDataBuilder builder) {
+        super(builder.email);
+        dateFrom = builder.dateFrom;
+        dateTo = builder.dateTo;
+    }
+
+    public LocalDate getDateFrom() {
+        return dateFrom;
+    }
+
+    public LocalDate getDateTo() {
+        return dateTo;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+        RoomUsageReportData that = (RoomUsageReportData) o;
+        return Objects.equals(dateFrom, that.dateFrom) && Objects.equals(dateTo, that.dateTo);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), dateFrom, dateTo);
+    }
+
+    @Override
+    public String toString() {
+        return "RoomUsageReportData{" + "dateFrom=" + dateFrom + ", dateTo=" + dateTo + '}';
+    }
+
+    public static RoomUsageReportDataBuilder newRoomUsageReportDataBuilder() {
+        return new RoomUsageReportDataBuilder();
+    }
+
+    public static final class RoomUsageReportDataBuilder {
+        private String email;
+        private LocalDate dateFrom;
+        private LocalDate dateTo;
+
+        private RoomUsageReportDataBuilder() {}
+
+        public RoomUsageReportDataBuilder email(String email) {
+            this.email = email;
+            return this;
+        }
+
+        public RoomUsageReportDataBuilder dateFrom(LocalDate dateFrom) {
+            this.dateFrom = dateFrom;
+            return this;
+        }
+
+        public RoomUsageReportDataBuilder dateTo(LocalDate dateTo) {
+            this.dateTo = dateTo;
+            return this;
+        }
+
+        public RoomUsageReportData build() {
+            return new RoomUsageReportData(this);
+        }
+    }
+}
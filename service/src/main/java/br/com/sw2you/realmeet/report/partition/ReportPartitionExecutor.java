@@ -0,0 +1,32 @@
+package br.com.sw2you.realmeet.report.partition;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class ReportPartitionExecutor {
+    private final Executor reportPartitionsExecutor;
+    private final TransactionTemplate transactionTemplate;
+
+    public ReportPartitionExecutor(
+        @Qualifier("reportPartitionsExecutor") Executor reportPartitionsExecutor,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.reportPartitionsExecutor = reportPartitionsExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    public <R> CompletableFuture<R> submit(Supplier<R> partitionTask) {
+        // Each partition streams its rows on its own thread, so it needs its own read-only transaction
+        return CompletableFuture.supplyAsync(
+            () -> transactionTemplate.execute(status -> partitionTask.get()),
+            reportPartitionsExecutor
+        );
+    }
+}
@@ -0,0 +1,188 @@
+package br.com.sw2you.realmeet.report.template;
+
+import br.com.sw2you.realmeet.config.properties.ReportTemplateConfigProperties;
+import br.com.sw2you.realmeet.report.cache.ReportCache;
+import br.com.sw2you.realmeet.report.enumeration.ReportHandlerType;
+import br.com.sw2you.realmeet.report.resolver.ReportHandlerResolver;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JasperCompileManager;
+import net.sf.jasperreports.engine.JasperReport;
+import net.sf.jasperreports.engine.util.JRLoader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ReportTemplateRegistry {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReportTemplateRegistry.class);
+    private static final String SOURCE_EXTENSION = ".jrxml";
+    private static final String COMPILED_EXTENSION = ".jasper";
+
+    private final ReportHandlerResolver reportHandlerResolver;
+    private final ReportCache reportCache;
+    private final Path directory;
+    private final Duration settleDelay;
+
+    private volatile boolean running;
+    private WatchService watchService;
+    private Thread watcher;
+
+    public ReportTemplateRegistry(
+        ReportHandlerResolver reportHandlerResolver,
+        ReportCache reportCache,
+        ReportTemplateConfigProperties reportTemplateConfigProperties
+    ) {
+        this.reportHandlerResolver = reportHandlerResolver;
+        this.reportCache = reportCache;
+        this.directory = reportTemplateConfigProperties.getDirectory();
+        this.settleDelay = reportTemplateConfigProperties.getSettleDelay();
+    }
+
+    @PostConstruct
+    public void start() {
+        if (Objects.isNull(directory)) {
+            LOGGER.info("No report template directory configured, using the bundled templates");
+            return;
+        }
+
+        try {
+            Files.createDirectories(directory);
+            watchService = FileSystems.getDefault().newWatchService();
+            directory.register(
+                watchService,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY
+            );
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error watching report template directory " + directory, e);
+        }
+
+        Arrays.stream(ReportHandlerType.values()).forEach(this::reload);
+        running = true;
+        watcher = new Thread(this::watch, "report-template-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (Objects.isNull(watcher)) {
+            return;
+        }
+
+        running = false;
+        try {
+            watchService.close();
+            watcher.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (IOException e) {
+            LOGGER.warn("Could not close report template watcher", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public boolean reload(ReportHandlerType reportHandlerType) {
+        var templateFile = Optional.ofNullable(directory).flatMap(dir -> findTemplateFile(dir, reportHandlerType));
+
+        if (templateFile.isEmpty()) {
+            return false;
+        }
+
+        JasperReport jasperReport;
+        try {
+            jasperReport = loadReport(templateFile.get());
+        } catch (JRException | IOException | RuntimeException e) {
+            LOGGER.error("Could not load report template {}, keeping the current one", templateFile.get(), e);
+            return false;
+        }
+
+        // Fills already running keep the report they started with; only new fills see the swapped template
+        reportHandlerResolver.resolveReportHandler(reportHandlerType).setJasperReport(jasperReport);
+        reportCache.invalidate(reportHandlerType);
+        LOGGER.info("Report template {} loaded from {}", reportHandlerType, templateFile.get());
+        return true;
+    }
+
+    private void watch() {
+        while (running) {
+            try {
+                var watchKey = watchService.take();
+                // Editors and copies write in several steps, so wait for the directory to settle before compiling
+                TimeUnit.MILLISECONDS.sleep(settleDelay.toMillis());
+                var changedTypes = EnumSet.noneOf(ReportHandlerType.class);
+
+                for (; Objects.nonNull(watchKey); watchKey = watchService.poll()) {
+                    collectChangedTypes(watchKey, changedTypes);
+                    watchKey.reset();
+                }
+                changedTypes.forEach(this::reload);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ClosedWatchServiceException e) {
+                return;
+            } catch (RuntimeException e) {
+                LOGGER.error("Unexpected error in report template watcher", e);
+            }
+        }
+    }
+
+    private void collectChangedTypes(WatchKey watchKey, Set<ReportHandlerType> changedTypes) {
+        for (var event : watchKey.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                changedTypes.addAll(EnumSet.allOf(ReportHandlerType.class));
+            } else {
+                var fileName = event.context().toString();
+                ReportHandlerType
+                    .fromTemplateName(fileName.substring(0, Math.max(fileName.lastIndexOf('.'), 0)))
+                    .ifPresent(changedTypes::add);
+            }
+        }
+    }
+
+    private Optional<Path> findTemplateFile(Path directory, ReportHandlerType reportHandlerType) {
+        // When both a source and a compiled template exist, the most recently written one wins
+        return Stream
+            .of(SOURCE_EXTENSION, COMPILED_EXTENSION)
+            .map(extension -> directory.resolve(reportHandlerType.getTemplateName() + extension))
+            .filter(Files::isRegularFile)
+            .max(Comparator.comparing(this::getLastModifiedTime));
+    }
+
+    private FileTime getLastModifiedTime(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private JasperReport loadReport(Path templateFile) throws JRException, IOException {
+        try (var in = Files.newInputStream(templateFile)) {
+            return templateFile.toString().endsWith(SOURCE_EXTENSION)
+                ? JasperCompileManager.compileReport(in)
+                : (JasperReport) JRLoader.loadObject(in);
+        }
+    }
+}
@@ -10,11 +10,23 @@ public abstract class AbstractReportValidator {
     public void validate(AbstractReportData abstractReportData) {
         var validationErrors = new ValidationErrors();
 
-        ValidatorUtils.validateRequired(abstractReportData.getEmail(), ValidatorConstants.EMAIL, validationErrors);
+        validateEmail(abstractReportData.getEmail(), validationErrors);
         validate(abstractReportData, validationErrors);
 
         ValidatorUtils.throwOnError(validationErrors);
     }
 
+    private boolean validateEmail(String email, ValidationErrors validationErrors) {
+        return (
+            ValidatorUtils.validateRequired(email, ValidatorConstants.EMAIL, validationErrors) &&
+            ValidatorUtils.validateMaxLength(
+                email,
+                ValidatorConstants.EMAIL,
+                ValidatorConstants.REPORT_EMAIL_MAX_LENGTH,
+                validationErrors
+            )
+        );
+    }
+
     protected abstract void validate(AbstractReportData abstractReportData, ValidationErrors validationErrors);
 }
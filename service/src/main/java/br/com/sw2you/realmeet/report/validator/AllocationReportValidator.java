@@ -1,46 +1,51 @@
 package br.com.sw2you.realmeet.report.validator;
 
+import br.com.sw2you.realmeet.domain.repository.AllocationRepository;
 import br.com.sw2you.realmeet.report.model.AbstractReportData;
 import br.com.sw2you.realmeet.report.model.AllocationReportData;
 import br.com.sw2you.realmeet.util.Constants;
 import br.com.sw2you.realmeet.validator.ValidationErrors;
 import br.com.sw2you.realmeet.validator.ValidatorConstants;
 import br.com.sw2you.realmeet.validator.ValidatorUtils;
+import java.time.OffsetTime;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
 public class AllocationReportValidator extends AbstractReportValidator {
-    private final int maxMonthsInterval;
-
-    public AllocationReportValidator(@Value(Constants.ALLOCATION_REPORT_MAX_MONTHS_INTERVAL) int maxMonthsInterval) {
-        this.maxMonthsInterval = maxMonthsInterval;
+    private final AllocationRepository allocationRepository;
+    private final long maxRows;
+
+    public AllocationReportValidator(
+        AllocationRepository allocationRepository,
+        @Value(Constants.ALLOCATION_REPORT_MAX_ROWS) long maxRows
+    ) {
+        this.allocationRepository = allocationRepository;
+        this.maxRows = maxRows;
     }
 
     @Override
     protected void validate(AbstractReportData reportData, ValidationErrors validationErrors) {
         var allocationReportData = (AllocationReportData) reportData;
+        var dateFrom = allocationReportData.getDateFrom();
+        var dateTo = allocationReportData.getDateTo();
 
-        ValidatorUtils.validateRequired(
-            allocationReportData.getDateFrom(),
-            ValidatorConstants.DATE_FROM,
-            validationErrors
-        );
-
-        ValidatorUtils.validateRequired(allocationReportData.getDateTo(), ValidatorConstants.DATE_TO, validationErrors);
+        ValidatorUtils.validateRequired(dateFrom, ValidatorConstants.DATE_FROM, validationErrors);
+        ValidatorUtils.validateRequired(dateTo, ValidatorConstants.DATE_TO, validationErrors);
 
         if (!validationErrors.hasErrors()) {
-            ValidatorUtils.validateDatesOrdering(
-                allocationReportData.getDateFrom(),
-                allocationReportData.getDateTo(),
-                validationErrors
-            );
+            ValidatorUtils.validateDatesOrdering(dateFrom, dateTo, validationErrors);
+        }
 
-            ValidatorUtils.validateDurationBetweenDates(
-                allocationReportData.getDateFrom(),
-                allocationReportData.getDateTo(),
-                maxMonthsInterval,
-                validationErrors
+        // Reports are limited by the rows they would fill, so dense and sparse periods are judged on their actual size
+        if (
+            !validationErrors.hasErrors() &&
+            allocationRepository.countForReport(dateFrom.atTime(OffsetTime.MIN), dateTo.atTime(OffsetTime.MAX)) >
+            maxRows
+        ) {
+            validationErrors.add(
+                ValidatorConstants.DATE_TO,
+                ValidatorConstants.DATE_TO + ValidatorConstants.EXCEEDS_MAX_ROWS
             );
         }
     }
@@ -0,0 +1,30 @@
+package br.com.sw2you.realmeet.report.validator;
+
+import br.com.sw2you.realmeet.report.model.AbstractReportData;
+import br.com.sw2you.realmeet.report.model.RoomUsageReportData;
+import br.com.sw2you.realmeet.util.Constants;
+import br.com.sw2you.realmeet.validator.ValidationErrors;
+import br.com.sw2you.realmeet.validator.ValidatorUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RoomUsageReportValidator extends AbstractReportValidator {
+    private final int maxMonthsInterval;
+
+    public RoomUsageReportValidator(@Value(Constants.ROOM_USAGE_REPORT_MAX_MONTHS_INTERVAL) int maxMonthsInterval) {
+        this.maxMonthsInterval = maxMonthsInterval;
+    }
+
+    @Override
+    protected void validate(AbstractReportData reportData, ValidationErrors validationErrors) {
+        var roomUsageReportData = (RoomUsageReportData) reportData;
+
+        ValidatorUtils.validateDateRange(
+            roomUsageReportData.getDateFrom(),
+            roomUsageReportData.getDateTo(),
+            maxMonthsInterval,
+            validationErrors
+        );
+    }
+}
@@ -0,0 +1,49 @@
+package br.com.sw2you.realmeet.report.virtualizer;
+
+import br.com.sw2you.realmeet.config.properties.ReportVirtualizerConfigProperties;
+import br.com.sw2you.realmeet.report.enumeration.ReportHandlerType;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.Objects;
+import java.util.Optional;
+import net.sf.jasperreports.engine.fill.JRAbstractLRUVirtualizer;
+import net.sf.jasperreports.engine.fill.JRSwapFileVirtualizer;
+import net.sf.jasperreports.engine.util.JRSwapFile;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ReportVirtualizerFactory {
+    private final ReportVirtualizerConfigProperties reportVirtualizerConfigProperties;
+
+    public ReportVirtualizerFactory(ReportVirtualizerConfigProperties reportVirtualizerConfigProperties) {
+        this.reportVirtualizerConfigProperties = reportVirtualizerConfigProperties;
+    }
+
+    public Optional<JRAbstractLRUVirtualizer> createVirtualizer(ReportHandlerType reportHandlerType) {
+        var reportVirtualizer = reportVirtualizerConfigProperties.getVirtualizer(reportHandlerType);
+
+        if (Objects.isNull(reportVirtualizer)) {
+            return Optional.empty();
+        }
+
+        var directory = reportVirtualizerConfigProperties.getDirectory();
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return Optional.of(
+            new JRSwapFileVirtualizer(
+                reportVirtualizer.getMaxPages(),
+                new JRSwapFile(
+                    directory.toString(),
+                    reportVirtualizer.getBlockSize(),
+                    reportVirtualizer.getMinGrowCount()
+                ),
+                true
+            )
+        );
+    }
+}
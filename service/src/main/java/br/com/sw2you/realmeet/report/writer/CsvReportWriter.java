@@ -0,0 +1,82 @@
+package br.com.sw2you.realmeet.report.writer;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+public class CsvReportWriter implements TabularReportWriter {
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final String LINE_SEPARATOR = "\r\n";
+    private static final char FORMULA_ESCAPE = '\'';
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private final Writer writer;
+
+    public CsvReportWriter(OutputStream out, Object[] header) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writeRow(header);
+    }
+
+    @Override
+    public void writeRow(Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(SEPARATOR);
+            }
+            writeValue(values[i]);
+        }
+        writer.write(LINE_SEPARATOR);
+    }
+
+    @Override
+    public void close() throws IOException {
+        // The output stream belongs to the caller, so it is flushed but not closed
+        writer.flush();
+    }
+
+    private void writeValue(Object value) throws IOException {
+        if (Objects.isNull(value)) {
+            return;
+        }
+
+        // Text such as an employee name starting with '=' would otherwise run as a formula when opened in a spreadsheet
+        var text = value.toString();
+        var formula = !(value instanceof Number) && isFormula(text);
+        if (!formula && !needsQuoting(text)) {
+            writer.write(text);
+            return;
+        }
+
+        writer.write(QUOTE);
+        if (formula) {
+            writer.write(FORMULA_ESCAPE);
+        }
+        for (int i = 0; i < text.length(); i++) {
+            var c = text.charAt(i);
+            if (c == QUOTE) {
+                writer.write(QUOTE);
+            }
+            writer.write(c);
+        }
+        writer.write(QUOTE);
+    }
+
+    private static boolean isFormula(String text) {
+        return !text.isEmpty() && FORMULA_PREFIXES.indexOf(text.charAt(0)) >= 0;
+    }
+
+    private static boolean needsQuoting(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            var c = text.charAt(i);
+            if (c == SEPARATOR || c == QUOTE || c == '\r' || c == '\n') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,10 @@
+package br.com.sw2you.realmeet.report.writer;
+
+import java.io.IOException;
+
+public interface TabularReportWriter extends AutoCloseable {
+    void writeRow(Object[] values) throws IOException;
+
+    @Override
+    void close() throws IOException;
+}
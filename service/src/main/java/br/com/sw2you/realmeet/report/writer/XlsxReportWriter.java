@@ -0,0 +1,217 @@
+package br.com.sw2you.realmeet.report.writer;
+
+import java.io.BufferedWriter;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+public class XlsxReportWriter implements TabularReportWriter {
+    public static final int MAX_ROWS_PER_SHEET = 1_048_576;
+
+    private static final String SPREADSHEET_NS = "http://schemas.openxmlformats.org/spreadsheetml/2006/main";
+    private static final String RELATIONSHIPS_NS =
+        "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+    private static final String PACKAGE_RELATIONSHIPS_NS =
+        "http://schemas.openxmlformats.org/package/2006/relationships";
+    private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n";
+
+    private final ZipOutputStream zip;
+    private final Writer writer;
+    private final String sheetName;
+    private final Object[] header;
+
+    private int sheetCount;
+    private int sheetRowCount;
+
+    public XlsxReportWriter(OutputStream out, String sheetName, Object[] header) throws IOException {
+        // The output stream belongs to the caller, so closing the writer only finishes the zip
+        this.zip =
+            new ZipOutputStream(
+                new FilterOutputStream(out) {
+
+                    @Override
+                    public void write(byte[] b, int off, int len) throws IOException {
+                        out.write(b, off, len);
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        flush();
+                    }
+                }
+            );
+        this.writer = new BufferedWriter(new OutputStreamWriter(zip, StandardCharsets.UTF_8));
+        this.sheetName = sheetName;
+        this.header = header;
+        startSheet();
+    }
+
+    @Override
+    public void writeRow(Object[] values) throws IOException {
+        if (sheetRowCount == MAX_ROWS_PER_SHEET) {
+            endSheet();
+            startSheet();
+        }
+        writeCells(values);
+    }
+
+    @Override
+    public void close() throws IOException {
+        endSheet();
+        writeEntry("xl/workbook.xml", workbook());
+        writeEntry("xl/_rels/workbook.xml.rels", workbookRelationships());
+        writeEntry("_rels/.rels", packageRelationships());
+        writeEntry("[Content_Types].xml", contentTypes());
+        writer.close();
+    }
+
+    private void startSheet() throws IOException {
+        sheetCount++;
+        sheetRowCount = 0;
+        zip.putNextEntry(new ZipEntry("xl/worksheets/sheet" + sheetCount + ".xml"));
+        writer.write(XML_DECLARATION);
+        writer.write("<worksheet xmlns=\"" + SPREADSHEET_NS + "\"><sheetData>");
+        writeCells(header);
+    }
+
+    private void endSheet() throws IOException {
+        writer.write("</sheetData></worksheet>");
+        writer.flush();
+        zip.closeEntry();
+    }
+
+    private void writeCells(Object[] values) throws IOException {
+        writer.write("<row>");
+        for (Object value : values) {
+            if (Objects.isNull(value)) {
+                writer.write("<c/>");
+            } else if (value instanceof Number) {
+                writer.write("<c><v>");
+                writer.write(value.toString());
+                writer.write("</v></c>");
+            } else {
+                writer.write("<c t=\"inlineStr\"><is><t xml:space=\"preserve\">");
+                writeEscaped(value.toString());
+                writer.write("</t></is></c>");
+            }
+        }
+        writer.write("</row>");
+        sheetRowCount++;
+    }
+
+    private void writeEscaped(String text) throws IOException {
+        for (int i = 0; i < text.length(); i++) {
+            var c = text.charAt(i);
+            switch (c) {
+                case '&':
+                    writer.write("&amp;");
+                    break;
+                case '<':
+                    writer.write("&lt;");
+                    break;
+                case '>':
+                    writer.write("&gt;");
+                    break;
+                case '"':
+                    writer.write("&quot;");
+                    break;
+                default:
+                    if (c >= 0x20 || c == '\t' || c == '\n' || c == '\r') {
+                        writer.write(c);
+                    }
+            }
+        }
+    }
+
+    private void writeEntry(String name, String content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        writer.write(content);
+        writer.flush();
+        zip.closeEntry();
+    }
+
+    private String workbook() {
+        var sheets = new StringBuilder();
+        for (int i = 1; i <= sheetCount; i++) {
+            var name = sheetCount == 1 ? sheetName : sheetName + " " + i;
+            sheets
+                .append("<sheet name=\"")
+                .append(name)
+                .append("\" sheetId=\"")
+                .append(i)
+                .append("\" r:id=\"rId")
+                .append(i)
+                .append("\"/>");
+        }
+        return (
+            XML_DECLARATION +
+            "<workbook xmlns=\"" +
+            SPREADSHEET_NS +
+            "\" xmlns:r=\"" +
+            RELATIONSHIPS_NS +
+            "\"><sheets>" +
+            sheets +
+            "</sheets></workbook>"
+        );
+    }
+
+    private String workbookRelationships() {
+        var relationships = new StringBuilder();
+        for (int i = 1; i <= sheetCount; i++) {
+            relationships
+                .append("<Relationship Id=\"rId")
+                .append(i)
+                .append("\" Type=\"")
+                .append(RELATIONSHIPS_NS)
+                .append("/worksheet\" Target=\"worksheets/sheet")
+                .append(i)
+                .append(".xml\"/>");
+        }
+        return (
+            XML_DECLARATION +
+            "<Relationships xmlns=\"" +
+            PACKAGE_RELATIONSHIPS_NS +
+            "\">" +
+            relationships +
+            "</Relationships>"
+        );
+    }
+
+    private String packageRelationships() {
+        return (
+            XML_DECLARATION +
+            "<Relationships xmlns=\"" +
+            PACKAGE_RELATIONSHIPS_NS +
+            "\"><Relationship Id=\"rId1\" Type=\"" +
+            RELATIONSHIPS_NS +
+            "/officeDocument\" Target=\"xl/workbook.xml\"/></Relationships>"
+        );
+    }
+
+    private String contentTypes() {
+        var overrides = new StringBuilder();
+        for (int i = 1; i <= sheetCount; i++) {
+            overrides
+                .append("<Override PartName=\"/xl/worksheets/sheet")
+                .append(i)
+                .append(
+                    ".xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml\"/>"
+                );
+        }
+        return (
+            XML_DECLARATION +
+            "<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">" +
+            "<Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-package.relationships+xml\"/>" +
+            "<Default Extension=\"xml\" ContentType=\"application/xml\"/>" +
+            "<Override PartName=\"/xl/workbook.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml\"/>" +
+            overrides +
+            "</Types>"
+        );
+    }
+}
@@ -1,26 +1,34 @@
 package br.com.sw2you.realmeet.service;
 
+import br.com.sw2you.realmeet.api.model.AllocationChangesDTO;
 import br.com.sw2you.realmeet.api.model.AllocationDTO;
 import br.com.sw2you.realmeet.api.model.CreateAllocationDTO;
 import br.com.sw2you.realmeet.api.model.UpdateAllocationDTO;
 import br.com.sw2you.realmeet.domain.entity.Allocation;
 import br.com.sw2you.realmeet.domain.repository.AllocationRepository;
 import br.com.sw2you.realmeet.domain.repository.RoomRepository;
+import br.com.sw2you.realmeet.event.AllocationChangeEvent;
+import br.com.sw2you.realmeet.event.AllocationChangeType;
 import br.com.sw2you.realmeet.exception.AllocationCannotBeDeletedException;
 import br.com.sw2you.realmeet.exception.AllocationCannotBeUpdatedException;
 import br.com.sw2you.realmeet.exception.AllocationNotFoundException;
 import br.com.sw2you.realmeet.exception.RoomNotFoundException;
 import br.com.sw2you.realmeet.mapper.AllocationMapper;
+import br.com.sw2you.realmeet.report.cache.ReportCache;
+import br.com.sw2you.realmeet.report.enumeration.ReportHandlerType;
 import br.com.sw2you.realmeet.util.Constants;
 import br.com.sw2you.realmeet.util.DateUtils;
 import br.com.sw2you.realmeet.util.PageUtils;
 import br.com.sw2you.realmeet.validator.AllocationValidator;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,7 +40,12 @@ public class AllocationService {
     private final RoomRepository roomRepository;
     private final AllocationValidator allocationValidator;
     private final int maxLimit;
+    private final int maxSyncLimit;
+    private final Duration syncSettleDelay;
     private final NotificationEmailService notificationEmailService;
+    private final ReportCache reportCache;
+    private final RoomUsageService roomUsageService;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     public AllocationService(
         NotificationEmailService notificationEmailService,
@@ -40,16 +53,27 @@ public class AllocationService {
         AllocationMapper allocationMapper,
         RoomRepository roomRepository,
         AllocationValidator allocationValidator,
-        @Value(Constants.ALLOCATIONS_MAX_FILTER_LIMIT) int maxLimit
+        ReportCache reportCache,
+        RoomUsageService roomUsageService,
+        ApplicationEventPublisher applicationEventPublisher,
+        @Value(Constants.ALLOCATIONS_MAX_FILTER_LIMIT) int maxLimit,
+        @Value(Constants.ALLOCATIONS_MAX_SYNC_LIMIT) int maxSyncLimit,
+        @Value(Constants.ALLOCATIONS_SYNC_SETTLE_DELAY) Duration syncSettleDelay
     ) {
         this.notificationEmailService = notificationEmailService;
+        this.reportCache = reportCache;
+        this.roomUsageService = roomUsageService;
+        this.applicationEventPublisher = applicationEventPublisher;
         this.allocationRepository = allocationRepository;
         this.allocationMapper = allocationMapper;
         this.roomRepository = roomRepository;
         this.allocationValidator = allocationValidator;
         this.maxLimit = maxLimit;
+        this.maxSyncLimit = maxSyncLimit;
+        this.syncSettleDelay = syncSettleDelay;
     }
 
+    @Transactional
     public AllocationDTO createAllocation(CreateAllocationDTO createAllocationDTO) {
         var room = roomRepository
             .findById(createAllocationDTO.getRoomId())
@@ -57,10 +81,15 @@ public class AllocationService {
         allocationValidator.validate(createAllocationDTO);
         var allocation = allocationMapper.CreateAllocationDTOtoAllocation(createAllocationDTO, room);
         allocationRepository.save(allocation);
+        roomUsageService.addAllocation(allocation);
+        invalidateAllocationReports(allocation.getStartAt(), allocation.getEndAt());
         notificationEmailService.notifyAllocationCreated(allocation);
-        return allocationMapper.allocationToAllocationDto(allocation);
+        var allocationDTO = allocationMapper.allocationToAllocationDto(allocation);
+        publishChange(AllocationChangeType.CREATED, allocation, allocationDTO);
+        return allocationDTO;
     }
 
+    @Transactional
     public void deleteAllocation(Long id) {
         var allocation = getAllocationOrThrow(id);
 
@@ -68,8 +97,12 @@ public class AllocationService {
             throw new AllocationCannotBeDeletedException(id);
         }
 
-        allocationRepository.delete(allocation);
+        // Kept as a tombstone so delta syncs can report the deletion
+        allocationRepository.softDeleteAllocation(id, DateUtils.now());
+        roomUsageService.removeAllocation(allocation);
+        invalidateAllocationReports(allocation.getStartAt(), allocation.getEndAt());
         notificationEmailService.notifyAllocationDeleted(allocation);
+        publishChange(AllocationChangeType.DELETED, allocation, null);
     }
 
     @Transactional
@@ -84,9 +117,20 @@ public class AllocationService {
             allocationId,
             updateAllocationDTO.getSubject(),
             updateAllocationDTO.getStartAt(),
-            updateAllocationDTO.getEndAt()
+            updateAllocationDTO.getEndAt(),
+            DateUtils.now()
+        );
+        var updatedAllocation = getAllocationOrThrow(allocationId);
+        roomUsageService.removeAllocation(allocation);
+        roomUsageService.addAllocation(updatedAllocation);
+        invalidateAllocationReports(allocation.getStartAt(), allocation.getEndAt());
+        invalidateAllocationReports(updateAllocationDTO.getStartAt(), updateAllocationDTO.getEndAt());
+        notificationEmailService.notifyAllocationUpdated(updatedAllocation);
+        publishChange(
+            AllocationChangeType.UPDATED,
+            updatedAllocation,
+            allocationMapper.allocationToAllocationDto(updatedAllocation)
         );
-        notificationEmailService.notifyAllocationUpdated(getAllocationOrThrow(allocationId));
     }
 
     public List<AllocationDTO> listAllocations(
@@ -113,6 +157,71 @@ public class AllocationService {
             .collect(Collectors.toList());
     }
 
+    public AllocationChangesDTO listAllocationChanges(OffsetDateTime since, Long sinceId, Integer limit) {
+        int definedLimit = Objects.isNull(limit) ? maxSyncLimit : Math.max(1, Math.min(limit, maxSyncLimit));
+        long definedSinceId = Objects.isNull(sinceId) ? 0L : sinceId;
+
+        // updated_at is stamped before commit, so a slow transaction can become visible after a newer one was
+        // synced. Only changes older than the settle delay are returned, keeping the watermark behind any of them.
+        var until = DateUtils.now().minus(syncSettleDelay);
+
+        // One extra row tells whether the client has to ask for another page
+        var changes = allocationRepository.findChangedSince(since, definedSinceId, until, definedLimit + 1);
+        var hasMore = changes.size() > definedLimit;
+        var page = hasMore ? changes.subList(0, definedLimit) : changes;
+        var last = page.isEmpty() ? null : page.get(page.size() - 1);
+
+        return new AllocationChangesDTO()
+            .allocations(
+                page
+                    .stream()
+                    .filter(a -> Objects.isNull(a.getDeletedAt()))
+                    .map(allocationMapper::allocationToAllocationDto)
+                    .collect(Collectors.toList())
+            )
+            .deletedAllocations(
+                page
+                    .stream()
+                    .filter(a -> Objects.nonNull(a.getDeletedAt()))
+                    .map(allocationMapper::allocationToAllocationTombstoneDto)
+                    .collect(Collectors.toList())
+            )
+            .watermark(Objects.isNull(last) ? since : last.getUpdatedAt())
+            .watermarkId(Objects.isNull(last) ? definedSinceId : last.getId())
+            .hasMore(hasMore);
+    }
+
+    private void invalidateAllocationReports(OffsetDateTime startAt, OffsetDateTime endAt) {
+        // Report ranges are matched with offset-less dates, so widen by a day to cover any time zone.
+        for (ReportHandlerType reportHandlerType : List.of(
+            ReportHandlerType.ALLOCATION,
+            ReportHandlerType.ROOM_USAGE
+        )) {
+            reportCache.invalidate(
+                reportHandlerType,
+                startAt.toLocalDate().minusDays(1),
+                endAt.toLocalDate().plusDays(1)
+            );
+        }
+    }
+
+    private void publishChange(
+        AllocationChangeType allocationChangeType,
+        Allocation allocation,
+        AllocationDTO allocationDTO
+    ) {
+        // Delivered to stream subscribers only once the transaction commits
+        applicationEventPublisher.publishEvent(
+            AllocationChangeEvent
+                .newAllocationChangeEventBuilder()
+                .type(allocationChangeType)
+                .allocationId(allocation.getId())
+                .roomId(allocation.getRoom().getId())
+                .allocation(allocationDTO)
+                .build()
+        );
+    }
+
     private boolean isAllocationInThePast(Allocation allocation) {
         return allocation.getEndAt().isBefore(DateUtils.now());
     }
@@ -0,0 +1,132 @@
+package br.com.sw2you.realmeet.service;
+
+import br.com.sw2you.realmeet.config.properties.IdempotencyConfigProperties;
+import br.com.sw2you.realmeet.exception.IdempotencyKeyReusedException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+@Service
+public class IdempotencyService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(IdempotencyService.class);
+
+    private final long ttlNanos;
+    private final int maxEntries;
+    // Every entry lives for the same TTL, so insertion order is also expiration order
+    private final LinkedHashMap<IdempotencyKey, IdempotentResponse> responses = new LinkedHashMap<>();
+
+    public IdempotencyService(IdempotencyConfigProperties idempotencyConfigProperties) {
+        this.ttlNanos = idempotencyConfigProperties.getTtl().toNanos();
+        this.maxEntries = idempotencyConfigProperties.getMaxEntries();
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> execute(
+        String clientId,
+        String idempotencyKey,
+        List<Object> request,
+        Supplier<CompletableFuture<T>> operation
+    ) {
+        if (Objects.isNull(idempotencyKey)) {
+            return operation.get();
+        }
+
+        var key = new IdempotencyKey(clientId, idempotencyKey);
+        var response = new IdempotentResponse(request, System.nanoTime() + ttlNanos);
+        var existing = putIfAbsent(key, response);
+
+        if (Objects.nonNull(existing)) {
+            if (!existing.request.equals(request)) {
+                throw new IdempotencyKeyReusedException(
+                    "Idempotency key " + idempotencyKey + " was already used for a different request"
+                );
+            }
+            LOGGER.info("Replaying response for idempotency key {}", idempotencyKey);
+            return (CompletableFuture<T>) existing.future;
+        }
+
+        // Retries that arrive while the first request is running wait for its response instead of running again
+        try {
+            operation
+                .get()
+                .whenComplete(
+                    (result, error) -> {
+                        if (Objects.nonNull(error)) {
+                            remove(key, response);
+                            response.future.completeExceptionally(error);
+                        } else {
+                            response.future.complete(result);
+                        }
+                    }
+                );
+        } catch (RuntimeException e) {
+            remove(key, response);
+            response.future.completeExceptionally(e);
+            throw e;
+        }
+        return (CompletableFuture<T>) response.future;
+    }
+
+    public synchronized int size() {
+        return responses.size();
+    }
+
+    private synchronized IdempotentResponse putIfAbsent(IdempotencyKey key, IdempotentResponse response) {
+        var now = System.nanoTime();
+        var iterator = responses.values().iterator();
+        while (iterator.hasNext() && iterator.next().expiresAt - now <= 0) {
+            iterator.remove();
+        }
+
+        var existing = responses.putIfAbsent(key, response);
+        if (Objects.isNull(existing) && responses.size() > maxEntries) {
+            iterator = responses.values().iterator();
+            iterator.next();
+            iterator.remove();
+        }
+        return existing;
+    }
+
+    private synchronized void remove(IdempotencyKey key, IdempotentResponse response) {
+        responses.remove(key, response);
+    }
+
+    private static class IdempotencyKey {
+        private final String clientId;
+        private final String idempotencyKey;
+
+        IdempotencyKey(String clientId, String idempotencyKey) {
+            this.clientId = clientId;
+            this.idempotencyKey = idempotencyKey;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            IdempotencyKey that = (IdempotencyKey) o;
+            return Objects.equals(clientId, that.clientId) && Objects.equals(idempotencyKey, that.idempotencyKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(clientId, idempotencyKey);
+        }
+    }
+
+    private static class IdempotentResponse {
+        private final List<Object> request;
+        private final long expiresAt;
+        private final CompletableFuture<Object> future = new CompletableFuture<>();
+
+        IdempotentResponse(List<Object> request, long expiresAt) {
+            this.request = request;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -5,7 +5,10 @@ import br.com.sw2you.realmeet.email.EmailInfoGenerator;
 import br.com.sw2you.realmeet.email.EmailSender;
 import br.com.sw2you.realmeet.email.TemplateType;
 import br.com.sw2you.realmeet.util.Constants;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -34,9 +37,21 @@ public class NotificationEmailService {
         emailSender.send(
             emailInfoGenerator.createEmailInfo(
                 allocation.getEmployee().getEmail(),
+                getAttendeesToNotify(allocation),
                 templateType,
                 Map.of(Constants.ALLOCATION, allocation)
             )
         );
     }
+
+    private List<String> getAttendeesToNotify(Allocation allocation) {
+        if (Objects.isNull(allocation.getAttendees())) {
+            return null;
+        }
+        return allocation
+            .getAttendees()
+            .stream()
+            .filter(a -> !a.equalsIgnoreCase(allocation.getEmployee().getEmail()))
+            .collect(Collectors.toList());
+    }
 }
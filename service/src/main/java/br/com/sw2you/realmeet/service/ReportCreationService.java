@@ -1,66 +1,278 @@
 package br.com.sw2you.realmeet.service;
 
+import br.com.sw2you.realmeet.config.properties.ReportCompressionConfigProperties;
+import br.com.sw2you.realmeet.domain.entity.StoredReport;
+import br.com.sw2you.realmeet.report.cache.ReportCache;
+import br.com.sw2you.realmeet.report.cache.ReportCacheKey;
+import br.com.sw2you.realmeet.report.enumeration.ReportCompression;
 import br.com.sw2you.realmeet.report.enumeration.ReportFormat;
 import br.com.sw2you.realmeet.report.enumeration.ReportHandlerType;
+import br.com.sw2you.realmeet.report.handler.AbstractReportHandler;
+import br.com.sw2you.realmeet.report.instrumentation.ReportInstrumentation;
+import br.com.sw2you.realmeet.report.limiter.ReportFillLimiter;
 import br.com.sw2you.realmeet.report.model.AbstractReportData;
-import br.com.sw2you.realmeet.report.model.AllocationReportData;
 import br.com.sw2you.realmeet.report.model.GeneratedReport;
+import br.com.sw2you.realmeet.report.model.ReportMetrics;
 import br.com.sw2you.realmeet.report.resolver.ReportHandlerResolver;
+import br.com.sw2you.realmeet.report.writer.CountingOutputStream;
 import br.com.sw2you.realmeet.util.Constants;
-import java.time.LocalDate;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
 import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 public class ReportCreationService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReportCreationService.class);
+
     private final ReportHandlerResolver reportHandlerResolver;
     private final ReportDispatcherService reportDispatcherService;
+    private final ReportCache reportCache;
+    private final ReportFillLimiter reportFillLimiter;
+    private final ReportStoreService reportStoreService;
+    private final ReportCompressionConfigProperties reportCompressionConfigProperties;
+    private final ReportInstrumentation reportInstrumentation;
+    private final TransactionTemplate transactionTemplate;
 
     public ReportCreationService(
         ReportHandlerResolver reportHandlerResolver,
-        ReportDispatcherService reportDispatcherService
+        ReportDispatcherService reportDispatcherService,
+        ReportCache reportCache,
+        ReportFillLimiter reportFillLimiter,
+        ReportStoreService reportStoreService,
+        ReportCompressionConfigProperties reportCompressionConfigProperties,
+        ReportInstrumentation reportInstrumentation,
+        PlatformTransactionManager transactionManager
     ) {
         this.reportHandlerResolver = reportHandlerResolver;
         this.reportDispatcherService = reportDispatcherService;
+        this.reportCache = reportCache;
+        this.reportFillLimiter = reportFillLimiter;
+        this.reportStoreService = reportStoreService;
+        this.reportCompressionConfigProperties = reportCompressionConfigProperties;
+        this.reportInstrumentation = reportInstrumentation;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    public void validateReport(AbstractReportData reportData, ReportHandlerType reportHandlerType) {
+        var validationStart = System.nanoTime();
+        try {
+            reportHandlerResolver.resolveReportHandler(reportHandlerType).getReportValidator().validate(reportData);
+        } finally {
+            reportInstrumentation.recordValidation(reportHandlerType, System.nanoTime() - validationStart);
+        }
     }
 
-    @Transactional(readOnly = true)
-    public void createAllocationReport(LocalDate dateFrom, LocalDate dateTo, String email, String reportFormatStr) {
-        var allocationReportData = AllocationReportData
-            .newAllocationDataReportBuilder()
-            .dateFrom(dateFrom)
-            .dateTo(dateTo)
-            .email(email)
-            .build();
+    public ReportMetrics createReport(
+        AbstractReportData reportData,
+        ReportFormat reportFormat,
+        ReportHandlerType reportHandlerType,
+        Path reportFile
+    ) {
+        var reportHandler = reportHandlerResolver.resolveReportHandler(reportHandlerType);
 
-        createReport(email, reportFormatStr, allocationReportData, ReportHandlerType.ALLOCATION);
+        Optional<ReportCacheKey> cacheKey = reportHandler.getCacheKey(reportData, reportFormat);
+
+        return cacheKey
+            .map(
+                key ->
+                    reportCache.get(key, path -> writeReport(reportHandler, reportData, reportFormat, path), reportFile)
+            )
+            .orElseGet(() -> writeReport(reportHandler, reportData, reportFormat, reportFile));
     }
 
-    private void createReport(
+    public StoredReport dispatchReport(
         String email,
-        String reportFormatStr,
+        ReportFormat reportFormat,
+        ReportHandlerType reportHandlerType,
+        Path reportFile,
+        ReportMetrics reportMetrics
+    ) {
+        return dispatchReport(List.of(email), reportFormat, reportHandlerType, reportFile, reportMetrics);
+    }
+
+    public ReportCompression getReportCompression(ReportFormat reportFormat) {
+        return reportCompressionConfigProperties.getCompression(reportFormat);
+    }
+
+    public String buildFileName(ReportHandlerType reportHandlerType, ReportFormat reportFormat) {
+        return buildFileName(reportHandlerType, reportFormat, getReportCompression(reportFormat));
+    }
+
+    public String buildFileName(
+        ReportHandlerType reportHandlerType,
+        ReportFormat reportFormat,
+        ReportCompression reportCompression
+    ) {
+        return (
+            Constants.REPORT +
+            reportHandlerType.name().toLowerCase(Locale.ROOT) +
+            reportFormat.getExtension() +
+            reportCompression.getExtension()
+        );
+    }
+
+    public void createAndDispatchReport(
         AbstractReportData reportData,
-        ReportHandlerType reportHandlerType
+        ReportFormat reportFormat,
+        ReportHandlerType reportHandlerType,
+        List<String> recipients
     ) {
-        var reportFormat = ReportFormat.fromString(reportFormatStr);
-        var reportHandler = reportHandlerResolver.resolveReportHandler(reportHandlerType);
-        reportHandler.getReportValidator().validate(reportData);
-        var bytes = reportHandler.createReportBytes(reportData, reportFormat);
-
-        reportDispatcherService.dispatch(
-            GeneratedReport
-                .newGeneratedReportBuilder()
-                .emailTo(email)
-                .reportFormat(reportFormat)
-                .templateType(reportHandler.getTemplateType())
-                .bytes(bytes)
-                .fileName(buildFileName(reportHandlerType, reportFormat))
-                .build()
+        validateReport(reportData, reportHandlerType);
+        var reportFile = createTempFile(reportHandlerType, reportFormat);
+
+        try {
+            var reportMetrics = createReport(reportData, reportFormat, reportHandlerType, reportFile);
+            dispatchReport(recipients, reportFormat, reportHandlerType, reportFile, reportMetrics);
+        } finally {
+            deleteTempFile(reportFile);
+        }
+    }
+
+    private StoredReport dispatchReport(
+        List<String> recipients,
+        ReportFormat reportFormat,
+        ReportHandlerType reportHandlerType,
+        Path reportFile,
+        ReportMetrics reportMetrics
+    ) {
+        var dispatchStart = System.nanoTime();
+
+        // The report is stored once and every recipient gets a link to the same file
+        var reportCompression = getReportCompression(reportFormat);
+        var storedReport = reportStoreService.store(
+            reportFile,
+            reportHandlerType,
+            reportFormat,
+            reportCompression,
+            buildFileName(reportHandlerType, reportFormat, reportCompression)
+        );
+        var templateType = reportHandlerResolver.resolveReportHandler(reportHandlerType).getTemplateType();
+        RuntimeException failure = null;
+        var failedRecipients = 0;
+
+        for (String recipient : recipients) {
+            try {
+                reportDispatcherService.dispatch(
+                    GeneratedReport
+                        .newGeneratedReportBuilder()
+                        .emailTo(recipient)
+                        .reportFormat(reportFormat)
+                        .reportCompression(reportCompression)
+                        .templateType(templateType)
+                        .path(Paths.get(storedReport.getPath()))
+                        .fileName(storedReport.getFileName())
+                        .downloadUrl(reportStoreService.getDownloadUrl(storedReport))
+                        .expiresAt(storedReport.getExpiresAt())
+                        .build()
+                );
+            } catch (RuntimeException e) {
+                LOGGER.error("Could not dispatch {} report to {}", reportHandlerType, recipient, e);
+                failure = Objects.isNull(failure) ? e : failure;
+                failedRecipients++;
+            }
+        }
+
+        reportInstrumentation.recordDispatch(
+            reportHandlerType,
+            reportFormat,
+            reportMetrics,
+            recipients.size(),
+            failedRecipients,
+            System.nanoTime() - dispatchStart
+        );
+
+        if (Objects.nonNull(failure)) {
+            throw failure;
+        }
+        return storedReport;
+    }
+
+    private ReportMetrics writeReport(
+        AbstractReportHandler reportHandler,
+        AbstractReportData reportData,
+        ReportFormat reportFormat,
+        Path reportFile
+    ) {
+        // The read-only transaction is only opened once a fill permit is held, so requests queued on the limiter or
+        // waiting on another caller's cache fill don't hold a pooled connection. Partitions fill on other threads in
+        // their own transactions, so a partitioned report opens none here at all
+        if (reportHandler.isPartitioned(reportData, reportFormat)) {
+            return reportFillLimiter.execute(() -> fillReport(reportHandler, reportData, reportFormat, reportFile));
+        }
+        return reportFillLimiter.execute(
+            () -> transactionTemplate.execute(status -> fillReport(reportHandler, reportData, reportFormat, reportFile))
         );
     }
 
-    private String buildFileName(ReportHandlerType reportHandlerType, ReportFormat reportFormat) {
-        return (Constants.REPORT + reportHandlerType.name().toLowerCase(Locale.ROOT) + reportFormat.getExtension());
+    private ReportMetrics fillReport(
+        AbstractReportHandler reportHandler,
+        AbstractReportData reportData,
+        ReportFormat reportFormat,
+        Path reportFile
+    ) {
+        var reportCompression = getReportCompression(reportFormat);
+        var entryName = buildFileName(reportHandler.getReportHandlerType(), reportFormat, ReportCompression.NONE);
+
+        // The exporter writes straight into the compressing stream, so the raw output never hits the disk
+        try (
+            var out = new CountingOutputStream(
+                reportCompression.compress(new BufferedOutputStream(Files.newOutputStream(reportFile)), entryName)
+            )
+        ) {
+            var reportMetrics = reportHandler.createReport(reportData, reportFormat, out);
+            out.close();
+
+            var writtenReportMetrics = ReportMetrics
+                .newReportMetricsBuilder()
+                .rowCount(reportMetrics.getRowCount())
+                .pageCount(reportMetrics.getPageCount())
+                .fetchMillis(reportMetrics.getFetchMillis())
+                .fillMillis(reportMetrics.getFillMillis())
+                .exportMillis(reportMetrics.getExportMillis())
+                .reportCompression(reportCompression)
+                .outputBytes(out.getCount())
+                .sizeBytes(Files.size(reportFile))
+                .build();
+            reportInstrumentation.recordGeneration(
+                reportHandler.getReportHandlerType(),
+                reportFormat,
+                writtenReportMetrics
+            );
+            return writtenReportMetrics;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path createTempFile(ReportHandlerType reportHandlerType, ReportFormat reportFormat) {
+        try {
+            return Files.createTempFile(
+                Constants.REPORT + reportHandlerType.name().toLowerCase(Locale.ROOT),
+                reportFormat.getExtension()
+            );
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void deleteTempFile(Path reportFile) {
+        try {
+            Files.deleteIfExists(reportFile);
+        } catch (IOException e) {
+            LOGGER.warn("Could not delete temporary report file {}", reportFile, e);
+        }
     }
 }
@@ -2,10 +2,9 @@ package br.com.sw2you.realmeet.service;
 
 import br.com.sw2you.realmeet.email.EmailInfoGenerator;
 import br.com.sw2you.realmeet.email.EmailSender;
-import br.com.sw2you.realmeet.email.model.Attachment;
 import br.com.sw2you.realmeet.report.model.GeneratedReport;
-import java.io.ByteArrayInputStream;
-import java.util.List;
+import br.com.sw2you.realmeet.util.Constants;
+import java.util.Map;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -23,15 +22,7 @@ public class ReportDispatcherService {
             emailInfoGenerator.createEmailInfo(
                 generatedReport.getEmailTo(),
                 generatedReport.getTemplateType(),
-                null,
-                List.of(
-                    Attachment
-                        .newAttachmentBuilder()
-                        .fileName(generatedReport.getFileName())
-                        .contentType(generatedReport.getReportFormat().getContentType())
-                        .inputStream(new ByteArrayInputStream(generatedReport.getBytes()))
-                        .build()
-                )
+                Map.of(Constants.GENERATED_REPORT, generatedReport)
             )
         );
     }
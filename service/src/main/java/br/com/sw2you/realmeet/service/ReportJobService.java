@@ -0,0 +1,296 @@
+package br.com.sw2you.realmeet.service;
+
+import br.com.sw2you.realmeet.api.model.ReportJobDTO;
+import br.com.sw2you.realmeet.domain.entity.ReportJob;
+import br.com.sw2you.realmeet.domain.repository.ReportJobRepository;
+import br.com.sw2you.realmeet.exception.ReportJobLimitExceededException;
+import br.com.sw2you.realmeet.exception.ReportJobNotFoundException;
+import br.com.sw2you.realmeet.exception.ReportJobNotReadyException;
+import br.com.sw2you.realmeet.mapper.ReportJobMapper;
+import br.com.sw2you.realmeet.report.enumeration.ReportFormat;
+import br.com.sw2you.realmeet.report.enumeration.ReportHandlerType;
+import br.com.sw2you.realmeet.report.enumeration.ReportJobStatus;
+import br.com.sw2you.realmeet.report.model.GeneratedReport;
+import br.com.sw2you.realmeet.report.model.ReportDataFactory;
+import br.com.sw2you.realmeet.util.Constants;
+import br.com.sw2you.realmeet.util.DateUtils;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+public class ReportJobService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReportJobService.class);
+    private static final int ERROR_MESSAGE_MAX_LENGTH = 255;
+    private static final List<ReportJobStatus> IN_FLIGHT_STATUSES = List.of(
+        ReportJobStatus.PENDING,
+        ReportJobStatus.RUNNING
+    );
+
+    private final ReportJobRepository reportJobRepository;
+    private final ReportCreationService reportCreationService;
+    private final ReportJobMapper reportJobMapper;
+    private final Executor reportJobsExecutor;
+    private final Path reportsDirectory;
+    private final int maxInFlightPerRequester;
+    private final Duration lease;
+    // Jobs queued or running on this node, whose leases it keeps renewing
+    private final Set<Long> localReportJobIds = ConcurrentHashMap.newKeySet();
+
+    public ReportJobService(
+        ReportJobRepository reportJobRepository,
+        ReportCreationService reportCreationService,
+        ReportJobMapper reportJobMapper,
+        @Qualifier("reportJobsExecutor") Executor reportJobsExecutor,
+        @Value(Constants.REPORT_JOBS_DIRECTORY) String reportsDirectory,
+        @Value(Constants.REPORT_JOBS_MAX_IN_FLIGHT_PER_REQUESTER) int maxInFlightPerRequester,
+        @Value(Constants.REPORT_JOBS_LEASE) Duration lease
+    ) {
+        this.reportJobRepository = reportJobRepository;
+        this.reportCreationService = reportCreationService;
+        this.reportJobMapper = reportJobMapper;
+        this.reportJobsExecutor = reportJobsExecutor;
+        this.reportsDirectory = Paths.get(reportsDirectory);
+        this.maxInFlightPerRequester = maxInFlightPerRequester;
+        this.lease = lease;
+    }
+
+    public ReportJobDTO createAllocationReportJob(
+        String apiKey,
+        LocalDate dateFrom,
+        LocalDate dateTo,
+        String email,
+        String reportFormatStr
+    ) {
+        return createReportJob(apiKey, ReportHandlerType.ALLOCATION, dateFrom, dateTo, email, reportFormatStr);
+    }
+
+    public ReportJobDTO createRoomUsageReportJob(
+        String apiKey,
+        LocalDate dateFrom,
+        LocalDate dateTo,
+        String email,
+        String reportFormatStr
+    ) {
+        return createReportJob(apiKey, ReportHandlerType.ROOM_USAGE, dateFrom, dateTo, email, reportFormatStr);
+    }
+
+    public ReportJobDTO getReportJob(Long id) {
+        return reportJobMapper.reportJobToReportJobDto(getReportJobOrThrow(id));
+    }
+
+    public GeneratedReport getGeneratedReport(Long id) {
+        var reportJob = getReportJobOrThrow(id);
+
+        if (reportJob.getStatus() != ReportJobStatus.COMPLETED || !Files.exists(Paths.get(reportJob.getFilePath()))) {
+            throw new ReportJobNotReadyException("Report job " + id + " is " + reportJob.getStatus());
+        }
+
+        return GeneratedReport
+            .newGeneratedReportBuilder()
+            .path(Paths.get(reportJob.getFilePath()))
+            .reportFormat(reportJob.getReportFormat())
+            .reportCompression(reportJob.getReportCompression())
+            .fileName(
+                reportCreationService.buildFileName(
+                    reportJob.getReportType(),
+                    reportJob.getReportFormat(),
+                    reportJob.getReportCompression()
+                )
+            )
+            .emailTo(reportJob.getEmail())
+            .build();
+    }
+
+    @Scheduled(
+        initialDelayString = Constants.REPORT_JOBS_SWEEP_INTERVAL,
+        fixedDelayString = Constants.REPORT_JOBS_SWEEP_INTERVAL
+    )
+    public void sweepReportJobs() {
+        var now = DateUtils.now();
+
+        if (!localReportJobIds.isEmpty()) {
+            reportJobRepository.renewLeases(Set.copyOf(localReportJobIds), now.plus(lease));
+        }
+
+        // Only jobs whose node stopped renewing their lease are taken over; pending jobs are left alone for a lease
+        // period so the node that queued them gets to claim them first
+        var expired = reportJobRepository.requeueExpired(now);
+        var staleIds = reportJobRepository
+            .findStalePendingIds(now.minus(lease))
+            .stream()
+            .filter(id -> !localReportJobIds.contains(id))
+            .collect(Collectors.toList());
+
+        if (!staleIds.isEmpty()) {
+            LOGGER.info("Resuming {} stale report job(s) ({} with an expired lease)", staleIds.size(), expired);
+        }
+        staleIds.forEach(this::submit);
+    }
+
+    public void runReportJob(Long id) {
+        try {
+            runClaimedReportJob(id);
+        } finally {
+            localReportJobIds.remove(id);
+        }
+    }
+
+    private void runClaimedReportJob(Long id) {
+        var now = DateUtils.now();
+        if (reportJobRepository.claim(id, now, now.plus(lease)) == 0) {
+            LOGGER.info("Report job {} was already claimed", id);
+            return;
+        }
+
+        var reportJob = getReportJobOrThrow(id);
+        var reportFile = reportsDirectory.resolve(
+            id + "_" + reportCreationService.buildFileName(reportJob.getReportType(), reportJob.getReportFormat())
+        );
+
+        try {
+            Files.createDirectories(reportsDirectory);
+            var reportMetrics = reportCreationService.createReport(
+                ReportDataFactory.newReportData(
+                    reportJob.getReportType(),
+                    reportJob.getDateFrom(),
+                    reportJob.getDateTo(),
+                    reportJob.getEmail()
+                ),
+                reportJob.getReportFormat(),
+                reportJob.getReportType(),
+                reportFile
+            );
+            var storedReport = reportCreationService.dispatchReport(
+                reportJob.getEmail(),
+                reportJob.getReportFormat(),
+                reportJob.getReportType(),
+                reportFile,
+                reportMetrics
+            );
+            // The stored copy has a retention sweep, so the job points at it and its own file goes away
+            reportJob.complete(storedReport.getPath(), reportMetrics);
+            LOGGER.info("Report job {} completed: {}", id, reportJob);
+        } catch (IOException e) {
+            failReportJob(reportJob, new UncheckedIOException(e));
+        } catch (RuntimeException e) {
+            failReportJob(reportJob, e);
+        } finally {
+            deleteQuietly(reportFile);
+        }
+
+        reportJobRepository.save(reportJob);
+    }
+
+    private ReportJobDTO createReportJob(
+        String apiKey,
+        ReportHandlerType reportType,
+        LocalDate dateFrom,
+        LocalDate dateTo,
+        String email,
+        String reportFormatStr
+    ) {
+        reportCreationService.validateReport(
+            ReportDataFactory.newReportData(reportType, dateFrom, dateTo, email),
+            reportType
+        );
+        var reportFormat = ReportFormat.fromString(reportFormatStr);
+        var requestKey = String.join(
+            "|",
+            apiKey,
+            reportType.name(),
+            reportFormat.name(),
+            dateFrom.toString(),
+            dateTo.toString(),
+            email.trim().toLowerCase(Locale.ROOT)
+        );
+
+        var inFlightReportJob = reportJobRepository.findByRequestKey(requestKey);
+        if (inFlightReportJob.isPresent()) {
+            LOGGER.info("Report job {} is already in flight for {}", inFlightReportJob.get().getId(), email);
+            return reportJobMapper.reportJobToReportJobDto(inFlightReportJob.get());
+        }
+
+        // The cap is checked before the insert, so concurrent requests of one client may overshoot it slightly
+        if (reportJobRepository.countByRequester(apiKey, IN_FLIGHT_STATUSES) >= maxInFlightPerRequester) {
+            throw new ReportJobLimitExceededException(
+                "Client already has " + maxInFlightPerRequester + " report job(s) in flight"
+            );
+        }
+
+        ReportJob reportJob;
+        try {
+            reportJob =
+                reportJobRepository.save(
+                    ReportJob
+                        .newReportJobBuilder()
+                        .reportType(reportType)
+                        .reportFormat(reportFormat)
+                        .email(email)
+                        .requester(apiKey)
+                        .requestKey(requestKey)
+                        .dateFrom(dateFrom)
+                        .dateTo(dateTo)
+                        .build()
+                );
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent duplicate, possibly on another node, inserted the same in-flight request first
+            return reportJobRepository
+                .findByRequestKey(requestKey)
+                .map(reportJobMapper::reportJobToReportJobDto)
+                .orElseThrow(() -> e);
+        }
+        submit(reportJob.getId());
+
+        return reportJobMapper.reportJobToReportJobDto(reportJob);
+    }
+
+    private void submit(Long id) {
+        localReportJobIds.add(id);
+        reportJobsExecutor.execute(() -> runReportJob(id));
+    }
+
+    private void failReportJob(ReportJob reportJob, RuntimeException exception) {
+        LOGGER.error("Report job {} failed", reportJob.getId(), exception);
+        reportJob.fail(
+            StringUtils.abbreviate(
+                Objects.requireNonNullElse(exception.getMessage(), exception.getClass().getName()),
+                ERROR_MESSAGE_MAX_LENGTH
+            )
+        );
+    }
+
+    private void deleteQuietly(Path reportFile) {
+        try {
+            Files.deleteIfExists(reportFile);
+        } catch (IOException e) {
+            LOGGER.warn("Could not delete report job file {}", reportFile, e);
+        }
+    }
+
+    private ReportJob getReportJobOrThrow(Long id) {
+        Objects.requireNonNull(id);
+        return reportJobRepository
+            .findById(id)
+            .orElseThrow(() -> new ReportJobNotFoundException("Report job " + id + " not found"));
+    }
+}
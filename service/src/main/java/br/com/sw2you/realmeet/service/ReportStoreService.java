@@ -0,0 +1,147 @@
+package br.com.sw2you.realmeet.service;
+
+import br.com.sw2you.realmeet.config.properties.ReportStoreConfigProperties;
+import br.com.sw2you.realmeet.domain.entity.StoredReport;
+import br.com.sw2you.realmeet.domain.repository.StoredReportRepository;
+import br.com.sw2you.realmeet.exception.StoredReportNotFoundException;
+import br.com.sw2you.realmeet.report.enumeration.ReportCompression;
+import br.com.sw2you.realmeet.report.enumeration.ReportFormat;
+import br.com.sw2you.realmeet.report.enumeration.ReportHandlerType;
+import br.com.sw2you.realmeet.report.model.GeneratedReport;
+import br.com.sw2you.realmeet.util.Constants;
+import br.com.sw2you.realmeet.util.DateUtils;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.UUID;
+import javax.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class ReportStoreService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReportStoreService.class);
+    private static final String DOWNLOAD_PATH = "/reports/files/";
+
+    private final StoredReportRepository storedReportRepository;
+    private final Path directory;
+    private final Duration retention;
+    private final String downloadBaseUrl;
+
+    public ReportStoreService(
+        StoredReportRepository storedReportRepository,
+        ReportStoreConfigProperties reportStoreConfigProperties
+    ) {
+        this.storedReportRepository = storedReportRepository;
+        this.directory = reportStoreConfigProperties.getDirectory();
+        this.retention = reportStoreConfigProperties.getRetention();
+        this.downloadBaseUrl = reportStoreConfigProperties.getDownloadBaseUrl();
+    }
+
+    @PostConstruct
+    public void start() {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error preparing report store directory " + directory, e);
+        }
+    }
+
+    @Transactional
+    public StoredReport store(
+        Path reportFile,
+        ReportHandlerType reportHandlerType,
+        ReportFormat reportFormat,
+        ReportCompression reportCompression,
+        String fileName
+    ) {
+        var token = UUID.randomUUID().toString();
+        var storedFile = directory.resolve(token + reportFormat.getExtension() + reportCompression.getExtension());
+
+        try {
+            linkOrCopy(reportFile, storedFile);
+            return storedReportRepository.save(
+                StoredReport
+                    .newStoredReportBuilder()
+                    .token(token)
+                    .reportType(reportHandlerType)
+                    .reportFormat(reportFormat)
+                    .reportCompression(reportCompression)
+                    .fileName(fileName)
+                    .path(storedFile.toString())
+                    .sizeBytes(Files.size(storedFile))
+                    .expiresAt(DateUtils.now().plus(retention))
+                    .build()
+            );
+        } catch (IOException e) {
+            deleteQuietly(storedFile);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            deleteQuietly(storedFile);
+            throw e;
+        }
+    }
+
+    public String getDownloadUrl(StoredReport storedReport) {
+        return downloadBaseUrl + DOWNLOAD_PATH + storedReport.getToken();
+    }
+
+    @Transactional(readOnly = true)
+    public GeneratedReport getStoredReport(String token) {
+        return storedReportRepository
+            .findAvailable(token, DateUtils.now())
+            .filter(storedReport -> Files.isReadable(Paths.get(storedReport.getPath())))
+            .map(
+                storedReport ->
+                    GeneratedReport
+                        .newGeneratedReportBuilder()
+                        .path(Paths.get(storedReport.getPath()))
+                        .reportFormat(storedReport.getReportFormat())
+                        .reportCompression(storedReport.getReportCompression())
+                        .fileName(storedReport.getFileName())
+                        .expiresAt(storedReport.getExpiresAt())
+                        .build()
+            )
+            .orElseThrow(() -> new StoredReportNotFoundException("Stored report " + token + " not found"));
+    }
+
+    @Scheduled(
+        initialDelayString = Constants.REPORT_STORE_CLEANUP_INTERVAL,
+        fixedDelayString = Constants.REPORT_STORE_CLEANUP_INTERVAL
+    )
+    @Transactional
+    public void purgeExpiredReports() {
+        var expiredReports = storedReportRepository.findExpired(DateUtils.now());
+
+        if (expiredReports.isEmpty()) {
+            return;
+        }
+
+        expiredReports.forEach(storedReport -> deleteQuietly(Paths.get(storedReport.getPath())));
+        storedReportRepository.deleteAllInBatch(expiredReports);
+        LOGGER.info("Purged {} expired stored report(s)", expiredReports.size());
+    }
+
+    private void linkOrCopy(Path source, Path target) throws IOException {
+        // A hard link shares the generated bytes; different file systems fall back to a copy
+        try {
+            Files.createLink(target, source);
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(source, target);
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOGGER.warn("Could not delete stored report file {}", file, e);
+        }
+    }
+}
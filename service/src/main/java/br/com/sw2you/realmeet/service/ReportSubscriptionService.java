@@ -0,0 +1,259 @@
+package br.com.sw2you.realmeet.service;
+
+import br.com.sw2you.realmeet.api.model.CreateReportSubscriptionDTO;
+import br.com.sw2you.realmeet.api.model.ReportSubscriptionDTO;
+import br.com.sw2you.realmeet.domain.entity.ReportSubscription;
+import br.com.sw2you.realmeet.domain.repository.ReportSubscriptionRepository;
+import br.com.sw2you.realmeet.exception.ReportSubscriptionNotFoundException;
+import br.com.sw2you.realmeet.mapper.ReportSubscriptionMapper;
+import br.com.sw2you.realmeet.report.cache.ReportCacheKey;
+import br.com.sw2you.realmeet.report.enumeration.ReportFormat;
+import br.com.sw2you.realmeet.report.enumeration.ReportHandlerType;
+import br.com.sw2you.realmeet.report.enumeration.ReportPeriod;
+import br.com.sw2you.realmeet.report.model.ReportDataFactory;
+import br.com.sw2you.realmeet.util.Constants;
+import br.com.sw2you.realmeet.util.DateUtils;
+import br.com.sw2you.realmeet.validator.ReportSubscriptionValidator;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Service;
+
+@Service
+public class ReportSubscriptionService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReportSubscriptionService.class);
+
+    private final ReportSubscriptionRepository reportSubscriptionRepository;
+    private final ReportCreationService reportCreationService;
+    private final ReportSubscriptionValidator reportSubscriptionValidator;
+    private final ReportSubscriptionMapper reportSubscriptionMapper;
+    private final Executor reportJobsExecutor;
+    private final int maxAttempts;
+    private final Duration retryDelay;
+    private final Duration maxRetryDelay;
+    // Subscriptions handed to the executor and not finished yet, so later polls don't queue them again
+    private final Set<Long> queuedReportSubscriptionIds = ConcurrentHashMap.newKeySet();
+
+    public ReportSubscriptionService(
+        ReportSubscriptionRepository reportSubscriptionRepository,
+        ReportCreationService reportCreationService,
+        ReportSubscriptionValidator reportSubscriptionValidator,
+        ReportSubscriptionMapper reportSubscriptionMapper,
+        @Qualifier("reportJobsExecutor") Executor reportJobsExecutor,
+        @Value(Constants.REPORT_SUBSCRIPTIONS_MAX_ATTEMPTS) int maxAttempts,
+        @Value(Constants.REPORT_SUBSCRIPTIONS_RETRY_DELAY) Duration retryDelay,
+        @Value(Constants.REPORT_SUBSCRIPTIONS_MAX_RETRY_DELAY) Duration maxRetryDelay
+    ) {
+        this.reportSubscriptionRepository = reportSubscriptionRepository;
+        this.reportCreationService = reportCreationService;
+        this.reportSubscriptionValidator = reportSubscriptionValidator;
+        this.reportSubscriptionMapper = reportSubscriptionMapper;
+        this.reportJobsExecutor = reportJobsExecutor;
+        this.maxAttempts = maxAttempts;
+        this.retryDelay = retryDelay;
+        this.maxRetryDelay = maxRetryDelay;
+    }
+
+    public ReportSubscriptionDTO createReportSubscription(CreateReportSubscriptionDTO createReportSubscriptionDTO) {
+        reportSubscriptionValidator.validate(createReportSubscriptionDTO);
+
+        var reportType = ReportHandlerType.valueOf(createReportSubscriptionDTO.getReportType());
+        var reportPeriod = ReportPeriod.valueOf(createReportSubscriptionDTO.getReportPeriod());
+        var now = DateUtils.now();
+        reportCreationService.validateReport(
+            ReportDataFactory.newReportData(
+                reportType,
+                reportPeriod.getDateFrom(now.toLocalDate()),
+                reportPeriod.getDateTo(now.toLocalDate()),
+                createReportSubscriptionDTO.getRecipients().get(0)
+            ),
+            reportType
+        );
+
+        var reportSubscription = reportSubscriptionRepository.save(
+            ReportSubscription
+                .newReportSubscriptionBuilder()
+                .reportType(reportType)
+                .reportFormat(ReportFormat.fromString(createReportSubscriptionDTO.getReportFormat()))
+                .reportPeriod(reportPeriod)
+                .cron(createReportSubscriptionDTO.getCron())
+                .recipients(createReportSubscriptionDTO.getRecipients())
+                .nextRunAt(nextRunAt(createReportSubscriptionDTO.getCron(), now))
+                .build()
+        );
+
+        return reportSubscriptionMapper.reportSubscriptionToReportSubscriptionDto(reportSubscription);
+    }
+
+    public ReportSubscriptionDTO getReportSubscription(Long id) {
+        return reportSubscriptionMapper.reportSubscriptionToReportSubscriptionDto(getReportSubscriptionOrThrow(id));
+    }
+
+    public void deleteReportSubscription(Long id) {
+        reportSubscriptionRepository.delete(getReportSubscriptionOrThrow(id));
+    }
+
+    @Scheduled(
+        initialDelayString = Constants.REPORT_SUBSCRIPTIONS_POLL_INTERVAL,
+        fixedDelayString = Constants.REPORT_SUBSCRIPTIONS_POLL_INTERVAL
+    )
+    public void runDueReportSubscriptions() {
+        var referenceDate = DateUtils.now().toLocalDate();
+
+        // Subscriptions asking for the same report are generated once and delivered to all their recipients. Groups
+        // run on the report jobs executor so a long fill doesn't hold up the other scheduled tasks
+        reportSubscriptionRepository
+            .findDue(DateUtils.now())
+            .stream()
+            .filter(s -> queuedReportSubscriptionIds.add(s.getId()))
+            .collect(
+                Collectors.groupingBy(
+                    s ->
+                        new ReportCacheKey(
+                            s.getReportType(),
+                            s.getReportPeriod().getDateFrom(referenceDate),
+                            s.getReportPeriod().getDateTo(referenceDate),
+                            s.getReportFormat()
+                        ),
+                    LinkedHashMap::new,
+                    Collectors.toList()
+                )
+            )
+            .forEach(
+                (reportKey, reportSubscriptions) ->
+                    reportJobsExecutor.execute(
+                        () -> {
+                            try {
+                                runReportSubscriptions(reportKey, reportSubscriptions);
+                            } finally {
+                                reportSubscriptions.forEach(s -> queuedReportSubscriptionIds.remove(s.getId()));
+                            }
+                        }
+                    )
+            );
+    }
+
+    private void runReportSubscriptions(ReportCacheKey reportKey, List<ReportSubscription> dueReportSubscriptions) {
+        var now = DateUtils.now();
+
+        // Claimed right before generating, so a group waiting behind others doesn't sit on a lease. A claim only
+        // leases the subscription until its retry time; the next cron firing is set once the report is delivered,
+        // so a failed or interrupted run is picked up again when the lease expires
+        Map<Long, OffsetDateTime> leases = new HashMap<>();
+        var reportSubscriptions = dueReportSubscriptions
+            .stream()
+            .filter(
+                s -> {
+                    var leaseUntil = now.plus(retryDelay(s.getAttempts()));
+                    if (reportSubscriptionRepository.claim(s.getId(), s.getNextRunAt(), leaseUntil) != 1) {
+                        return false;
+                    }
+                    leases.put(s.getId(), leaseUntil);
+                    return true;
+                }
+            )
+            .collect(Collectors.toList());
+        if (reportSubscriptions.isEmpty()) {
+            return;
+        }
+
+        var ids = reportSubscriptions.stream().map(ReportSubscription::getId).collect(Collectors.toList());
+        var recipients = reportSubscriptions
+            .stream()
+            .flatMap(s -> s.getRecipients().stream())
+            .distinct()
+            .collect(Collectors.toList());
+
+        try {
+            reportCreationService.createAndDispatchReport(
+                ReportDataFactory.newReportData(
+                    reportKey.getReportHandlerType(),
+                    reportKey.getDateFrom(),
+                    reportKey.getDateTo(),
+                    recipients.get(0)
+                ),
+                reportKey.getReportFormat(),
+                reportKey.getReportHandlerType(),
+                recipients
+            );
+        } catch (RuntimeException e) {
+            LOGGER.error("Report subscription(s) {} failed", ids, e);
+            reportSubscriptions.forEach(s -> handleFailedRun(s, leases.get(s.getId()), now));
+            return;
+        }
+
+        var completedAt = DateUtils.now();
+        for (ReportSubscription reportSubscription : reportSubscriptions) {
+            if (
+                reportSubscriptionRepository.complete(
+                    reportSubscription.getId(),
+                    leases.get(reportSubscription.getId()),
+                    nextRunAt(reportSubscription.getCron(), completedAt),
+                    completedAt
+                ) !=
+                1
+            ) {
+                LOGGER.warn(
+                    "Report subscription {} outlived its lease (until {}) and may be delivered again",
+                    reportSubscription.getId(),
+                    leases.get(reportSubscription.getId())
+                );
+            }
+        }
+        LOGGER.info("Report subscription(s) {} delivered to {} recipient(s)", ids, recipients.size());
+    }
+
+    private void handleFailedRun(ReportSubscription reportSubscription, OffsetDateTime leaseUntil, OffsetDateTime now) {
+        var attempts = reportSubscription.getAttempts() + 1;
+
+        if (attempts >= maxAttempts) {
+            LOGGER.error(
+                "Giving up on report subscription {} after {} attempts, next run at its next schedule",
+                reportSubscription.getId(),
+                attempts
+            );
+            reportSubscriptionRepository.abandon(
+                reportSubscription.getId(),
+                leaseUntil,
+                nextRunAt(reportSubscription.getCron(), now)
+            );
+            return;
+        }
+
+        LOGGER.warn(
+            "Report subscription {} failed (attempt {} of {}), retrying at {}",
+            reportSubscription.getId(),
+            attempts,
+            maxAttempts,
+            leaseUntil
+        );
+    }
+
+    private Duration retryDelay(int attempts) {
+        var delay = retryDelay.multipliedBy(1L << Math.min(attempts, 20));
+        return delay.compareTo(maxRetryDelay) > 0 ? maxRetryDelay : delay;
+    }
+
+    private OffsetDateTime nextRunAt(String cron, OffsetDateTime now) {
+        return CronExpression.parse(cron).next(now);
+    }
+
+    private ReportSubscription getReportSubscriptionOrThrow(Long id) {
+        return reportSubscriptionRepository
+            .findById(id)
+            .orElseThrow(() -> new ReportSubscriptionNotFoundException("Report subscription not found: " + id));
+    }
+}
@@ -0,0 +1,145 @@
+package br.com.sw2you.realmeet.service;
+
+import br.com.sw2you.realmeet.api.model.RoomUsageDTO;
+import br.com.sw2you.realmeet.domain.entity.Allocation;
+import br.com.sw2you.realmeet.domain.entity.RoomUsageDaily;
+import br.com.sw2you.realmeet.domain.model.RoomUsageDailyId;
+import br.com.sw2you.realmeet.domain.repository.AllocationRepository;
+import br.com.sw2you.realmeet.domain.repository.RoomUsageDailyRepository;
+import br.com.sw2you.realmeet.mapper.RoomUsageMapper;
+import br.com.sw2you.realmeet.util.Constants;
+import br.com.sw2you.realmeet.util.DateUtils;
+import br.com.sw2you.realmeet.validator.ValidationErrors;
+import br.com.sw2you.realmeet.validator.ValidatorUtils;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class RoomUsageService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RoomUsageService.class);
+
+    private final RoomUsageDailyRepository roomUsageDailyRepository;
+    private final AllocationRepository allocationRepository;
+    private final RoomUsageMapper roomUsageMapper;
+    private final EntityManager entityManager;
+    private final int maxMonthsInterval;
+    private final boolean rebuildOnStartup;
+
+    public RoomUsageService(
+        RoomUsageDailyRepository roomUsageDailyRepository,
+        AllocationRepository allocationRepository,
+        RoomUsageMapper roomUsageMapper,
+        EntityManager entityManager,
+        @Value(Constants.ROOM_USAGE_REPORT_MAX_MONTHS_INTERVAL) int maxMonthsInterval,
+        @Value(Constants.ROOM_USAGE_REBUILD_ON_STARTUP) boolean rebuildOnStartup
+    ) {
+        this.roomUsageDailyRepository = roomUsageDailyRepository;
+        this.allocationRepository = allocationRepository;
+        this.roomUsageMapper = roomUsageMapper;
+        this.entityManager = entityManager;
+        this.maxMonthsInterval = maxMonthsInterval;
+        this.rebuildOnStartup = rebuildOnStartup;
+    }
+
+    @Transactional
+    public void addAllocation(Allocation allocation) {
+        updateRoomUsage(allocation, 1);
+    }
+
+    @Transactional
+    public void removeAllocation(Allocation allocation) {
+        updateRoomUsage(allocation, -1);
+    }
+
+    public List<RoomUsageDTO> getRoomUsage(LocalDate dateFrom, LocalDate dateTo) {
+        var validationErrors = new ValidationErrors();
+        ValidatorUtils.validateDateRange(dateFrom, dateTo, maxMonthsInterval, validationErrors);
+        ValidatorUtils.throwOnError(validationErrors);
+
+        return roomUsageDailyRepository
+            .findSummaries(dateFrom, dateTo)
+            .stream()
+            .map(roomUsageMapper::roomUsageSummaryToRoomUsageDto)
+            .collect(Collectors.toList());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillRoomUsage() {
+        if (rebuildOnStartup || (roomUsageDailyRepository.count() == 0 && allocationRepository.count() > 0)) {
+            rebuildRoomUsage();
+        }
+    }
+
+    @Transactional
+    public void rebuildRoomUsage() {
+        var roomUsage = new HashMap<RoomUsageDailyId, RoomUsageDaily>();
+
+        try (var allocations = allocationRepository.streamAllForRollup()) {
+            allocations.forEach(
+                allocation -> {
+                    accumulate(roomUsage, allocation);
+                    entityManager.detach(allocation);
+                }
+            );
+        }
+
+        roomUsageDailyRepository.deleteAllInBatch();
+        roomUsage.values().forEach(roomUsageDaily -> saveRoomUsage(roomUsageDaily, 1));
+        LOGGER.info("Room usage rollup rebuilt with {} row(s)", roomUsage.size());
+    }
+
+    private void updateRoomUsage(Allocation allocation, int sign) {
+        var roomUsage = new HashMap<RoomUsageDailyId, RoomUsageDaily>();
+        accumulate(roomUsage, allocation);
+        roomUsage.values().forEach(roomUsageDaily -> saveRoomUsage(roomUsageDaily, sign));
+    }
+
+    private void saveRoomUsage(RoomUsageDaily roomUsageDaily, int sign) {
+        roomUsageDailyRepository.addUsage(
+            roomUsageDaily.getId().getRoomId(),
+            roomUsageDaily.getId().getUsageDate(),
+            sign * roomUsageDaily.getAllocationCount(),
+            sign * roomUsageDaily.getBookedMinutes()
+        );
+    }
+
+    private void accumulate(Map<RoomUsageDailyId, RoomUsageDaily> roomUsage, Allocation allocation) {
+        // The allocation counts on the day it starts, its minutes on every day it spans.
+        var startAt = allocation.getStartAt().atZoneSameInstant(DateUtils.DEFAULT_TIMEZONE);
+        var endAt = allocation.getEndAt().atZoneSameInstant(DateUtils.DEFAULT_TIMEZONE);
+        var usageDate = startAt.toLocalDate();
+        var allocationCount = 1L;
+
+        while (!usageDate.isAfter(endAt.toLocalDate())) {
+            var dayStart = usageDate.atStartOfDay(DateUtils.DEFAULT_TIMEZONE);
+            var dayEnd = usageDate.plusDays(1).atStartOfDay(DateUtils.DEFAULT_TIMEZONE);
+            var bookedMinutes = Duration
+                .between(startAt.isAfter(dayStart) ? startAt : dayStart, endAt.isBefore(dayEnd) ? endAt : dayEnd)
+                .toMinutes();
+
+            if (allocationCount > 0 || bookedMinutes > 0) {
+                roomUsage
+                    .computeIfAbsent(
+                        new RoomUsageDailyId(allocation.getRoom().getId(), usageDate),
+                        id -> RoomUsageDaily.newRoomUsageDailyBuilder().id(id).build()
+                    )
+                    .addUsage(allocationCount, bookedMinutes);
+            }
+            allocationCount = 0L;
+            usageDate = usageDate.plusDays(1);
+        }
+    }
+}
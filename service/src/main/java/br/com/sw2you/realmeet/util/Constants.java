@@ -2,9 +2,37 @@ package br.com.sw2you.realmeet.util;
 
 public final class Constants {
     public static final String ALLOCATIONS_MAX_FILTER_LIMIT = "${realmeet.allocations.maxFilterLimit:50}";
-    public static final String ALLOCATION_REPORT_MAX_MONTHS_INTERVAL =
-        "${realmeet.reports.allocationReport.maxMonthsInterval:12}";
+    public static final String ALLOCATIONS_MAX_SYNC_LIMIT = "${realmeet.allocations.maxSyncLimit:500}";
+    public static final String ALLOCATIONS_SYNC_SETTLE_DELAY = "${realmeet.allocations.syncSettleDelay:10s}";
+    public static final String ALLOCATION_EVENTS_POOL_SIZE = "${realmeet.allocations.events.poolSize:2}";
+    public static final String ALLOCATION_EVENTS_HEARTBEAT_INTERVAL =
+        "${realmeet.allocations.events.heartbeatInterval:30000}";
+    public static final String ALLOCATION_REPORT_MAX_ROWS = "${realmeet.reports.allocationReport.maxRows:500000}";
+    public static final String ROOM_USAGE_REPORT_MAX_MONTHS_INTERVAL =
+        "${realmeet.reports.roomUsageReport.maxMonthsInterval:12}";
+    public static final String ROOM_USAGE_REBUILD_ON_STARTUP = "${realmeet.reports.roomUsage.rebuildOnStartup:false}";
+    public static final String REPORT_COMPILE_TEMPLATES = "${realmeet.reports.compileTemplates:false}";
+    public static final String REPORT_JOBS_POOL_SIZE = "${realmeet.reports.jobs.poolSize:2}";
+    public static final String REPORT_JOBS_MAX_IN_FLIGHT_PER_REQUESTER =
+        "${realmeet.reports.jobs.maxInFlightPerRequester:3}";
+    public static final String REPORT_JOBS_LEASE = "${realmeet.reports.jobs.lease:5m}";
+    public static final String REPORT_JOBS_SWEEP_INTERVAL = "${realmeet.reports.jobs.sweepInterval:60000}";
+    public static final String REPORT_PARTITIONS_POOL_SIZE = "${realmeet.reports.partitions.poolSize:4}";
+    public static final String REPORT_SUBSCRIPTIONS_POLL_INTERVAL =
+        "${realmeet.reports.subscriptions.pollInterval:60000}";
+    public static final String REPORT_SUBSCRIPTIONS_MIN_INTERVAL = "${realmeet.reports.subscriptions.minInterval:1h}";
+    public static final String REPORT_SUBSCRIPTIONS_MAX_ATTEMPTS = "${realmeet.reports.subscriptions.maxAttempts:5}";
+    public static final String REPORT_SUBSCRIPTIONS_RETRY_DELAY = "${realmeet.reports.subscriptions.retryDelay:15m}";
+    public static final String REPORT_SUBSCRIPTIONS_MAX_RETRY_DELAY =
+        "${realmeet.reports.subscriptions.maxRetryDelay:6h}";
+    public static final String REPORT_JOBS_DIRECTORY =
+        "${realmeet.reports.jobs.directory:${java.io.tmpdir}/realmeet/reports}";
+    public static final String REPORT_STORE_CLEANUP_INTERVAL = "${realmeet.reports.store.cleanupInterval:3600000}";
+    public static final String EMAIL_TEMPLATE_CACHE_REQUIRED = "${realmeet.email.templateCacheRequired:false}";
+    public static final String EMAIL_MAX_RECIPIENTS_PER_MESSAGE = "${realmeet.email.maxRecipientsPerMessage:50}";
+    public static final String REPORT_FETCH_SIZE = "500";
     public static final String ALLOCATION = "allocation";
+    public static final String GENERATED_REPORT = "report";
     public static final String EMPTY = "";
     public static final String REPORT = "report_";
 
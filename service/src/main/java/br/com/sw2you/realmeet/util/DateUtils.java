@@ -11,6 +11,8 @@ public final class DateUtils {
     public static final ZoneOffset DEFAULT_TIMEZONE = ZoneOffset.of("-03:00");
     public static final String DATE_PATTERN = "dd/MM/yyyy";
     public static final String DATE_TIME_PATTERN = "dd/MM/yyyy HH:mm";
+    public static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern(DATE_PATTERN);
+    public static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern(DATE_TIME_PATTERN);
 
     private DateUtils() {}
 
@@ -28,10 +30,10 @@ public final class DateUtils {
     }
 
     public static String formatUsingPattern(LocalDate localDate) {
-        return Objects.requireNonNull(localDate).format(DateTimeFormatter.ofPattern(DATE_PATTERN));
+        return Objects.requireNonNull(localDate).format(DATE_FORMATTER);
     }
 
     public static String formatUsingPattern(OffsetDateTime offsetDateTime) {
-        return Objects.requireNonNull(offsetDateTime).format(DateTimeFormatter.ofPattern(DATE_TIME_PATTERN));
+        return Objects.requireNonNull(offsetDateTime).format(DATE_TIME_FORMATTER);
     }
 }
@@ -1,6 +1,12 @@
 package br.com.sw2you.realmeet.util;
 
+import br.com.sw2you.realmeet.report.model.GeneratedReport;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 
 public final class ResponseEntityUtils {
@@ -15,10 +21,33 @@ public final class ResponseEntityUtils {
         return ResponseEntity.status(HttpStatus.CREATED).body(body);
     }
 
+    public static <T> ResponseEntity<T> accepted(T body) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(body);
+    }
+
+    public static ResponseEntity<Resource> download(GeneratedReport generatedReport) {
+        return ResponseEntity
+            .status(HttpStatus.OK)
+            .contentType(MediaType.parseMediaType(generatedReport.getContentType()))
+            .header(
+                HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(generatedReport.getFileName()).build().toString()
+            )
+            .body(new FileSystemResource(generatedReport.getPath()));
+    }
+
     public static ResponseEntity<Object> notFound() {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
     }
 
+    public static ResponseEntity<Object> conflict() {
+        return ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+
+    public static ResponseEntity<Object> tooManyRequests() {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+    }
+
     public static ResponseEntity<Void> noContent(Void aVoid) {
         return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
     }
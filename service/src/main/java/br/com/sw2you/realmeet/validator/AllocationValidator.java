@@ -8,6 +8,9 @@ import br.com.sw2you.realmeet.domain.repository.AllocationRepository;
 import br.com.sw2you.realmeet.util.DateUtils;
 import br.com.sw2you.realmeet.util.PageUtils;
 import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
@@ -25,6 +28,7 @@ public class AllocationValidator {
         validateSubject(createAllocationDTO.getSubject(), validationErrors);
         validateEmployeeName(createAllocationDTO.getEmployeeName(), validationErrors);
         validateEmployeeEmail(createAllocationDTO.getEmployeeEmail(), validationErrors);
+        validateAttendees(createAllocationDTO.getAttendees(), validationErrors);
         validateDates(
             createAllocationDTO.getRoomId(),
             createAllocationDTO.getStartAt(),
@@ -71,6 +75,35 @@ public class AllocationValidator {
         );
     }
 
+    private void validateAttendees(List<String> attendees, ValidationErrors validationErrors) {
+        if (Objects.isNull(attendees)) {
+            return;
+        }
+
+        if (attendees.size() > ALLOCATION_ATTENDEES_MAX_SIZE) {
+            validationErrors.add(ALLOCATION_ATTENDEES, ALLOCATION_ATTENDEES + EXCEEDS_MAX_VALUE);
+            return;
+        }
+
+        for (String attendee : attendees) {
+            if (
+                !ValidatorUtils.validateRequired(attendee, ALLOCATION_ATTENDEES, validationErrors) ||
+                !ValidatorUtils.validateMaxLength(
+                    attendee,
+                    ALLOCATION_ATTENDEES,
+                    ALLOCATION_ATTENDEE_EMAIL_MAX_LENGTH,
+                    validationErrors
+                )
+            ) {
+                return;
+            }
+        }
+
+        if (attendees.stream().map(a -> a.trim().toLowerCase(Locale.ROOT)).distinct().count() < attendees.size()) {
+            validationErrors.add(ALLOCATION_ATTENDEES, ALLOCATION_ATTENDEES + DUPLICATE);
+        }
+    }
+
     private void validateDates(
         Long roomId,
         OffsetDateTime startAt,
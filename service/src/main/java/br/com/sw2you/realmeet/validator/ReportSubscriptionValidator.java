@@ -0,0 +1,152 @@
+package br.com.sw2you.realmeet.validator;
+
+import static br.com.sw2you.realmeet.validator.ValidatorConstants.*;
+
+import br.com.sw2you.realmeet.api.model.CreateReportSubscriptionDTO;
+import br.com.sw2you.realmeet.report.enumeration.ReportFormat;
+import br.com.sw2you.realmeet.report.enumeration.ReportHandlerType;
+import br.com.sw2you.realmeet.report.enumeration.ReportPeriod;
+import br.com.sw2you.realmeet.util.Constants;
+import br.com.sw2you.realmeet.util.DateUtils;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import org.apache.commons.lang3.EnumUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ReportSubscriptionValidator {
+    // Long enough to reach every day of the month, so day-of-month fields are covered
+    private static final Duration CRON_SCAN_HORIZON = Duration.ofDays(31);
+
+    private final Duration minInterval;
+
+    public ReportSubscriptionValidator(@Value(Constants.REPORT_SUBSCRIPTIONS_MIN_INTERVAL) Duration minInterval) {
+        this.minInterval = minInterval;
+    }
+
+    public void validate(CreateReportSubscriptionDTO createReportSubscriptionDTO) {
+        ValidationErrors validationErrors = new ValidationErrors();
+
+        validateEnum(
+            createReportSubscriptionDTO.getReportType(),
+            ReportHandlerType.class,
+            REPORT_SUBSCRIPTION_REPORT_TYPE,
+            validationErrors
+        );
+        if (Objects.nonNull(createReportSubscriptionDTO.getReportFormat())) {
+            validateEnum(
+                createReportSubscriptionDTO.getReportFormat(),
+                ReportFormat.class,
+                REPORT_SUBSCRIPTION_REPORT_FORMAT,
+                validationErrors
+            );
+        }
+        validateEnum(
+            createReportSubscriptionDTO.getReportPeriod(),
+            ReportPeriod.class,
+            REPORT_SUBSCRIPTION_REPORT_PERIOD,
+            validationErrors
+        );
+        validateCron(createReportSubscriptionDTO.getCron(), validationErrors);
+        validateRecipients(createReportSubscriptionDTO.getRecipients(), validationErrors);
+
+        ValidatorUtils.throwOnError(validationErrors);
+    }
+
+    private <E extends Enum<E>> void validateEnum(
+        String value,
+        Class<E> enumClass,
+        String fieldName,
+        ValidationErrors validationErrors
+    ) {
+        if (
+            ValidatorUtils.validateRequired(value, fieldName, validationErrors) &&
+            !EnumUtils.isValidEnum(enumClass, value)
+        ) {
+            validationErrors.add(fieldName, fieldName + INVALID);
+        }
+    }
+
+    private void validateCron(String cron, ValidationErrors validationErrors) {
+        if (
+            !ValidatorUtils.validateRequired(cron, REPORT_SUBSCRIPTION_CRON, validationErrors) ||
+            !ValidatorUtils.validateMaxLength(
+                cron,
+                REPORT_SUBSCRIPTION_CRON,
+                REPORT_SUBSCRIPTION_CRON_MAX_LENGTH,
+                validationErrors
+            )
+        ) {
+            return;
+        }
+
+        if (!CronExpression.isValidExpression(cron)) {
+            validationErrors.add(REPORT_SUBSCRIPTION_CRON, REPORT_SUBSCRIPTION_CRON + INVALID);
+        } else if (firesTooOften(cron)) {
+            validationErrors.add(REPORT_SUBSCRIPTION_CRON, REPORT_SUBSCRIPTION_CRON + BELOW_MIN_VALUE);
+        }
+    }
+
+    private boolean firesTooOften(String cron) {
+        if (minInterval.isZero() || minInterval.isNegative()) {
+            return false;
+        }
+
+        var cronExpression = CronExpression.parse(cron);
+        var previous = cronExpression.next(DateUtils.now());
+        if (Objects.isNull(previous)) {
+            return false;
+        }
+
+        var horizon = previous.plus(CRON_SCAN_HORIZON);
+        for (
+            var next = cronExpression.next(previous);
+            Objects.nonNull(next) && next.isBefore(horizon);
+            next = cronExpression.next(next)
+        ) {
+            if (Duration.between(previous, next).compareTo(minInterval) < 0) {
+                return true;
+            }
+            previous = next;
+        }
+        return false;
+    }
+
+    private void validateRecipients(List<String> recipients, ValidationErrors validationErrors) {
+        if (!ValidatorUtils.validateRequired(recipients, REPORT_SUBSCRIPTION_RECIPIENTS, validationErrors)) {
+            return;
+        }
+
+        if (recipients.isEmpty()) {
+            validationErrors.add(REPORT_SUBSCRIPTION_RECIPIENTS, REPORT_SUBSCRIPTION_RECIPIENTS + MISSIN);
+            return;
+        }
+
+        if (recipients.size() > REPORT_SUBSCRIPTION_RECIPIENTS_MAX_SIZE) {
+            validationErrors.add(REPORT_SUBSCRIPTION_RECIPIENTS, REPORT_SUBSCRIPTION_RECIPIENTS + EXCEEDS_MAX_VALUE);
+            return;
+        }
+
+        for (String recipient : recipients) {
+            if (
+                !ValidatorUtils.validateRequired(recipient, REPORT_SUBSCRIPTION_RECIPIENTS, validationErrors) ||
+                !ValidatorUtils.validateMaxLength(
+                    recipient,
+                    REPORT_SUBSCRIPTION_RECIPIENTS,
+                    REPORT_SUBSCRIPTION_RECIPIENT_EMAIL_MAX_LENGTH,
+                    validationErrors
+                )
+            ) {
+                return;
+            }
+        }
+
+        if (recipients.stream().map(r -> r.trim().toLowerCase(Locale.ROOT)).distinct().count() < recipients.size()) {
+            validationErrors.add(REPORT_SUBSCRIPTION_RECIPIENTS, REPORT_SUBSCRIPTION_RECIPIENTS + DUPLICATE);
+        }
+    }
+}
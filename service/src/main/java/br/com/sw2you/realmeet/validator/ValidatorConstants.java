@@ -14,17 +14,31 @@ public final class ValidatorConstants {
     public static final String ALLOCATION_SUBJECT = "subject";
     public static final String ALLOCATION_EMPLOYEE_NAME = "employeeName";
     public static final String ALLOCATION_EMPLOYEE_EMAIL = "employeeEmail";
+    public static final String ALLOCATION_ATTENDEES = "attendees";
     public static final String ALLOCATION_START_AT = "startAt";
     public static final String ALLOCATION_END_AT = "endAt";
     public static final String ALLOCATION_DATES = "startAt/endAt";
     public static final int ALLOCATION_SUBJECT_MAX_LENGTH = 60;
     public static final int ALLOCATION_EMPLOYEE_NAME_MAX_LENGTH = 20;
     public static final int ALLOCATION_EMPLOYEE_EMAIL_MAX_LENGTH = 30;
+    public static final int ALLOCATION_ATTENDEE_EMAIL_MAX_LENGTH = 30;
+    public static final int ALLOCATION_ATTENDEES_MAX_SIZE = 100;
     public static final int ALLOCATION_DURATION_MAX_SECONDS = 4 * 60 * 60;
     public static final String ORDER_BY = "orderBy";
     public static final String DATE_FROM = "dateFrom";
     public static final String DATE_TO = "dateTo";
     public static final String EMAIL = "email";
+    public static final int REPORT_EMAIL_MAX_LENGTH = 60;
+
+    //REPORT SUBSCRIPTION
+    public static final String REPORT_SUBSCRIPTION_REPORT_TYPE = "reportType";
+    public static final String REPORT_SUBSCRIPTION_REPORT_FORMAT = "reportFormat";
+    public static final String REPORT_SUBSCRIPTION_REPORT_PERIOD = "reportPeriod";
+    public static final String REPORT_SUBSCRIPTION_CRON = "cron";
+    public static final String REPORT_SUBSCRIPTION_RECIPIENTS = "recipients";
+    public static final int REPORT_SUBSCRIPTION_CRON_MAX_LENGTH = 60;
+    public static final int REPORT_SUBSCRIPTION_RECIPIENT_EMAIL_MAX_LENGTH = 60;
+    public static final int REPORT_SUBSCRIPTION_RECIPIENTS_MAX_SIZE = 50;
 
     //CODE ERRORS
     public static final String MISSIN = ".missing";
@@ -36,6 +50,7 @@ public final class ValidatorConstants {
     public static final String IN_THE_PAST = ".inThePast";
     public static final String EXCEEDS_MAX_DURATION = ".exceedsMaxDuration";
     public static final String EXCEEDS_MAX_INTERVAL = ".exceedsMaxInterval";
+    public static final String EXCEEDS_MAX_ROWS = ".exceedsMaxRows";
     public static final String INVALID = ".invalid";
     public static final String OVERLAPPING = ".overlapping";
 
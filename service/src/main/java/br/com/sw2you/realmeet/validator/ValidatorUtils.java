@@ -96,6 +96,21 @@ public final class ValidatorUtils {
         }
     }
 
+    public static void validateDateRange(
+        LocalDate dateFrom,
+        LocalDate dateTo,
+        int maxMonthsInterval,
+        ValidationErrors validationErrors
+    ) {
+        validateRequired(dateFrom, ValidatorConstants.DATE_FROM, validationErrors);
+        validateRequired(dateTo, ValidatorConstants.DATE_TO, validationErrors);
+
+        if (!validationErrors.hasErrors()) {
+            validateDatesOrdering(dateFrom, dateTo, validationErrors);
+            validateDurationBetweenDates(dateFrom, dateTo, maxMonthsInterval, validationErrors);
+        }
+    }
+
     public static void validateDateInTheFuture(OffsetDateTime startAt, ValidationErrors validationErrors) {
         if (startAt.isBefore(DateUtils.now())) {
             validationErrors.add(
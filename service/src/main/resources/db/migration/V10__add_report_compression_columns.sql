@@ -0,0 +1,6 @@
+ALTER TABLE `report_job`
+    ADD COLUMN `report_compression` VARCHAR(10) NOT NULL DEFAULT 'NONE' AFTER `report_format`,
+    ADD COLUMN `output_bytes` BIGINT AFTER `size_bytes`;
+
+ALTER TABLE `stored_report`
+    ADD COLUMN `report_compression` VARCHAR(10) NOT NULL DEFAULT 'NONE' AFTER `report_format`;
@@ -0,0 +1 @@
+ALTER TABLE `allocation` ADD INDEX `idx-allocation-start_at-end_at` (`start_at`, `end_at`);
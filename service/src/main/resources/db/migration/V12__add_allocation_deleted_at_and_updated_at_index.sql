@@ -0,0 +1,2 @@
+ALTER TABLE `allocation` ADD COLUMN `deleted_at` DATETIME(3) NULL;
+ALTER TABLE `allocation` ADD INDEX `idx-allocation-updated_at` (`updated_at`);
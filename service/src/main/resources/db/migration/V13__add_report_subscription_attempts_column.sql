@@ -0,0 +1 @@
+ALTER TABLE `report_subscription` ADD COLUMN `attempts` INT NOT NULL DEFAULT 0 AFTER `last_run_at`;
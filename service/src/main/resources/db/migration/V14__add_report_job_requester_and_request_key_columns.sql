@@ -0,0 +1,6 @@
+ALTER TABLE `report_job`
+    ADD COLUMN `requester` VARCHAR(20) AFTER `email`,
+    ADD COLUMN `request_key` VARCHAR(150) AFTER `requester`,
+    ADD UNIQUE INDEX `idx-report_job-request_key` (`request_key`),
+    ADD INDEX `idx-report_job-requester-status` (`requester`, `status`),
+    DROP INDEX `idx-report_job-email-status`;
@@ -0,0 +1,3 @@
+ALTER TABLE `report_job`
+    ADD COLUMN `lease_until` DATETIME(3) AFTER `started_at`,
+    ADD INDEX `idx-report_job-status-lease_until` (`status`, `lease_until`);
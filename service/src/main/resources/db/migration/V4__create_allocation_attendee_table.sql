@@ -0,0 +1,10 @@
+CREATE TABLE IF NOT EXISTS `allocation_attendee` (
+    `allocation_id`     BIGINT NOT NULL,
+    `email`             VARCHAR(30) NOT NULL,
+
+    PRIMARY KEY (`allocation_id`, `email`),
+      CONSTRAINT `fk-allocation_attendee-allocation_id-allocation-id`
+        FOREIGN KEY (`allocation_id`)
+        REFERENCES `allocation` (`id`)
+        ON DELETE CASCADE
+);
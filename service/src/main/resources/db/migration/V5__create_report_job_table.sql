@@ -0,0 +1,21 @@
+CREATE TABLE IF NOT EXISTS `report_job` (
+    `id`                BIGINT NOT NULL AUTO_INCREMENT,
+    `report_type`       VARCHAR(20) NOT NULL,
+    `report_format`     VARCHAR(10) NOT NULL,
+    `email`             VARCHAR(60) NOT NULL,
+    `date_from`         DATE NOT NULL,
+    `date_to`           DATE NOT NULL,
+    `status`            VARCHAR(20) NOT NULL,
+    `file_path`         VARCHAR(255),
+    `row_count`         BIGINT,
+    `fill_millis`       BIGINT,
+    `export_millis`     BIGINT,
+    `size_bytes`        BIGINT,
+    `error_message`     VARCHAR(255),
+    `created_at`        DATETIME(3) NOT NULL,
+    `started_at`        DATETIME(3),
+    `finished_at`       DATETIME(3),
+
+    PRIMARY KEY (`id`),
+    INDEX `idx-report_job-status` (`status`)
+);
@@ -0,0 +1,24 @@
+CREATE TABLE IF NOT EXISTS `report_subscription` (
+    `id`                BIGINT NOT NULL AUTO_INCREMENT,
+    `report_type`       VARCHAR(20) NOT NULL,
+    `report_format`     VARCHAR(10) NOT NULL,
+    `report_period`     VARCHAR(20) NOT NULL,
+    `cron`              VARCHAR(60) NOT NULL,
+    `next_run_at`       DATETIME(3) NOT NULL,
+    `last_run_at`       DATETIME(3),
+    `created_at`        DATETIME(3) NOT NULL,
+
+    PRIMARY KEY (`id`),
+    INDEX `idx-report_subscription-next_run_at` (`next_run_at`)
+);
+
+CREATE TABLE IF NOT EXISTS `report_subscription_recipient` (
+    `report_subscription_id`    BIGINT NOT NULL,
+    `email`                     VARCHAR(60) NOT NULL,
+
+    PRIMARY KEY (`report_subscription_id`, `email`),
+      CONSTRAINT `fk-report_subscription_recipient-report_subscription_id-report_subscription-id`
+        FOREIGN KEY (`report_subscription_id`)
+        REFERENCES `report_subscription` (`id`)
+        ON DELETE CASCADE
+);
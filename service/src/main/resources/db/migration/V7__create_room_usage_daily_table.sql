@@ -0,0 +1,13 @@
+CREATE TABLE IF NOT EXISTS `room_usage_daily` (
+    `room_id`           BIGINT NOT NULL,
+    `usage_date`        DATE NOT NULL,
+    `allocation_count`  BIGINT NOT NULL,
+    `booked_minutes`    BIGINT NOT NULL,
+
+    PRIMARY KEY (`room_id`, `usage_date`),
+    INDEX `idx-room_usage_daily-usage_date` (`usage_date`),
+      CONSTRAINT `fk-room_usage_daily-room_id-room-id`
+        FOREIGN KEY (`room_id`)
+        REFERENCES `room` (`id`)
+        ON DELETE CASCADE
+);
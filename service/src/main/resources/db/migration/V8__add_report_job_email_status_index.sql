@@ -0,0 +1 @@
+ALTER TABLE `report_job` ADD INDEX `idx-report_job-email-status` (`email`, `status`);
@@ -0,0 +1,15 @@
+CREATE TABLE IF NOT EXISTS `stored_report` (
+    `id`                BIGINT NOT NULL AUTO_INCREMENT,
+    `token`             VARCHAR(36) NOT NULL,
+    `report_type`       VARCHAR(20) NOT NULL,
+    `report_format`     VARCHAR(10) NOT NULL,
+    `file_name`         VARCHAR(100) NOT NULL,
+    `path`              VARCHAR(255) NOT NULL,
+    `size_bytes`        BIGINT NOT NULL,
+    `created_at`        DATETIME(3) NOT NULL,
+    `expires_at`        DATETIME(3) NOT NULL,
+
+    PRIMARY KEY (`id`),
+    UNIQUE INDEX `idx-stored_report-token` (`token`),
+    INDEX `idx-stored_report-expires_at` (`expires_at`)
+);
@@ -0,0 +1,62 @@
+package br.com.sw2you.realmeet.benchmark;
+
+import br.com.sw2you.realmeet.util.Constants;
+import br.com.sw2you.realmeet.utils.TemplateEngineUtils;
+import br.com.sw2you.realmeet.utils.TestDataCreator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmailTemplateRenderBenchmark {
+    @Param(
+        { "allocation-created.html", "allocation-updated.html", "allocation-deleted.html", "allocation-report.html" }
+    )
+    private String template;
+
+    @Param({ "true", "false" })
+    private boolean cacheable;
+
+    @Param({ "true", "false" })
+    private boolean springElCompiler;
+
+    private SpringTemplateEngine templateEngine;
+    private Map<String, Object> variables;
+
+    @Setup
+    public void setup() {
+        templateEngine = TemplateEngineUtils.newTemplateEngine(cacheable, springElCompiler);
+        variables = Map.of(Constants.ALLOCATION, TestDataCreator.newAllocationBuilderDefault().build());
+    }
+
+    @Benchmark
+    public String render() {
+        var context = new Context();
+        context.setVariables(variables);
+        return templateEngine.process(template, context);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(EmailTemplateRenderBenchmark.class.getSimpleName()).build()).run();
+    }
+}
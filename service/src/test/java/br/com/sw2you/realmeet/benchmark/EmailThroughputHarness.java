@@ -0,0 +1,278 @@
+package br.com.sw2you.realmeet.benchmark;
+
+import br.com.sw2you.realmeet.config.EmailConfiguration;
+import br.com.sw2you.realmeet.config.properties.EmailConfigProperties;
+import br.com.sw2you.realmeet.config.properties.EmailSchedulerConfigProperties;
+import br.com.sw2you.realmeet.config.properties.TemplateConfigProperties;
+import br.com.sw2you.realmeet.config.properties.model.EmailRateLimit;
+import br.com.sw2you.realmeet.config.properties.model.EmailTemplate;
+import br.com.sw2you.realmeet.email.EmailInfoGenerator;
+import br.com.sw2you.realmeet.email.EmailSendScheduler;
+import br.com.sw2you.realmeet.email.EmailSender;
+import br.com.sw2you.realmeet.email.TemplateType;
+import br.com.sw2you.realmeet.model.LocalSmtpServer;
+import br.com.sw2you.realmeet.report.enumeration.ReportFormat;
+import br.com.sw2you.realmeet.report.model.GeneratedReport;
+import br.com.sw2you.realmeet.service.NotificationEmailService;
+import br.com.sw2you.realmeet.service.ReportDispatcherService;
+import br.com.sw2you.realmeet.util.DateUtils;
+import br.com.sw2you.realmeet.utils.ConstantsTest;
+import br.com.sw2you.realmeet.utils.TemplateEngineUtils;
+import br.com.sw2you.realmeet.utils.TestDataCreator;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Drives {@link NotificationEmailService} and {@link ReportDispatcherService} at a fixed rate against a
+ * {@link LocalSmtpServer} and prints latency percentiles and achieved throughput.
+ *
+ * Arguments (all optional, as key=value): rate (messages/s, default 50), duration (s, default 30),
+ * smtpDelay (ms per message, default 20), workers (default 16), reportRatio (0..1, default 0.1) and
+ * reportSize (bytes, default 1048576), attendees (per allocation, default 0) and maxRecipients (BCC recipients
+ * per message, default 50), perMinute and perDay (scheduler rate limit for the local server, unlimited by default).
+ *
+ * Report emails are bulk and always go through the scheduler spool, so their latency covers spooling only; the
+ * harness waits for the scheduler to drain and reports how long delivery of everything took.
+ *
+ * Latency is measured from the moment a message was scheduled to be sent, so queueing caused by a
+ * saturated sender is included.
+ */
+public class EmailThroughputHarness {
+
+    public static void main(String[] args) throws Exception {
+        var options = parseArgs(args);
+        var rate = Integer.parseInt(options.getOrDefault("rate", "50"));
+        var duration = Integer.parseInt(options.getOrDefault("duration", "30"));
+        var smtpDelay = Long.parseLong(options.getOrDefault("smtpDelay", "20"));
+        var workers = Integer.parseInt(options.getOrDefault("workers", "16"));
+        var reportRatio = Double.parseDouble(options.getOrDefault("reportRatio", "0.1"));
+        var reportSize = Integer.parseInt(options.getOrDefault("reportSize", "1048576"));
+        var attendees = Integer.parseInt(options.getOrDefault("attendees", "0"));
+        var maxRecipients = Integer.parseInt(options.getOrDefault("maxRecipients", "50"));
+        var rateLimit = new EmailRateLimit(
+            options.containsKey("perMinute") ? Integer.valueOf(options.get("perMinute")) : null,
+            options.containsKey("perDay") ? Integer.valueOf(options.get("perDay")) : null
+        );
+
+        var smtpServer = new LocalSmtpServer(0, smtpDelay);
+        smtpServer.start();
+
+        var reportFile = createReportFile(reportSize);
+        var spoolDirectory = Files.createTempDirectory("email_spool_harness");
+        try {
+            run(
+                smtpServer,
+                reportFile,
+                new EmailSchedulerConfigProperties(
+                    1000,
+                    spoolDirectory.toString(),
+                    Map.of("localhost", rateLimit),
+                    8,
+                    Duration.ofSeconds(30),
+                    Duration.ofHours(1)
+                ),
+                rate,
+                duration,
+                workers,
+                reportRatio,
+                attendees,
+                maxRecipients
+            );
+        } finally {
+            smtpServer.stop();
+            Files.deleteIfExists(reportFile);
+            try (var files = Files.list(spoolDirectory)) {
+                files.forEach(p -> p.toFile().delete());
+            }
+            Files.deleteIfExists(spoolDirectory);
+        }
+    }
+
+    private static void run(
+        LocalSmtpServer smtpServer,
+        Path reportFile,
+        EmailSchedulerConfigProperties emailSchedulerConfigProperties,
+        int rate,
+        int duration,
+        int workers,
+        double reportRatio,
+        int attendees,
+        int maxRecipients
+    )
+        throws InterruptedException {
+        var emailConfigProperties = newEmailConfigProperties(smtpServer.getPort());
+        var mailSender = new EmailConfiguration(emailConfigProperties).mailSender();
+        var emailSendScheduler = new EmailSendScheduler(
+            mailSender,
+            emailConfigProperties,
+            emailSchedulerConfigProperties
+        );
+        emailSendScheduler.start();
+        var emailSender = new EmailSender(
+            mailSender,
+            TemplateEngineUtils.newTemplateEngine(true, true),
+            emailSendScheduler,
+            maxRecipients
+        );
+        var emailInfoGenerator = new EmailInfoGenerator(emailConfigProperties, newTemplateConfigProperties());
+        var notificationEmailService = new NotificationEmailService(emailSender, emailInfoGenerator);
+        var reportDispatcherService = new ReportDispatcherService(emailSender, emailInfoGenerator);
+
+        var allocation = TestDataCreator
+            .newAllocationBuilderDefault()
+            .attendees(
+                IntStream.range(0, attendees).mapToObj(i -> "attendee" + i + "@localhost").collect(Collectors.toList())
+            )
+            .build();
+        var generatedReport = GeneratedReport
+            .newGeneratedReportBuilder()
+            .emailTo(ConstantsTest.EMAIL_TO)
+            .reportFormat(ReportFormat.PDF)
+            .templateType(TemplateType.ALLOCATION_REPORT)
+            .fileName("report_harness.pdf")
+            .path(reportFile)
+            .downloadUrl("http://localhost:8080/v1/reports/files/harness")
+            .expiresAt(DateUtils.now().plusDays(7))
+            .build();
+
+        var total = rate * duration;
+        var periodNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        var latencies = new long[total];
+        var failures = new AtomicLong();
+        var lastFinish = new AtomicLong();
+        var workerPool = Executors.newFixedThreadPool(workers);
+        var scheduler = Executors.newSingleThreadScheduledExecutor();
+        var start = System.nanoTime();
+
+        for (int i = 0; i < total; i++) {
+            var index = i;
+            var intendedStart = start + index * periodNanos;
+            var sendReport = ThreadLocalRandom.current().nextDouble() < reportRatio;
+
+            scheduler.schedule(
+                () ->
+                    workerPool.execute(
+                        () -> {
+                            try {
+                                if (sendReport) {
+                                    reportDispatcherService.dispatch(generatedReport);
+                                } else {
+                                    notificationEmailService.notifyAllocationCreated(allocation);
+                                }
+                            } catch (RuntimeException e) {
+                                failures.incrementAndGet();
+                            }
+                            var finish = System.nanoTime();
+                            latencies[index] = finish - intendedStart;
+                            lastFinish.accumulateAndGet(finish, Math::max);
+                        }
+                    ),
+                intendedStart - System.nanoTime(),
+                TimeUnit.NANOSECONDS
+            );
+        }
+
+        scheduler.shutdown();
+        scheduler.awaitTermination(duration + 60L, TimeUnit.SECONDS);
+        workerPool.shutdown();
+        workerPool.awaitTermination(10, TimeUnit.MINUTES);
+
+        while (emailSendScheduler.getQueueSize() > 0 || emailSendScheduler.getSpoolSize() > 0) {
+            TimeUnit.MILLISECONDS.sleep(50);
+        }
+        var drained = System.nanoTime();
+        emailSendScheduler.stop();
+
+        printReport(smtpServer, latencies, failures.get(), lastFinish.get() - start, rate);
+        System.out.printf("Scheduler drained:    %.1f ms after start%n", (drained - start) / 1e6);
+    }
+
+    private static void printReport(
+        LocalSmtpServer smtpServer,
+        long[] latencies,
+        long failures,
+        long elapsedNanos,
+        int targetRate
+    ) {
+        Arrays.sort(latencies);
+        var achievedRate = latencies.length / (elapsedNanos / 1e9);
+
+        System.out.printf("Sends:                %d (%d failed)%n", latencies.length, failures);
+        System.out.printf(
+            "Messages received:    %d over %d connections%n",
+            smtpServer.getMessageCount(),
+            smtpServer.getConnectionCount()
+        );
+        System.out.printf("Throughput:           %.1f msg/s (target %d msg/s)%n", achievedRate, targetRate);
+        System.out.printf("Latency p50:          %.1f ms%n", percentile(latencies, 0.50));
+        System.out.printf("Latency p90:          %.1f ms%n", percentile(latencies, 0.90));
+        System.out.printf("Latency p99:          %.1f ms%n", percentile(latencies, 0.99));
+        System.out.printf("Latency p99.9:        %.1f ms%n", percentile(latencies, 0.999));
+        System.out.printf("Latency max:          %.1f ms%n", latencies[latencies.length - 1] / 1e6);
+    }
+
+    private static double percentile(long[] sortedLatencies, double percentile) {
+        var index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(index, 0)] / 1e6;
+    }
+
+    private static EmailConfigProperties newEmailConfigProperties(int port) {
+        return new EmailConfigProperties(
+            "localhost",
+            null,
+            null,
+            "realmeet@localhost",
+            Map.of(
+                EmailConfigProperties.PROPERTY_TRANSPORT_PROTOCOL,
+                "smtp",
+                EmailConfigProperties.PROPERTY_SMTP_PORT,
+                String.valueOf(port),
+                EmailConfigProperties.PROPERTY_SMTP_AUTH,
+                "false",
+                EmailConfigProperties.PROPERTY_SMTP_STARTTLS_ENABLE,
+                "false"
+            )
+        );
+    }
+
+    private static TemplateConfigProperties newTemplateConfigProperties() {
+        return new TemplateConfigProperties(
+            Map.of(
+                TemplateType.ALLOCATION_CREATED.getTemplateName(),
+                new EmailTemplate("Allocation created", "allocation-created.html"),
+                TemplateType.ALLOCATION_UPDATED.getTemplateName(),
+                new EmailTemplate("Allocation updated", "allocation-updated.html"),
+                TemplateType.ALLOCATION_DELETED.getTemplateName(),
+                new EmailTemplate("Allocation deleted", "allocation-deleted.html"),
+                TemplateType.ALLOCATION_REPORT.getTemplateName(),
+                new EmailTemplate("Allocation report", "allocation-report.html")
+            )
+        );
+    }
+
+    private static Path createReportFile(int size) throws IOException {
+        var bytes = new byte[size];
+        ThreadLocalRandom.current().nextBytes(bytes);
+        return Files.write(Files.createTempFile("report_harness", ReportFormat.PDF.getExtension()), bytes);
+    }
+
+    private static Map<String, String> parseArgs(String[] args) {
+        var options = new HashMap<String, String>();
+        for (String arg : args) {
+            var keyValue = arg.split("=", 2);
+            options.put(keyValue[0].replaceFirst("^--", ""), keyValue.length > 1 ? keyValue[1] : "true");
+        }
+        return options;
+    }
+}
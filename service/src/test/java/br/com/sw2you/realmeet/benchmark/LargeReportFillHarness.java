@@ -0,0 +1,118 @@
+package br.com.sw2you.realmeet.benchmark;
+
+import br.com.sw2you.realmeet.config.JasperReportConfiguration;
+import br.com.sw2you.realmeet.config.properties.ReportVirtualizerConfigProperties;
+import br.com.sw2you.realmeet.config.properties.model.ReportVirtualizer;
+import br.com.sw2you.realmeet.domain.repository.AllocationRepository;
+import br.com.sw2you.realmeet.report.enumeration.ReportFormat;
+import br.com.sw2you.realmeet.report.enumeration.ReportHandlerType;
+import br.com.sw2you.realmeet.report.handler.AllocationReportHandler;
+import br.com.sw2you.realmeet.report.model.AllocationReportData;
+import br.com.sw2you.realmeet.report.validator.AllocationReportValidator;
+import br.com.sw2you.realmeet.report.virtualizer.ReportVirtualizerFactory;
+import br.com.sw2you.realmeet.utils.ConstantsTest;
+import br.com.sw2you.realmeet.utils.TestDataCreator;
+import br.com.sw2you.realmeet.utils.TestUtils;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.mockito.Mockito;
+
+/**
+ * Fills an allocation report from a synthetic stream of allocation rows and prints fill/export time, output size and
+ * peak heap usage. Run it with a small -Xmx to check that large reports fit in memory.
+ *
+ * Arguments (all optional, as key=value): rows (default 100000), format (PDF, XML, CSV or XLSX, default PDF), maxPages
+ * (pages kept in memory by the swap-file virtualizer, 0 disables virtualization, default 100) and swapDirectory
+ * (default a new temporary directory).
+ */
+public class LargeReportFillHarness {
+
+    public static void main(String[] args) throws IOException {
+        var options = parseArgs(args);
+        var rows = Integer.parseInt(options.getOrDefault("rows", "100000"));
+        var reportFormat = ReportFormat.fromString(options.getOrDefault("format", ReportFormat.PDF.name()));
+        var maxPages = Integer.parseInt(options.getOrDefault("maxPages", "100"));
+        var swapDirectory = options.containsKey("swapDirectory")
+            ? Paths.get(options.get("swapDirectory"))
+            : Files.createTempDirectory("report_swap_harness");
+
+        var reportHandler = newAllocationReportHandler(rows, maxPages, swapDirectory);
+        var reportFile = Files.createTempFile("report_harness", reportFormat.getExtension());
+
+        try (var out = new BufferedOutputStream(Files.newOutputStream(reportFile))) {
+            var reportMetrics = reportHandler.createReport(
+                AllocationReportData
+                    .newAllocationDataReportBuilder()
+                    .dateFrom(LocalDate.now().withDayOfMonth(1))
+                    .dateTo(LocalDate.now().with(TemporalAdjusters.lastDayOfMonth()))
+                    .email(ConstantsTest.EMAIL_TO)
+                    .build(),
+                reportFormat,
+                out
+            );
+            out.flush();
+
+            System.out.printf("Rows:                 %d%n", reportMetrics.getRowCount());
+            System.out.printf("Fill:                 %d ms%n", reportMetrics.getFillMillis());
+            System.out.printf("Export:               %d ms%n", reportMetrics.getExportMillis());
+            System.out.printf("Size:                 %d bytes%n", Files.size(reportFile));
+            System.out.printf("Max heap:             %d MB%n", Runtime.getRuntime().maxMemory() >> 20);
+            System.out.printf("Peak heap used:       %d MB%n", peakHeapUsed() >> 20);
+        } finally {
+            Files.deleteIfExists(reportFile);
+        }
+    }
+
+    private static AllocationReportHandler newAllocationReportHandler(int rows, int maxPages, Path swapDirectory) {
+        var row = TestDataCreator.newAllocationReportRowDefault();
+        var allocationRepository = Mockito.mock(AllocationRepository.class);
+        BDDMockito
+            .given(allocationRepository.streamRowsForReport(ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .willAnswer(invocation -> IntStream.range(0, rows).mapToObj(i -> row));
+
+        return new AllocationReportHandler(
+            new JasperReportConfiguration(false).allocationReport(),
+            allocationRepository,
+            new AllocationReportValidator(allocationRepository, 500000),
+            new ReportVirtualizerFactory(
+                new ReportVirtualizerConfigProperties(
+                    swapDirectory.toString(),
+                    maxPages > 0
+                        ? Map.of(ReportHandlerType.ALLOCATION, new ReportVirtualizer(maxPages, 4096, 100))
+                        : null
+                )
+            ),
+            TestUtils.newReportPartitionExecutor(Runnable::run)
+        );
+    }
+
+    private static long peakHeapUsed() {
+        return ManagementFactory
+            .getMemoryPoolMXBeans()
+            .stream()
+            .filter(pool -> pool.getType() == MemoryType.HEAP)
+            .mapToLong(pool -> pool.getPeakUsage().getUsed())
+            .sum();
+    }
+
+    private static Map<String, String> parseArgs(String[] args) {
+        var options = new HashMap<String, String>();
+        for (String arg : args) {
+            var keyValue = arg.split("=", 2);
+            options.put(keyValue[0].replaceFirst("^--", ""), keyValue.length > 1 ? keyValue[1] : "true");
+        }
+        return options;
+    }
+}
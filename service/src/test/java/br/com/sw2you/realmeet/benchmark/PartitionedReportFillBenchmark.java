@@ -0,0 +1,117 @@
+package br.com.sw2you.realmeet.benchmark;
+
+import br.com.sw2you.realmeet.config.JasperReportConfiguration;
+import br.com.sw2you.realmeet.config.properties.ReportVirtualizerConfigProperties;
+import br.com.sw2you.realmeet.domain.repository.AllocationRepository;
+import br.com.sw2you.realmeet.report.enumeration.ReportFormat;
+import br.com.sw2you.realmeet.report.handler.AllocationReportHandler;
+import br.com.sw2you.realmeet.report.model.AllocationReportData;
+import br.com.sw2you.realmeet.report.model.ReportMetrics;
+import br.com.sw2you.realmeet.report.validator.AllocationReportValidator;
+import br.com.sw2you.realmeet.report.virtualizer.ReportVirtualizerFactory;
+import br.com.sw2you.realmeet.utils.ConstantsTest;
+import br.com.sw2you.realmeet.utils.TestDataCreator;
+import br.com.sw2you.realmeet.utils.TestUtils;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Fills a 12-month allocation report with the month partitions filled on pools of different sizes. fetchMillis
+ * simulates the database round trip of each cursor fetch (one every 500 rows).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PartitionedReportFillBenchmark {
+    private static final int FETCH_SIZE = 500;
+
+    @Param({ "1", "2", "4", "12" })
+    private int poolSize;
+
+    @Param({ "5000" })
+    private int rowsPerMonth;
+
+    @Param({ "0", "20" })
+    private long fetchMillis;
+
+    private ExecutorService reportPartitionsExecutor;
+    private AllocationReportHandler reportHandler;
+    private AllocationReportData reportData;
+
+    @Setup
+    public void setup() {
+        var row = TestDataCreator.newAllocationReportRowDefault();
+        var allocationRepository = Mockito.mock(AllocationRepository.class, Mockito.withSettings().stubOnly());
+        BDDMockito
+            .given(allocationRepository.streamRowsForReport(ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .willAnswer(
+                invocation ->
+                    IntStream
+                        .range(0, rowsPerMonth)
+                        .peek(
+                            i -> {
+                                if (i % FETCH_SIZE == 0) {
+                                    TestUtils.sleep(fetchMillis);
+                                }
+                            }
+                        )
+                        .mapToObj(i -> row)
+            );
+
+        reportPartitionsExecutor = Executors.newFixedThreadPool(poolSize);
+        reportHandler =
+            new AllocationReportHandler(
+                new JasperReportConfiguration(false).allocationReport(),
+                allocationRepository,
+                new AllocationReportValidator(allocationRepository, 500000),
+                new ReportVirtualizerFactory(new ReportVirtualizerConfigProperties(null, null)),
+                TestUtils.newReportPartitionExecutor(reportPartitionsExecutor)
+            );
+        reportData =
+            AllocationReportData
+                .newAllocationDataReportBuilder()
+                .dateFrom(LocalDate.of(2022, 1, 1))
+                .dateTo(LocalDate.of(2022, 12, 31))
+                .email(ConstantsTest.EMAIL_TO)
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        reportPartitionsExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public ReportMetrics fillYearReport() {
+        return reportHandler.createReport(reportData, ReportFormat.PDF, OutputStream.nullOutputStream());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(PartitionedReportFillBenchmark.class.getSimpleName()).build()).run();
+    }
+}
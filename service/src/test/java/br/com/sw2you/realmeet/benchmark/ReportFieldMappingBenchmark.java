@@ -0,0 +1,119 @@
+package br.com.sw2you.realmeet.benchmark;
+
+import br.com.sw2you.realmeet.config.JasperReportConfiguration;
+import br.com.sw2you.realmeet.config.properties.ReportVirtualizerConfigProperties;
+import br.com.sw2you.realmeet.domain.model.AllocationReportRow;
+import br.com.sw2you.realmeet.report.datasource.StreamingDataSource;
+import br.com.sw2you.realmeet.report.handler.AllocationReportHandler;
+import br.com.sw2you.realmeet.report.model.AllocationReportData;
+import br.com.sw2you.realmeet.report.validator.AllocationReportValidator;
+import br.com.sw2you.realmeet.report.virtualizer.ReportVirtualizerFactory;
+import br.com.sw2you.realmeet.util.Constants;
+import br.com.sw2you.realmeet.util.DateUtils;
+import br.com.sw2you.realmeet.utils.TestDataCreator;
+import br.com.sw2you.realmeet.utils.TestUtils;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JRField;
+import net.sf.jasperreports.engine.JasperReport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Maps every field of one allocation row, the way the report filler does. switchPerRow is the previous mapping
+ * (a switch on the field name and a new DateTimeFormatter per date), accessorPerField goes through the accessors
+ * resolved once per fill by StreamingDataSource.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReportFieldMappingBenchmark {
+    private AllocationReportRow row;
+    private JRField[] fields;
+    private StreamingDataSource<AllocationReportRow> dataSource;
+
+    @Setup
+    public void setup() throws JRException {
+        row = TestDataCreator.newAllocationReportRowDefault();
+        var jasperReport = new JasperReportConfiguration(false).allocationReport();
+        fields = jasperReport.getFields();
+        dataSource = new SingleRowReportHandler(jasperReport, row).getDataSource(null);
+        dataSource.next();
+    }
+
+    @TearDown
+    public void tearDown() {
+        dataSource.close();
+    }
+
+    @Benchmark
+    public void switchPerRow(Blackhole blackhole) {
+        for (JRField field : fields) {
+            blackhole.consume(switchFieldMapper(field, row));
+        }
+    }
+
+    @Benchmark
+    public void accessorPerField(Blackhole blackhole) throws JRException {
+        for (JRField field : fields) {
+            blackhole.consume(dataSource.getFieldValue(field));
+        }
+    }
+
+    private static Object switchFieldMapper(JRField jrField, AllocationReportRow row) {
+        switch (jrField.getName()) {
+            case "DateFrom":
+                return row.getStartAt().format(DateTimeFormatter.ofPattern(DateUtils.DATE_TIME_PATTERN));
+            case "DateTo":
+                return row.getEndAt().format(DateTimeFormatter.ofPattern(DateUtils.DATE_TIME_PATTERN));
+            case "RoomName":
+                return row.getRoomName();
+            case "EmployeeName":
+                return row.getEmployeeName();
+            default:
+                return Constants.EMPTY;
+        }
+    }
+
+    private static class SingleRowReportHandler extends AllocationReportHandler {
+        private final AllocationReportRow row;
+
+        SingleRowReportHandler(JasperReport jasperReport, AllocationReportRow row) {
+            super(
+                jasperReport,
+                null,
+                new AllocationReportValidator(null, 500000),
+                new ReportVirtualizerFactory(new ReportVirtualizerConfigProperties(null, null)),
+                TestUtils.newReportPartitionExecutor(Runnable::run)
+            );
+            this.row = row;
+        }
+
+        @Override
+        protected Stream<AllocationReportRow> fetchReportData(AllocationReportData reportData) {
+            return Stream.generate(() -> row);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ReportFieldMappingBenchmark.class.getSimpleName()).build()).run();
+    }
+}
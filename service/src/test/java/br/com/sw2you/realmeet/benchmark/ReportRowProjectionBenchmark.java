@@ -0,0 +1,221 @@
+package br.com.sw2you.realmeet.benchmark;
+
+import br.com.sw2you.realmeet.config.JasperReportConfiguration;
+import br.com.sw2you.realmeet.config.properties.ReportVirtualizerConfigProperties;
+import br.com.sw2you.realmeet.domain.entity.Allocation;
+import br.com.sw2you.realmeet.domain.model.AllocationReportRow;
+import br.com.sw2you.realmeet.domain.repository.AllocationRepository;
+import br.com.sw2you.realmeet.email.TemplateType;
+import br.com.sw2you.realmeet.report.enumeration.ReportFormat;
+import br.com.sw2you.realmeet.report.enumeration.ReportHandlerType;
+import br.com.sw2you.realmeet.report.handler.AbstractReportHandler;
+import br.com.sw2you.realmeet.report.handler.AllocationReportHandler;
+import br.com.sw2you.realmeet.report.model.AllocationReportData;
+import br.com.sw2you.realmeet.report.model.ReportMetrics;
+import br.com.sw2you.realmeet.report.validator.AbstractReportValidator;
+import br.com.sw2you.realmeet.report.validator.AllocationReportValidator;
+import br.com.sw2you.realmeet.report.virtualizer.ReportVirtualizerFactory;
+import br.com.sw2you.realmeet.util.Constants;
+import br.com.sw2you.realmeet.util.DateUtils;
+import br.com.sw2you.realmeet.utils.ConstantsTest;
+import br.com.sw2you.realmeet.utils.TestDataCreator;
+import br.com.sw2you.realmeet.utils.TestUtils;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import net.sf.jasperreports.engine.JRField;
+import net.sf.jasperreports.engine.JasperReport;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Fills a one-month allocation report from freshly materialized rows. entityRows is the previous fetch: an
+ * Allocation with its Employee per row, registered in a map standing in for the persistence context (with its loaded
+ * state) and detached after mapping. projectionRows is the AllocationReportRow projection. Run with -prof gc to
+ * compare bytes per fill; the JDBC and Hibernate hydration costs the projection also avoids are not simulated.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ReportRowProjectionBenchmark {
+    @Param({ "50000" })
+    private int rows;
+
+    @Param({ "PDF", "CSV" })
+    private ReportFormat reportFormat;
+
+    private EntityReportHandler entityReportHandler;
+    private AllocationReportHandler projectionReportHandler;
+    private AllocationReportData reportData;
+
+    @Setup
+    public void setup() {
+        var jasperReport = new JasperReportConfiguration(false).allocationReport();
+        var row = TestDataCreator.newAllocationReportRowDefault();
+        var allocationRepository = Mockito.mock(AllocationRepository.class, Mockito.withSettings().stubOnly());
+        BDDMockito
+            .given(allocationRepository.streamRowsForReport(ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .willAnswer(
+                invocation ->
+                    IntStream
+                        .range(0, rows)
+                        .mapToObj(
+                            i ->
+                                new AllocationReportRow(
+                                    row.getStartAt(),
+                                    row.getEndAt(),
+                                    row.getRoomName(),
+                                    row.getEmployeeName()
+                                )
+                        )
+            );
+
+        entityReportHandler = new EntityReportHandler(jasperReport, rows);
+        projectionReportHandler =
+            new AllocationReportHandler(
+                jasperReport,
+                allocationRepository,
+                new AllocationReportValidator(allocationRepository, 500000),
+                new ReportVirtualizerFactory(new ReportVirtualizerConfigProperties(null, null)),
+                TestUtils.newReportPartitionExecutor(Runnable::run)
+            );
+        reportData =
+            AllocationReportData
+                .newAllocationDataReportBuilder()
+                .dateFrom(LocalDate.of(2022, 1, 1))
+                .dateTo(LocalDate.of(2022, 1, 31))
+                .email(ConstantsTest.EMAIL_TO)
+                .build();
+    }
+
+    @Benchmark
+    public ReportMetrics entityRows() {
+        return entityReportHandler.createReport(reportData, reportFormat, OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public ReportMetrics projectionRows() {
+        return projectionReportHandler.createReport(reportData, reportFormat, OutputStream.nullOutputStream());
+    }
+
+    private static class EntityReportHandler extends AbstractReportHandler<Allocation, AllocationReportData> {
+        private final Allocation allocation = TestDataCreator
+            .newAllocationBuilderDefault()
+            .createdAt(DateUtils.now())
+            .updatedAt(DateUtils.now())
+            .build();
+        private final Map<Long, Object[]> persistenceContext = new HashMap<>();
+        private final int rows;
+
+        EntityReportHandler(JasperReport jasperReport, int rows) {
+            super(
+                jasperReport,
+                new ReportVirtualizerFactory(new ReportVirtualizerConfigProperties(null, null)),
+                TestUtils.newReportPartitionExecutor(Runnable::run)
+            );
+            this.rows = rows;
+        }
+
+        @Override
+        public TemplateType getTemplateType() {
+            return TemplateType.ALLOCATION_REPORT;
+        }
+
+        @Override
+        public AbstractReportValidator getReportValidator() {
+            return null;
+        }
+
+        @Override
+        public ReportHandlerType getReportHandlerType() {
+            return ReportHandlerType.ALLOCATION;
+        }
+
+        @Override
+        protected Stream<Allocation> fetchReportData(AllocationReportData reportData) {
+            return IntStream.range(0, rows).mapToObj(this::load);
+        }
+
+        @Override
+        protected void evict(Allocation allocation) {
+            persistenceContext.remove(allocation.getId());
+        }
+
+        @Override
+        protected Function<Allocation, Object> fieldAccessor(JRField jrField) {
+            switch (jrField.getName()) {
+                case "DateFrom":
+                    return allocation -> DateUtils.formatUsingPattern(allocation.getStartAt());
+                case "DateTo":
+                    return allocation -> DateUtils.formatUsingPattern(allocation.getEndAt());
+                case "RoomName":
+                    return allocation -> allocation.getRoom().getName();
+                case "EmployeeName":
+                    return allocation -> allocation.getEmployee().getName();
+                default:
+                    return allocation -> Constants.EMPTY;
+            }
+        }
+
+        private Allocation load(int i) {
+            var loaded = Allocation
+                .newAllocationBuilder()
+                .id((long) i)
+                .room(allocation.getRoom())
+                .employee(
+                    TestDataCreator
+                        .newEmployeeBuilderDefault()
+                        .name(allocation.getEmployee().getName())
+                        .email(allocation.getEmployee().getEmail())
+                        .build()
+                )
+                .subject(allocation.getSubject())
+                .startAt(allocation.getStartAt())
+                .endAt(allocation.getEndAt())
+                .createdAt(allocation.getCreatedAt())
+                .updatedAt(allocation.getUpdatedAt())
+                .build();
+            persistenceContext.put(
+                loaded.getId(),
+                new Object[] {
+                    loaded.getRoom(),
+                    loaded.getEmployee().getName(),
+                    loaded.getEmployee().getEmail(),
+                    loaded.getSubject(),
+                    loaded.getStartAt(),
+                    loaded.getEndAt(),
+                    loaded.getCreatedAt(),
+                    loaded.getUpdatedAt()
+                }
+            );
+            return loaded;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ReportRowProjectionBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,25 @@
+package br.com.sw2you.realmeet.benchmark;
+
+import br.com.sw2you.realmeet.config.JasperReportConfiguration;
+
+/**
+ * Prints how long a cold JVM takes to obtain the allocation report, either by loading the .jasper file compiled at
+ * build time (default) or by compiling the .jrxml source (compileTemplates=true). Run each mode in a fresh JVM.
+ */
+public class ReportTemplateLoadHarness {
+
+    public static void main(String[] args) {
+        var compileTemplates = args.length > 0 && args[0].equals("compileTemplates=true");
+
+        var start = System.nanoTime();
+        var jasperReport = new JasperReportConfiguration(compileTemplates).allocationReport();
+        var elapsedNanos = System.nanoTime() - start;
+
+        System.out.printf(
+            "%s loaded in %.1f ms (compileTemplates=%s)%n",
+            jasperReport.getName(),
+            elapsedNanos / 1e6,
+            compileTemplates
+        );
+    }
+}
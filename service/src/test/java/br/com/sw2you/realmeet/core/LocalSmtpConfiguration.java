@@ -0,0 +1,21 @@
+package br.com.sw2you.realmeet.core;
+
+import br.com.sw2you.realmeet.model.LocalSmtpServer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+@Configuration
+@Profile(LocalSmtpConfiguration.PROFILE)
+public class LocalSmtpConfiguration {
+    public static final String PROFILE = "local-smtp";
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public LocalSmtpServer localSmtpServer(
+        @Value("${spring.mail.properties.mail.smtp.port}") int port,
+        @Value("${realmeet.localSmtp.delayMillis:0}") long delayMillis
+    ) {
+        return new LocalSmtpServer(port, delayMillis);
+    }
+}
@@ -9,6 +9,8 @@ import br.com.sw2you.realmeet.domain.repository.RoomRepository;
 import br.com.sw2you.realmeet.email.EmailSender;
 import br.com.sw2you.realmeet.utils.ConstantsTest;
 import br.com.sw2you.realmeet.utils.TestDataCreator;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -37,7 +39,7 @@ public class AllocationApiIntegrationTest extends BaseIntegrationTest {
     void testCreateAllocationSuccess() {
         var room = roomRepository.saveAndFlush(TestDataCreator.newRoomBuilderDefault().build());
         var createAllocationDTO = TestDataCreator.newCreateAllocationDTO().roomId(room.getId());
-        var allocationDTO = api.createAllocation(ConstantsTest.TEST_CLIENT_API_KEY, createAllocationDTO);
+        var allocationDTO = api.createAllocation(ConstantsTest.TEST_CLIENT_API_KEY, createAllocationDTO, null);
 
         Assertions.assertNotNull(allocationDTO.getId());
         assertEquals(room.getId(), allocationDTO.getRoomId());
@@ -48,6 +50,26 @@ public class AllocationApiIntegrationTest extends BaseIntegrationTest {
         assertTrue(createAllocationDTO.getEndAt().isEqual(allocationDTO.getEndAt()));
     }
 
+    @Test
+    void testCreateAllocationWithIdempotencyKeyReplaysResponse() {
+        var room = roomRepository.saveAndFlush(TestDataCreator.newRoomBuilderDefault().build());
+        var createAllocationDTO = TestDataCreator.newCreateAllocationDTO().roomId(room.getId());
+
+        var allocationDTO = api.createAllocation(ConstantsTest.TEST_CLIENT_API_KEY, createAllocationDTO, "key-1");
+        var replayedAllocationDTO = api.createAllocation(
+            ConstantsTest.TEST_CLIENT_API_KEY,
+            createAllocationDTO,
+            "key-1"
+        );
+
+        assertEquals(allocationDTO.getId(), replayedAllocationDTO.getId());
+        assertEquals(1, allocationRepository.count());
+        assertThrows(
+            HttpClientErrorException.Conflict.class,
+            () -> api.createAllocation(ConstantsTest.TEST_CLIENT_API_KEY, createAllocationDTO.subject("Other"), "key-1")
+        );
+    }
+
     @Test
     void testCreateAllocationValidationError() {
         var room = roomRepository.saveAndFlush(TestDataCreator.newRoomBuilderDefault().build());
@@ -55,7 +77,7 @@ public class AllocationApiIntegrationTest extends BaseIntegrationTest {
 
         assertThrows(
             HttpClientErrorException.UnprocessableEntity.class,
-            () -> api.createAllocation(ConstantsTest.TEST_CLIENT_API_KEY, allocationDTO)
+            () -> api.createAllocation(ConstantsTest.TEST_CLIENT_API_KEY, allocationDTO, null)
         );
     }
 
@@ -63,7 +85,8 @@ public class AllocationApiIntegrationTest extends BaseIntegrationTest {
     void testCreateAllocationWhenRoomDoesNotExist() {
         assertThrows(
             HttpClientErrorException.NotFound.class,
-            () -> api.createAllocation(ConstantsTest.TEST_CLIENT_API_KEY, TestDataCreator.newCreateAllocationDTO())
+            () ->
+                api.createAllocation(ConstantsTest.TEST_CLIENT_API_KEY, TestDataCreator.newCreateAllocationDTO(), null)
         );
     }
 
@@ -77,6 +100,37 @@ public class AllocationApiIntegrationTest extends BaseIntegrationTest {
         assertFalse(allocationRepository.findById(allocation.getId()).isPresent());
     }
 
+    @Test
+    void testListAllocationChangesReturnsChangesAfterWatermark() {
+        var room = roomRepository.saveAndFlush(TestDataCreator.newRoomBuilderDefault().build());
+        var kept =
+            this.allocationRepository.saveAndFlush(TestDataCreator.newAllocationBuilderDefault().room(room).build());
+        var deleted =
+            this.allocationRepository.saveAndFlush(TestDataCreator.newAllocationBuilderDefault().room(room).build());
+
+        var firstSync = api.listAllocationChanges(
+            ConstantsTest.TEST_CLIENT_API_KEY,
+            OffsetDateTime.of(1970, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC),
+            null,
+            null
+        );
+        api.deleteAllocation(ConstantsTest.TEST_CLIENT_API_KEY, deleted.getId());
+        var secondSync = api.listAllocationChanges(
+            ConstantsTest.TEST_CLIENT_API_KEY,
+            firstSync.getWatermark(),
+            firstSync.getWatermarkId(),
+            null
+        );
+
+        assertEquals(2, firstSync.getAllocations().size());
+        assertFalse(firstSync.getHasMore());
+        assertTrue(secondSync.getAllocations().isEmpty());
+        assertEquals(1, secondSync.getDeletedAllocations().size());
+        assertEquals(deleted.getId(), secondSync.getDeletedAllocations().get(0).getId());
+        assertEquals(room.getId(), secondSync.getDeletedAllocations().get(0).getRoomId());
+        assertTrue(allocationRepository.findById(kept.getId()).isPresent());
+    }
+
     @Test
     void testDeleteAllocationWhenCannotBeDeleted() {
         var room = roomRepository.saveAndFlush(TestDataCreator.newRoomBuilderDefault().build());
@@ -108,7 +162,7 @@ public class AllocationApiIntegrationTest extends BaseIntegrationTest {
     void testUpdateAllocationSuccess() {
         var room = roomRepository.saveAndFlush(TestDataCreator.newRoomBuilderDefault().build());
         var createAllocationDTO = TestDataCreator.newCreateAllocationDTO().roomId(room.getId());
-        var allocationDTO = api.createAllocation(ConstantsTest.TEST_CLIENT_API_KEY, createAllocationDTO);
+        var allocationDTO = api.createAllocation(ConstantsTest.TEST_CLIENT_API_KEY, createAllocationDTO, null);
 
         var updateAllocationDTO = TestDataCreator
             .newUpdateAllocationDTO()
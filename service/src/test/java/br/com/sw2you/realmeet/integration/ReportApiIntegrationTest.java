@@ -1,15 +1,22 @@
 package br.com.sw2you.realmeet.integration;
 
 import br.com.sw2you.realmeet.api.facade.ReportApi;
+import br.com.sw2you.realmeet.api.model.CreateReportSubscriptionDTO;
 import br.com.sw2you.realmeet.core.BaseIntegrationTest;
 import br.com.sw2you.realmeet.domain.repository.AllocationRepository;
 import br.com.sw2you.realmeet.domain.repository.RoomRepository;
 import br.com.sw2you.realmeet.model.TestReportDispatcherService;
 import br.com.sw2you.realmeet.report.enumeration.ReportFormat;
+import br.com.sw2you.realmeet.report.enumeration.ReportHandlerType;
+import br.com.sw2you.realmeet.report.enumeration.ReportJobStatus;
+import br.com.sw2you.realmeet.report.enumeration.ReportPeriod;
 import br.com.sw2you.realmeet.service.ReportDispatcherService;
+import br.com.sw2you.realmeet.service.RoomUsageService;
 import br.com.sw2you.realmeet.utils.ConstantsTest;
 import br.com.sw2you.realmeet.utils.TestDataCreator;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.IntStream;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -17,9 +24,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
+import org.springframework.web.client.HttpClientErrorException;
 
 @Import(ReportApiIntegrationTest.Configuration.class)
 public class ReportApiIntegrationTest extends BaseIntegrationTest {
+    private static final long REPORT_JOB_TIMEOUT_MILLIS = 10_000;
+
     @Autowired
     private ReportApi api;
 
@@ -29,6 +39,9 @@ public class ReportApiIntegrationTest extends BaseIntegrationTest {
     @Autowired
     private AllocationRepository allocationRepository;
 
+    @Autowired
+    private RoomUsageService roomUsageService;
+
     @Override
     protected void setupEach() throws Exception {
         setLocalHostBasePath(api.getApiClient(), "/v1");
@@ -38,18 +51,133 @@ public class ReportApiIntegrationTest extends BaseIntegrationTest {
     void testCreateAllocationReportSuccess() {
         persistAllocations(10);
 
-        Assertions.assertDoesNotThrow(
+        var reportJobDTO = api.createAllocationReport(
+            ConstantsTest.TEST_CLIENT_API_KEY,
+            ConstantsTest.EMAIL_TO,
+            LocalDate.now().minusDays(15),
+            LocalDate.now().plusDays(15),
+            null,
+            ReportFormat.PDF.name()
+        );
+
+        Assertions.assertNotNull(reportJobDTO.getId());
+        Assertions.assertEquals(ReportHandlerType.ALLOCATION.name(), reportJobDTO.getReportType());
+        Assertions.assertEquals(ReportFormat.PDF.name(), reportJobDTO.getReportFormat());
+    }
+
+    @Test
+    void testGetReportJobCompleted() throws InterruptedException {
+        persistAllocations(10);
+
+        var reportJobDTO = api.createAllocationReport(
+            ConstantsTest.TEST_CLIENT_API_KEY,
+            ConstantsTest.EMAIL_TO,
+            LocalDate.now().minusDays(15),
+            LocalDate.now().plusDays(15),
+            null,
+            ReportFormat.PDF.name()
+        );
+
+        var deadline = System.currentTimeMillis() + REPORT_JOB_TIMEOUT_MILLIS;
+        while (
+            !ReportJobStatus.COMPLETED.name().equals(reportJobDTO.getStatus()) && System.currentTimeMillis() < deadline
+        ) {
+            TimeUnit.MILLISECONDS.sleep(100);
+            reportJobDTO = api.getReportJob(ConstantsTest.TEST_CLIENT_API_KEY, reportJobDTO.getId());
+        }
+
+        Assertions.assertEquals(ReportJobStatus.COMPLETED.name(), reportJobDTO.getStatus());
+        Assertions.assertEquals(10L, reportJobDTO.getRowCount());
+        Assertions.assertTrue(reportJobDTO.getSizeBytes() > 0);
+        Assertions.assertTrue(
+            api.downloadReportJob(ConstantsTest.TEST_CLIENT_API_KEY, reportJobDTO.getId()).length() > 0
+        );
+    }
+
+    @Test
+    void testGetReportJobNotFound() {
+        Assertions.assertThrows(
+            HttpClientErrorException.NotFound.class,
+            () -> api.getReportJob(ConstantsTest.TEST_CLIENT_API_KEY, 1L)
+        );
+    }
+
+    @Test
+    void testReportSubscriptionLifecycle() {
+        var reportSubscriptionDTO = api.createReportSubscription(
+            ConstantsTest.TEST_CLIENT_API_KEY,
+            newCreateReportSubscriptionDTO().cron(ConstantsTest.REPORT_SUBSCRIPTION_CRON)
+        );
+
+        Assertions.assertNotNull(reportSubscriptionDTO.getId());
+        Assertions.assertNotNull(reportSubscriptionDTO.getNextRunAt());
+        Assertions.assertEquals(
+            reportSubscriptionDTO,
+            api.getReportSubscription(ConstantsTest.TEST_CLIENT_API_KEY, reportSubscriptionDTO.getId())
+        );
+
+        api.deleteReportSubscription(ConstantsTest.TEST_CLIENT_API_KEY, reportSubscriptionDTO.getId());
+
+        Assertions.assertThrows(
+            HttpClientErrorException.NotFound.class,
+            () -> api.getReportSubscription(ConstantsTest.TEST_CLIENT_API_KEY, reportSubscriptionDTO.getId())
+        );
+    }
+
+    @Test
+    void testCreateReportSubscriptionInvalidCron() {
+        Assertions.assertThrows(
+            HttpClientErrorException.UnprocessableEntity.class,
             () ->
-                api.createAllocationReport(
+                api.createReportSubscription(
                     ConstantsTest.TEST_CLIENT_API_KEY,
-                    ConstantsTest.EMAIL_TO,
-                    LocalDate.now().minusDays(15),
-                    LocalDate.now().plusDays(15),
-                    ReportFormat.PDF.name()
+                    newCreateReportSubscriptionDTO().cron("every month")
                 )
         );
     }
 
+    @Test
+    void testGetRoomUsageReadsRebuiltRollup() {
+        persistAllocations(10);
+        roomUsageService.rebuildRoomUsage();
+
+        var roomUsage = api.getRoomUsage(
+            ConstantsTest.TEST_CLIENT_API_KEY,
+            LocalDate.now().minusDays(15),
+            LocalDate.now().plusDays(15)
+        );
+
+        Assertions.assertEquals(1, roomUsage.size());
+        Assertions.assertEquals(ConstantsTest.DEFAULT_ROOM_NAME, roomUsage.get(0).getRoomName());
+        Assertions.assertEquals(10L, roomUsage.get(0).getAllocationCount());
+        Assertions.assertEquals(600L, roomUsage.get(0).getBookedMinutes());
+    }
+
+    @Test
+    void testCreateRoomUsageReportSuccess() {
+        persistAllocations(10);
+        roomUsageService.rebuildRoomUsage();
+
+        var reportJobDTO = api.createRoomUsageReport(
+            ConstantsTest.TEST_CLIENT_API_KEY,
+            ConstantsTest.EMAIL_TO,
+            LocalDate.now().minusDays(15),
+            LocalDate.now().plusDays(15),
+            ReportFormat.CSV.name()
+        );
+
+        Assertions.assertNotNull(reportJobDTO.getId());
+        Assertions.assertEquals(ReportHandlerType.ROOM_USAGE.name(), reportJobDTO.getReportType());
+    }
+
+    private CreateReportSubscriptionDTO newCreateReportSubscriptionDTO() {
+        return new CreateReportSubscriptionDTO()
+            .reportType(ReportHandlerType.ALLOCATION.name())
+            .reportFormat(ReportFormat.PDF.name())
+            .reportPeriod(ReportPeriod.PREVIOUS_MONTH.name())
+            .recipients(List.of(ConstantsTest.EMAIL_TO));
+    }
+
     private void persistAllocations(int numberOfAllocations) {
         var room = roomRepository.saveAndFlush(TestDataCreator.newRoomBuilderDefault().build());
 
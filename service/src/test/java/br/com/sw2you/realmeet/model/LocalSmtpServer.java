@@ -0,0 +1,164 @@
+package br.com.sw2you.realmeet.model;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class LocalSmtpServer {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LocalSmtpServer.class);
+    private static final String CRLF = "\r\n";
+
+    private final int port;
+    private final long delayMillis;
+    private final AtomicLong messages = new AtomicLong();
+    private final AtomicLong recipients = new AtomicLong();
+    private final AtomicLong connections = new AtomicLong();
+
+    private ServerSocket serverSocket;
+    private ExecutorService executor;
+
+    public LocalSmtpServer(int port, long delayMillis) {
+        this.port = port;
+        this.delayMillis = delayMillis;
+    }
+
+    public synchronized void start() {
+        try {
+            serverSocket = new ServerSocket(port, 200, InetAddress.getLoopbackAddress());
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not start local SMTP server on port " + port, e);
+        }
+        executor = Executors.newCachedThreadPool();
+        executor.execute(this::acceptConnections);
+        LOGGER.info("Local SMTP server listening on port {} (delay {} ms)", getPort(), delayMillis);
+    }
+
+    public synchronized void stop() {
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            LOGGER.warn("Error closing local SMTP server", e);
+        }
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public long getMessageCount() {
+        return messages.get();
+    }
+
+    public long getRecipientCount() {
+        return recipients.get();
+    }
+
+    public long getConnectionCount() {
+        return connections.get();
+    }
+
+    public void reset() {
+        messages.set(0);
+        recipients.set(0);
+        connections.set(0);
+    }
+
+    private void acceptConnections() {
+        while (!serverSocket.isClosed()) {
+            try {
+                var socket = serverSocket.accept();
+                connections.incrementAndGet();
+                executor.execute(() -> handleConnection(socket));
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    LOGGER.warn("Error accepting SMTP connection", e);
+                }
+            }
+        }
+    }
+
+    private void handleConnection(Socket socket) {
+        try (
+            socket;
+            var in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            var out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII))
+        ) {
+            reply(out, "220 localhost ESMTP realmeet local SMTP");
+
+            String line;
+            while ((line = in.readLine()) != null) {
+                var command = line.length() < 4 ? line : line.substring(0, 4);
+
+                switch (command.toUpperCase(Locale.ROOT)) {
+                    case "EHLO":
+                    case "HELO":
+                        reply(out, "250 localhost");
+                        break;
+                    case "MAIL":
+                    case "RSET":
+                    case "NOOP":
+                        reply(out, "250 OK");
+                        break;
+                    case "RCPT":
+                        recipients.incrementAndGet();
+                        reply(out, "250 OK");
+                        break;
+                    case "DATA":
+                        reply(out, "354 End data with <CR><LF>.<CR><LF>");
+                        readData(in);
+                        delay();
+                        messages.incrementAndGet();
+                        reply(out, "250 OK queued");
+                        break;
+                    case "QUIT":
+                        reply(out, "221 Bye");
+                        return;
+                    default:
+                        reply(out, "502 Command not implemented");
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.debug("SMTP connection closed", e);
+        }
+    }
+
+    private void readData(BufferedReader in) throws IOException {
+        String line;
+        while ((line = in.readLine()) != null && !".".equals(line)) {}
+    }
+
+    private void delay() {
+        if (delayMillis > 0) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void reply(Writer out, String response) throws IOException {
+        out.write(response + CRLF);
+        out.flush();
+    }
+}
@@ -4,9 +4,10 @@ import br.com.sw2you.realmeet.report.model.GeneratedReport;
 import br.com.sw2you.realmeet.service.ReportDispatcherService;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.util.FileCopyUtils;
 
 public class TestReportDispatcherService extends ReportDispatcherService {
     private static final Logger LOGGER = LoggerFactory.getLogger(TestReportDispatcherService.class);
@@ -20,7 +21,7 @@ public class TestReportDispatcherService extends ReportDispatcherService {
     public void dispatch(GeneratedReport generatedReport) {
         var outputFile = new File(TEM_DIR, generatedReport.getFileName());
         try {
-            FileCopyUtils.copy(generatedReport.getBytes(), outputFile);
+            Files.copy(generatedReport.getPath(), outputFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
             LOGGER.info("Report saved to {}", outputFile.getAbsolutePath());
         } catch (IOException e) {
             LOGGER.error("Error saving report to: " + outputFile.getAbsolutePath(), e);
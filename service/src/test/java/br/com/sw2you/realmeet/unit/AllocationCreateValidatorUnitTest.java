@@ -264,6 +264,49 @@ class AllocationCreateValidatorUnitTest extends BaseUnitTest {
         return OffsetDateTime.of(LocalDate.now().plusDays(1), LocalTime.of(hora, 0), DateUtils.DEFAULT_TIMEZONE);
     }
 
+    @Test
+    void testValidateWhenAttendeesAreValid() {
+        victim.validate(TestDataCreator.newCreateAllocationDTO().attendees(List.of("ana@teste.com", "joao@teste.com")));
+    }
+
+    @Test
+    void testValidateWhenAttendeeExceedsMaxLength() {
+        var exception = Assertions.assertThrows(
+            InvalidRequestException.class,
+            () ->
+                victim.validate(
+                    TestDataCreator
+                        .newCreateAllocationDTO()
+                        .attendees(
+                            List.of(
+                                StringUtils.rightPad("ana@teste.com", ALLOCATION_ATTENDEE_EMAIL_MAX_LENGTH + 1, 'a')
+                            )
+                        )
+                )
+        );
+        Assertions.assertEquals(1, exception.getValidationErrors().getNumberOfErrors());
+        Assertions.assertEquals(
+            new ValidationError(ALLOCATION_ATTENDEES, ALLOCATION_ATTENDEES + EXCEEDS_MAX_LENGTH),
+            exception.getValidationErrors().getError(0)
+        );
+    }
+
+    @Test
+    void testValidateWhenAttendeesAreDuplicated() {
+        var exception = Assertions.assertThrows(
+            InvalidRequestException.class,
+            () ->
+                victim.validate(
+                    TestDataCreator.newCreateAllocationDTO().attendees(List.of("ana@teste.com", "ANA@teste.com"))
+                )
+        );
+        Assertions.assertEquals(1, exception.getValidationErrors().getNumberOfErrors());
+        Assertions.assertEquals(
+            new ValidationError(ALLOCATION_ATTENDEES, ALLOCATION_ATTENDEES + DUPLICATE),
+            exception.getValidationErrors().getError(0)
+        );
+    }
+
     private boolean existeConflitoDeDatas(
         OffsetDateTime startReservada,
         OffsetDateTime endReservada,
@@ -0,0 +1,131 @@
+package br.com.sw2you.realmeet.unit;
+
+import br.com.sw2you.realmeet.config.properties.AllocationEventsConfigProperties;
+import br.com.sw2you.realmeet.controller.AllocationController;
+import br.com.sw2you.realmeet.core.BaseUnitTest;
+import br.com.sw2you.realmeet.event.AllocationChangeEvent;
+import br.com.sw2you.realmeet.event.AllocationChangeType;
+import br.com.sw2you.realmeet.event.AllocationEventBroadcaster;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class AllocationEventBroadcasterUnitTest extends BaseUnitTest {
+    private static final String EVENTS_PATH = "/allocations/events";
+    private static final Pattern EVENT_ID = Pattern.compile("id:(\\d+)");
+
+    private AllocationEventBroadcaster victim;
+
+    private MockMvc mockMvc;
+
+    @Test
+    void testStreamsChangesOfSubscribedRoom() throws Exception {
+        setupVictim(Runnable::run, 8, 8);
+
+        var result = subscribe(MockMvcRequestBuilders.get(EVENTS_PATH).param("roomId", "1"));
+        victim.publish(newAllocationChangeEvent(AllocationChangeType.CREATED, 10L, 1L));
+        victim.publish(newAllocationChangeEvent(AllocationChangeType.CREATED, 20L, 2L));
+        victim.publish(newAllocationChangeEvent(AllocationChangeType.DELETED, 10L, 1L));
+
+        var content = result.getResponse().getContentAsString();
+        Assertions.assertTrue(content.contains("event:allocation-created"));
+        Assertions.assertTrue(content.contains("event:allocation-deleted"));
+        Assertions.assertTrue(content.contains("\"allocationId\":10"));
+        Assertions.assertFalse(content.contains("\"allocationId\":20"));
+    }
+
+    @Test
+    void testResumeReplaysMissedEvents() throws Exception {
+        setupVictim(Runnable::run, 8, 8);
+
+        var first = subscribe(MockMvcRequestBuilders.get(EVENTS_PATH));
+        victim.publish(newAllocationChangeEvent(AllocationChangeType.CREATED, 10L, 1L));
+        var matcher = EVENT_ID.matcher(first.getResponse().getContentAsString());
+        Assertions.assertTrue(matcher.find());
+        victim.publish(newAllocationChangeEvent(AllocationChangeType.UPDATED, 10L, 1L));
+        victim.publish(newAllocationChangeEvent(AllocationChangeType.CREATED, 20L, 2L));
+
+        var resumed = subscribe(MockMvcRequestBuilders.get(EVENTS_PATH).header("Last-Event-ID", matcher.group(1)));
+
+        var content = resumed.getResponse().getContentAsString();
+        Assertions.assertEquals(
+            content.indexOf("event:allocation-created"),
+            content.lastIndexOf("event:allocation-created")
+        );
+        Assertions.assertTrue(content.contains("event:allocation-updated"));
+        Assertions.assertTrue(content.contains("\"allocationId\":20"));
+    }
+
+    @Test
+    void testResumeOutsideReplayBufferSendsReset() throws Exception {
+        setupVictim(Runnable::run, 8, 2);
+
+        var first = subscribe(MockMvcRequestBuilders.get(EVENTS_PATH));
+        victim.publish(newAllocationChangeEvent(AllocationChangeType.CREATED, 10L, 1L));
+        var matcher = EVENT_ID.matcher(first.getResponse().getContentAsString());
+        Assertions.assertTrue(matcher.find());
+        victim.publish(newAllocationChangeEvent(AllocationChangeType.CREATED, 20L, 1L));
+        victim.publish(newAllocationChangeEvent(AllocationChangeType.CREATED, 30L, 1L));
+        victim.publish(newAllocationChangeEvent(AllocationChangeType.CREATED, 40L, 1L));
+
+        var resumed = subscribe(MockMvcRequestBuilders.get(EVENTS_PATH).header("Last-Event-ID", matcher.group(1)));
+
+        var content = resumed.getResponse().getContentAsString();
+        Assertions.assertTrue(content.contains("event:reset"));
+        Assertions.assertFalse(content.contains("allocationId"));
+    }
+
+    @Test
+    void testSlowSubscriberIsDropped() {
+        List<Runnable> pendingDrains = new ArrayList<>();
+        setupVictim(pendingDrains::add, 2, 8);
+
+        victim.subscribe(null, null);
+        victim.subscribe(2L, null);
+        Assertions.assertEquals(2, victim.getSubscriberCount());
+
+        victim.publish(newAllocationChangeEvent(AllocationChangeType.CREATED, 10L, 1L));
+        victim.publish(newAllocationChangeEvent(AllocationChangeType.CREATED, 20L, 1L));
+        victim.publish(newAllocationChangeEvent(AllocationChangeType.CREATED, 30L, 1L));
+
+        Assertions.assertEquals(1, victim.getSubscriberCount());
+    }
+
+    private void setupVictim(Executor executor, int bufferCapacity, int replayCapacity) {
+        victim =
+            new AllocationEventBroadcaster(
+                executor,
+                new ObjectMapper().findAndRegisterModules(),
+                new AllocationEventsConfigProperties(bufferCapacity, replayCapacity, Duration.ofMinutes(1))
+            );
+        mockMvc = MockMvcBuilders.standaloneSetup(new AllocationController(Runnable::run, null, null, victim)).build();
+    }
+
+    private MvcResult subscribe(MockHttpServletRequestBuilder request) throws Exception {
+        return mockMvc.perform(request).andExpect(MockMvcResultMatchers.request().asyncStarted()).andReturn();
+    }
+
+    private AllocationChangeEvent newAllocationChangeEvent(
+        AllocationChangeType allocationChangeType,
+        Long allocationId,
+        Long roomId
+    ) {
+        return AllocationChangeEvent
+            .newAllocationChangeEventBuilder()
+            .type(allocationChangeType)
+            .allocationId(allocationId)
+            .roomId(roomId)
+            .build();
+    }
+}
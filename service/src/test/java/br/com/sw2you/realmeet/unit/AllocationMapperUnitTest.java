@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import br.com.sw2you.realmeet.core.BaseUnitTest;
 import br.com.sw2you.realmeet.mapper.AllocationMapper;
+import br.com.sw2you.realmeet.utils.ConstantsTest;
 import br.com.sw2you.realmeet.utils.TestDataCreator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -32,6 +33,20 @@ class AllocationMapperUnitTest extends BaseUnitTest {
         assertEquals(allocation.getEndAt(), allocationDTO.getEndAt());
     }
 
+    @Test
+    void testAllocationToAllocationTombstoneDto() {
+        var allocation = TestDataCreator
+            .newAllocationBuilderDefault()
+            .id(1L)
+            .deletedAt(ConstantsTest.DEFAULT_ALLOCATION_START_AT)
+            .build();
+        var allocationTombstoneDTO = victim.allocationToAllocationTombstoneDto(allocation);
+
+        assertEquals(allocation.getId(), allocationTombstoneDTO.getId());
+        assertEquals(allocation.getRoom().getId(), allocationTombstoneDTO.getRoomId());
+        assertEquals(allocation.getDeletedAt(), allocationTombstoneDTO.getDeletedAt());
+    }
+
     @Test
     void testCreateAllocationDTOToAllocation() {
         var createAllocationDTO = TestDataCreator.newCreateAllocationDTO();
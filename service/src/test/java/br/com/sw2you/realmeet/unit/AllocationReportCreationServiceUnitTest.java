@@ -1,20 +1,48 @@
 package br.com.sw2you.realmeet.unit;
 
 import br.com.sw2you.realmeet.config.JasperReportConfiguration;
+import br.com.sw2you.realmeet.config.properties.ReportCacheConfigProperties;
+import br.com.sw2you.realmeet.config.properties.ReportCompressionConfigProperties;
+import br.com.sw2you.realmeet.config.properties.ReportVirtualizerConfigProperties;
 import br.com.sw2you.realmeet.core.BaseUnitTest;
+import br.com.sw2you.realmeet.domain.entity.StoredReport;
 import br.com.sw2you.realmeet.domain.repository.AllocationRepository;
 import br.com.sw2you.realmeet.exception.InvalidRequestException;
+import br.com.sw2you.realmeet.report.cache.ReportCache;
+import br.com.sw2you.realmeet.report.enumeration.ReportCompression;
 import br.com.sw2you.realmeet.report.enumeration.ReportFormat;
+import br.com.sw2you.realmeet.report.enumeration.ReportHandlerType;
 import br.com.sw2you.realmeet.report.handler.AllocationReportHandler;
+import br.com.sw2you.realmeet.report.instrumentation.ReportInstrumentation;
+import br.com.sw2you.realmeet.report.limiter.ReportFillLimiter;
+import br.com.sw2you.realmeet.report.model.AllocationReportData;
+import br.com.sw2you.realmeet.report.model.GeneratedReport;
 import br.com.sw2you.realmeet.report.resolver.ReportHandlerResolver;
 import br.com.sw2you.realmeet.report.validator.AllocationReportValidator;
+import br.com.sw2you.realmeet.report.virtualizer.ReportVirtualizerFactory;
 import br.com.sw2you.realmeet.service.ReportCreationService;
 import br.com.sw2you.realmeet.service.ReportDispatcherService;
+import br.com.sw2you.realmeet.service.ReportStoreService;
 import br.com.sw2you.realmeet.util.Constants;
 import br.com.sw2you.realmeet.utils.ConstantsTest;
+import br.com.sw2you.realmeet.utils.TestDataCreator;
+import br.com.sw2you.realmeet.utils.TestUtils;
 import br.com.sw2you.realmeet.validator.ValidationError;
 import br.com.sw2you.realmeet.validator.ValidatorConstants;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.OffsetTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,12 +50,21 @@ import org.mockito.ArgumentMatchers;
 import org.mockito.BDDMockito;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.util.unit.DataSize;
 
 class AllocationReportCreationServiceUnitTest extends BaseUnitTest {
-    private final int MAX_MONTHS_INTERVAL = 12;
+    private final long MAX_ROWS = 1000;
+    private static final String DOWNLOAD_URL = "http://localhost:8080/v1/reports/files/token";
 
     private ReportCreationService victim;
 
+    private SimpleMeterRegistry meterRegistry;
+
+    private ReportFillLimiter reportFillLimiter;
+
     @Mock
     private ReportHandlerResolver reportHandlerResolver;
 
@@ -40,42 +77,233 @@ class AllocationReportCreationServiceUnitTest extends BaseUnitTest {
     @Mock
     private AllocationReportValidator allocationReportValidator;
 
+    @Mock
+    private ReportStoreService reportStoreService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @BeforeEach
     void setupEach() {
-        victim = new ReportCreationService(reportHandlerResolver, reportDispatcherService);
+        meterRegistry = new SimpleMeterRegistry();
+        reportFillLimiter = TestUtils.newReportFillLimiter(1, Duration.ofSeconds(1));
+        victim =
+            new ReportCreationService(
+                reportHandlerResolver,
+                reportDispatcherService,
+                new ReportCache(new ReportCacheConfigProperties(false, null, 0, DataSize.ofBytes(0), Duration.ZERO)),
+                reportFillLimiter,
+                reportStoreService,
+                new ReportCompressionConfigProperties(Map.of(ReportFormat.XML, ReportCompression.GZIP)),
+                new ReportInstrumentation(meterRegistry),
+                transactionManager
+            );
         BDDMockito
             .given(reportHandlerResolver.resolveReportHandler(ArgumentMatchers.any()))
             .willReturn(
                 new AllocationReportHandler(
-                    new JasperReportConfiguration().allocationReport(),
+                    new JasperReportConfiguration(false).allocationReport(),
                     allocationRepository,
-                    new AllocationReportValidator(MAX_MONTHS_INTERVAL)
+                    new AllocationReportValidator(allocationRepository, MAX_ROWS),
+                    new ReportVirtualizerFactory(new ReportVirtualizerConfigProperties(null, null)),
+                    TestUtils.newReportPartitionExecutor(Runnable::run)
                 )
             );
     }
 
     @Test
     void testCreateAllocationReportSuccess() {
-        victim.createAllocationReport(
+        givenStoredReport();
+
+        createAllocationReport(
             LocalDate.of(2022, 1, 1),
             LocalDate.of(2022, 12, 31),
             ConstantsTest.EMAIL_TO,
-            ReportFormat.PDF.name()
+            ReportFormat.PDF
         );
 
         Mockito.verify(reportDispatcherService).dispatch(ArgumentMatchers.any());
     }
 
+    @Test
+    void testCreateAllocationReportOpensTransactionOnlyWhileHoldingFillPermit() {
+        givenStoredReport();
+        BDDMockito
+            .given(transactionManager.getTransaction(ArgumentMatchers.any()))
+            .willAnswer(
+                invocation -> {
+                    TransactionDefinition transactionDefinition = invocation.getArgument(0);
+                    Assertions.assertTrue(transactionDefinition.isReadOnly());
+                    Assertions.assertEquals(0, reportFillLimiter.getAvailablePermits());
+                    return new SimpleTransactionStatus();
+                }
+            );
+
+        createAllocationReport(
+            LocalDate.of(2022, 1, 1),
+            LocalDate.of(2022, 1, 31),
+            ConstantsTest.EMAIL_TO,
+            ReportFormat.PDF
+        );
+
+        Mockito.verify(transactionManager).commit(ArgumentMatchers.any());
+        Assertions.assertEquals(1, reportFillLimiter.getAvailablePermits());
+    }
+
+    @Test
+    void testCreateAllocationReportSkipsOuterTransactionWhenPartitioned() {
+        givenStoredReport();
+
+        createAllocationReport(
+            LocalDate.of(2022, 1, 1),
+            LocalDate.of(2022, 12, 31),
+            ConstantsTest.EMAIL_TO,
+            ReportFormat.PDF
+        );
+
+        Mockito.verifyNoInteractions(transactionManager);
+        Assertions.assertEquals(1, reportFillLimiter.getAvailablePermits());
+    }
+
+    @Test
+    void testCreateAllocationReportWritesToTemporaryFile() {
+        givenStoredReport();
+        var reportFile = new AtomicReference<Path>();
+        BDDMockito
+            .willAnswer(
+                invocation -> {
+                    GeneratedReport generatedReport = invocation.getArgument(0);
+                    Assertions.assertTrue(Files.size(generatedReport.getPath()) > 0);
+                    Assertions.assertEquals(DOWNLOAD_URL, generatedReport.getDownloadUrl());
+                    reportFile.set(generatedReport.getPath());
+                    return null;
+                }
+            )
+            .given(reportDispatcherService)
+            .dispatch(ArgumentMatchers.any());
+
+        createAllocationReport(
+            LocalDate.of(2022, 1, 1),
+            LocalDate.of(2022, 12, 31),
+            ConstantsTest.EMAIL_TO,
+            ReportFormat.PDF
+        );
+
+        Assertions.assertNotNull(reportFile.get());
+        Assertions.assertFalse(Files.exists(reportFile.get()));
+    }
+
+    @Test
+    void testCreateAllocationReportRecordsStageMetrics() {
+        givenStoredReport();
+        BDDMockito
+            .given(allocationRepository.streamRowsForReport(ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .willAnswer(
+                invocation ->
+                    Stream.of(
+                        TestDataCreator.newAllocationReportRowDefault(),
+                        TestDataCreator.newAllocationReportRowDefault()
+                    )
+            );
+
+        createAllocationReport(
+            LocalDate.of(2022, 1, 1),
+            LocalDate.of(2022, 1, 31),
+            ConstantsTest.EMAIL_TO,
+            ReportFormat.PDF
+        );
+
+        Assertions.assertEquals(
+            1,
+            meterRegistry.get(ReportInstrumentation.VALIDATION).tag("type", "ALLOCATION").timer().count()
+        );
+        for (String stage : List.of(
+            ReportInstrumentation.FETCH,
+            ReportInstrumentation.FILL,
+            ReportInstrumentation.EXPORT,
+            ReportInstrumentation.DISPATCH
+        )) {
+            Assertions.assertEquals(
+                1,
+                meterRegistry.get(stage).tags("type", "ALLOCATION", "format", "PDF").timer().count()
+            );
+        }
+        Assertions.assertEquals(2.0, meterRegistry.get(ReportInstrumentation.ROWS).summary().totalAmount());
+        Assertions.assertEquals(1.0, meterRegistry.get(ReportInstrumentation.PAGES).summary().totalAmount());
+        Assertions.assertTrue(meterRegistry.get(ReportInstrumentation.OUTPUT_BYTES).summary().totalAmount() > 0);
+        Assertions.assertTrue(meterRegistry.get(ReportInstrumentation.FILE_BYTES).summary().totalAmount() > 0);
+    }
+
+    @Test
+    void testCreateXmlReportIsCompressedWhileExporting() throws IOException {
+        var reportFile = Files.createTempFile(Constants.REPORT, ".xml.gz");
+
+        try {
+            var reportMetrics = victim.createReport(
+                AllocationReportData
+                    .newAllocationDataReportBuilder()
+                    .dateFrom(LocalDate.of(2022, 1, 1))
+                    .dateTo(LocalDate.of(2022, 1, 31))
+                    .email(ConstantsTest.EMAIL_TO)
+                    .build(),
+                ReportFormat.XML,
+                ReportHandlerType.ALLOCATION,
+                reportFile
+            );
+
+            Assertions.assertEquals(ReportCompression.GZIP, reportMetrics.getReportCompression());
+            Assertions.assertEquals(Files.size(reportFile), reportMetrics.getSizeBytes());
+            Assertions.assertTrue(reportMetrics.getCompressionRatio() > 1.0);
+            try (var in = new GZIPInputStream(Files.newInputStream(reportFile))) {
+                var xml = in.readAllBytes();
+                Assertions.assertEquals(reportMetrics.getOutputBytes(), xml.length);
+                Assertions.assertTrue(new String(xml, StandardCharsets.UTF_8).startsWith("<?xml"));
+            }
+        } finally {
+            Files.deleteIfExists(reportFile);
+        }
+    }
+
+    @Test
+    void testCreateAllocationReportStreamsAndClosesReportRows() {
+        var rows = List.of(
+            TestDataCreator.newAllocationReportRowDefault(),
+            TestDataCreator.newAllocationReportRowDefault()
+        );
+        var closed = new AtomicBoolean();
+        givenStoredReport();
+        BDDMockito
+            .given(allocationRepository.streamRowsForReport(ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .willAnswer(
+                invocation ->
+                    LocalDate.of(2022, 1, 1).atTime(OffsetTime.MIN).equals(invocation.getArgument(0))
+                        ? rows.stream().onClose(() -> closed.set(true))
+                        : Stream.empty()
+            );
+
+        createAllocationReport(
+            LocalDate.of(2022, 1, 1),
+            LocalDate.of(2022, 12, 31),
+            ConstantsTest.EMAIL_TO,
+            ReportFormat.PDF
+        );
+
+        Mockito
+            .verify(allocationRepository, Mockito.times(12))
+            .streamRowsForReport(ArgumentMatchers.any(), ArgumentMatchers.any());
+        Assertions.assertTrue(closed.get());
+    }
+
     @Test
     void testCreateAllocationReportNoEmail() {
         var exception = Assertions.assertThrows(
             InvalidRequestException.class,
             () ->
-                victim.createAllocationReport(
+                createAllocationReport(
                     LocalDate.of(2022, 1, 1),
                     LocalDate.of(2022, 12, 31),
                     Constants.EMPTY,
-                    ReportFormat.PDF.name()
+                    ReportFormat.PDF
                 )
         );
 
@@ -91,11 +319,11 @@ class AllocationReportCreationServiceUnitTest extends BaseUnitTest {
         var exception = Assertions.assertThrows(
             InvalidRequestException.class,
             () ->
-                victim.createAllocationReport(
+                createAllocationReport(
                     LocalDate.now(),
                     LocalDate.now().minusDays(1),
                     ConstantsTest.EMAIL_TO,
-                    ReportFormat.PDF.name()
+                    ReportFormat.PDF
                 )
         );
 
@@ -110,15 +338,19 @@ class AllocationReportCreationServiceUnitTest extends BaseUnitTest {
     }
 
     @Test
-    void testCreateAllocationReportDatesIntervalExceedsMax() {
+    void testCreateAllocationReportExceedsMaxRows() {
+        BDDMockito
+            .given(allocationRepository.countForReport(ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .willReturn(MAX_ROWS + 1);
+
         var exception = Assertions.assertThrows(
             InvalidRequestException.class,
             () ->
-                victim.createAllocationReport(
+                createAllocationReport(
                     LocalDate.now(),
-                    LocalDate.now().plusMonths(MAX_MONTHS_INTERVAL + 1),
+                    LocalDate.now().plusMonths(1),
                     ConstantsTest.EMAIL_TO,
-                    ReportFormat.PDF.name()
+                    ReportFormat.PDF
                 )
         );
 
@@ -126,9 +358,46 @@ class AllocationReportCreationServiceUnitTest extends BaseUnitTest {
         Assertions.assertEquals(
             new ValidationError(
                 ValidatorConstants.DATE_TO,
-                ValidatorConstants.DATE_TO + ValidatorConstants.EXCEEDS_MAX_INTERVAL
+                ValidatorConstants.DATE_TO + ValidatorConstants.EXCEEDS_MAX_ROWS
             ),
             exception.getValidationErrors().getError(0)
         );
     }
+
+    private void createAllocationReport(LocalDate dateFrom, LocalDate dateTo, String email, ReportFormat reportFormat) {
+        victim.createAndDispatchReport(
+            AllocationReportData
+                .newAllocationDataReportBuilder()
+                .dateFrom(dateFrom)
+                .dateTo(dateTo)
+                .email(email)
+                .build(),
+            reportFormat,
+            ReportHandlerType.ALLOCATION,
+            List.of(email)
+        );
+    }
+
+    private void givenStoredReport() {
+        BDDMockito
+            .given(
+                reportStoreService.store(
+                    ArgumentMatchers.any(),
+                    ArgumentMatchers.any(),
+                    ArgumentMatchers.any(),
+                    ArgumentMatchers.any(),
+                    ArgumentMatchers.any()
+                )
+            )
+            .willAnswer(
+                invocation ->
+                    StoredReport
+                        .newStoredReportBuilder()
+                        .token("token")
+                        .path(invocation.getArgument(0).toString())
+                        .fileName(invocation.getArgument(4))
+                        .build()
+            );
+        BDDMockito.given(reportStoreService.getDownloadUrl(ArgumentMatchers.any())).willReturn(DOWNLOAD_URL);
+    }
 }
@@ -3,28 +3,36 @@ package br.com.sw2you.realmeet.unit;
 import static br.com.sw2you.realmeet.validator.ValidatorConstants.*;
 
 import br.com.sw2you.realmeet.core.BaseUnitTest;
+import br.com.sw2you.realmeet.domain.repository.AllocationRepository;
 import br.com.sw2you.realmeet.exception.InvalidRequestException;
 import br.com.sw2you.realmeet.report.model.AllocationReportData;
 import br.com.sw2you.realmeet.report.validator.AllocationReportValidator;
 import br.com.sw2you.realmeet.validator.ValidationError;
 import br.com.sw2you.realmeet.validator.ValidatorConstants;
 import java.time.LocalDate;
+import java.time.OffsetTime;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
 
 class AllocationReportValidatorUnitTest extends BaseUnitTest {
-    private final int MAX_MONTHS_INTERVAL = 12;
+    private final long MAX_ROWS = 1000;
     private final LocalDate PARAM_DATE_FROM_FILTER = LocalDate.of(2022, 1, 1);
     private final LocalDate PARAM_DATE_TO_FILTER = LocalDate.of(2022, 5, 1);
     private final String EMAIL = "teste@teste.com";
 
     private AllocationReportValidator victim;
+
+    @Mock
+    private AllocationRepository allocationRepository;
+
     private AllocationReportData.AllocationReportDataBuilder allocationReportData;
 
     @BeforeEach
     void setupEach() {
-        victim = new AllocationReportValidator(MAX_MONTHS_INTERVAL);
+        victim = new AllocationReportValidator(allocationRepository, MAX_ROWS);
         allocationReportData =
             AllocationReportData
                 .newAllocationDataReportBuilder()
@@ -35,6 +43,16 @@ class AllocationReportValidatorUnitTest extends BaseUnitTest {
 
     @Test
     void testValidateWhenReportDataIsValid() {
+        givenEstimatedRows(MAX_ROWS);
+
+        victim.validate(allocationReportData.build());
+    }
+
+    @Test
+    void testValidateWhenSparseRangeSpansYears() {
+        allocationReportData.dateTo(PARAM_DATE_FROM_FILTER.plusYears(5));
+        givenEstimatedRows(10);
+
         victim.validate(allocationReportData.build());
     }
 
@@ -51,6 +69,22 @@ class AllocationReportValidatorUnitTest extends BaseUnitTest {
         );
     }
 
+    @Test
+    void testValidateWhenEmailExceedsMaxLength() {
+        var exception = Assertions.assertThrows(
+            InvalidRequestException.class,
+            () ->
+                victim.validate(
+                    allocationReportData.email("a".repeat(REPORT_EMAIL_MAX_LENGTH - EMAIL.length() + 1) + EMAIL).build()
+                )
+        );
+        Assertions.assertEquals(1, exception.getValidationErrors().getNumberOfErrors());
+        Assertions.assertEquals(
+            new ValidationError(ValidatorConstants.EMAIL, ValidatorConstants.EMAIL + EXCEEDS_MAX_LENGTH),
+            exception.getValidationErrors().getError(0)
+        );
+    }
+
     @Test
     void testValidateWhenDateFromIsMissing() {
         var exception = Assertions.assertThrows(
@@ -94,18 +128,28 @@ class AllocationReportValidatorUnitTest extends BaseUnitTest {
     }
 
     @Test
-    void testValidateWhenDatesExceedsMaxInterval() {
+    void testValidateWhenEstimatedRowsExceedsMax() {
+        givenEstimatedRows(MAX_ROWS + 1);
+
         var exception = Assertions.assertThrows(
             InvalidRequestException.class,
-            () ->
-                victim.validate(
-                    allocationReportData.dateTo(PARAM_DATE_TO_FILTER.plusMonths(MAX_MONTHS_INTERVAL + 1)).build()
-                )
+            () -> victim.validate(allocationReportData.build())
         );
         Assertions.assertEquals(1, exception.getValidationErrors().getNumberOfErrors());
         Assertions.assertEquals(
-            new ValidationError(ValidatorConstants.DATE_TO, ValidatorConstants.DATE_TO + EXCEEDS_MAX_INTERVAL),
+            new ValidationError(ValidatorConstants.DATE_TO, ValidatorConstants.DATE_TO + EXCEEDS_MAX_ROWS),
             exception.getValidationErrors().getError(0)
         );
     }
+
+    private void givenEstimatedRows(long estimatedRows) {
+        BDDMockito
+            .given(
+                allocationRepository.countForReport(
+                    PARAM_DATE_FROM_FILTER.atTime(OffsetTime.MIN),
+                    allocationReportData.build().getDateTo().atTime(OffsetTime.MAX)
+                )
+            )
+            .willReturn(estimatedRows);
+    }
 }
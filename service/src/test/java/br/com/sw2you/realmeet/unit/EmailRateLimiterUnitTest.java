@@ -0,0 +1,67 @@
+package br.com.sw2you.realmeet.unit;
+
+import br.com.sw2you.realmeet.config.properties.model.EmailRateLimit;
+import br.com.sw2you.realmeet.core.BaseUnitTest;
+import br.com.sw2you.realmeet.email.EmailRateLimiter;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class EmailRateLimiterUnitTest extends BaseUnitTest {
+
+    @Test
+    void testTryAcquireWhenUnlimited() {
+        var victim = new EmailRateLimiter(null);
+
+        for (int i = 0; i < 1000; i++) {
+            Assertions.assertTrue(victim.tryAcquire(10));
+        }
+    }
+
+    @Test
+    void testTryAcquireWhenDailyQuotaIsExhausted() {
+        var victim = new EmailRateLimiter(new EmailRateLimit(null, 3));
+
+        Assertions.assertTrue(victim.tryAcquire(2));
+        Assertions.assertTrue(victim.tryAcquire(1));
+        Assertions.assertTrue(victim.isDailyQuotaExhausted(1));
+        Assertions.assertFalse(victim.tryAcquire(1));
+    }
+
+    @Test
+    void testTryAcquireDoesNotLetFirstBatchExceedDailyQuota() {
+        var victim = new EmailRateLimiter(new EmailRateLimit(null, 3));
+
+        Assertions.assertTrue(victim.exceedsDailyQuota(4));
+        Assertions.assertFalse(victim.tryAcquire(4));
+        Assertions.assertTrue(victim.tryAcquire(3));
+    }
+
+    @Test
+    void testTryAcquireSpacesMessagesByPerMinuteLimit() {
+        var victim = new EmailRateLimiter(new EmailRateLimit(60, null));
+
+        Assertions.assertTrue(victim.tryAcquire(2));
+        Assertions.assertFalse(victim.tryAcquire(1));
+        Assertions.assertFalse(victim.isDailyQuotaExhausted(1));
+
+        var nanosUntilAvailable = victim.getNanosUntilAvailable();
+        Assertions.assertTrue(nanosUntilAvailable > TimeUnit.SECONDS.toNanos(1));
+        Assertions.assertTrue(nanosUntilAvailable <= TimeUnit.SECONDS.toNanos(2));
+    }
+
+    @Test
+    void testGetMaxPermitsPerSend() {
+        Assertions.assertEquals(20, new EmailRateLimiter(new EmailRateLimit(20, null)).getMaxPermitsPerSend());
+        Assertions.assertEquals(Integer.MAX_VALUE, new EmailRateLimiter(null).getMaxPermitsPerSend());
+    }
+
+    @Test
+    void testGetNanosUntilNextDay() {
+        var victim = new EmailRateLimiter(new EmailRateLimit(null, 3));
+
+        var nanosUntilNextDay = victim.getNanosUntilNextDay();
+        Assertions.assertTrue(nanosUntilNextDay > 0);
+        Assertions.assertTrue(nanosUntilNextDay <= TimeUnit.DAYS.toNanos(1));
+    }
+}
@@ -0,0 +1,256 @@
+package br.com.sw2you.realmeet.unit;
+
+import br.com.sw2you.realmeet.config.properties.EmailConfigProperties;
+import br.com.sw2you.realmeet.config.properties.EmailSchedulerConfigProperties;
+import br.com.sw2you.realmeet.config.properties.model.EmailRateLimit;
+import br.com.sw2you.realmeet.core.BaseUnitTest;
+import br.com.sw2you.realmeet.email.EmailPriority;
+import br.com.sw2you.realmeet.email.EmailSendScheduler;
+import br.com.sw2you.realmeet.utils.ConstantsTest;
+import com.sun.mail.smtp.SMTPAddressFailedException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Properties;
+import javax.mail.Message;
+import javax.mail.Session;
+import javax.mail.internet.InternetAddress;
+import javax.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+
+class EmailSendSchedulerUnitTest extends BaseUnitTest {
+    private static final String HOST = "smtp.teste.com";
+    private static final long TIMEOUT_MILLIS = 5000;
+    private static final int MAX_SEND_ATTEMPTS = 8;
+
+    private final Session session = Session.getInstance(new Properties());
+
+    private EmailSendScheduler victim;
+
+    @Mock
+    private JavaMailSender javaMailSender;
+
+    @TempDir
+    Path spoolDirectory;
+
+    @AfterEach
+    void tearDownEach() {
+        victim.stop();
+    }
+
+    @Test
+    void testSubmitSendsTransactionalEmailImmediately() throws Exception {
+        startVictim(null);
+        var mimeMessage = newMimeMessage();
+
+        victim.submit(EmailPriority.TRANSACTIONAL, new MimeMessage[] { mimeMessage });
+
+        Mockito.verify(javaMailSender).send(mimeMessage);
+        Assertions.assertEquals(0, victim.getSpoolSize());
+    }
+
+    @Test
+    void testSubmitSpoolsBulkEmailAndDispatchesItLater() throws Exception {
+        stubCreateMimeMessageFromStream();
+        startVictim(null);
+
+        victim.submit(EmailPriority.BULK, new MimeMessage[] { newMimeMessage() });
+
+        Mockito
+            .verify(javaMailSender, Mockito.timeout(TIMEOUT_MILLIS))
+            .send(ArgumentMatchers.<MimeMessage>argThat(m -> ConstantsTest.EMAIL_TO.equals(getFirstRecipient(m))));
+    }
+
+    @Test
+    void testSubmitSpoolsWhenDailyQuotaIsExhausted() throws Exception {
+        startVictim(new EmailRateLimit(null, 1));
+
+        victim.submit(EmailPriority.TRANSACTIONAL, new MimeMessage[] { newMimeMessage() });
+        victim.submit(EmailPriority.TRANSACTIONAL, new MimeMessage[] { newMimeMessage() });
+
+        Mockito.verify(javaMailSender).send(ArgumentMatchers.any(MimeMessage.class));
+        Assertions.assertEquals(1, victim.getSpoolSize());
+        Assertions.assertEquals(1, countSpoolFiles());
+    }
+
+    @Test
+    void testSubmitSpoolsQueuedEmailBeforeDispatchingIt() throws Exception {
+        stubCreateMimeMessageFromStream();
+        startVictim(new EmailRateLimit(600, null));
+
+        victim.submit(EmailPriority.TRANSACTIONAL, new MimeMessage[] { newMimeMessage() });
+        victim.submit(EmailPriority.TRANSACTIONAL, new MimeMessage[] { newMimeMessage() });
+
+        Mockito
+            .verify(javaMailSender, Mockito.timeout(TIMEOUT_MILLIS).times(2))
+            .send(ArgumentMatchers.any(MimeMessage.class));
+        Mockito.verify(javaMailSender).createMimeMessage(ArgumentMatchers.any(InputStream.class));
+        awaitSpoolSize(0);
+        Assertions.assertEquals(0, countSpoolFiles());
+    }
+
+    @Test
+    void testSpoolIsNotReadWhileDailyQuotaIsExhausted() throws Exception {
+        startVictim(new EmailRateLimit(null, 1));
+
+        victim.submit(EmailPriority.TRANSACTIONAL, new MimeMessage[] { newMimeMessage() });
+        victim.submit(EmailPriority.TRANSACTIONAL, new MimeMessage[] { newMimeMessage() });
+        Thread.sleep(1000);
+
+        Mockito.verify(javaMailSender, Mockito.never()).createMimeMessage(ArgumentMatchers.any(InputStream.class));
+        Assertions.assertEquals(1, victim.getSpoolSize());
+    }
+
+    @Test
+    void testSubmitSpoolsWhenSendFails() throws Exception {
+        startVictim(new EmailRateLimit(null, 1));
+        Mockito
+            .doThrow(new MailSendException("Connection refused"))
+            .when(javaMailSender)
+            .send(ArgumentMatchers.any(MimeMessage.class));
+
+        victim.submit(EmailPriority.TRANSACTIONAL, new MimeMessage[] { newMimeMessage() });
+
+        Assertions.assertEquals(1, victim.getSpoolSize());
+    }
+
+    @Test
+    void testSubmitKeepsPermanentlyRejectedEmailOutOfTheSpool() throws Exception {
+        startVictim(null);
+        Mockito.doThrow(newPermanentFailure()).when(javaMailSender).send(ArgumentMatchers.any(MimeMessage.class));
+
+        victim.submit(EmailPriority.TRANSACTIONAL, new MimeMessage[] { newMimeMessage() });
+
+        Assertions.assertEquals(0, victim.getSpoolSize());
+        Assertions.assertEquals(1, countFailedFiles());
+    }
+
+    @Test
+    void testSpooledEmailRejectedPermanentlyIsMovedAside() throws Exception {
+        stubCreateMimeMessageFromStream();
+        writeSpoolFile("0-0000000000000-000000001.eml");
+        Mockito.doThrow(newPermanentFailure()).when(javaMailSender).send(ArgumentMatchers.any(MimeMessage.class));
+
+        startVictim(null);
+
+        Mockito.verify(javaMailSender, Mockito.timeout(TIMEOUT_MILLIS)).send(ArgumentMatchers.any(MimeMessage.class));
+        awaitSpoolSize(0);
+        Assertions.assertEquals(1, countFailedFiles());
+    }
+
+    @Test
+    void testSpooledEmailFailingTransientlyDoesNotBlockTheSpool() throws Exception {
+        stubCreateMimeMessageFromStream();
+        writeSpoolFile("0-0000000000000-000000001.eml");
+        writeSpoolFile("0-0000000000000-000000002.eml");
+        Mockito
+            .doThrow(new MailSendException("Connection refused"))
+            .doNothing()
+            .when(javaMailSender)
+            .send(ArgumentMatchers.any(MimeMessage.class));
+
+        startVictim(null);
+
+        Mockito
+            .verify(javaMailSender, Mockito.timeout(TIMEOUT_MILLIS).times(2))
+            .send(ArgumentMatchers.any(MimeMessage.class));
+        awaitSpoolSize(1);
+        Assertions.assertEquals(0, countFailedFiles());
+    }
+
+    @Test
+    void testStartDispatchesPreviouslySpooledEmails() throws Exception {
+        stubCreateMimeMessageFromStream();
+        try (var outputStream = Files.newOutputStream(spoolDirectory.resolve("0-0000000000000-000000001.eml"))) {
+            newMimeMessage().writeTo(outputStream);
+        }
+
+        startVictim(null);
+
+        Mockito.verify(javaMailSender, Mockito.timeout(TIMEOUT_MILLIS)).send(ArgumentMatchers.any(MimeMessage.class));
+    }
+
+    private void startVictim(EmailRateLimit rateLimit) {
+        victim =
+            new EmailSendScheduler(
+                javaMailSender,
+                new EmailConfigProperties(HOST, null, null, null, Map.of()),
+                new EmailSchedulerConfigProperties(
+                    10,
+                    spoolDirectory.toString(),
+                    rateLimit == null ? null : Map.of(HOST, rateLimit),
+                    MAX_SEND_ATTEMPTS,
+                    Duration.ofSeconds(30),
+                    Duration.ofHours(1)
+                )
+            );
+        victim.start();
+    }
+
+    private void stubCreateMimeMessageFromStream() {
+        BDDMockito
+            .given(javaMailSender.createMimeMessage(ArgumentMatchers.any(InputStream.class)))
+            .willAnswer(invocation -> new MimeMessage(session, invocation.<InputStream>getArgument(0)));
+    }
+
+    private void writeSpoolFile(String fileName) throws Exception {
+        try (var outputStream = Files.newOutputStream(spoolDirectory.resolve(fileName))) {
+            newMimeMessage().writeTo(outputStream);
+        }
+    }
+
+    private MailSendException newPermanentFailure() throws Exception {
+        return new MailSendException(
+            "Invalid recipient",
+            new SMTPAddressFailedException(new InternetAddress(ConstantsTest.EMAIL_TO), "RCPT TO", 550, "No such user")
+        );
+    }
+
+    private void awaitSpoolSize(int spoolSize) throws InterruptedException {
+        var deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (victim.getSpoolSize() != spoolSize && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assertions.assertEquals(spoolSize, victim.getSpoolSize());
+    }
+
+    private MimeMessage newMimeMessage() throws Exception {
+        var mimeMessage = new MimeMessage(session);
+        mimeMessage.setFrom("realmeet@teste.com");
+        mimeMessage.setRecipients(Message.RecipientType.TO, ConstantsTest.EMAIL_TO);
+        mimeMessage.setSubject("Subject");
+        mimeMessage.setText("Body");
+        return mimeMessage;
+    }
+
+    private String getFirstRecipient(MimeMessage mimeMessage) {
+        try {
+            return mimeMessage.getAllRecipients()[0].toString();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private long countFailedFiles() throws Exception {
+        try (var files = Files.list(spoolDirectory)) {
+            return files.filter(p -> p.toString().endsWith(".failed")).count();
+        }
+    }
+
+    private long countSpoolFiles() throws Exception {
+        try (var files = Files.list(spoolDirectory)) {
+            return files.filter(p -> p.toString().endsWith(".eml")).count();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package br.com.sw2you.realmeet.unit;
+
+import br.com.sw2you.realmeet.core.BaseUnitTest;
+import br.com.sw2you.realmeet.email.EmailPriority;
+import br.com.sw2you.realmeet.email.EmailSendScheduler;
+import br.com.sw2you.realmeet.email.EmailSender;
+import br.com.sw2you.realmeet.email.model.EmailInfo;
+import br.com.sw2you.realmeet.utils.ConstantsTest;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.mail.Message;
+import javax.mail.Session;
+import javax.mail.internet.MimeMessage;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.IContext;
+
+class EmailSenderUnitTest extends BaseUnitTest {
+    private static final int MAX_RECIPIENTS_PER_MESSAGE = 2;
+    private static final String TEMPLATE = "template-test.html";
+
+    private EmailSender victim;
+
+    @Mock
+    private JavaMailSender javaMailSender;
+
+    @Mock
+    private ITemplateEngine templateEngine;
+
+    @Mock
+    private EmailSendScheduler emailSendScheduler;
+
+    @BeforeEach
+    void setupEach() {
+        victim = new EmailSender(javaMailSender, templateEngine, emailSendScheduler, MAX_RECIPIENTS_PER_MESSAGE);
+        BDDMockito
+            .given(javaMailSender.createMimeMessage())
+            .willAnswer(__ -> new MimeMessage(Session.getInstance(System.getProperties())));
+        BDDMockito
+            .given(templateEngine.process(ArgumentMatchers.eq(TEMPLATE), ArgumentMatchers.any(IContext.class)))
+            .willReturn("<html></html>");
+    }
+
+    @Test
+    void testSendWithoutBccSendsSingleMessage() {
+        var captor = ArgumentCaptor.forClass(MimeMessage[].class);
+
+        victim.send(newEmailInfo(null));
+
+        Mockito.verify(emailSendScheduler).submit(ArgumentMatchers.eq(EmailPriority.TRANSACTIONAL), captor.capture());
+        Assertions.assertEquals(1, captor.getValue().length);
+        Mockito.verify(templateEngine).process(ArgumentMatchers.eq(TEMPLATE), ArgumentMatchers.any(IContext.class));
+    }
+
+    @Test
+    void testSendSplitsBccIntoBatchesAndRendersOnce() throws Exception {
+        var bcc = IntStream.range(0, 5).mapToObj(i -> "attendee" + i + "@teste.com").collect(Collectors.toList());
+        var captor = ArgumentCaptor.forClass(MimeMessage[].class);
+        BDDMockito.given(emailSendScheduler.getMaxRecipientsPerMessage()).willReturn(Integer.MAX_VALUE);
+
+        victim.send(newEmailInfo(bcc));
+
+        Mockito.verify(templateEngine).process(ArgumentMatchers.eq(TEMPLATE), ArgumentMatchers.any(IContext.class));
+        Mockito.verify(emailSendScheduler).submit(ArgumentMatchers.eq(EmailPriority.TRANSACTIONAL), captor.capture());
+
+        var mimeMessages = List.of(captor.getValue());
+        Assertions.assertEquals(3, mimeMessages.size());
+        Assertions.assertEquals(1, mimeMessages.get(0).getRecipients(Message.RecipientType.TO).length);
+        Assertions.assertNull(mimeMessages.get(1).getRecipients(Message.RecipientType.TO));
+        Assertions.assertEquals(2, mimeMessages.get(1).getRecipients(Message.RecipientType.BCC).length);
+        Assertions.assertEquals(1, mimeMessages.get(2).getRecipients(Message.RecipientType.BCC).length);
+    }
+
+    @Test
+    void testSendCapsBccBatchesAtTheRateLimit() throws Exception {
+        var bcc = IntStream.range(0, 5).mapToObj(i -> "attendee" + i + "@teste.com").collect(Collectors.toList());
+        var captor = ArgumentCaptor.forClass(MimeMessage[].class);
+        BDDMockito.given(emailSendScheduler.getMaxRecipientsPerMessage()).willReturn(1);
+
+        victim.send(newEmailInfo(bcc));
+
+        Mockito.verify(emailSendScheduler).submit(ArgumentMatchers.eq(EmailPriority.TRANSACTIONAL), captor.capture());
+        Assertions.assertEquals(5, captor.getValue().length);
+        for (MimeMessage mimeMessage : captor.getValue()) {
+            Assertions.assertEquals(1, mimeMessage.getRecipients(Message.RecipientType.BCC).length);
+        }
+    }
+
+    private EmailInfo newEmailInfo(List<String> bcc) {
+        return EmailInfo
+            .newEmailInfoBuilder()
+            .from("realmeet@teste.com")
+            .to(List.of(ConstantsTest.EMAIL_TO))
+            .bcc(bcc)
+            .subject("Subject")
+            .template(TEMPLATE)
+            .templateData(Map.of())
+            .build();
+    }
+}
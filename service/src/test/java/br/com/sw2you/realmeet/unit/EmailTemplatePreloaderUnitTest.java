@@ -0,0 +1,78 @@
+package br.com.sw2you.realmeet.unit;
+
+import br.com.sw2you.realmeet.config.properties.TemplateConfigProperties;
+import br.com.sw2you.realmeet.config.properties.model.EmailTemplate;
+import br.com.sw2you.realmeet.core.BaseUnitTest;
+import br.com.sw2you.realmeet.email.EmailTemplatePreloader;
+import br.com.sw2you.realmeet.email.TemplateType;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.boot.autoconfigure.thymeleaf.ThymeleafProperties;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.IContext;
+
+class EmailTemplatePreloaderUnitTest extends BaseUnitTest {
+    @Mock
+    private ITemplateEngine templateEngine;
+
+    private TemplateConfigProperties templateConfigProperties;
+    private ThymeleafProperties thymeleafProperties;
+
+    @BeforeEach
+    void setupEach() {
+        templateConfigProperties =
+            new TemplateConfigProperties(
+                Arrays
+                    .stream(TemplateType.values())
+                    .collect(
+                        Collectors.toMap(
+                            TemplateType::getTemplateName,
+                            t -> new EmailTemplate(t.name(), t.getTemplateName() + ".html")
+                        )
+                    )
+            );
+        thymeleafProperties = new ThymeleafProperties();
+    }
+
+    @Test
+    void testPreloadTemplatesProcessesEveryConfiguredTemplate() {
+        new EmailTemplatePreloader(templateEngine, templateConfigProperties, thymeleafProperties, true)
+        .preloadTemplates();
+
+        Arrays
+            .stream(TemplateType.values())
+            .forEach(
+                t ->
+                    Mockito
+                        .verify(templateEngine)
+                        .process(
+                            ArgumentMatchers.eq(t.getTemplateName() + ".html"),
+                            ArgumentMatchers.any(IContext.class)
+                        )
+            );
+    }
+
+    @Test
+    void testPreloadTemplatesWhenCacheIsRequiredAndDisabled() {
+        thymeleafProperties.setCache(false);
+        var victim = new EmailTemplatePreloader(templateEngine, templateConfigProperties, thymeleafProperties, true);
+
+        Assertions.assertThrows(IllegalStateException.class, victim::preloadTemplates);
+        Mockito.verifyNoInteractions(templateEngine);
+    }
+
+    @Test
+    void testPreloadTemplatesWhenCacheIsDisabled() {
+        thymeleafProperties.setCache(false);
+        new EmailTemplatePreloader(templateEngine, templateConfigProperties, thymeleafProperties, false)
+        .preloadTemplates();
+
+        Mockito.verifyNoInteractions(templateEngine);
+    }
+}
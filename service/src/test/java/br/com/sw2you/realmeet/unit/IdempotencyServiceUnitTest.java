@@ -0,0 +1,124 @@
+package br.com.sw2you.realmeet.unit;
+
+import br.com.sw2you.realmeet.config.properties.IdempotencyConfigProperties;
+import br.com.sw2you.realmeet.core.BaseUnitTest;
+import br.com.sw2you.realmeet.exception.IdempotencyKeyReusedException;
+import br.com.sw2you.realmeet.service.IdempotencyService;
+import br.com.sw2you.realmeet.utils.TestUtils;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class IdempotencyServiceUnitTest extends BaseUnitTest {
+    private static final String CLIENT_ID = "client";
+    private static final String KEY = "key";
+    private static final List<Object> REQUEST = List.of("createAllocation", "request");
+
+    private IdempotencyService victim;
+
+    private AtomicInteger executions;
+
+    @BeforeEach
+    void setupEach() {
+        victim = new IdempotencyService(new IdempotencyConfigProperties(Duration.ofHours(1), 2));
+        executions = new AtomicInteger();
+    }
+
+    @Test
+    void testReplayReturnsStoredResponseWithoutExecuting() {
+        var response = victim.execute(CLIENT_ID, KEY, REQUEST, newOperation()).join();
+        var replayed = victim.execute(CLIENT_ID, KEY, REQUEST, newOperation()).join();
+
+        Assertions.assertEquals(1, response);
+        Assertions.assertEquals(1, replayed);
+        Assertions.assertEquals(1, executions.get());
+    }
+
+    @Test
+    void testRetryWhileRunningWaitsForFirstResponse() {
+        var pending = new CompletableFuture<Integer>();
+
+        var response = victim.execute(CLIENT_ID, KEY, REQUEST, () -> pending);
+        var replayed = victim.execute(CLIENT_ID, KEY, REQUEST, newOperation());
+        Assertions.assertFalse(replayed.isDone());
+
+        pending.complete(7);
+        Assertions.assertEquals(7, response.join());
+        Assertions.assertEquals(7, replayed.join());
+        Assertions.assertEquals(0, executions.get());
+    }
+
+    @Test
+    void testWithoutKeyAlwaysExecutes() {
+        victim.execute(CLIENT_ID, null, REQUEST, newOperation()).join();
+        victim.execute(CLIENT_ID, null, REQUEST, newOperation()).join();
+
+        Assertions.assertEquals(2, executions.get());
+        Assertions.assertEquals(0, victim.size());
+    }
+
+    @Test
+    void testKeysAreScopedByClient() {
+        victim.execute(CLIENT_ID, KEY, REQUEST, newOperation()).join();
+        victim.execute("other-client", KEY, REQUEST, newOperation()).join();
+
+        Assertions.assertEquals(2, executions.get());
+    }
+
+    @Test
+    void testKeyReusedForDifferentRequest() {
+        victim.execute(CLIENT_ID, KEY, REQUEST, newOperation()).join();
+
+        Assertions.assertThrows(
+            IdempotencyKeyReusedException.class,
+            () -> victim.execute(CLIENT_ID, KEY, List.of("createAllocation", "other request"), newOperation())
+        );
+        Assertions.assertEquals(1, executions.get());
+    }
+
+    @Test
+    void testFailedResponseIsNotStored() {
+        var failed = victim.execute(
+            CLIENT_ID,
+            KEY,
+            REQUEST,
+            () -> CompletableFuture.failedFuture(new IllegalStateException("database down"))
+        );
+
+        Assertions.assertThrows(CompletionException.class, failed::join);
+        Assertions.assertEquals(1, victim.execute(CLIENT_ID, KEY, REQUEST, newOperation()).join());
+        Assertions.assertEquals(1, executions.get());
+    }
+
+    @Test
+    void testExpiredResponseIsExecutedAgain() {
+        victim = new IdempotencyService(new IdempotencyConfigProperties(Duration.ofMillis(10), 2));
+
+        victim.execute(CLIENT_ID, KEY, REQUEST, newOperation()).join();
+        TestUtils.sleep(50);
+        victim.execute(CLIENT_ID, KEY, REQUEST, newOperation()).join();
+
+        Assertions.assertEquals(2, executions.get());
+    }
+
+    @Test
+    void testOldestResponseIsEvictedOverMaxEntries() {
+        victim.execute(CLIENT_ID, "key-1", REQUEST, newOperation()).join();
+        victim.execute(CLIENT_ID, "key-2", REQUEST, newOperation()).join();
+        victim.execute(CLIENT_ID, "key-3", REQUEST, newOperation()).join();
+
+        Assertions.assertEquals(2, victim.size());
+        Assertions.assertEquals(4, victim.execute(CLIENT_ID, "key-1", REQUEST, newOperation()).join());
+        Assertions.assertEquals(3, victim.execute(CLIENT_ID, "key-3", REQUEST, newOperation()).join());
+    }
+
+    private Supplier<CompletableFuture<Integer>> newOperation() {
+        return () -> CompletableFuture.completedFuture(executions.incrementAndGet());
+    }
+}
@@ -0,0 +1,33 @@
+package br.com.sw2you.realmeet.unit;
+
+import br.com.sw2you.realmeet.config.JasperReportConfiguration;
+import br.com.sw2you.realmeet.core.BaseUnitTest;
+import java.util.Arrays;
+import net.sf.jasperreports.engine.JRField;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class JasperReportConfigurationUnitTest extends BaseUnitTest {
+
+    @Test
+    void testPrecompiledReportMatchesSource() {
+        var precompiled = new JasperReportConfiguration(false).allocationReport();
+        var compiled = new JasperReportConfiguration(true).allocationReport();
+
+        Assertions.assertEquals(compiled.getName(), precompiled.getName());
+        Assertions.assertEquals(fieldNames(compiled.getFields()), fieldNames(precompiled.getFields()));
+    }
+
+    @Test
+    void testPrecompiledRoomUsageReportMatchesSource() {
+        var precompiled = new JasperReportConfiguration(false).roomUsageReport();
+        var compiled = new JasperReportConfiguration(true).roomUsageReport();
+
+        Assertions.assertEquals(compiled.getName(), precompiled.getName());
+        Assertions.assertEquals(fieldNames(compiled.getFields()), fieldNames(precompiled.getFields()));
+    }
+
+    private String fieldNames(JRField[] fields) {
+        return Arrays.toString(Arrays.stream(fields).map(JRField::getName).toArray());
+    }
+}
@@ -0,0 +1,64 @@
+package br.com.sw2you.realmeet.unit;
+
+import br.com.sw2you.realmeet.core.BaseUnitTest;
+import br.com.sw2you.realmeet.model.LocalSmtpServer;
+import br.com.sw2you.realmeet.utils.ConstantsTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+class LocalSmtpServerUnitTest extends BaseUnitTest {
+    private static final long DELAY_MILLIS = 200;
+
+    private LocalSmtpServer victim;
+
+    @AfterEach
+    void tearDownEach() {
+        victim.stop();
+    }
+
+    @Test
+    void testAcceptsAndCountsMessages() {
+        victim = new LocalSmtpServer(0, 0);
+        victim.start();
+
+        var mailSender = newMailSender();
+        mailSender.send(newMailMessage());
+        mailSender.send(newMailMessage());
+
+        Assertions.assertEquals(2, victim.getMessageCount());
+        Assertions.assertEquals(4, victim.getRecipientCount());
+    }
+
+    @Test
+    void testDelaysEachMessage() {
+        victim = new LocalSmtpServer(0, DELAY_MILLIS);
+        victim.start();
+
+        var start = System.nanoTime();
+        newMailSender().send(newMailMessage());
+        var elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        Assertions.assertEquals(1, victim.getMessageCount());
+        Assertions.assertTrue(elapsedMillis >= DELAY_MILLIS);
+    }
+
+    private JavaMailSenderImpl newMailSender() {
+        var mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(victim.getPort());
+        return mailSender;
+    }
+
+    private SimpleMailMessage newMailMessage() {
+        var mailMessage = new SimpleMailMessage();
+        mailMessage.setFrom("realmeet@localhost");
+        mailMessage.setTo(ConstantsTest.EMAIL_TO);
+        mailMessage.setBcc(ConstantsTest.EMAIL_TO);
+        mailMessage.setSubject("Allocation created");
+        mailMessage.setText("Allocation created");
+        return mailMessage;
+    }
+}
@@ -0,0 +1,203 @@
+package br.com.sw2you.realmeet.unit;
+
+import br.com.sw2you.realmeet.config.properties.ReportCacheConfigProperties;
+import br.com.sw2you.realmeet.core.BaseUnitTest;
+import br.com.sw2you.realmeet.report.cache.ReportCache;
+import br.com.sw2you.realmeet.report.cache.ReportCacheKey;
+import br.com.sw2you.realmeet.report.enumeration.ReportFormat;
+import br.com.sw2you.realmeet.report.enumeration.ReportHandlerType;
+import br.com.sw2you.realmeet.report.model.ReportMetrics;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+class ReportCacheUnitTest extends BaseUnitTest {
+    private static final ReportCacheKey JANUARY_KEY = newKey(LocalDate.of(2022, 1, 1), LocalDate.of(2022, 1, 31));
+    private static final ReportCacheKey FEBRUARY_KEY = newKey(LocalDate.of(2022, 2, 1), LocalDate.of(2022, 2, 28));
+    private static final int MAX_ENTRIES = 2;
+
+    private ReportCache victim;
+
+    private final AtomicInteger generations = new AtomicInteger();
+
+    @TempDir
+    Path tempDirectory;
+
+    private Path cacheDirectory;
+
+    private Path outputDirectory;
+
+    @BeforeEach
+    void setupEach() throws IOException {
+        cacheDirectory = tempDirectory.resolve("cache");
+        outputDirectory = Files.createDirectory(tempDirectory.resolve("output"));
+        victim = newReportCache(Duration.ofMinutes(10));
+    }
+
+    @Test
+    void testSecondRequestIsServedFromCache() throws IOException {
+        var first = victim.get(JANUARY_KEY, generator("v1"), outputDirectory.resolve("first.pdf"));
+        var second = victim.get(JANUARY_KEY, generator("v2"), outputDirectory.resolve("second.pdf"));
+
+        Assertions.assertEquals(1, generations.get());
+        Assertions.assertEquals(first, second);
+        Assertions.assertEquals("v1", Files.readString(outputDirectory.resolve("second.pdf")));
+    }
+
+    @Test
+    void testExpiredEntryIsGeneratedAgain() throws IOException {
+        victim = newReportCache(Duration.ZERO);
+
+        victim.get(JANUARY_KEY, generator("v1"), outputDirectory.resolve("first.pdf"));
+        victim.get(JANUARY_KEY, generator("v2"), outputDirectory.resolve("second.pdf"));
+
+        Assertions.assertEquals(2, generations.get());
+        Assertions.assertEquals("v2", Files.readString(outputDirectory.resolve("second.pdf")));
+        Assertions.assertEquals(1, victim.size());
+    }
+
+    @Test
+    void testInvalidateRemovesOverlappingEntriesOnly() throws IOException {
+        victim.get(JANUARY_KEY, generator("jan"), outputDirectory.resolve("jan.pdf"));
+        victim.get(FEBRUARY_KEY, generator("feb"), outputDirectory.resolve("feb.pdf"));
+
+        victim.invalidate(ReportHandlerType.ALLOCATION, LocalDate.of(2022, 1, 30), LocalDate.of(2022, 1, 31));
+        victim.get(JANUARY_KEY, generator("jan-2"), outputDirectory.resolve("jan-2.pdf"));
+        victim.get(FEBRUARY_KEY, generator("feb-2"), outputDirectory.resolve("feb-2.pdf"));
+
+        Assertions.assertEquals(3, generations.get());
+        Assertions.assertEquals("jan-2", Files.readString(outputDirectory.resolve("jan-2.pdf")));
+        Assertions.assertEquals("feb", Files.readString(outputDirectory.resolve("feb-2.pdf")));
+    }
+
+    @Test
+    void testEvictsLeastRecentlyUsedEntries() throws IOException {
+        victim.get(JANUARY_KEY, generator("jan"), outputDirectory.resolve("jan.pdf"));
+        victim.get(FEBRUARY_KEY, generator("feb"), outputDirectory.resolve("feb.pdf"));
+        victim.get(JANUARY_KEY, generator("jan"), outputDirectory.resolve("jan.pdf"));
+        victim.get(
+            newKey(LocalDate.of(2022, 3, 1), LocalDate.of(2022, 3, 31)),
+            generator("mar"),
+            outputDirectory.resolve("mar.pdf")
+        );
+
+        Assertions.assertEquals(MAX_ENTRIES, victim.size());
+        try (var files = Files.list(cacheDirectory)) {
+            Assertions.assertEquals(MAX_ENTRIES, files.count());
+        }
+        victim.get(FEBRUARY_KEY, generator("feb-2"), outputDirectory.resolve("feb-2.pdf"));
+        Assertions.assertEquals("feb-2", Files.readString(outputDirectory.resolve("feb-2.pdf")));
+    }
+
+    @Test
+    void testConcurrentRequestsShareOneGeneration() throws Exception {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var executor = Executors.newFixedThreadPool(4);
+        try {
+            var first = executor.submit(
+                () ->
+                    victim.get(
+                        JANUARY_KEY,
+                        path -> {
+                            started.countDown();
+                            await(release);
+                            return generator("shared").apply(path);
+                        },
+                        outputDirectory.resolve("first.pdf")
+                    )
+            );
+            Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+            var second = executor.submit(
+                () -> victim.get(JANUARY_KEY, generator("other"), outputDirectory.resolve("second.pdf"))
+            );
+            var third = executor.submit(
+                () -> victim.get(JANUARY_KEY, generator("other"), outputDirectory.resolve("third.pdf"))
+            );
+            TimeUnit.MILLISECONDS.sleep(100);
+            release.countDown();
+
+            var metrics = first.get(5, TimeUnit.SECONDS);
+            Assertions.assertEquals(metrics, second.get(5, TimeUnit.SECONDS));
+            Assertions.assertEquals(metrics, third.get(5, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            executor.shutdown();
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        }
+
+        Assertions.assertEquals(1, generations.get());
+        Assertions.assertEquals("shared", Files.readString(outputDirectory.resolve("second.pdf")));
+        Assertions.assertEquals("shared", Files.readString(outputDirectory.resolve("third.pdf")));
+    }
+
+    @Test
+    void testReportInvalidatedDuringGenerationIsNotCached() throws IOException {
+        victim.get(
+            JANUARY_KEY,
+            path -> {
+                victim.invalidate(ReportHandlerType.ALLOCATION, LocalDate.of(2022, 1, 10), LocalDate.of(2022, 1, 10));
+                return generator("stale").apply(path);
+            },
+            outputDirectory.resolve("stale.pdf")
+        );
+        victim.get(JANUARY_KEY, generator("fresh"), outputDirectory.resolve("fresh.pdf"));
+
+        Assertions.assertEquals("fresh", Files.readString(outputDirectory.resolve("fresh.pdf")));
+        try (var files = Files.list(cacheDirectory)) {
+            Assertions.assertEquals(1, files.count());
+        }
+    }
+
+    private ReportCache newReportCache(Duration maxAge) {
+        var reportCache = new ReportCache(
+            new ReportCacheConfigProperties(
+                true,
+                cacheDirectory.toString(),
+                MAX_ENTRIES,
+                DataSize.ofMegabytes(1),
+                maxAge
+            )
+        );
+        reportCache.start();
+        return reportCache;
+    }
+
+    private Function<Path, ReportMetrics> generator(String content) {
+        return path -> {
+            generations.incrementAndGet();
+            try {
+                Files.writeString(path, content, StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return ReportMetrics.newReportMetricsBuilder().rowCount(content.length()).build();
+        };
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ReportCacheKey newKey(LocalDate dateFrom, LocalDate dateTo) {
+        return new ReportCacheKey(ReportHandlerType.ALLOCATION, dateFrom, dateTo, ReportFormat.PDF);
+    }
+}
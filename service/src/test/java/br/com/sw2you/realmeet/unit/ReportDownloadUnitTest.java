@@ -0,0 +1,133 @@
+package br.com.sw2you.realmeet.unit;
+
+import br.com.sw2you.realmeet.controller.ReportController;
+import br.com.sw2you.realmeet.converter.FileChannelResourceHttpMessageConverter;
+import br.com.sw2you.realmeet.converter.FileChannelResourceRegionHttpMessageConverter;
+import br.com.sw2you.realmeet.core.BaseUnitTest;
+import br.com.sw2you.realmeet.report.enumeration.ReportFormat;
+import br.com.sw2you.realmeet.report.model.GeneratedReport;
+import br.com.sw2you.realmeet.service.ReportJobService;
+import br.com.sw2you.realmeet.service.ReportStoreService;
+import br.com.sw2you.realmeet.service.ReportSubscriptionService;
+import br.com.sw2you.realmeet.service.RoomUsageService;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class ReportDownloadUnitTest extends BaseUnitTest {
+    private static final String CONTENT = "0123456789abcdefghij";
+    private static final String TOKEN = "token";
+    private static final String SENDFILE_SUPPORT_ATTRIBUTE = "org.apache.tomcat.sendfile.support";
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private ReportJobService reportJobService;
+
+    @Mock
+    private ReportSubscriptionService reportSubscriptionService;
+
+    @Mock
+    private RoomUsageService roomUsageService;
+
+    @Mock
+    private ReportStoreService reportStoreService;
+
+    @TempDir
+    Path tempDirectory;
+
+    private Path storedFile;
+
+    @BeforeEach
+    void setupEach() throws IOException {
+        storedFile = Files.writeString(tempDirectory.resolve("stored.pdf"), CONTENT);
+        mockMvc =
+            MockMvcBuilders
+                .standaloneSetup(
+                    new ReportController(
+                        Runnable::run,
+                        reportJobService,
+                        reportSubscriptionService,
+                        roomUsageService,
+                        reportStoreService,
+                        null
+                    )
+                )
+                .setMessageConverters(
+                    new FileChannelResourceHttpMessageConverter(),
+                    new FileChannelResourceRegionHttpMessageConverter()
+                )
+                .build();
+        BDDMockito
+            .given(reportStoreService.getStoredReport(TOKEN))
+            .willReturn(
+                GeneratedReport
+                    .newGeneratedReportBuilder()
+                    .path(storedFile)
+                    .reportFormat(ReportFormat.PDF)
+                    .fileName("report_allocation.pdf")
+                    .build()
+            );
+    }
+
+    @Test
+    void testDownloadWholeReport() throws Exception {
+        var result = download(MockMvcRequestBuilders.get("/reports/files/{token}", TOKEN));
+
+        Assertions.assertEquals(200, result.getResponse().getStatus());
+        Assertions.assertEquals(CONTENT, result.getResponse().getContentAsString());
+        Assertions.assertEquals(CONTENT.length(), result.getResponse().getContentLength());
+    }
+
+    @Test
+    void testDownloadRange() throws Exception {
+        var result = download(
+            MockMvcRequestBuilders.get("/reports/files/{token}", TOKEN).header(HttpHeaders.RANGE, "bytes=10-")
+        );
+
+        Assertions.assertEquals(206, result.getResponse().getStatus());
+        Assertions.assertEquals("abcdefghij", result.getResponse().getContentAsString());
+        Assertions.assertEquals("bytes 10-19/20", result.getResponse().getHeader(HttpHeaders.CONTENT_RANGE));
+    }
+
+    @Test
+    void testDownloadHandsFileToContainerSendfile() throws Exception {
+        var result = download(
+            MockMvcRequestBuilders
+                .get("/reports/files/{token}", TOKEN)
+                .header(HttpHeaders.RANGE, "bytes=5-9")
+                .requestAttr(SENDFILE_SUPPORT_ATTRIBUTE, Boolean.TRUE)
+        );
+
+        Assertions.assertEquals(206, result.getResponse().getStatus());
+        Assertions.assertEquals(0, result.getResponse().getContentAsByteArray().length);
+        Assertions.assertEquals(5, result.getResponse().getContentLength());
+        Assertions.assertEquals(
+            storedFile.toFile().getAbsolutePath(),
+            result.getRequest().getAttribute("org.apache.tomcat.sendfile.filename")
+        );
+        Assertions.assertEquals(5L, result.getRequest().getAttribute("org.apache.tomcat.sendfile.start"));
+        Assertions.assertEquals(10L, result.getRequest().getAttribute("org.apache.tomcat.sendfile.end"));
+    }
+
+    private MvcResult download(MockHttpServletRequestBuilder request) throws Exception {
+        var asyncResult = mockMvc
+            .perform(request)
+            .andExpect(MockMvcResultMatchers.request().asyncStarted())
+            .andReturn();
+        return mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(asyncResult)).andReturn();
+    }
+}
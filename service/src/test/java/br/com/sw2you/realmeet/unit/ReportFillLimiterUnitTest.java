@@ -0,0 +1,86 @@
+package br.com.sw2you.realmeet.unit;
+
+import br.com.sw2you.realmeet.config.properties.ReportFillConfigProperties;
+import br.com.sw2you.realmeet.core.BaseUnitTest;
+import br.com.sw2you.realmeet.exception.ReportCapacityExceededException;
+import br.com.sw2you.realmeet.report.limiter.ReportFillLimiter;
+import br.com.sw2you.realmeet.utils.TestUtils;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+class ReportFillLimiterUnitTest extends BaseUnitTest {
+
+    @Test
+    void testMaxConcurrentDerivedFromHeap() {
+        var memoryPerFill = DataSize.ofMegabytes(64);
+        var victim = new ReportFillLimiter(new ReportFillConfigProperties(0, memoryPerFill, Duration.ofSeconds(1)));
+
+        Assertions.assertEquals(
+            Math.max(1, Runtime.getRuntime().maxMemory() / memoryPerFill.toBytes()),
+            victim.getMaxConcurrent()
+        );
+    }
+
+    @Test
+    void testMaxConcurrentAtLeastOne() {
+        var victim = new ReportFillLimiter(
+            new ReportFillConfigProperties(0, DataSize.ofTerabytes(1), Duration.ofSeconds(1))
+        );
+
+        Assertions.assertEquals(1, victim.getMaxConcurrent());
+    }
+
+    @Test
+    void testRejectsWhenNoSlotFreesUp() throws Exception {
+        var victim = TestUtils.newReportFillLimiter(1, Duration.ofMillis(100));
+        var fillStarted = new CountDownLatch(1);
+        var releaseFill = new CountDownLatch(1);
+        var runningFill = CompletableFuture.supplyAsync(
+            () ->
+                victim.execute(
+                    () -> {
+                        fillStarted.countDown();
+                        awaitQuietly(releaseFill);
+                        return 1;
+                    }
+                )
+        );
+        Assertions.assertTrue(fillStarted.await(5, TimeUnit.SECONDS));
+
+        Assertions.assertThrows(ReportCapacityExceededException.class, () -> victim.execute(() -> 2));
+
+        releaseFill.countDown();
+        Assertions.assertEquals(1, runningFill.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(3, victim.execute(() -> 3));
+    }
+
+    @Test
+    void testReleasesSlotWhenFillFails() {
+        var victim = TestUtils.newReportFillLimiter(1, Duration.ofMillis(100));
+
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () ->
+                victim.execute(
+                    () -> {
+                        throw new IllegalStateException("fill failed");
+                    }
+                )
+        );
+
+        Assertions.assertEquals(1, victim.getAvailablePermits());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,360 @@
+package br.com.sw2you.realmeet.unit;
+
+import br.com.sw2you.realmeet.core.BaseUnitTest;
+import br.com.sw2you.realmeet.domain.entity.ReportJob;
+import br.com.sw2you.realmeet.domain.entity.StoredReport;
+import br.com.sw2you.realmeet.domain.repository.ReportJobRepository;
+import br.com.sw2you.realmeet.exception.ReportJobLimitExceededException;
+import br.com.sw2you.realmeet.exception.ReportJobNotFoundException;
+import br.com.sw2you.realmeet.exception.ReportJobNotReadyException;
+import br.com.sw2you.realmeet.report.enumeration.ReportFormat;
+import br.com.sw2you.realmeet.report.enumeration.ReportHandlerType;
+import br.com.sw2you.realmeet.report.enumeration.ReportJobStatus;
+import br.com.sw2you.realmeet.report.model.ReportMetrics;
+import br.com.sw2you.realmeet.service.ReportCreationService;
+import br.com.sw2you.realmeet.service.ReportJobService;
+import br.com.sw2you.realmeet.utils.ConstantsTest;
+import br.com.sw2you.realmeet.utils.MapperUtils;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.dao.DataIntegrityViolationException;
+
+class ReportJobServiceUnitTest extends BaseUnitTest {
+    private static final long REPORT_JOB_ID = 1L;
+    private static final int MAX_IN_FLIGHT_PER_REQUESTER = 3;
+
+    private ReportJobService victim;
+
+    @Mock
+    private ReportJobRepository reportJobRepository;
+
+    @Mock
+    private ReportCreationService reportCreationService;
+
+    @TempDir
+    Path reportsDirectory;
+
+    @TempDir
+    Path storeDirectory;
+
+    private Path storedFile;
+
+    @BeforeEach
+    void setupEach() {
+        storedFile = storeDirectory.resolve("token.pdf");
+        victim = newReportJobService(Runnable::run);
+    }
+
+    @Test
+    void testCreateAllocationReportJobRunsJob() throws Exception {
+        var reportJob = newReportJob();
+        var reportJobCaptor = ArgumentCaptor.forClass(ReportJob.class);
+        BDDMockito.given(reportJobRepository.save(reportJobCaptor.capture())).willReturn(reportJob);
+        givenReportJobClaimed(reportJob);
+        givenReportCreated();
+
+        var reportJobDTO = victim.createAllocationReportJob(
+            ConstantsTest.TEST_CLIENT_API_KEY,
+            reportJob.getDateFrom(),
+            reportJob.getDateTo(),
+            ConstantsTest.EMAIL_TO,
+            ReportFormat.PDF.name()
+        );
+
+        Assertions.assertEquals(REPORT_JOB_ID, reportJobDTO.getId());
+        Assertions.assertEquals(ReportJobStatus.COMPLETED, reportJob.getStatus());
+        Assertions.assertEquals(10L, reportJob.getRowCount());
+        Assertions.assertEquals(4L, reportJob.getSizeBytes());
+        Assertions.assertEquals(storedFile.toString(), reportJob.getFilePath());
+        Assertions.assertNull(reportJob.getRequestKey());
+        var createdReportJob = reportJobCaptor.getAllValues().get(0);
+        Assertions.assertEquals(ConstantsTest.TEST_CLIENT_API_KEY, createdReportJob.getRequester());
+        Assertions.assertTrue(createdReportJob.getRequestKey().startsWith(ConstantsTest.TEST_CLIENT_API_KEY + "|"));
+        try (var files = Files.list(reportsDirectory)) {
+            Assertions.assertEquals(0, files.count());
+        }
+        Mockito.verify(reportCreationService).validateReport(ArgumentMatchers.any(), ArgumentMatchers.any());
+        Mockito
+            .verify(reportCreationService)
+            .dispatchReport(
+                ArgumentMatchers.eq(ConstantsTest.EMAIL_TO),
+                ArgumentMatchers.eq(ReportFormat.PDF),
+                ArgumentMatchers.eq(ReportHandlerType.ALLOCATION),
+                ArgumentMatchers.any(),
+                ArgumentMatchers.any()
+            );
+    }
+
+    @Test
+    void testCreateAllocationReportJobReturnsInFlightDuplicate() {
+        var reportJob = newReportJob();
+        BDDMockito
+            .given(reportJobRepository.findByRequestKey(ArgumentMatchers.startsWith(ConstantsTest.TEST_CLIENT_API_KEY)))
+            .willReturn(Optional.of(reportJob));
+
+        var reportJobDTO = victim.createAllocationReportJob(
+            ConstantsTest.TEST_CLIENT_API_KEY,
+            reportJob.getDateFrom(),
+            reportJob.getDateTo(),
+            ConstantsTest.EMAIL_TO,
+            ReportFormat.PDF.name()
+        );
+
+        Assertions.assertEquals(REPORT_JOB_ID, reportJobDTO.getId());
+        Mockito.verify(reportJobRepository, Mockito.never()).save(ArgumentMatchers.any());
+        Mockito
+            .verify(reportJobRepository, Mockito.never())
+            .claim(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any());
+    }
+
+    @Test
+    void testCreateAllocationReportJobReturnsConcurrentDuplicate() {
+        var reportJob = newReportJob();
+        BDDMockito
+            .given(reportJobRepository.findByRequestKey(ArgumentMatchers.any()))
+            .willReturn(Optional.empty(), Optional.of(reportJob));
+        BDDMockito
+            .given(reportJobRepository.save(ArgumentMatchers.any()))
+            .willThrow(new DataIntegrityViolationException("idx-report_job-request_key"));
+
+        var reportJobDTO = victim.createAllocationReportJob(
+            ConstantsTest.TEST_CLIENT_API_KEY,
+            reportJob.getDateFrom(),
+            reportJob.getDateTo(),
+            ConstantsTest.EMAIL_TO,
+            ReportFormat.PDF.name()
+        );
+
+        Assertions.assertEquals(REPORT_JOB_ID, reportJobDTO.getId());
+        Mockito
+            .verify(reportJobRepository, Mockito.never())
+            .claim(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any());
+    }
+
+    @Test
+    void testCreateAllocationReportJobRejectedOverRequesterLimit() {
+        BDDMockito
+            .given(
+                reportJobRepository.countByRequester(
+                    ArgumentMatchers.eq(ConstantsTest.TEST_CLIENT_API_KEY),
+                    ArgumentMatchers.any()
+                )
+            )
+            .willReturn((long) MAX_IN_FLIGHT_PER_REQUESTER);
+
+        Assertions.assertThrows(
+            ReportJobLimitExceededException.class,
+            () ->
+                victim.createAllocationReportJob(
+                    ConstantsTest.TEST_CLIENT_API_KEY,
+                    LocalDate.of(2022, 1, 1),
+                    LocalDate.of(2022, 1, 31),
+                    ConstantsTest.EMAIL_TO,
+                    ReportFormat.PDF.name()
+                )
+        );
+        Mockito.verify(reportJobRepository, Mockito.never()).save(ArgumentMatchers.any());
+    }
+
+    @Test
+    void testRunReportJobAlreadyClaimed() {
+        BDDMockito
+            .given(
+                reportJobRepository.claim(
+                    ArgumentMatchers.eq(REPORT_JOB_ID),
+                    ArgumentMatchers.any(),
+                    ArgumentMatchers.any()
+                )
+            )
+            .willReturn(0);
+
+        victim.runReportJob(REPORT_JOB_ID);
+
+        Mockito.verify(reportJobRepository, Mockito.never()).findById(ArgumentMatchers.any());
+        Mockito.verifyNoInteractions(reportCreationService);
+    }
+
+    @Test
+    void testRunReportJobFailure() {
+        var reportJob = newReportJob();
+        givenReportJobClaimed(reportJob);
+        BDDMockito
+            .given(
+                reportCreationService.createReport(
+                    ArgumentMatchers.any(),
+                    ArgumentMatchers.any(),
+                    ArgumentMatchers.any(),
+                    ArgumentMatchers.any()
+                )
+            )
+            .willThrow(new IllegalStateException("fill failed"));
+
+        victim.runReportJob(REPORT_JOB_ID);
+
+        var captor = ArgumentCaptor.forClass(ReportJob.class);
+        Mockito.verify(reportJobRepository).save(captor.capture());
+        Assertions.assertEquals(ReportJobStatus.FAILED, captor.getValue().getStatus());
+        Assertions.assertEquals("fill failed", captor.getValue().getErrorMessage());
+        Mockito
+            .verify(reportCreationService, Mockito.never())
+            .dispatchReport(
+                ArgumentMatchers.any(),
+                ArgumentMatchers.any(),
+                ArgumentMatchers.any(),
+                ArgumentMatchers.any(),
+                ArgumentMatchers.any()
+            );
+    }
+
+    @Test
+    void testSweepReportJobsResubmitsStaleJobs() {
+        var reportJob = newReportJob();
+        BDDMockito.given(reportJobRepository.requeueExpired(ArgumentMatchers.any())).willReturn(1);
+        BDDMockito
+            .given(reportJobRepository.findStalePendingIds(ArgumentMatchers.any()))
+            .willReturn(List.of(REPORT_JOB_ID));
+        givenReportJobClaimed(reportJob);
+        givenReportCreated();
+
+        victim.sweepReportJobs();
+
+        Mockito
+            .verify(reportJobRepository, Mockito.never())
+            .renewLeases(ArgumentMatchers.any(), ArgumentMatchers.any());
+        Assertions.assertEquals(ReportJobStatus.COMPLETED, reportJob.getStatus());
+    }
+
+    @Test
+    void testSweepReportJobsRenewsLeasesOfLocalJobs() {
+        List<Runnable> queuedJobs = new ArrayList<>();
+        victim = newReportJobService(queuedJobs::add);
+        var reportJob = newReportJob();
+        BDDMockito.given(reportJobRepository.save(ArgumentMatchers.any())).willReturn(reportJob);
+        BDDMockito
+            .given(reportJobRepository.findStalePendingIds(ArgumentMatchers.any()))
+            .willReturn(List.of(REPORT_JOB_ID));
+        victim.createAllocationReportJob(
+            ConstantsTest.TEST_CLIENT_API_KEY,
+            reportJob.getDateFrom(),
+            reportJob.getDateTo(),
+            ConstantsTest.EMAIL_TO,
+            ReportFormat.PDF.name()
+        );
+
+        victim.sweepReportJobs();
+
+        Mockito
+            .verify(reportJobRepository)
+            .renewLeases(ArgumentMatchers.eq(Set.of(REPORT_JOB_ID)), ArgumentMatchers.any());
+        Assertions.assertEquals(1, queuedJobs.size());
+    }
+
+    @Test
+    void testGetGeneratedReportNotReady() {
+        BDDMockito.given(reportJobRepository.findById(REPORT_JOB_ID)).willReturn(Optional.of(newReportJob()));
+
+        Assertions.assertThrows(ReportJobNotReadyException.class, () -> victim.getGeneratedReport(REPORT_JOB_ID));
+    }
+
+    @Test
+    void testGetReportJobNotFound() {
+        BDDMockito.given(reportJobRepository.findById(REPORT_JOB_ID)).willReturn(Optional.empty());
+
+        Assertions.assertThrows(ReportJobNotFoundException.class, () -> victim.getReportJob(REPORT_JOB_ID));
+    }
+
+    private ReportJobService newReportJobService(Executor reportJobsExecutor) {
+        return new ReportJobService(
+            reportJobRepository,
+            reportCreationService,
+            MapperUtils.reportJobMapper(),
+            reportJobsExecutor,
+            reportsDirectory.toString(),
+            MAX_IN_FLIGHT_PER_REQUESTER,
+            Duration.ofMinutes(5)
+        );
+    }
+
+    private void givenReportJobClaimed(ReportJob reportJob) {
+        BDDMockito
+            .given(
+                reportJobRepository.claim(
+                    ArgumentMatchers.eq(REPORT_JOB_ID),
+                    ArgumentMatchers.any(),
+                    ArgumentMatchers.any()
+                )
+            )
+            .willReturn(1);
+        BDDMockito.given(reportJobRepository.findById(REPORT_JOB_ID)).willReturn(Optional.of(reportJob));
+        BDDMockito
+            .given(reportCreationService.buildFileName(ReportHandlerType.ALLOCATION, ReportFormat.PDF))
+            .willReturn("report_allocation.pdf");
+    }
+
+    private void givenReportCreated() {
+        BDDMockito
+            .given(
+                reportCreationService.createReport(
+                    ArgumentMatchers.any(),
+                    ArgumentMatchers.any(),
+                    ArgumentMatchers.any(),
+                    ArgumentMatchers.any()
+                )
+            )
+            .willAnswer(
+                invocation -> {
+                    Files.write(invocation.<Path>getArgument(3), new byte[] { 1, 2, 3, 4 });
+                    return ReportMetrics
+                        .newReportMetricsBuilder()
+                        .rowCount(10)
+                        .fillMillis(5)
+                        .exportMillis(3)
+                        .outputBytes(4)
+                        .sizeBytes(4)
+                        .build();
+                }
+            );
+        BDDMockito
+            .given(
+                reportCreationService.dispatchReport(
+                    ArgumentMatchers.any(),
+                    ArgumentMatchers.any(),
+                    ArgumentMatchers.any(),
+                    ArgumentMatchers.any(),
+                    ArgumentMatchers.any()
+                )
+            )
+            .willReturn(StoredReport.newStoredReportBuilder().token("token").path(storedFile.toString()).build());
+    }
+
+    private ReportJob newReportJob() {
+        return ReportJob
+            .newReportJobBuilder()
+            .id(REPORT_JOB_ID)
+            .reportType(ReportHandlerType.ALLOCATION)
+            .reportFormat(ReportFormat.PDF)
+            .email(ConstantsTest.EMAIL_TO)
+            .requester(ConstantsTest.TEST_CLIENT_API_KEY)
+            .requestKey("request-key")
+            .dateFrom(LocalDate.of(2022, 1, 1))
+            .dateTo(LocalDate.of(2022, 3, 31))
+            .status(ReportJobStatus.PENDING)
+            .build();
+    }
+}
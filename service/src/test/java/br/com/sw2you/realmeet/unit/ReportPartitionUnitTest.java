@@ -0,0 +1,180 @@
+package br.com.sw2you.realmeet.unit;
+
+import br.com.sw2you.realmeet.config.JasperReportConfiguration;
+import br.com.sw2you.realmeet.config.properties.ReportVirtualizerConfigProperties;
+import br.com.sw2you.realmeet.core.BaseUnitTest;
+import br.com.sw2you.realmeet.domain.repository.AllocationRepository;
+import br.com.sw2you.realmeet.report.enumeration.ReportFormat;
+import br.com.sw2you.realmeet.report.handler.AllocationReportHandler;
+import br.com.sw2you.realmeet.report.model.AllocationReportData;
+import br.com.sw2you.realmeet.report.validator.AllocationReportValidator;
+import br.com.sw2you.realmeet.report.virtualizer.ReportVirtualizerFactory;
+import br.com.sw2you.realmeet.utils.ConstantsTest;
+import br.com.sw2you.realmeet.utils.TestDataCreator;
+import br.com.sw2you.realmeet.utils.TestUtils;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+class ReportPartitionUnitTest extends BaseUnitTest {
+    private static final int ROWS_PER_PARTITION = 50;
+
+    private AllocationReportHandler victim;
+
+    private ExecutorService reportPartitionsExecutor;
+
+    @Mock
+    private AllocationRepository allocationRepository;
+
+    @BeforeEach
+    void setupEach() {
+        reportPartitionsExecutor = Executors.newFixedThreadPool(2);
+        victim =
+            new AllocationReportHandler(
+                new JasperReportConfiguration(false).allocationReport(),
+                allocationRepository,
+                new AllocationReportValidator(allocationRepository, 500000),
+                new ReportVirtualizerFactory(new ReportVirtualizerConfigProperties(null, null)),
+                TestUtils.newReportPartitionExecutor(reportPartitionsExecutor)
+            );
+    }
+
+    @AfterEach
+    void tearDownEach() {
+        reportPartitionsExecutor.shutdownNow();
+    }
+
+    @Test
+    void testFillsOnePartitionPerMonth() {
+        givenAllocations();
+        var out = new ByteArrayOutputStream();
+
+        var reportMetrics = victim.createReport(
+            newAllocationReportData(LocalDate.of(2022, 1, 15), LocalDate.of(2022, 3, 10)),
+            ReportFormat.PDF,
+            out
+        );
+
+        var startAtCaptor = ArgumentCaptor.forClass(OffsetDateTime.class);
+        var endAtCaptor = ArgumentCaptor.forClass(OffsetDateTime.class);
+        Mockito
+            .verify(allocationRepository, Mockito.times(3))
+            .streamRowsForReport(startAtCaptor.capture(), endAtCaptor.capture());
+        Assertions.assertEquals(
+            List.of(LocalDate.of(2022, 1, 15), LocalDate.of(2022, 2, 1), LocalDate.of(2022, 3, 1)),
+            startAtCaptor.getAllValues().stream().map(OffsetDateTime::toLocalDate).sorted().collect(Collectors.toList())
+        );
+        Assertions.assertEquals(
+            List.of(LocalDate.of(2022, 1, 31), LocalDate.of(2022, 2, 28), LocalDate.of(2022, 3, 10)),
+            endAtCaptor.getAllValues().stream().map(OffsetDateTime::toLocalDate).sorted().collect(Collectors.toList())
+        );
+        Assertions.assertEquals(3 * ROWS_PER_PARTITION, reportMetrics.getRowCount());
+        Assertions.assertTrue(out.toString(StandardCharsets.ISO_8859_1).startsWith("%PDF"));
+    }
+
+    @Test
+    void testSinglePartitionForOneMonth() {
+        givenAllocations();
+
+        var reportMetrics = victim.createReport(
+            newAllocationReportData(LocalDate.of(2022, 2, 1), LocalDate.of(2022, 2, 28)),
+            ReportFormat.XML,
+            new ByteArrayOutputStream()
+        );
+
+        Mockito
+            .verify(allocationRepository)
+            .streamRowsForReport(
+                LocalDate.of(2022, 2, 1).atTime(OffsetTime.MIN),
+                LocalDate.of(2022, 2, 28).atTime(OffsetTime.MAX)
+            );
+        Assertions.assertEquals(ROWS_PER_PARTITION, reportMetrics.getRowCount());
+    }
+
+    @Test
+    void testXmlReportContainsAllPartitions() {
+        givenAllocations();
+        var out = new ByteArrayOutputStream();
+
+        victim.createReport(
+            newAllocationReportData(LocalDate.of(2022, 1, 1), LocalDate.of(2022, 3, 31)),
+            ReportFormat.XML,
+            out
+        );
+
+        var xml = out.toString(StandardCharsets.UTF_8);
+        var singlePartitionOut = new ByteArrayOutputStream();
+        victim.createReport(
+            newAllocationReportData(LocalDate.of(2022, 1, 1), LocalDate.of(2022, 1, 31)),
+            ReportFormat.XML,
+            singlePartitionOut
+        );
+        Assertions.assertEquals(1, countOccurrences(xml, "<jasperPrint"));
+        Assertions.assertEquals(
+            3 * countOccurrences(singlePartitionOut.toString(StandardCharsets.UTF_8), "<page"),
+            countOccurrences(xml, "<page")
+        );
+    }
+
+    @Test
+    void testPartitionFailurePropagates() {
+        BDDMockito
+            .given(allocationRepository.streamRowsForReport(ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .willAnswer(
+                invocation -> {
+                    if (invocation.<OffsetDateTime>getArgument(0).getMonthValue() == 2) {
+                        throw new IllegalStateException("fetch failed");
+                    }
+                    return Stream.empty();
+                }
+            );
+
+        var exception = Assertions.assertThrows(
+            IllegalStateException.class,
+            () ->
+                victim.createReport(
+                    newAllocationReportData(LocalDate.of(2022, 1, 1), LocalDate.of(2022, 3, 31)),
+                    ReportFormat.PDF,
+                    new ByteArrayOutputStream()
+                )
+        );
+        Assertions.assertEquals("fetch failed", exception.getMessage());
+    }
+
+    private void givenAllocations() {
+        var row = TestDataCreator.newAllocationReportRowDefault();
+        BDDMockito
+            .given(allocationRepository.streamRowsForReport(ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .willAnswer(invocation -> IntStream.range(0, ROWS_PER_PARTITION).mapToObj(i -> row));
+    }
+
+    private static int countOccurrences(String text, String token) {
+        return text.split(token, -1).length - 1;
+    }
+
+    private AllocationReportData newAllocationReportData(LocalDate dateFrom, LocalDate dateTo) {
+        return AllocationReportData
+            .newAllocationDataReportBuilder()
+            .dateFrom(dateFrom)
+            .dateTo(dateTo)
+            .email(ConstantsTest.EMAIL_TO)
+            .build();
+    }
+}
@@ -0,0 +1,29 @@
+package br.com.sw2you.realmeet.unit;
+
+import br.com.sw2you.realmeet.core.BaseUnitTest;
+import br.com.sw2you.realmeet.report.enumeration.ReportPeriod;
+import java.time.LocalDate;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ReportPeriodUnitTest extends BaseUnitTest {
+    private static final LocalDate REFERENCE_DATE = LocalDate.of(2022, 3, 16);
+
+    @Test
+    void testPreviousWeek() {
+        Assertions.assertEquals(LocalDate.of(2022, 3, 7), ReportPeriod.PREVIOUS_WEEK.getDateFrom(REFERENCE_DATE));
+        Assertions.assertEquals(LocalDate.of(2022, 3, 13), ReportPeriod.PREVIOUS_WEEK.getDateTo(REFERENCE_DATE));
+    }
+
+    @Test
+    void testPreviousMonth() {
+        Assertions.assertEquals(LocalDate.of(2022, 2, 1), ReportPeriod.PREVIOUS_MONTH.getDateFrom(REFERENCE_DATE));
+        Assertions.assertEquals(LocalDate.of(2022, 2, 28), ReportPeriod.PREVIOUS_MONTH.getDateTo(REFERENCE_DATE));
+    }
+
+    @Test
+    void testPreviousQuarter() {
+        Assertions.assertEquals(LocalDate.of(2021, 10, 1), ReportPeriod.PREVIOUS_QUARTER.getDateFrom(REFERENCE_DATE));
+        Assertions.assertEquals(LocalDate.of(2021, 12, 31), ReportPeriod.PREVIOUS_QUARTER.getDateTo(REFERENCE_DATE));
+    }
+}
@@ -0,0 +1,176 @@
+package br.com.sw2you.realmeet.unit;
+
+import br.com.sw2you.realmeet.config.properties.ReportStoreConfigProperties;
+import br.com.sw2you.realmeet.core.BaseUnitTest;
+import br.com.sw2you.realmeet.domain.entity.StoredReport;
+import br.com.sw2you.realmeet.domain.repository.StoredReportRepository;
+import br.com.sw2you.realmeet.exception.StoredReportNotFoundException;
+import br.com.sw2you.realmeet.report.enumeration.ReportCompression;
+import br.com.sw2you.realmeet.report.enumeration.ReportFormat;
+import br.com.sw2you.realmeet.report.enumeration.ReportHandlerType;
+import br.com.sw2you.realmeet.service.ReportStoreService;
+import br.com.sw2you.realmeet.util.DateUtils;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+class ReportStoreServiceUnitTest extends BaseUnitTest {
+    private static final String DOWNLOAD_BASE_URL = "http://localhost:8080/v1";
+    private static final String FILE_NAME = "report_allocation.pdf";
+    private static final Duration RETENTION = Duration.ofDays(7);
+
+    private ReportStoreService victim;
+
+    @Mock
+    private StoredReportRepository storedReportRepository;
+
+    @TempDir
+    Path tempDirectory;
+
+    private Path storeDirectory;
+
+    @BeforeEach
+    void setupEach() {
+        storeDirectory = tempDirectory.resolve("store");
+        victim =
+            new ReportStoreService(
+                storedReportRepository,
+                new ReportStoreConfigProperties(storeDirectory.toString(), RETENTION, DOWNLOAD_BASE_URL)
+            );
+        victim.start();
+    }
+
+    @Test
+    void testStoreKeepsReportAfterSourceIsDeleted() throws IOException {
+        BDDMockito
+            .given(storedReportRepository.save(ArgumentMatchers.any(StoredReport.class)))
+            .willAnswer(invocation -> invocation.getArgument(0));
+        var reportFile = writeReportFile("content");
+
+        var storedReport = victim.store(
+            reportFile,
+            ReportHandlerType.ALLOCATION,
+            ReportFormat.PDF,
+            ReportCompression.NONE,
+            FILE_NAME
+        );
+        Files.delete(reportFile);
+
+        var storedFile = Paths.get(storedReport.getPath());
+        Assertions.assertEquals(storeDirectory, storedFile.getParent());
+        Assertions.assertEquals("content", Files.readString(storedFile));
+        Assertions.assertEquals(7L, storedReport.getSizeBytes());
+        Assertions.assertEquals(FILE_NAME, storedReport.getFileName());
+        Assertions.assertTrue(storedReport.getExpiresAt().isAfter(DateUtils.now().plus(RETENTION).minusMinutes(1)));
+        Assertions.assertEquals(
+            DOWNLOAD_BASE_URL + "/reports/files/" + storedReport.getToken(),
+            victim.getDownloadUrl(storedReport)
+        );
+    }
+
+    @Test
+    void testStoreRemovesFileWhenMetadataIsNotSaved() throws IOException {
+        BDDMockito
+            .given(storedReportRepository.save(ArgumentMatchers.any(StoredReport.class)))
+            .willThrow(new IllegalStateException("database down"));
+        var reportFile = writeReportFile("content");
+
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () ->
+                victim.store(
+                    reportFile,
+                    ReportHandlerType.ALLOCATION,
+                    ReportFormat.PDF,
+                    ReportCompression.NONE,
+                    FILE_NAME
+                )
+        );
+
+        try (var files = Files.list(storeDirectory)) {
+            Assertions.assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void testGetStoredReport() throws IOException {
+        var storedFile = Files.writeString(storeDirectory.resolve("token.pdf"), "content");
+        BDDMockito
+            .given(storedReportRepository.findAvailable(ArgumentMatchers.eq("token"), ArgumentMatchers.any()))
+            .willReturn(Optional.of(newStoredReport(storedFile)));
+
+        var generatedReport = victim.getStoredReport("token");
+
+        Assertions.assertEquals(storedFile, generatedReport.getPath());
+        Assertions.assertEquals(FILE_NAME, generatedReport.getFileName());
+        Assertions.assertEquals(ReportFormat.PDF, generatedReport.getReportFormat());
+    }
+
+    @Test
+    void testGetStoredReportNotFound() {
+        BDDMockito
+            .given(storedReportRepository.findAvailable(ArgumentMatchers.eq("token"), ArgumentMatchers.any()))
+            .willReturn(Optional.empty());
+
+        Assertions.assertThrows(StoredReportNotFoundException.class, () -> victim.getStoredReport("token"));
+    }
+
+    @Test
+    void testGetStoredReportWithMissingFile() {
+        BDDMockito
+            .given(storedReportRepository.findAvailable(ArgumentMatchers.eq("token"), ArgumentMatchers.any()))
+            .willReturn(Optional.of(newStoredReport(storeDirectory.resolve("missing.pdf"))));
+
+        Assertions.assertThrows(StoredReportNotFoundException.class, () -> victim.getStoredReport("token"));
+    }
+
+    @Test
+    void testPurgeExpiredReports() throws IOException {
+        var storedFile = Files.writeString(storeDirectory.resolve("token.pdf"), "content");
+        var expiredReports = List.of(newStoredReport(storedFile));
+        BDDMockito.given(storedReportRepository.findExpired(ArgumentMatchers.any())).willReturn(expiredReports);
+
+        victim.purgeExpiredReports();
+
+        Assertions.assertFalse(Files.exists(storedFile));
+        Mockito.verify(storedReportRepository).deleteAllInBatch(expiredReports);
+    }
+
+    @Test
+    void testPurgeWithoutExpiredReports() {
+        BDDMockito.given(storedReportRepository.findExpired(ArgumentMatchers.any())).willReturn(List.of());
+
+        victim.purgeExpiredReports();
+
+        Mockito.verify(storedReportRepository, Mockito.never()).deleteAllInBatch(ArgumentMatchers.anyIterable());
+    }
+
+    private Path writeReportFile(String content) throws IOException {
+        return Files.writeString(tempDirectory.resolve("report.pdf"), content, StandardCharsets.UTF_8);
+    }
+
+    private StoredReport newStoredReport(Path storedFile) {
+        return StoredReport
+            .newStoredReportBuilder()
+            .token("token")
+            .reportType(ReportHandlerType.ALLOCATION)
+            .reportFormat(ReportFormat.PDF)
+            .fileName(FILE_NAME)
+            .path(storedFile.toString())
+            .expiresAt(DateUtils.now().plus(RETENTION))
+            .build();
+    }
+}
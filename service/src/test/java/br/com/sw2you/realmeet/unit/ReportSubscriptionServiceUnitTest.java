@@ -0,0 +1,370 @@
+package br.com.sw2you.realmeet.unit;
+
+import br.com.sw2you.realmeet.api.model.CreateReportSubscriptionDTO;
+import br.com.sw2you.realmeet.core.BaseUnitTest;
+import br.com.sw2you.realmeet.domain.entity.ReportSubscription;
+import br.com.sw2you.realmeet.domain.repository.ReportSubscriptionRepository;
+import br.com.sw2you.realmeet.exception.InvalidRequestException;
+import br.com.sw2you.realmeet.report.enumeration.ReportFormat;
+import br.com.sw2you.realmeet.report.enumeration.ReportHandlerType;
+import br.com.sw2you.realmeet.report.enumeration.ReportPeriod;
+import br.com.sw2you.realmeet.report.model.AbstractReportData;
+import br.com.sw2you.realmeet.report.model.AllocationReportData;
+import br.com.sw2you.realmeet.service.ReportCreationService;
+import br.com.sw2you.realmeet.service.ReportSubscriptionService;
+import br.com.sw2you.realmeet.util.DateUtils;
+import br.com.sw2you.realmeet.utils.ConstantsTest;
+import br.com.sw2you.realmeet.utils.MapperUtils;
+import br.com.sw2you.realmeet.validator.ReportSubscriptionValidator;
+import br.com.sw2you.realmeet.validator.ValidationError;
+import br.com.sw2you.realmeet.validator.ValidatorConstants;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+class ReportSubscriptionServiceUnitTest extends BaseUnitTest {
+    private static final int MAX_ATTEMPTS = 3;
+    private static final Duration RETRY_DELAY = Duration.ofMinutes(15);
+
+    private ReportSubscriptionService victim;
+
+    @Mock
+    private ReportSubscriptionRepository reportSubscriptionRepository;
+
+    @Mock
+    private ReportCreationService reportCreationService;
+
+    @BeforeEach
+    void setupEach() {
+        victim = newReportSubscriptionService(Runnable::run);
+    }
+
+    @Test
+    void testRunDueReportSubscriptionsQueuesEachSubscriptionOnce() {
+        List<Runnable> queuedGroups = new ArrayList<>();
+        victim = newReportSubscriptionService(queuedGroups::add);
+        givenDueReportSubscriptions(newReportSubscription(1L, ReportFormat.PDF, List.of(ConstantsTest.EMAIL_TO)));
+
+        victim.runDueReportSubscriptions();
+        victim.runDueReportSubscriptions();
+
+        Assertions.assertEquals(1, queuedGroups.size());
+        Mockito.verifyNoInteractions(reportCreationService);
+    }
+
+    @Test
+    void testRunDueReportSubscriptionsGeneratesEachDistinctReportOnce() {
+        givenDueReportSubscriptions(
+            newReportSubscription(1L, ReportFormat.PDF, List.of("a@email.com", "b@email.com")),
+            newReportSubscription(2L, ReportFormat.PDF, List.of("b@email.com", "c@email.com")),
+            newReportSubscription(3L, ReportFormat.CSV, List.of("d@email.com"))
+        );
+        givenClaimed(1);
+
+        victim.runDueReportSubscriptions();
+
+        var reportDataCaptor = ArgumentCaptor.forClass(AbstractReportData.class);
+        var reportFormatCaptor = ArgumentCaptor.forClass(ReportFormat.class);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<String>> recipientsCaptor = ArgumentCaptor.forClass(List.class);
+        Mockito
+            .verify(reportCreationService, Mockito.times(2))
+            .createAndDispatchReport(
+                reportDataCaptor.capture(),
+                reportFormatCaptor.capture(),
+                ArgumentMatchers.eq(ReportHandlerType.ALLOCATION),
+                recipientsCaptor.capture()
+            );
+        Assertions.assertEquals(List.of(ReportFormat.PDF, ReportFormat.CSV), reportFormatCaptor.getAllValues());
+        Assertions.assertEquals(
+            List.of(List.of("a@email.com", "b@email.com", "c@email.com"), List.of("d@email.com")),
+            recipientsCaptor.getAllValues()
+        );
+        var reportData = (AllocationReportData) reportDataCaptor.getValue();
+        var today = DateUtils.now().toLocalDate();
+        Assertions.assertEquals(ReportPeriod.PREVIOUS_MONTH.getDateFrom(today), reportData.getDateFrom());
+        Assertions.assertEquals(ReportPeriod.PREVIOUS_MONTH.getDateTo(today), reportData.getDateTo());
+    }
+
+    @Test
+    void testRunDueReportSubscriptionsClaimsEachGroupRightBeforeGenerating() {
+        givenDueReportSubscriptions(
+            newReportSubscription(1L, ReportFormat.PDF, List.of("a@email.com")),
+            newReportSubscription(2L, ReportFormat.CSV, List.of("b@email.com"))
+        );
+        givenClaimed(1);
+
+        victim.runDueReportSubscriptions();
+
+        var inOrder = Mockito.inOrder(reportSubscriptionRepository, reportCreationService);
+        inOrder
+            .verify(reportSubscriptionRepository)
+            .claim(ArgumentMatchers.eq(1L), ArgumentMatchers.any(), ArgumentMatchers.any());
+        inOrder
+            .verify(reportCreationService)
+            .createAndDispatchReport(
+                ArgumentMatchers.any(),
+                ArgumentMatchers.eq(ReportFormat.PDF),
+                ArgumentMatchers.any(),
+                ArgumentMatchers.any()
+            );
+        inOrder
+            .verify(reportSubscriptionRepository)
+            .claim(ArgumentMatchers.eq(2L), ArgumentMatchers.any(), ArgumentMatchers.any());
+        inOrder
+            .verify(reportCreationService)
+            .createAndDispatchReport(
+                ArgumentMatchers.any(),
+                ArgumentMatchers.eq(ReportFormat.CSV),
+                ArgumentMatchers.any(),
+                ArgumentMatchers.any()
+            );
+    }
+
+    @Test
+    void testRunDueReportSubscriptionsSkipsClaimedElsewhere() {
+        givenDueReportSubscriptions(newReportSubscription(1L, ReportFormat.PDF, List.of(ConstantsTest.EMAIL_TO)));
+        givenClaimed(0);
+
+        victim.runDueReportSubscriptions();
+
+        Mockito.verifyNoInteractions(reportCreationService);
+    }
+
+    @Test
+    void testRunDueReportSubscriptionsContinuesAfterFailure() {
+        givenDueReportSubscriptions(
+            newReportSubscription(1L, ReportFormat.PDF, List.of("a@email.com")),
+            newReportSubscription(2L, ReportFormat.XML, List.of("b@email.com"))
+        );
+        givenClaimed(1);
+        BDDMockito
+            .willThrow(new IllegalStateException("fill failed"))
+            .given(reportCreationService)
+            .createAndDispatchReport(
+                ArgumentMatchers.any(),
+                ArgumentMatchers.eq(ReportFormat.PDF),
+                ArgumentMatchers.any(),
+                ArgumentMatchers.any()
+            );
+
+        victim.runDueReportSubscriptions();
+
+        Mockito
+            .verify(reportCreationService)
+            .createAndDispatchReport(
+                ArgumentMatchers.any(),
+                ArgumentMatchers.eq(ReportFormat.XML),
+                ArgumentMatchers.any(),
+                ArgumentMatchers.eq(List.of("b@email.com"))
+            );
+    }
+
+    @Test
+    void testRunDueReportSubscriptionsSchedulesNextRunOnlyAfterDelivery() {
+        var reportSubscription = newReportSubscription(1L, ReportFormat.PDF, List.of(ConstantsTest.EMAIL_TO));
+        givenDueReportSubscriptions(reportSubscription);
+        givenClaimed(1);
+
+        victim.runDueReportSubscriptions();
+
+        var leaseCaptor = ArgumentCaptor.forClass(OffsetDateTime.class);
+        var nextRunAtCaptor = ArgumentCaptor.forClass(OffsetDateTime.class);
+        Mockito
+            .verify(reportSubscriptionRepository)
+            .claim(
+                ArgumentMatchers.eq(1L),
+                ArgumentMatchers.eq(reportSubscription.getNextRunAt()),
+                leaseCaptor.capture()
+            );
+        Mockito
+            .verify(reportSubscriptionRepository)
+            .complete(
+                ArgumentMatchers.eq(1L),
+                ArgumentMatchers.eq(leaseCaptor.getValue()),
+                nextRunAtCaptor.capture(),
+                ArgumentMatchers.any()
+            );
+        Assertions.assertEquals(1, nextRunAtCaptor.getValue().getDayOfMonth());
+        Assertions.assertEquals(6, nextRunAtCaptor.getValue().getHour());
+    }
+
+    @Test
+    void testRunDueReportSubscriptionsRetriesFailedRunWithBackoff() {
+        givenDueReportSubscriptions(newReportSubscription(1L, ReportFormat.PDF, List.of(ConstantsTest.EMAIL_TO), 1));
+        givenClaimed(1);
+        givenReportFails();
+        var before = DateUtils.now();
+
+        victim.runDueReportSubscriptions();
+
+        var leaseCaptor = ArgumentCaptor.forClass(OffsetDateTime.class);
+        Mockito
+            .verify(reportSubscriptionRepository)
+            .claim(ArgumentMatchers.eq(1L), ArgumentMatchers.any(), leaseCaptor.capture());
+        Assertions.assertFalse(leaseCaptor.getValue().isBefore(before.plus(RETRY_DELAY.multipliedBy(2))));
+        Mockito
+            .verify(reportSubscriptionRepository, Mockito.never())
+            .complete(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any());
+        Mockito
+            .verify(reportSubscriptionRepository, Mockito.never())
+            .abandon(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any());
+    }
+
+    @Test
+    void testRunDueReportSubscriptionsGivesUpAfterMaxAttempts() {
+        givenDueReportSubscriptions(
+            newReportSubscription(1L, ReportFormat.PDF, List.of(ConstantsTest.EMAIL_TO), MAX_ATTEMPTS - 1)
+        );
+        givenClaimed(1);
+        givenReportFails();
+
+        victim.runDueReportSubscriptions();
+
+        var nextRunAtCaptor = ArgumentCaptor.forClass(OffsetDateTime.class);
+        Mockito
+            .verify(reportSubscriptionRepository)
+            .abandon(ArgumentMatchers.eq(1L), ArgumentMatchers.any(), nextRunAtCaptor.capture());
+        Assertions.assertEquals(1, nextRunAtCaptor.getValue().getDayOfMonth());
+    }
+
+    @Test
+    void testCreateReportSubscriptionSchedulesNextRun() {
+        BDDMockito
+            .given(reportSubscriptionRepository.save(ArgumentMatchers.any()))
+            .willAnswer(invocation -> invocation.getArgument(0));
+
+        var reportSubscriptionDTO = victim.createReportSubscription(newCreateReportSubscriptionDTO());
+
+        var nextRunAt = reportSubscriptionDTO.getNextRunAt();
+        Assertions.assertTrue(nextRunAt.isAfter(DateUtils.now().minusSeconds(1)));
+        Assertions.assertEquals(1, nextRunAt.getDayOfMonth());
+        Assertions.assertEquals(6, nextRunAt.getHour());
+        Assertions.assertEquals(ReportFormat.PDF.name(), reportSubscriptionDTO.getReportFormat());
+        Mockito
+            .verify(reportCreationService)
+            .validateReport(
+                ArgumentMatchers.any(AllocationReportData.class),
+                ArgumentMatchers.eq(ReportHandlerType.ALLOCATION)
+            );
+    }
+
+    @Test
+    void testCreateReportSubscriptionInvalid() {
+        var createReportSubscriptionDTO = newCreateReportSubscriptionDTO()
+            .cron("every month")
+            .reportPeriod("LAST_CENTURY")
+            .recipients(List.of(ConstantsTest.EMAIL_TO, ConstantsTest.EMAIL_TO));
+
+        var exception = Assertions.assertThrows(
+            InvalidRequestException.class,
+            () -> victim.createReportSubscription(createReportSubscriptionDTO)
+        );
+
+        Assertions.assertEquals(3, exception.getValidationErrors().getNumberOfErrors());
+        Mockito.verifyNoInteractions(reportSubscriptionRepository);
+    }
+
+    @Test
+    void testCreateReportSubscriptionFiringTooOften() {
+        var createReportSubscriptionDTO = newCreateReportSubscriptionDTO().cron("0 0,30 9 * * MON-FRI");
+
+        var exception = Assertions.assertThrows(
+            InvalidRequestException.class,
+            () -> victim.createReportSubscription(createReportSubscriptionDTO)
+        );
+
+        Assertions.assertEquals(
+            new ValidationError(
+                ValidatorConstants.REPORT_SUBSCRIPTION_CRON,
+                ValidatorConstants.REPORT_SUBSCRIPTION_CRON + ValidatorConstants.BELOW_MIN_VALUE
+            ),
+            exception.getValidationErrors().getError(0)
+        );
+        Mockito.verifyNoInteractions(reportSubscriptionRepository);
+    }
+
+    private ReportSubscriptionService newReportSubscriptionService(Executor reportJobsExecutor) {
+        return new ReportSubscriptionService(
+            reportSubscriptionRepository,
+            reportCreationService,
+            new ReportSubscriptionValidator(Duration.ofHours(1)),
+            MapperUtils.reportSubscriptionMapper(),
+            reportJobsExecutor,
+            MAX_ATTEMPTS,
+            RETRY_DELAY,
+            Duration.ofHours(6)
+        );
+    }
+
+    private void givenReportFails() {
+        BDDMockito
+            .willThrow(new IllegalStateException("fill failed"))
+            .given(reportCreationService)
+            .createAndDispatchReport(
+                ArgumentMatchers.any(),
+                ArgumentMatchers.any(),
+                ArgumentMatchers.any(),
+                ArgumentMatchers.any()
+            );
+    }
+
+    private void givenDueReportSubscriptions(ReportSubscription... reportSubscriptions) {
+        BDDMockito
+            .given(reportSubscriptionRepository.findDue(ArgumentMatchers.any()))
+            .willReturn(List.of(reportSubscriptions));
+    }
+
+    private void givenClaimed(int updatedRows) {
+        BDDMockito
+            .given(
+                reportSubscriptionRepository.claim(
+                    ArgumentMatchers.any(),
+                    ArgumentMatchers.any(),
+                    ArgumentMatchers.any()
+                )
+            )
+            .willReturn(updatedRows);
+    }
+
+    private ReportSubscription newReportSubscription(Long id, ReportFormat reportFormat, List<String> recipients) {
+        return newReportSubscription(id, reportFormat, recipients, 0);
+    }
+
+    private ReportSubscription newReportSubscription(
+        Long id,
+        ReportFormat reportFormat,
+        List<String> recipients,
+        int attempts
+    ) {
+        return ReportSubscription
+            .newReportSubscriptionBuilder()
+            .id(id)
+            .reportType(ReportHandlerType.ALLOCATION)
+            .reportFormat(reportFormat)
+            .reportPeriod(ReportPeriod.PREVIOUS_MONTH)
+            .cron(ConstantsTest.REPORT_SUBSCRIPTION_CRON)
+            .recipients(recipients)
+            .nextRunAt(OffsetDateTime.now().minusMinutes(1))
+            .attempts(attempts)
+            .build();
+    }
+
+    private CreateReportSubscriptionDTO newCreateReportSubscriptionDTO() {
+        return new CreateReportSubscriptionDTO()
+            .reportType(ReportHandlerType.ALLOCATION.name())
+            .reportPeriod(ReportPeriod.PREVIOUS_MONTH.name())
+            .cron(ConstantsTest.REPORT_SUBSCRIPTION_CRON)
+            .recipients(List.of(ConstantsTest.EMAIL_TO));
+    }
+}
@@ -0,0 +1,120 @@
+package br.com.sw2you.realmeet.unit;
+
+import br.com.sw2you.realmeet.config.properties.ReportTemplateConfigProperties;
+import br.com.sw2you.realmeet.core.BaseUnitTest;
+import br.com.sw2you.realmeet.report.cache.ReportCache;
+import br.com.sw2you.realmeet.report.enumeration.ReportHandlerType;
+import br.com.sw2you.realmeet.report.handler.AbstractReportHandler;
+import br.com.sw2you.realmeet.report.resolver.ReportHandlerResolver;
+import br.com.sw2you.realmeet.report.template.ReportTemplateRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import net.sf.jasperreports.engine.JasperReport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.core.io.ClassPathResource;
+
+class ReportTemplateRegistryUnitTest extends BaseUnitTest {
+    private static final long TIMEOUT_MILLIS = 10000;
+    private static final String TEMPLATE_FILE = "allocation-report.jrxml";
+
+    private ReportTemplateRegistry victim;
+
+    @Mock
+    private ReportHandlerResolver reportHandlerResolver;
+
+    @Mock
+    private ReportCache reportCache;
+
+    @Mock
+    private AbstractReportHandler reportHandler;
+
+    @TempDir
+    Path templateDirectory;
+
+    @AfterEach
+    void tearDownEach() {
+        victim.stop();
+    }
+
+    @Test
+    void testStartLoadsTemplateFromDirectory() throws IOException {
+        givenReportHandler();
+        writeTemplate(readBundledTemplate().replace("name=\"allocation-report\"", "name=\"allocation-report-v2\""));
+
+        startVictim(templateDirectory);
+
+        var captor = ArgumentCaptor.forClass(JasperReport.class);
+        Mockito.verify(reportHandler).setJasperReport(captor.capture());
+        Assertions.assertEquals("allocation-report-v2", captor.getValue().getName());
+        Mockito.verify(reportCache).invalidate(ReportHandlerType.ALLOCATION);
+    }
+
+    @Test
+    void testChangedTemplateIsCompiledAndSwapped() throws IOException {
+        givenReportHandler();
+        startVictim(templateDirectory);
+        Mockito.verifyNoInteractions(reportHandler);
+
+        writeTemplate(readBundledTemplate());
+
+        Mockito.verify(reportHandler, Mockito.timeout(TIMEOUT_MILLIS)).setJasperReport(ArgumentMatchers.any());
+        Mockito.verify(reportCache, Mockito.timeout(TIMEOUT_MILLIS)).invalidate(ReportHandlerType.ALLOCATION);
+    }
+
+    @Test
+    void testInvalidTemplateKeepsCurrentReport() throws IOException {
+        startVictim(templateDirectory);
+        writeTemplate("<jasperReport");
+
+        Assertions.assertFalse(victim.reload(ReportHandlerType.ALLOCATION));
+        Mockito.verifyNoInteractions(reportHandlerResolver, reportCache);
+    }
+
+    @Test
+    void testWithoutDirectoryKeepsBundledTemplates() {
+        startVictim(null);
+
+        Assertions.assertFalse(victim.reload(ReportHandlerType.ALLOCATION));
+        Mockito.verifyNoInteractions(reportHandlerResolver, reportCache);
+    }
+
+    private void startVictim(Path directory) {
+        victim =
+            new ReportTemplateRegistry(
+                reportHandlerResolver,
+                reportCache,
+                new ReportTemplateConfigProperties(
+                    directory == null ? null : directory.toString(),
+                    Duration.ofMillis(50)
+                )
+            );
+        victim.start();
+    }
+
+    private void givenReportHandler() {
+        BDDMockito
+            .given(reportHandlerResolver.resolveReportHandler(ReportHandlerType.ALLOCATION))
+            .willReturn(reportHandler);
+    }
+
+    private String readBundledTemplate() throws IOException {
+        try (var in = new ClassPathResource("/jasper/" + TEMPLATE_FILE).getInputStream()) {
+            return new String(in.readAllBytes());
+        }
+    }
+
+    private void writeTemplate(String content) throws IOException {
+        var tempFile = Files.writeString(templateDirectory.resolve(TEMPLATE_FILE + ".tmp"), content);
+        Files.move(tempFile, templateDirectory.resolve(TEMPLATE_FILE));
+    }
+}
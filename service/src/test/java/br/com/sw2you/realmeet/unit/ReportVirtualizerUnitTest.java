@@ -0,0 +1,132 @@
+package br.com.sw2you.realmeet.unit;
+
+import br.com.sw2you.realmeet.benchmark.LargeReportFillHarness;
+import br.com.sw2you.realmeet.config.JasperReportConfiguration;
+import br.com.sw2you.realmeet.config.properties.ReportVirtualizerConfigProperties;
+import br.com.sw2you.realmeet.config.properties.model.ReportVirtualizer;
+import br.com.sw2you.realmeet.core.BaseUnitTest;
+import br.com.sw2you.realmeet.domain.repository.AllocationRepository;
+import br.com.sw2you.realmeet.report.enumeration.ReportFormat;
+import br.com.sw2you.realmeet.report.enumeration.ReportHandlerType;
+import br.com.sw2you.realmeet.report.handler.AllocationReportHandler;
+import br.com.sw2you.realmeet.report.model.AllocationReportData;
+import br.com.sw2you.realmeet.report.validator.AllocationReportValidator;
+import br.com.sw2you.realmeet.report.virtualizer.ReportVirtualizerFactory;
+import br.com.sw2you.realmeet.utils.ConstantsTest;
+import br.com.sw2you.realmeet.utils.TestDataCreator;
+import br.com.sw2you.realmeet.utils.TestUtils;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+
+class ReportVirtualizerUnitTest extends BaseUnitTest {
+    private static final String SMALL_HEAP = "-Xmx128m";
+    private static final int LARGE_REPORT_ROWS = 100_000;
+    private static final long LARGE_REPORT_TIMEOUT_MINUTES = 5;
+
+    @Mock
+    private AllocationRepository allocationRepository;
+
+    @TempDir
+    Path swapDirectory;
+
+    @Test
+    void testNoVirtualizerWhenNotConfigured() {
+        var victim = new ReportVirtualizerFactory(
+            new ReportVirtualizerConfigProperties(swapDirectory.toString(), null)
+        );
+
+        Assertions.assertTrue(victim.createVirtualizer(ReportHandlerType.ALLOCATION).isEmpty());
+    }
+
+    @Test
+    void testSwapFileRemovedAfterExport() throws IOException {
+        var row = TestDataCreator.newAllocationReportRowDefault();
+        BDDMockito
+            .given(allocationRepository.streamRowsForReport(ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .willAnswer(invocation -> IntStream.range(0, 1000).mapToObj(i -> row));
+        var victim = new ReportVirtualizerFactory(
+            new ReportVirtualizerConfigProperties(
+                swapDirectory.toString(),
+                Map.of(ReportHandlerType.ALLOCATION, new ReportVirtualizer(2, 4096, 10))
+            )
+        );
+        var out = new ByteArrayOutputStream();
+
+        var reportMetrics = newAllocationReportHandler(victim)
+            .createReport(newAllocationReportData(), ReportFormat.PDF, out);
+
+        Assertions.assertEquals(2000, reportMetrics.getRowCount());
+        Assertions.assertTrue(out.size() > 0);
+        try (var files = Files.list(swapDirectory)) {
+            Assertions.assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void testFillsLargeReportUnderSmallHeap() throws IOException, InterruptedException {
+        var process = new ProcessBuilder(
+            Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+            SMALL_HEAP,
+            "-cp",
+            System.getProperty("java.class.path"),
+            LargeReportFillHarness.class.getName(),
+            "rows=" + LARGE_REPORT_ROWS,
+            "swapDirectory=" + swapDirectory
+        )
+            .redirectErrorStream(true)
+            .start();
+        var output = new ByteArrayOutputStream();
+        var reader = new Thread(
+            () -> {
+                try {
+                    process.getInputStream().transferTo(output);
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        );
+        reader.start();
+
+        Assertions.assertTrue(process.waitFor(LARGE_REPORT_TIMEOUT_MINUTES, TimeUnit.MINUTES));
+        reader.join();
+        var log = output.toString(StandardCharsets.UTF_8);
+        Assertions.assertEquals(0, process.exitValue(), log);
+        Assertions.assertTrue(log.matches("(?s).*Rows:\\s+" + LARGE_REPORT_ROWS + "\\R.*"), log);
+        try (var files = Files.list(swapDirectory)) {
+            Assertions.assertEquals(0, files.count());
+        }
+    }
+
+    private AllocationReportHandler newAllocationReportHandler(ReportVirtualizerFactory reportVirtualizerFactory) {
+        return new AllocationReportHandler(
+            new JasperReportConfiguration(false).allocationReport(),
+            allocationRepository,
+            new AllocationReportValidator(allocationRepository, 500000),
+            reportVirtualizerFactory,
+            TestUtils.newReportPartitionExecutor(Runnable::run)
+        );
+    }
+
+    private AllocationReportData newAllocationReportData() {
+        return AllocationReportData
+            .newAllocationDataReportBuilder()
+            .dateFrom(LocalDate.now())
+            .dateTo(LocalDate.now().plusMonths(1))
+            .email(ConstantsTest.EMAIL_TO)
+            .build();
+    }
+}
@@ -0,0 +1,167 @@
+package br.com.sw2you.realmeet.unit;
+
+import br.com.sw2you.realmeet.core.BaseUnitTest;
+import br.com.sw2you.realmeet.domain.entity.Allocation;
+import br.com.sw2you.realmeet.domain.model.RoomUsageSummary;
+import br.com.sw2you.realmeet.domain.repository.AllocationRepository;
+import br.com.sw2you.realmeet.domain.repository.RoomUsageDailyRepository;
+import br.com.sw2you.realmeet.exception.InvalidRequestException;
+import br.com.sw2you.realmeet.service.RoomUsageService;
+import br.com.sw2you.realmeet.util.DateUtils;
+import br.com.sw2you.realmeet.utils.ConstantsTest;
+import br.com.sw2you.realmeet.utils.MapperUtils;
+import br.com.sw2you.realmeet.utils.TestDataCreator;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.Stream;
+import javax.persistence.EntityManager;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+class RoomUsageServiceUnitTest extends BaseUnitTest {
+    private static final LocalDate USAGE_DATE = LocalDate.of(2022, 3, 10);
+
+    private RoomUsageService victim;
+
+    @Mock
+    private RoomUsageDailyRepository roomUsageDailyRepository;
+
+    @Mock
+    private AllocationRepository allocationRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setupEach() {
+        victim = newRoomUsageService(false);
+    }
+
+    @Test
+    void testAddAllocationWithinOneDay() {
+        victim.addAllocation(newAllocation(USAGE_DATE, LocalTime.of(9, 0), USAGE_DATE, LocalTime.of(10, 30)));
+
+        Mockito.verify(roomUsageDailyRepository).addUsage(ConstantsTest.DEFAULT_ROOM_ID, USAGE_DATE, 1, 90);
+        Mockito.verifyNoMoreInteractions(roomUsageDailyRepository);
+    }
+
+    @Test
+    void testAddAllocationAcrossMidnightSplitsMinutes() {
+        victim.addAllocation(
+            newAllocation(USAGE_DATE, LocalTime.of(23, 0), USAGE_DATE.plusDays(1), LocalTime.of(1, 0))
+        );
+
+        Mockito.verify(roomUsageDailyRepository).addUsage(ConstantsTest.DEFAULT_ROOM_ID, USAGE_DATE, 1, 60);
+        Mockito.verify(roomUsageDailyRepository).addUsage(ConstantsTest.DEFAULT_ROOM_ID, USAGE_DATE.plusDays(1), 0, 60);
+        Mockito.verifyNoMoreInteractions(roomUsageDailyRepository);
+    }
+
+    @Test
+    void testAddAllocationEndingAtMidnight() {
+        victim.addAllocation(newAllocation(USAGE_DATE, LocalTime.of(22, 0), USAGE_DATE.plusDays(1), LocalTime.MIN));
+
+        Mockito.verify(roomUsageDailyRepository).addUsage(ConstantsTest.DEFAULT_ROOM_ID, USAGE_DATE, 1, 120);
+        Mockito.verifyNoMoreInteractions(roomUsageDailyRepository);
+    }
+
+    @Test
+    void testRemoveAllocationSubtractsUsage() {
+        victim.removeAllocation(newAllocation(USAGE_DATE, LocalTime.of(9, 0), USAGE_DATE, LocalTime.of(10, 0)));
+
+        Mockito.verify(roomUsageDailyRepository).addUsage(ConstantsTest.DEFAULT_ROOM_ID, USAGE_DATE, -1, -60);
+    }
+
+    @Test
+    void testRebuildRoomUsageAggregatesAllocations() {
+        BDDMockito
+            .given(allocationRepository.streamAllForRollup())
+            .willReturn(
+                Stream.of(
+                    newAllocation(USAGE_DATE, LocalTime.of(9, 0), USAGE_DATE, LocalTime.of(10, 0)),
+                    newAllocation(USAGE_DATE, LocalTime.of(14, 0), USAGE_DATE, LocalTime.of(14, 30))
+                )
+            );
+
+        victim.rebuildRoomUsage();
+
+        InOrder inOrder = Mockito.inOrder(roomUsageDailyRepository);
+        inOrder.verify(roomUsageDailyRepository).deleteAllInBatch();
+        inOrder.verify(roomUsageDailyRepository).addUsage(ConstantsTest.DEFAULT_ROOM_ID, USAGE_DATE, 2, 90);
+        Mockito.verify(entityManager, Mockito.times(2)).detach(ArgumentMatchers.any(Allocation.class));
+    }
+
+    @Test
+    void testBackfillSkippedWhenRollupPopulated() {
+        BDDMockito.given(roomUsageDailyRepository.count()).willReturn(10L);
+
+        victim.backfillRoomUsage();
+
+        Mockito.verifyNoInteractions(allocationRepository);
+        Mockito.verify(roomUsageDailyRepository, Mockito.never()).deleteAllInBatch();
+    }
+
+    @Test
+    void testBackfillRebuildsWhenForced() {
+        victim = newRoomUsageService(true);
+        BDDMockito.given(allocationRepository.streamAllForRollup()).willReturn(Stream.empty());
+
+        victim.backfillRoomUsage();
+
+        Mockito.verify(roomUsageDailyRepository).deleteAllInBatch();
+    }
+
+    @Test
+    void testGetRoomUsageReadsRollup() {
+        BDDMockito
+            .given(roomUsageDailyRepository.findSummaries(USAGE_DATE, USAGE_DATE.plusMonths(12)))
+            .willReturn(
+                List.of(new RoomUsageSummary(ConstantsTest.DEFAULT_ROOM_ID, ConstantsTest.DEFAULT_ROOM_NAME, 3L, 180L))
+            );
+
+        var roomUsage = victim.getRoomUsage(USAGE_DATE, USAGE_DATE.plusMonths(12));
+
+        Assertions.assertEquals(1, roomUsage.size());
+        Assertions.assertEquals(ConstantsTest.DEFAULT_ROOM_NAME, roomUsage.get(0).getRoomName());
+        Assertions.assertEquals(3L, roomUsage.get(0).getAllocationCount());
+        Assertions.assertEquals(180L, roomUsage.get(0).getBookedMinutes());
+        Mockito.verifyNoInteractions(allocationRepository);
+    }
+
+    @Test
+    void testGetRoomUsageInvalidRange() {
+        Assertions.assertThrows(
+            InvalidRequestException.class,
+            () -> victim.getRoomUsage(USAGE_DATE, USAGE_DATE.minusDays(1))
+        );
+        Assertions.assertThrows(
+            InvalidRequestException.class,
+            () -> victim.getRoomUsage(USAGE_DATE, USAGE_DATE.plusMonths(13))
+        );
+    }
+
+    private RoomUsageService newRoomUsageService(boolean rebuildOnStartup) {
+        return new RoomUsageService(
+            roomUsageDailyRepository,
+            allocationRepository,
+            MapperUtils.roomUsageMapper(),
+            entityManager,
+            12,
+            rebuildOnStartup
+        );
+    }
+
+    private Allocation newAllocation(LocalDate startDate, LocalTime startTime, LocalDate endDate, LocalTime endTime) {
+        return TestDataCreator
+            .newAllocationBuilderDefault()
+            .startAt(startDate.atTime(startTime).atOffset(DateUtils.DEFAULT_TIMEZONE))
+            .endAt(endDate.atTime(endTime).atOffset(DateUtils.DEFAULT_TIMEZONE))
+            .build();
+    }
+}
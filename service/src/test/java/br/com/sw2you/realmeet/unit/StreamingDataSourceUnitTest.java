@@ -0,0 +1,96 @@
+package br.com.sw2you.realmeet.unit;
+
+import br.com.sw2you.realmeet.core.BaseUnitTest;
+import br.com.sw2you.realmeet.report.datasource.StreamingDataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JRField;
+import net.sf.jasperreports.engine.design.JRDesignField;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class StreamingDataSourceUnitTest extends BaseUnitTest {
+
+    @Test
+    void testIteratesAndEvictsRows() throws JRException {
+        var evicted = new ArrayList<String>();
+        var values = new ArrayList<Object>();
+        var closed = new AtomicBoolean();
+
+        try (
+            var victim = new StreamingDataSource<>(
+                () -> Stream.of("a", "b", "c").onClose(() -> closed.set(true)),
+                (JRField jrField) -> (String row) -> row.toUpperCase(),
+                evicted::add
+            )
+        ) {
+            while (victim.next()) {
+                values.add(victim.getFieldValue(null));
+                Assertions.assertEquals(values.size() - 1, evicted.size());
+            }
+        }
+
+        Assertions.assertEquals(List.of("A", "B", "C"), values);
+        Assertions.assertEquals(List.of("a", "b", "c"), evicted);
+        Assertions.assertTrue(closed.get());
+    }
+
+    @Test
+    void testOpensStreamLazily() throws JRException {
+        var opened = new AtomicInteger();
+
+        try (
+            var victim = new StreamingDataSource<>(
+                () -> {
+                    opened.incrementAndGet();
+                    return Stream.<String>empty();
+                },
+                (JRField jrField) -> (String row) -> row,
+                row -> {}
+            )
+        ) {
+            Assertions.assertEquals(0, opened.get());
+            Assertions.assertFalse(victim.next());
+            Assertions.assertFalse(victim.next());
+        }
+
+        Assertions.assertEquals(1, opened.get());
+    }
+
+    @Test
+    void testResolvesEachFieldOncePerFill() throws JRException {
+        var resolved = new ArrayList<String>();
+        var nameField = newField("Name");
+        var lengthField = newField("Length");
+        var values = new ArrayList<Object>();
+
+        try (
+            var victim = new StreamingDataSource<>(
+                () -> Stream.of("a", "bb", "ccc"),
+                (JRField jrField) -> {
+                    resolved.add(jrField.getName());
+                    return jrField == nameField ? row -> row : String::length;
+                },
+                (String row) -> {}
+            )
+        ) {
+            while (victim.next()) {
+                values.add(victim.getFieldValue(nameField));
+                values.add(victim.getFieldValue(lengthField));
+            }
+        }
+
+        Assertions.assertEquals(List.of("Name", "Length"), resolved);
+        Assertions.assertEquals(List.of("a", 1, "bb", 2, "ccc", 3), values);
+    }
+
+    private static JRField newField(String name) {
+        var field = new JRDesignField();
+        field.setName(name);
+        return field;
+    }
+}
@@ -0,0 +1,156 @@
+package br.com.sw2you.realmeet.unit;
+
+import br.com.sw2you.realmeet.config.JasperReportConfiguration;
+import br.com.sw2you.realmeet.core.BaseUnitTest;
+import br.com.sw2you.realmeet.domain.repository.AllocationRepository;
+import br.com.sw2you.realmeet.report.enumeration.ReportFormat;
+import br.com.sw2you.realmeet.report.handler.AllocationReportHandler;
+import br.com.sw2you.realmeet.report.model.AllocationReportData;
+import br.com.sw2you.realmeet.report.validator.AllocationReportValidator;
+import br.com.sw2you.realmeet.report.virtualizer.ReportVirtualizerFactory;
+import br.com.sw2you.realmeet.report.writer.CsvReportWriter;
+import br.com.sw2you.realmeet.utils.ConstantsTest;
+import br.com.sw2you.realmeet.utils.TestDataCreator;
+import br.com.sw2you.realmeet.utils.TestUtils;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.zip.ZipInputStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+class TabularReportUnitTest extends BaseUnitTest {
+    private static final int ROWS = 3;
+
+    private AllocationReportHandler victim;
+
+    @Mock
+    private AllocationRepository allocationRepository;
+
+    @Mock
+    private ReportVirtualizerFactory reportVirtualizerFactory;
+
+    @BeforeEach
+    void setupEach() {
+        victim =
+            new AllocationReportHandler(
+                new JasperReportConfiguration(false).allocationReport(),
+                allocationRepository,
+                new AllocationReportValidator(allocationRepository, 500000),
+                reportVirtualizerFactory,
+                TestUtils.newReportPartitionExecutor(Runnable::run)
+            );
+    }
+
+    @Test
+    void testCsvEscaping() throws IOException {
+        var out = new ByteArrayOutputStream();
+
+        try (var writer = new CsvReportWriter(out, new Object[] { "Name", "Note" })) {
+            writer.writeRow(new Object[] { "Room, 1", "say \"hi\"" });
+            writer.writeRow(new Object[] { null, "two\nlines" });
+        }
+
+        Assertions.assertEquals(
+            "Name,Note\r\n\"Room, 1\",\"say \"\"hi\"\"\"\r\n,\"two\nlines\"\r\n",
+            out.toString(StandardCharsets.UTF_8)
+        );
+    }
+
+    @Test
+    void testCsvEscapesFormulas() throws IOException {
+        var out = new ByteArrayOutputStream();
+
+        try (var writer = new CsvReportWriter(out, new Object[] { "Name", "Count" })) {
+            writer.writeRow(new Object[] { "=HYPERLINK(\"http://x\")", -1 });
+            writer.writeRow(new Object[] { "+1", "@SUM(A1)" });
+            writer.writeRow(new Object[] { "-2", "Jo=ao" });
+        }
+
+        Assertions.assertEquals(
+            "Name,Count\r\n\"'=HYPERLINK(\"\"http://x\"\")\",-1\r\n\"'+1\",\"'@SUM(A1)\"\r\n\"'-2\",Jo=ao\r\n",
+            out.toString(StandardCharsets.UTF_8)
+        );
+    }
+
+    @Test
+    void testCreateCsvReport() {
+        givenAllocations();
+        var out = new ByteArrayOutputStream();
+
+        var reportMetrics = victim.createReport(newAllocationReportData(), ReportFormat.CSV, out);
+
+        var lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        Assertions.assertEquals(ROWS, reportMetrics.getRowCount());
+        Assertions.assertEquals(ROWS + 1, lines.length);
+        Assertions.assertEquals("DateFrom,DateTo,RoomName,EmployeeName", lines[0]);
+        Assertions.assertTrue(lines[1].contains(TestDataCreator.newAllocationReportRowDefault().getRoomName()));
+        Mockito.verifyNoInteractions(reportVirtualizerFactory);
+    }
+
+    @Test
+    void testCreateXlsxReport() throws IOException {
+        givenAllocations();
+        var out = new ByteArrayOutputStream();
+
+        var reportMetrics = victim.createReport(newAllocationReportData(), ReportFormat.XLSX, out);
+
+        var entries = unzip(out.toByteArray());
+        Assertions.assertEquals(ROWS, reportMetrics.getRowCount());
+        Assertions.assertTrue(
+            entries
+                .keySet()
+                .containsAll(
+                    List.of(
+                        "[Content_Types].xml",
+                        "_rels/.rels",
+                        "xl/workbook.xml",
+                        "xl/_rels/workbook.xml.rels",
+                        "xl/worksheets/sheet1.xml"
+                    )
+                )
+        );
+        var sheet = entries.get("xl/worksheets/sheet1.xml");
+        Assertions.assertEquals(ROWS + 1, sheet.split("<row>", -1).length - 1);
+        Assertions.assertTrue(sheet.contains("<t xml:space=\"preserve\">EmployeeName</t>"));
+        Assertions.assertTrue(entries.get("xl/workbook.xml").contains("<sheet name=\"Allocation\""));
+        Mockito.verifyNoInteractions(reportVirtualizerFactory);
+    }
+
+    private void givenAllocations() {
+        var row = TestDataCreator.newAllocationReportRowDefault();
+        BDDMockito
+            .given(allocationRepository.streamRowsForReport(ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .willReturn(IntStream.range(0, ROWS).mapToObj(i -> row));
+    }
+
+    private static Map<String, String> unzip(byte[] bytes) throws IOException {
+        var entries = new HashMap<String, String>();
+        try (var zip = new ZipInputStream(new ByteArrayInputStream(bytes))) {
+            for (var entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                entries.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return entries;
+    }
+
+    private AllocationReportData newAllocationReportData() {
+        return AllocationReportData
+            .newAllocationDataReportBuilder()
+            .dateFrom(LocalDate.now())
+            .dateTo(LocalDate.now().plusMonths(1))
+            .email(ConstantsTest.EMAIL_TO)
+            .build();
+    }
+}
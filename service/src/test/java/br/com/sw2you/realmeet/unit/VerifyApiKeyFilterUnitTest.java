@@ -0,0 +1,103 @@
+package br.com.sw2you.realmeet.unit;
+
+import br.com.sw2you.realmeet.core.BaseUnitTest;
+import br.com.sw2you.realmeet.domain.entity.Client;
+import br.com.sw2you.realmeet.domain.repository.ClientRepository;
+import br.com.sw2you.realmeet.filter.VerifyApiKeyFilter;
+import br.com.sw2you.realmeet.utils.ConstantsTest;
+import java.util.Optional;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class VerifyApiKeyFilterUnitTest extends BaseUnitTest {
+    private static final String API_KEY = "api-key";
+    private static final String EVENTS_PATH = "/allocations/events";
+
+    private VerifyApiKeyFilter victim;
+
+    @Mock
+    private ClientRepository clientRepository;
+
+    @BeforeEach
+    void setupEach() {
+        victim = new VerifyApiKeyFilter(clientRepository);
+    }
+
+    @Test
+    void testValidApiKeyHeader() throws Exception {
+        givenActiveClient();
+        var request = new MockHttpServletRequest("GET", "/rooms/1");
+        request.addHeader(API_KEY, ConstantsTest.TEST_CLIENT_API_KEY);
+        var filterChain = new MockFilterChain();
+
+        victim.doFilter(request, new MockHttpServletResponse(), filterChain);
+
+        Assertions.assertNotNull(filterChain.getRequest());
+    }
+
+    @Test
+    void testMissingApiKey() throws Exception {
+        var response = new MockHttpServletResponse();
+        var filterChain = new MockFilterChain();
+
+        victim.doFilter(new MockHttpServletRequest("GET", "/rooms/1"), response, filterChain);
+
+        Assertions.assertEquals(HttpStatus.UNAUTHORIZED.value(), response.getStatus());
+        Assertions.assertEquals("API key is missing", response.getContentAsString());
+        Assertions.assertNull(filterChain.getRequest());
+        Mockito.verifyNoInteractions(clientRepository);
+    }
+
+    @Test
+    void testEventStreamAcceptsApiKeyQueryParameter() throws Exception {
+        givenActiveClient();
+        var request = new MockHttpServletRequest("GET", EVENTS_PATH);
+        request.addHeader(HttpHeaders.ACCEPT, MediaType.TEXT_EVENT_STREAM_VALUE);
+        request.addParameter(API_KEY, ConstantsTest.TEST_CLIENT_API_KEY);
+        var filterChain = new MockFilterChain();
+
+        victim.doFilter(request, new MockHttpServletResponse(), filterChain);
+
+        Assertions.assertNotNull(filterChain.getRequest());
+    }
+
+    @Test
+    void testApiKeyQueryParameterIgnoredOutsideEventStreams() throws Exception {
+        var request = new MockHttpServletRequest("GET", "/rooms/1");
+        request.addHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
+        request.addParameter(API_KEY, ConstantsTest.TEST_CLIENT_API_KEY);
+        var response = new MockHttpServletResponse();
+        var filterChain = new MockFilterChain();
+
+        victim.doFilter(request, response, filterChain);
+
+        Assertions.assertEquals(HttpStatus.UNAUTHORIZED.value(), response.getStatus());
+        Assertions.assertNull(filterChain.getRequest());
+        Mockito.verifyNoInteractions(clientRepository);
+    }
+
+    private void givenActiveClient() {
+        BDDMockito
+            .given(clientRepository.findById(ConstantsTest.TEST_CLIENT_API_KEY))
+            .willReturn(
+                Optional.of(
+                    Client
+                        .newClientBuilder()
+                        .apiKey(ConstantsTest.TEST_CLIENT_API_KEY)
+                        .description(ConstantsTest.TEST_CLIENT_DESCRIPTION)
+                        .active(true)
+                        .build()
+                )
+            );
+    }
+}
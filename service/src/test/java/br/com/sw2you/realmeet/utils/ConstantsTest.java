@@ -17,6 +17,7 @@ public final class ConstantsTest {
     public static final OffsetDateTime DEFAULT_ALLOCATION_START_AT = DateUtils.now().plusDays(1);
     public static final OffsetDateTime DEFAULT_ALLOCATION_END_AT = DEFAULT_ALLOCATION_START_AT.plusHours(1);
     public static final String EMAIL_TO = "teste@teste.com";
+    public static final String REPORT_SUBSCRIPTION_CRON = "0 0 6 1 * *";
 
     //API-KEY
     public static final String TEST_CLIENT_API_KEY = "test-api-key";
@@ -1,7 +1,10 @@
 package br.com.sw2you.realmeet.utils;
 
 import br.com.sw2you.realmeet.mapper.AllocationMapper;
+import br.com.sw2you.realmeet.mapper.ReportJobMapper;
+import br.com.sw2you.realmeet.mapper.ReportSubscriptionMapper;
 import br.com.sw2you.realmeet.mapper.RoomMapper;
+import br.com.sw2you.realmeet.mapper.RoomUsageMapper;
 import org.mapstruct.factory.Mappers;
 
 public final class MapperUtils {
@@ -15,4 +18,16 @@ public final class MapperUtils {
     public static AllocationMapper allocationMapper() {
         return Mappers.getMapper(AllocationMapper.class);
     }
+
+    public static ReportJobMapper reportJobMapper() {
+        return Mappers.getMapper(ReportJobMapper.class);
+    }
+
+    public static ReportSubscriptionMapper reportSubscriptionMapper() {
+        return Mappers.getMapper(ReportSubscriptionMapper.class);
+    }
+
+    public static RoomUsageMapper roomUsageMapper() {
+        return Mappers.getMapper(RoomUsageMapper.class);
+    }
 }
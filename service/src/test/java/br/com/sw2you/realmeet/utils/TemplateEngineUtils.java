@@ -0,0 +1,26 @@
+package br.com.sw2you.realmeet.utils;
+
+import java.nio.charset.StandardCharsets;
+import org.thymeleaf.extras.java8time.dialect.Java8TimeDialect;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+public final class TemplateEngineUtils {
+
+    private TemplateEngineUtils() {}
+
+    public static SpringTemplateEngine newTemplateEngine(boolean cacheable, boolean springElCompiler) {
+        var templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setTemplateMode(TemplateMode.HTML);
+        templateResolver.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        templateResolver.setCacheable(cacheable);
+
+        var templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+        templateEngine.setEnableSpringELCompiler(springElCompiler);
+        templateEngine.addDialect(new Java8TimeDialect());
+        return templateEngine;
+    }
+}
@@ -7,6 +7,7 @@ import br.com.sw2you.realmeet.api.model.CreateRoomDTO;
 import br.com.sw2you.realmeet.api.model.UpdateAllocationDTO;
 import br.com.sw2you.realmeet.domain.entity.Allocation;
 import br.com.sw2you.realmeet.domain.entity.Room;
+import br.com.sw2you.realmeet.domain.model.AllocationReportRow;
 import br.com.sw2you.realmeet.domain.model.Employee;
 
 public final class TestDataCreator {
@@ -31,6 +32,15 @@ public final class TestDataCreator {
             .employee(newEmployeeBuilderDefault().build());
     }
 
+    public static AllocationReportRow newAllocationReportRowDefault() {
+        return new AllocationReportRow(
+            DEFAULT_ALLOCATION_START_AT,
+            DEFAULT_ALLOCATION_END_AT,
+            DEFAULT_ROOM_NAME,
+            DEFAULT_EMPLOYEE_NAME
+        );
+    }
+
     public static Employee.EmployeeBuilder newEmployeeBuilderDefault() {
         return Employee.newEmployeeBuilder().name(DEFAULT_EMPLOYEE_NAME).email(DEFAULT_EMPLOYEE_EMAIL);
     }
@@ -1,6 +1,14 @@
 package br.com.sw2you.realmeet.utils;
 
+import br.com.sw2you.realmeet.config.properties.ReportFillConfigProperties;
+import br.com.sw2you.realmeet.report.limiter.ReportFillLimiter;
+import br.com.sw2you.realmeet.report.partition.ReportPartitionExecutor;
+import java.time.Duration;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
 
 public final class TestUtils {
 
@@ -13,4 +21,14 @@ public final class TestUtils {
             throw new RuntimeException(e);
         }
     }
+
+    public static ReportPartitionExecutor newReportPartitionExecutor(Executor executor) {
+        return new ReportPartitionExecutor(executor, Mockito.mock(PlatformTransactionManager.class));
+    }
+
+    public static ReportFillLimiter newReportFillLimiter(int maxConcurrent, Duration queueTimeout) {
+        return new ReportFillLimiter(
+            new ReportFillConfigProperties(maxConcurrent, DataSize.ofMegabytes(256), queueTimeout)
+        );
+    }
 }